@@ -40,6 +40,7 @@
 
 package com.sun.faces.mirror.generator;
 
+import com.sun.faces.mirror.ClassInfo;
 import com.sun.faces.mirror.DeclaredComponentInfo;
 import com.sun.faces.mirror.PropertyInfo;
 import java.io.PrintWriter;
@@ -47,6 +48,8 @@ import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
@@ -59,6 +62,20 @@ class TagSourceGeneratorImpl extends TagSourceGenerator{
     
     final static String TEMPLATE = "com/sun/faces/mirror/generator/TagSource.template";
     
+    // Wrapper class of each primitive type
+    final static Map<String,String> WRAPPER_TYPES = new HashMap<String,String>();
+    
+    static {
+        WRAPPER_TYPES.put("boolean", "Boolean");
+        WRAPPER_TYPES.put("byte", "Byte");
+        WRAPPER_TYPES.put("char", "Character");
+        WRAPPER_TYPES.put("double", "Double");
+        WRAPPER_TYPES.put("float", "Float");
+        WRAPPER_TYPES.put("int", "Integer");
+        WRAPPER_TYPES.put("long", "Long");
+        WRAPPER_TYPES.put("short", "Short");
+    }
+    
     VelocityEngine velocityEngine;
     
     public TagSourceGeneratorImpl(VelocityEngine velocityEngine) {
@@ -81,6 +98,8 @@ class TagSourceGeneratorImpl extends TagSourceGenerator{
             velocityContext.put("tagClass", getClassName());
             velocityContext.put("componentInfo", componentInfo);
             velocityContext.put("propertyInfos", propertyInfos);
+            velocityContext.put("literalSetters", getLiteralSetters(componentInfo, propertyInfos));
+            velocityContext.put("methodSetters", getMethodSetters(componentInfo, propertyInfos));
             velocityContext.put("namespace", namespace == null ? "" : namespace);
             velocityContext.put("namespacePrefix", namespacePrefix == null ? "" : namespacePrefix);
             Template template = this.velocityEngine.getTemplate(TEMPLATE);
@@ -91,6 +110,79 @@ class TagSourceGeneratorImpl extends TagSourceGenerator{
         }
     }
     
+    /**
+     * Returns, for each property whose tag attribute may be set to literal text,
+     * the statement that sets the property directly to the value of the text,
+     * by property name. Literal attribute values are then not evaluated again
+     * whenever the property is read, nor saved as value expressions with the
+     * state of the component. The value property is left to its value expression.
+     * No property of an editable value holder is set directly: properties such as
+     * text, selected or list are aliases of its value, which must keep its value
+     * expression, since the component updates the model through it, and since
+     * a local value is reset, or replaced for each row of a table.
+     */
+    Map<String,String> getLiteralSetters(DeclaredComponentInfo componentInfo,
+            Collection<PropertyInfo> propertyInfos) {
+        Map<String,String> setters = new HashMap<String,String>();
+        if (isEditableValueHolder(componentInfo))
+            return setters;
+        for (PropertyInfo propertyInfo : propertyInfos) {
+            String name = propertyInfo.getName();
+            String writeMethodName = propertyInfo.getWriteMethodName();
+            String type = propertyInfo.getType();
+            if (propertyInfo.getAttributeInfo() == null || writeMethodName == null
+                    || name.equals("id") || name.equals("parent") || name.equals("value"))
+                continue;
+            String value;
+            String wrapperType = WRAPPER_TYPES.get(type);
+            if (wrapperType != null) {
+                value = "((" + wrapperType + ") getLiteralValue(" + propertyInfo.getInstanceName()
+                        + ", " + wrapperType + ".class))." + type + "Value()";
+            } else if (type.equals("java.lang.Object")) {
+                value = "getLiteralValue(" + propertyInfo.getInstanceName() + ", Object.class)";
+            } else if (type.equals("java.lang.String") || type.startsWith("java.lang.")
+                    && WRAPPER_TYPES.containsValue(type.substring("java.lang.".length()))) {
+                value = "(" + type + ") getLiteralValue(" + propertyInfo.getInstanceName()
+                        + ", " + type + ".class)";
+            } else {
+                continue;
+            }
+            setters.put(name, "((" + componentInfo.getQualifiedName() + ") component)."
+                    + writeMethodName + "(" + value + ");");
+        }
+        return setters;
+    }
+    
+    /**
+     * Returns true if the class, or one of its superclasses, implements
+     * {@link javax.faces.component.EditableValueHolder}.
+     */
+    static boolean isEditableValueHolder(ClassInfo classInfo) {
+        for (; classInfo != null; classInfo = classInfo.getSuperClassInfo()) {
+            if (classInfo.isAssignableTo("javax.faces.component.EditableValueHolder"))
+                return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Returns, for each property that holds a method expression, the statement
+     * that sets the property directly, by property name.
+     */
+    Map<String,String> getMethodSetters(DeclaredComponentInfo componentInfo,
+            Collection<PropertyInfo> propertyInfos) {
+        Map<String,String> setters = new HashMap<String,String>();
+        for (PropertyInfo propertyInfo : propertyInfos) {
+            String writeMethodName = propertyInfo.getWriteMethodName();
+            if (propertyInfo.getAttributeInfo() == null || writeMethodName == null
+                    || !"javax.el.MethodExpression".equals(propertyInfo.getType()))
+                continue;
+            setters.put(propertyInfo.getName(), "((" + componentInfo.getQualifiedName() + ") component)."
+                    + writeMethodName + "(" + propertyInfo.getInstanceName() + ");");
+        }
+        return setters;
+    }
+    
     @Override
     public String getPackageName() {
         return this.getDeclaredComponentInfo().getPackageName();
@@ -0,0 +1,236 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Compare the results of a benchmark run with those of a baseline run. Both
+ * are JMH result files in JSON format. A benchmark regresses when its score
+ * is worse than the baseline score by more than the tolerance, and by more
+ * than the errors of both scores; the check then fails. Results of a
+ * different JVM than the baseline's are not compared.
+ * <p>
+ * Usage: <code>BaselineCheck baseline.json results.json [tolerance]</code>,
+ * where the tolerance is a fraction of the baseline score, 0.10 by default.
+ * </p>
+ */
+public final class BaselineCheck {
+
+    // The default tolerance, as a fraction of the baseline score.
+    private static final double TOLERANCE = 0.10;
+
+    private BaselineCheck() {
+    }
+
+    public static void main(String[] args) throws IOException, JSONException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BaselineCheck baseline.json " //NOI18N
+                    + "results.json [tolerance]"); //NOI18N
+            System.exit(2);
+        }
+        if (!new File(args[0]).exists()) {
+            System.out.println("No baseline " + args[0] //NOI18N
+                    + "; run the baseline target to record one."); //NOI18N
+            return;
+        }
+        double tolerance = args.length == 3 ? Double.parseDouble(args[2])
+                : TOLERANCE;
+        Map<String, JSONObject> baseline = read(args[0]);
+        Map<String, JSONObject> results = read(args[1]);
+        String baseJvm = getJvm(baseline);
+        String jvm = getJvm(results);
+        if (baseJvm != null && jvm != null && !baseJvm.equals(jvm)) {
+            System.out.println("The baseline " + args[0] //NOI18N
+                    + " was recorded with " + baseJvm //NOI18N
+                    + ", the results with " + jvm //NOI18N
+                    + "; run the baseline target to record a baseline" //NOI18N
+                    + " with this JVM."); //NOI18N
+            System.exit(2);
+        }
+
+        List<String> regressions = new ArrayList<String>();
+        Iterator<Map.Entry<String, JSONObject>> entries =
+                results.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, JSONObject> entry = entries.next();
+            JSONObject base = baseline.get(entry.getKey());
+            JSONObject metric = entry.getValue();
+            if (base == null) {
+                System.out.println(format(entry.getKey(), metric, null,
+                        "new")); //NOI18N
+                continue;
+            }
+            double change = getChange(base, metric);
+            boolean regressed = change > tolerance
+                    && Math.abs(getScore(metric) - getScore(base))
+                    > getError(metric) + getError(base);
+            String status = (change >= 0 ? "+" : "") //NOI18N
+                    + Math.round(change * 1000) / 10.0 + "%" //NOI18N
+                    + (regressed ? " REGRESSION" : ""); //NOI18N
+            System.out.println(format(entry.getKey(), metric, base, status));
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+        }
+        Iterator<String> missing = baseline.keySet().iterator();
+        while (missing.hasNext()) {
+            String key = missing.next();
+            if (!results.containsKey(key)) {
+                System.out.println(format(key, null, baseline.get(key),
+                        "not run")); //NOI18N
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.out.println(regressions.size()
+                    + " benchmark(s) regressed by more than " //NOI18N
+                    + Math.round(tolerance * 100) + "%."); //NOI18N
+            System.exit(1);
+        }
+    }
+
+    // Read the primary metrics of a result file, by benchmark and
+    // parameters.
+    private static Map<String, JSONObject> read(String path)
+            throws IOException, JSONException {
+        StringBuffer json = new StringBuffer();
+        Reader reader = new InputStreamReader(new FileInputStream(path),
+                "UTF-8"); //NOI18N
+        try {
+            char[] buff = new char[4096];
+            int count;
+            while ((count = reader.read(buff)) > 0) {
+                json.append(buff, 0, count);
+            }
+        } finally {
+            reader.close();
+        }
+        JSONArray array = new JSONArray(json.toString());
+        Map<String, JSONObject> metrics = new LinkedHashMap<String, JSONObject>();
+        for (int i = 0; i < array.length(); i++) {
+            JSONObject result = array.getJSONObject(i);
+            JSONObject metric = result.getJSONObject("primaryMetric"); //NOI18N
+            metric.put("mode", result.getString("mode")); //NOI18N
+            metric.put("jvm", result.optString("vmName") + " " //NOI18N
+                    + result.optString("vmVersion")); //NOI18N
+            metrics.put(getKey(result), metric);
+        }
+        return metrics;
+    }
+
+    // Return the JVM name and version of the first result, or null.
+    private static String getJvm(Map<String, JSONObject> metrics) {
+        Iterator<JSONObject> values = metrics.values().iterator();
+        return values.hasNext()
+                ? values.next().optString("jvm", null) : null; //NOI18N
+    }
+
+    // Return the name of the benchmark, with its parameters in name order.
+    private static String getKey(JSONObject result) throws JSONException {
+        StringBuffer buff = new StringBuffer(result.getString("benchmark")); //NOI18N
+        JSONObject params = result.optJSONObject("params"); //NOI18N
+        if (params != null) {
+            List<String> names = new ArrayList<String>();
+            Iterator keys = params.keys();
+            while (keys.hasNext()) {
+                names.add((String) keys.next());
+            }
+            Collections.sort(names);
+            for (int i = 0; i < names.size(); i++) {
+                buff.append(i == 0 ? "(" : ", ") //NOI18N
+                        .append(names.get(i)).append("=") //NOI18N
+                        .append(params.getString(names.get(i)));
+            }
+            buff.append(names.isEmpty() ? "" : ")"); //NOI18N
+        }
+        return buff.toString();
+    }
+
+    // Return by which fraction of the baseline score the score is worse,
+    // or a negative fraction if it is better. Throughput scores are better
+    // when higher, time scores when lower.
+    private static double getChange(JSONObject base, JSONObject metric)
+            throws JSONException {
+        double change = (getScore(metric) - getScore(base)) / getScore(base);
+        return "thrpt".equals(metric.getString("mode")) ? -change : change; //NOI18N
+    }
+
+    private static double getScore(JSONObject metric) throws JSONException {
+        return metric.getDouble("score"); //NOI18N
+    }
+
+    // Return the error of the score, which is not a number for a single
+    // measurement.
+    private static double getError(JSONObject metric) {
+        double error = metric.optDouble("scoreError", 0); //NOI18N
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // Format a line of the report.
+    private static String format(String key, JSONObject metric,
+            JSONObject base, String status) throws JSONException {
+        JSONObject unit = metric != null ? metric : base;
+        return key + ": " //NOI18N
+                + (metric == null ? "-" : format(getScore(metric))) //NOI18N
+                + " (baseline " //NOI18N
+                + (base == null ? "-" : format(getScore(base))) //NOI18N
+                + ") " + unit.getString("scoreUnit") //NOI18N
+                + " " + status; //NOI18N
+    }
+
+    private static String format(double score) {
+        return Double.toString(Math.round(score * 1000) / 1000.0);
+    }
+}
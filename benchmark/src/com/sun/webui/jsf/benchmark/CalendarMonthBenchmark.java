@@ -0,0 +1,92 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.component.Calendar;
+import com.sun.webui.jsf.component.Form;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIViewRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Render a calendar whose selected date is in a month of 31 days. The
+ * calendar renders its month of days, and the date of each day is formatted
+ * whenever the calendar is rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CalendarMonthBenchmark {
+
+    private Harness harness;
+    private UIViewRoot root;
+
+    @Setup
+    public void setUp() {
+        harness = new Harness();
+        root = harness.createView("/calendar.jsp"); //NOI18N
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+
+        java.util.Calendar date = java.util.Calendar.getInstance();
+        date.clear();
+        date.set(2018, java.util.Calendar.JANUARY, 15);
+        Calendar calendar = new Calendar();
+        calendar.setId("calendar"); //NOI18N
+        calendar.setSelectedDate(date.getTime());
+        form.getChildren().add(calendar);
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        return harness.render(root);
+    }
+}
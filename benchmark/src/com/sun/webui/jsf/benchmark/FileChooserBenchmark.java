@@ -0,0 +1,116 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.component.FileChooser;
+import com.sun.webui.jsf.component.Form;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIViewRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Render a file chooser which lists a temporary folder of files. The folder
+ * is listed, and its files are sorted, whenever the chooser is rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileChooserBenchmark {
+
+    /**
+     * The number of files of the folder.
+     */
+    @Param({"1000", "5000"})
+    public int files;
+
+    private File folder;
+    private Harness harness;
+    private UIViewRoot root;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = File.createTempFile("filechooser", ""); //NOI18N
+        if (!folder.delete() || !folder.mkdir()) {
+            throw new IOException(folder.getPath());
+        }
+        for (int i = 0; i < files; i++) {
+            if (!new File(folder, "file" + i + ".txt").createNewFile()) { //NOI18N
+                throw new IOException(folder.getPath());
+            }
+        }
+
+        harness = new Harness();
+        root = harness.createView("/fileChooser.jsp"); //NOI18N
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+        FileChooser chooser = new FileChooser();
+        chooser.setId("fileChooser"); //NOI18N
+        chooser.setLookin(folder);
+        chooser.setMultiple(true);
+        form.getChildren().add(chooser);
+    }
+
+    @TearDown
+    public void tearDown() {
+        File[] list = folder.listFiles();
+        for (int i = 0; list != null && i < list.length; i++) {
+            list[i].delete();
+        }
+        folder.delete();
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        return harness.render(root);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.component.Form;
+import com.sun.webui.jsf.component.TextField;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+import javax.faces.convert.IntegerConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decode and validate a postback of a form of required text fields, half
+ * of which convert their values to integers. The submitted values are
+ * valid, so that each field is updated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FormDecodeBenchmark {
+
+    /**
+     * The number of fields of the form.
+     */
+    @Param({"1000"})
+    public int fields;
+
+    private Harness harness;
+    private UIViewRoot root;
+    private final Map<String, String> parameters =
+            new HashMap<String, String>();
+
+    @Setup
+    public void setUp() {
+        harness = new Harness();
+        root = harness.createView("/form.jsp"); //NOI18N
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+
+        // The hidden field which marks the form as submitted.
+        parameters.put("form_hidden", "form_hidden"); //NOI18N
+        for (int i = 0; i < fields; i++) {
+            TextField field = new TextField();
+            field.setId("field" + i); //NOI18N
+            field.setRequired(true);
+            if (i % 2 == 0) {
+                field.setConverter(new IntegerConverter());
+            }
+            form.getChildren().add(field);
+            // A field without a label names its input with its client id.
+            parameters.put("form:field" + i, Integer.toString(i)); //NOI18N
+        }
+    }
+
+    @Benchmark
+    public FacesContext decode() {
+        return harness.decode(root, parameters);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.example.table.util.Name;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The sample data of the benchmarks, which resembles that of the table
+ * examples.
+ */
+public final class SampleData {
+
+    private static final String[] FIRST = {
+        "Judy", "Will", "Jane", "Sue", "Jill", "Jack", "Jean", "Rick", //NOI18N
+        "Marty", "Ron", "Ann", "Tom" //NOI18N
+    };
+
+    private static final String[] LAST = {
+        "Jones", "Smith", "Doe", "Green", "Brown", "Young", "Hill", //NOI18N
+        "Wilson", "Moore", "Taylor", "Clark", "Lewis", "Walker" //NOI18N
+    };
+
+    private SampleData() {
+    }
+
+    /**
+     * Return the given number of names. The same number of names is always
+     * the same list of names.
+     *
+     * @param count The number of names.
+     */
+    public static List<Name> getNames(int count) {
+        List<Name> names = new ArrayList<Name>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(new Name(FIRST[i % FIRST.length],
+                    LAST[(i / FIRST.length) % LAST.length] + i));
+        }
+        return names;
+    }
+}
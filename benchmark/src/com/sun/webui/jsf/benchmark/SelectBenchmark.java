@@ -0,0 +1,128 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.component.AddRemove;
+import com.sun.webui.jsf.component.Form;
+import com.sun.webui.jsf.component.Listbox;
+import com.sun.webui.jsf.model.Option;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIViewRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Render a list box and an add remove list, each with many options of which
+ * every tenth is selected.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SelectBenchmark {
+
+    /**
+     * The number of options of the lists.
+     */
+    @Param({"10000"})
+    public int options;
+
+    private Harness harness;
+    private UIViewRoot listboxView;
+    private UIViewRoot addRemoveView;
+
+    @Setup
+    public void setUp() {
+        harness = new Harness();
+
+        Option[] items = new Option[options];
+        String[] selected = new String[(options + 9) / 10];
+        for (int i = 0; i < options; i++) {
+            String value = "option" + i; //NOI18N
+            items[i] = new Option(value, "Option " + i); //NOI18N
+            if (i % 10 == 0) {
+                selected[i / 10] = value;
+            }
+        }
+
+        Listbox listbox = new Listbox();
+        listbox.setId("listbox"); //NOI18N
+        listbox.setMultiple(true);
+        listbox.setItems(items);
+        listbox.setSelected(selected);
+        listboxView = createView("/listbox.jsp", listbox); //NOI18N
+
+        AddRemove addRemove = new AddRemove();
+        addRemove.setId("addRemove"); //NOI18N
+        addRemove.setItems(items);
+        addRemove.setSelected(selected);
+        addRemove.setMoveButtons(true);
+        addRemoveView = createView("/addRemove.jsp", addRemove); //NOI18N
+    }
+
+    @Benchmark
+    public long encodeListbox() throws IOException {
+        return harness.render(listboxView);
+    }
+
+    @Benchmark
+    public long encodeAddRemove() throws IOException {
+        return harness.render(addRemoveView);
+    }
+
+    // Create a view of a form holding the list.
+    private UIViewRoot createView(String viewId, UIComponent list) {
+        UIViewRoot root = harness.createView(viewId);
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+        form.getChildren().add(list);
+        return root;
+    }
+}
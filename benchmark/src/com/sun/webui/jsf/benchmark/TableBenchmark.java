@@ -0,0 +1,148 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.data.provider.impl.ObjectListDataProvider;
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.benchmark.harness.PropertyPathExpression;
+import com.sun.webui.jsf.component.Form;
+import com.sun.webui.jsf.component.Hyperlink;
+import com.sun.webui.jsf.component.StaticText;
+import com.sun.webui.jsf.component.Table;
+import com.sun.webui.jsf.component.TableColumn;
+import com.sun.webui.jsf.component.TableRowGroup;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIViewRoot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Render a table of names, with a sortable column of static text and a
+ * column of hyperlinks. A paginated table renders a page of 25 rows, while
+ * a scrolled table renders all rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TableBenchmark {
+
+    /**
+     * The number of rows of the table.
+     */
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    /**
+     * Either "paginated" or "scroll".
+     */
+    @Param({"paginated", "scroll"})
+    public String mode;
+
+    private Harness harness;
+    private UIViewRoot root;
+
+    @Setup
+    public void setUp() {
+        harness = new Harness();
+        root = harness.createView("/table.jsp"); //NOI18N
+
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+
+        Table table = new Table();
+        table.setId("table"); //NOI18N
+        table.setTitle("Names"); //NOI18N
+        form.getChildren().add(table);
+
+        TableRowGroup group = new TableRowGroup();
+        group.setId("rowGroup"); //NOI18N
+        group.setSourceVar("name"); //NOI18N
+        group.setSourceData(new ObjectListDataProvider(
+                SampleData.getNames(rows)));
+        if ("paginated".equals(mode)) { //NOI18N
+            table.setPaginateButton(true);
+            table.setPaginationControls(true);
+            group.setPaginated(true);
+            group.setRows(25);
+        }
+        table.getChildren().add(group);
+
+        StaticText last = new StaticText();
+        last.setId("last"); //NOI18N
+        last.setValueExpression("text", //NOI18N
+                new PropertyPathExpression("#{name.value.last}")); //NOI18N
+        group.getChildren().add(column("lastColumn", "Last Name", //NOI18N
+                "last", last)); //NOI18N
+
+        Hyperlink first = new Hyperlink();
+        first.setId("first"); //NOI18N
+        first.setValueExpression("text", //NOI18N
+                new PropertyPathExpression("#{name.value.first}")); //NOI18N
+        group.getChildren().add(column("firstColumn", "First Name", //NOI18N
+                "first", first)); //NOI18N
+    }
+
+    @Benchmark
+    public long encode() throws IOException {
+        return harness.render(root);
+    }
+
+    // Create a column holding the component, sorted by the field.
+    private static TableColumn column(String id, String headerText,
+            String sort, UIComponent child) {
+        TableColumn column = new TableColumn();
+        column.setId(id);
+        column.setHeaderText(headerText);
+        column.setSort(sort);
+        column.setRowHeader("last".equals(sort)); //NOI18N
+        column.getChildren().add(child);
+        return column;
+    }
+}
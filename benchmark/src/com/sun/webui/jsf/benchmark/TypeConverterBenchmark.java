@@ -0,0 +1,143 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.webui.jsf.util.TypeConverter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Convert values with TypeConverter, as components do for their attributes.
+ * Each helper is measured for the input types it converts: a number, a
+ * boolean or a string. The asType benchmarks take the generic path for the
+ * same inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypeConverterBenchmark {
+
+    /**
+     * An input which converts to a number.
+     */
+    @State(Scope.Benchmark)
+    public static class NumberInput {
+
+        @Param({"Integer", "Long", "String"})
+        public String number;
+
+        Object value;
+
+        @Setup
+        public void setUp() {
+            if (number.equals("Integer")) { //NOI18N
+                value = Integer.valueOf(42);
+            } else if (number.equals("Long")) { //NOI18N
+                value = Long.valueOf(42);
+            } else {
+                value = "42"; //NOI18N
+            }
+        }
+    }
+
+    /**
+     * An input which converts to a boolean.
+     */
+    @State(Scope.Benchmark)
+    public static class BooleanInput {
+
+        @Param({"Boolean", "String"})
+        public String flag;
+
+        Object value;
+
+        @Setup
+        public void setUp() {
+            if (flag.equals("Boolean")) { //NOI18N
+                value = Boolean.TRUE;
+            } else {
+                value = "true"; //NOI18N
+            }
+        }
+    }
+
+    @Benchmark
+    public int asInt(NumberInput input) {
+        return TypeConverter.asInt(input.value);
+    }
+
+    @Benchmark
+    public long asLong(NumberInput input) {
+        return TypeConverter.asLong(input.value);
+    }
+
+    @Benchmark
+    public String asString(NumberInput input) {
+        return TypeConverter.asString(input.value);
+    }
+
+    @Benchmark
+    public Object asIntegerType(NumberInput input) {
+        return TypeConverter.asType(Integer.class, input.value);
+    }
+
+    @Benchmark
+    public Object asLongType(NumberInput input) {
+        return TypeConverter.asType(Long.class, input.value);
+    }
+
+    @Benchmark
+    public boolean asBoolean(BooleanInput input) {
+        return TypeConverter.asBoolean(input.value);
+    }
+
+    @Benchmark
+    public Object asBooleanType(BooleanInput input) {
+        return TypeConverter.asType(Boolean.class, input.value);
+    }
+}
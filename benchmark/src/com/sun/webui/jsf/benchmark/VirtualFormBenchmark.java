@@ -0,0 +1,167 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark;
+
+import com.sun.data.provider.RowKey;
+import com.sun.data.provider.impl.ObjectListDataProvider;
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.benchmark.harness.PropertyPathExpression;
+import com.sun.webui.jsf.component.Button;
+import com.sun.webui.jsf.component.Form;
+import com.sun.webui.jsf.component.Table;
+import com.sun.webui.jsf.component.TableColumn;
+import com.sun.webui.jsf.component.TableRowGroup;
+import com.sun.webui.jsf.component.TextField;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Decode and validate a postback of a form with three virtual forms. Each
+ * row of a scrolled table has a text field in each of three columns, and
+ * the text fields of a column participate in one virtual form, which is
+ * submitted by one of three buttons. The second virtual form is submitted,
+ * so the submitted values of the other two columns are erased.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class VirtualFormBenchmark {
+
+    private static final String[] FIELDS = {
+        "first", "last", "status" //NOI18N
+    };
+
+    /**
+     * The number of rows of the table.
+     */
+    @Param({"2000"})
+    public int rows;
+
+    private Harness harness;
+    private UIViewRoot root;
+    private final Map<String, String> parameters =
+            new HashMap<String, String>();
+
+    @Setup
+    public void setUp() throws IOException {
+        harness = new Harness();
+        root = harness.createView("/virtualForms.jsp"); //NOI18N
+
+        Form form = new Form();
+        form.setId("form"); //NOI18N
+        root.getChildren().add(form);
+
+        Table table = new Table();
+        table.setId("table"); //NOI18N
+        form.getChildren().add(table);
+
+        TableRowGroup group = new TableRowGroup();
+        group.setId("rowGroup"); //NOI18N
+        group.setSourceVar("name"); //NOI18N
+        group.setSourceData(new ObjectListDataProvider(
+                SampleData.getNames(rows)));
+        table.getChildren().add(group);
+
+        // A column of text fields, and a button, for each virtual form.
+        StringBuffer config = new StringBuffer();
+        TextField[] fields = new TextField[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            fields[i] = new TextField();
+            fields[i].setId(FIELDS[i] + "Field"); //NOI18N
+            fields[i].setValueExpression("text", new PropertyPathExpression( //NOI18N
+                    "#{name.value." + (i < 2 ? FIELDS[i] : "statusA") + "}")); //NOI18N
+            TableColumn column = new TableColumn();
+            column.setId(FIELDS[i] + "Column"); //NOI18N
+            column.getChildren().add(fields[i]);
+            group.getChildren().add(column);
+
+            Button button = new Button();
+            button.setId(FIELDS[i] + "Button"); //NOI18N
+            button.setText(FIELDS[i]);
+            form.getChildren().add(button);
+
+            config.append(i > 0 ? " , " : "") //NOI18N
+                    .append(FIELDS[i]).append(" | ") //NOI18N
+                    .append(fields[i].getId()).append(" | ") //NOI18N
+                    .append(button.getId());
+        }
+        form.setVirtualFormsConfig(config.toString());
+
+        // Render once, as the view is before a postback.
+        harness.render(root);
+
+        // The values submitted for each row, and the submitting button.
+        parameters.put("form_hidden", "form_hidden"); //NOI18N
+        parameters.put("form:lastButton", "last"); //NOI18N
+        parameters.put("_submissionComponentId", "lastButton"); //NOI18N
+        FacesContext context = harness.startRequest(root, parameters);
+        try {
+            RowKey[] rowKeys = group.getRowKeys();
+            for (int r = 0; r < rowKeys.length; r++) {
+                group.setRowKey(rowKeys[r]);
+                for (int i = 0; i < fields.length; i++) {
+                    parameters.put(fields[i].getClientId(context),
+                            "value" + r); //NOI18N
+                }
+            }
+            group.setRowKey(null);
+        } finally {
+            context.release();
+        }
+    }
+
+    @Benchmark
+    public FacesContext decode() {
+        return harness.decode(root, parameters);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.faces.FacesException;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * The FacesConfig class reads the components, renderers and EL resolvers
+ * declared by the <code>META-INF/faces-config.xml</code> files of the class
+ * path, such as the one generated for the component library. Only the
+ * declarations the harness uses are read.
+ */
+public class FacesConfig {
+
+    /**
+     * The resource name of the configuration files.
+     */
+    public static final String RESOURCE = "META-INF/faces-config.xml"; //NOI18N
+
+    private final Map<String, String> components =
+            new LinkedHashMap<String, String>();
+    private final List<String[]> renderers = new ArrayList<String[]>();
+    private final List<String> elResolvers = new ArrayList<String>();
+
+    /**
+     * Read the configuration files found by the class loader.
+     *
+     * @param loader The class loader of the application.
+     * @exception FacesException if a configuration file cannot be read.
+     */
+    public FacesConfig(ClassLoader loader) {
+        try {
+            DocumentBuilderFactory factory =
+                    DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            // Do not fetch the DTD of older configuration files.
+            builder.setEntityResolver(new EntityResolver() {
+                public InputSource resolveEntity(String publicId,
+                        String systemId) {
+                    return new InputSource(new StringReader("")); //NOI18N
+                }
+            });
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                InputStream in = url.openStream();
+                try {
+                    read(builder.parse(in));
+                } finally {
+                    in.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new FacesException(e);
+        } catch (ParserConfigurationException e) {
+            throw new FacesException(e);
+        } catch (SAXException e) {
+            throw new FacesException(e);
+        }
+    }
+
+    // Read the declarations of a configuration file.
+    private void read(Document document) {
+        NodeList list = document.getElementsByTagNameNS("*", "component"); //NOI18N
+        for (int i = 0; i < list.getLength(); i++) {
+            Element element = (Element) list.item(i);
+            components.put(getText(element, "component-type"), //NOI18N
+                    getText(element, "component-class")); //NOI18N
+        }
+        list = document.getElementsByTagNameNS("*", "renderer"); //NOI18N
+        for (int i = 0; i < list.getLength(); i++) {
+            Element element = (Element) list.item(i);
+            renderers.add(new String[] {
+                getText(element, "component-family"), //NOI18N
+                getText(element, "renderer-type"), //NOI18N
+                getText(element, "renderer-class") //NOI18N
+            });
+        }
+        list = document.getElementsByTagNameNS("*", "el-resolver"); //NOI18N
+        for (int i = 0; i < list.getLength(); i++) {
+            elResolvers.add(list.item(i).getTextContent().trim());
+        }
+    }
+
+    // Return the trimmed text of the first child element with the name.
+    private static String getText(Element element, String name) {
+        NodeList list = element.getElementsByTagNameNS("*", name);
+        if (list.getLength() == 0) {
+            return null;
+        }
+        Node node = list.item(0);
+        return node.getTextContent().trim();
+    }
+
+    /**
+     * Return the component classes, by component type.
+     */
+    public Map<String, String> getComponents() {
+        return components;
+    }
+
+    /**
+     * Return the renderers, as arrays of the component family, renderer
+     * type and renderer class.
+     */
+    public List<String[]> getRenderers() {
+        return renderers;
+    }
+
+    /**
+     * Return the class names of the EL resolvers.
+     */
+    public List<String> getELResolvers() {
+        return elResolvers;
+    }
+}
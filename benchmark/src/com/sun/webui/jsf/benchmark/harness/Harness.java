@@ -0,0 +1,335 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELResolver;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.ResourceBundleELResolver;
+import javax.faces.FacesException;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+import javax.faces.convert.BigDecimalConverter;
+import javax.faces.convert.BigIntegerConverter;
+import javax.faces.convert.BooleanConverter;
+import javax.faces.convert.ByteConverter;
+import javax.faces.convert.CharacterConverter;
+import javax.faces.convert.DoubleConverter;
+import javax.faces.convert.FloatConverter;
+import javax.faces.convert.IntegerConverter;
+import javax.faces.convert.LongConverter;
+import javax.faces.convert.ShortConverter;
+import javax.faces.render.Renderer;
+
+/**
+ * The Harness class processes requests for views of webui components
+ * without a servlet container. The renderers, components and ELResolvers
+ * are those declared by the faces-config files of the class path, so that
+ * the components are rendered as in an application.
+ * <p>
+ * Each request has a new request map and <code>FacesContext</code>, while
+ * the application and session are kept by the harness. A view is built once
+ * with <code>createView</code>, and may then be rendered or decoded any
+ * number of times.
+ * </p>
+ */
+public class Harness {
+
+    /**
+     * The character encoding of the responses.
+     */
+    public static final String ENCODING = "UTF-8"; //NOI18N
+
+    private final Map<String, Object> applicationMap =
+            new HashMap<String, Object>();
+    private final Map<String, String> initParameterMap =
+            new HashMap<String, String>();
+    private final Map<String, Object> sessionMap =
+            new HashMap<String, Object>();
+    private String sessionId;
+    private boolean sessionIdFromCookie = true;
+    private final HeadlessRenderKit renderKit = new HeadlessRenderKit();
+    private final HeadlessApplication application;
+    private final ELResolver elResolver;
+
+    /**
+     * Construct a harness for the faces-config files found by the context
+     * class loader.
+     */
+    public Harness() {
+        this(Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Construct a harness for the faces-config files found by the class
+     * loader.
+     *
+     * @param loader The class loader of the faces-config files and the
+     * classes they declare.
+     */
+    public Harness(ClassLoader loader) {
+        FacesConfig config = new FacesConfig(loader);
+        Iterator<String[]> renderers = config.getRenderers().iterator();
+        while (renderers.hasNext()) {
+            String[] renderer = renderers.next();
+            renderKit.addRenderer(renderer[0], renderer[1],
+                    (Renderer) newInstance(loader, renderer[2]));
+        }
+
+        // The order of the implicit resolvers of a JSF application.
+        CompositeELResolver resolver = new CompositeELResolver();
+        resolver.add(new ResourceBundleELResolver());
+        Iterator<String> resolvers = config.getELResolvers().iterator();
+        while (resolvers.hasNext()) {
+            resolver.add((ELResolver) newInstance(loader, resolvers.next()));
+        }
+        resolver.add(new MapELResolver());
+        resolver.add(new ListELResolver());
+        resolver.add(new ArrayELResolver());
+        resolver.add(new BeanELResolver());
+        resolver.add(new ScopedAttributeELResolver());
+        elResolver = resolver;
+
+        application = new HeadlessApplication(loader,
+                config.getComponents(), elResolver);
+        application.addConverter(BigDecimal.class,
+                BigDecimalConverter.class.getName());
+        application.addConverter(BigInteger.class,
+                BigIntegerConverter.class.getName());
+        application.addConverter(Boolean.class,
+                BooleanConverter.class.getName());
+        application.addConverter(Byte.class, ByteConverter.class.getName());
+        application.addConverter(Character.class,
+                CharacterConverter.class.getName());
+        application.addConverter(Double.class,
+                DoubleConverter.class.getName());
+        application.addConverter(Float.class, FloatConverter.class.getName());
+        application.addConverter(Integer.class,
+                IntegerConverter.class.getName());
+        application.addConverter(Long.class, LongConverter.class.getName());
+        application.addConverter(Short.class, ShortConverter.class.getName());
+    }
+
+    /**
+     * Return the application of the harness.
+     */
+    public HeadlessApplication getApplication() {
+        return application;
+    }
+
+    /**
+     * Set a context parameter of the application, which must be done before
+     * the first request.
+     *
+     * @param name The name of the parameter.
+     * @param value The value of the parameter.
+     */
+    public void setInitParameter(String name, String value) {
+        initParameterMap.put(name, value);
+    }
+
+    /**
+     * Set an attribute of the session, such as a bean the view refers to.
+     *
+     * @param name The name of the attribute.
+     * @param value The value of the attribute.
+     */
+    public void setSessionAttribute(String name, Object value) {
+        sessionMap.put(name, value);
+    }
+
+    /**
+     * Give the following requests a session.
+     *
+     * @param id The id of the session, or null for requests without a
+     * session.
+     * @param fromCookie true if the session id is sent with a cookie, false
+     * if the URLs of the responses are encoded with it, as for a client
+     * which does not accept cookies.
+     */
+    public void setSessionId(String id, boolean fromCookie) {
+        sessionId = id;
+        sessionIdFromCookie = fromCookie;
+    }
+
+    /**
+     * Start a request. The returned context is the current instance until
+     * it is released, which the caller must do.
+     *
+     * @param root The view of the request, or null.
+     * @param parameters The request parameters, by name.
+     */
+    public FacesContext startRequest(UIViewRoot root,
+            Map<String, String> parameters) {
+        HeadlessExternalContext externalContext = new HeadlessExternalContext(
+                applicationMap, initParameterMap, sessionMap, parameters,
+                sessionId, sessionIdFromCookie);
+        FacesContext context = new HeadlessFacesContext(application,
+                externalContext, renderKit, elResolver);
+        context.setViewRoot(root);
+        return context;
+    }
+
+    /**
+     * Create an empty view, to which the components of the view are added.
+     *
+     * @param viewId The view id, such as <code>/table.jsp</code>.
+     */
+    public UIViewRoot createView(String viewId) {
+        FacesContext context = startRequest(null,
+                Collections.<String, String>emptyMap());
+        try {
+            return application.getViewHandler().createView(context, viewId);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Render the view, as the render response phase does.
+     *
+     * @param root The view.
+     * @param out The writer of the response.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public void render(UIViewRoot root, Writer out) throws IOException {
+        FacesContext context = startRequest(root,
+                Collections.<String, String>emptyMap());
+        try {
+            ResponseWriter writer = renderKit.createResponseWriter(out,
+                    null, ENCODING);
+            context.setResponseWriter(writer);
+            writer.startDocument();
+            root.encodeAll(context);
+            writer.endDocument();
+            writer.flush();
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Render the view, and return the number of characters rendered.
+     *
+     * @param root The view.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public long render(UIViewRoot root) throws IOException {
+        CountingWriter out = new CountingWriter();
+        render(root, out);
+        return out.count;
+    }
+
+    /**
+     * Decode and validate the view for a postback with the given parameters,
+     * as the apply request values and process validations phases do.
+     *
+     * @param root The view.
+     * @param parameters The request parameters, by name.
+     * @return The context of the request, which has been released; its
+     * messages may still be read.
+     */
+    public FacesContext decode(UIViewRoot root,
+            Map<String, String> parameters) {
+        FacesContext context = startRequest(root, parameters);
+        try {
+            root.processDecodes(context);
+            if (!context.getRenderResponse()) {
+                root.processValidators(context);
+            }
+            return context;
+        } finally {
+            context.release();
+        }
+    }
+
+    // Create an instance of the class.
+    private static Object newInstance(ClassLoader loader, String className) {
+        try {
+            return Class.forName(className, true, loader).newInstance();
+        } catch (Exception e) {
+            throw new FacesException(className, e);
+        }
+    }
+
+    // A writer which counts the characters written, and drops them.
+    private static class CountingWriter extends Writer {
+
+        private long count;
+
+        @Override
+        public void write(int c) {
+            count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
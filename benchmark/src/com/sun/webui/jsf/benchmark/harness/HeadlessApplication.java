@@ -0,0 +1,278 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import javax.el.ELResolver;
+import javax.faces.FacesException;
+import javax.faces.application.Application;
+import javax.faces.application.NavigationHandler;
+import javax.faces.application.StateManager;
+import javax.faces.application.ViewHandler;
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.convert.Converter;
+import javax.faces.el.MethodBinding;
+import javax.faces.el.PropertyResolver;
+import javax.faces.el.ValueBinding;
+import javax.faces.el.VariableResolver;
+import javax.faces.event.ActionEvent;
+import javax.faces.event.ActionListener;
+import javax.faces.render.RenderKitFactory;
+import javax.faces.validator.Validator;
+
+/**
+ * The <code>Application</code> of the harness. Components are created from
+ * the component types of the faces-config files, and converters and
+ * validators from the types registered with it. Deprecated and navigation
+ * features are not supported; actions are not invoked.
+ */
+public class HeadlessApplication extends Application {
+
+    private final ClassLoader loader;
+    private final ELResolver elResolver;
+    private final Map<String, String> componentTypes =
+            new HashMap<String, String>();
+    private final Map<String, String> converterIds =
+            new HashMap<String, String>();
+    private final Map<Class, String> converterTypes =
+            new HashMap<Class, String>();
+    private final Map<String, String> validatorIds =
+            new HashMap<String, String>();
+    private ViewHandler viewHandler = new HeadlessViewHandler();
+    private ActionListener actionListener = new ActionListener() {
+        public void processAction(ActionEvent event) {
+        }
+    };
+    private Locale defaultLocale = Locale.US;
+    private Collection<Locale> supportedLocales =
+            Collections.singletonList(Locale.US);
+    private String defaultRenderKitId = RenderKitFactory.HTML_BASIC_RENDER_KIT;
+    private String messageBundle;
+
+    /**
+     * Construct an application.
+     *
+     * @param loader The class loader of the components and converters.
+     * @param componentTypes The component classes, by component type.
+     * @param elResolver The ELResolver of the expressions.
+     */
+    public HeadlessApplication(ClassLoader loader,
+            Map<String, String> componentTypes, ELResolver elResolver) {
+        this.loader = loader;
+        this.elResolver = elResolver;
+        this.componentTypes.putAll(componentTypes);
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        return elResolver;
+    }
+
+    public ActionListener getActionListener() {
+        return actionListener;
+    }
+
+    public void setActionListener(ActionListener listener) {
+        actionListener = listener;
+    }
+
+    public Locale getDefaultLocale() {
+        return defaultLocale;
+    }
+
+    public void setDefaultLocale(Locale locale) {
+        defaultLocale = locale;
+    }
+
+    public String getDefaultRenderKitId() {
+        return defaultRenderKitId;
+    }
+
+    public void setDefaultRenderKitId(String renderKitId) {
+        defaultRenderKitId = renderKitId;
+    }
+
+    public String getMessageBundle() {
+        return messageBundle;
+    }
+
+    public void setMessageBundle(String bundle) {
+        messageBundle = bundle;
+    }
+
+    public NavigationHandler getNavigationHandler() {
+        return null;
+    }
+
+    public void setNavigationHandler(NavigationHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    public PropertyResolver getPropertyResolver() {
+        throw new UnsupportedOperationException();
+    }
+
+    public void setPropertyResolver(PropertyResolver resolver) {
+        throw new UnsupportedOperationException();
+    }
+
+    public VariableResolver getVariableResolver() {
+        throw new UnsupportedOperationException();
+    }
+
+    public void setVariableResolver(VariableResolver resolver) {
+        throw new UnsupportedOperationException();
+    }
+
+    public ViewHandler getViewHandler() {
+        return viewHandler;
+    }
+
+    public void setViewHandler(ViewHandler handler) {
+        viewHandler = handler;
+    }
+
+    public StateManager getStateManager() {
+        return null;
+    }
+
+    public void setStateManager(StateManager manager) {
+        throw new UnsupportedOperationException();
+    }
+
+    public void addComponent(String componentType, String componentClass) {
+        componentTypes.put(componentType, componentClass);
+    }
+
+    public UIComponent createComponent(String componentType) {
+        return (UIComponent) newInstance(componentTypes.get(componentType),
+                componentType);
+    }
+
+    public UIComponent createComponent(ValueBinding binding,
+            FacesContext context, String componentType) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Iterator<String> getComponentTypes() {
+        return componentTypes.keySet().iterator();
+    }
+
+    public void addConverter(String converterId, String converterClass) {
+        converterIds.put(converterId, converterClass);
+    }
+
+    public void addConverter(Class targetClass, String converterClass) {
+        converterTypes.put(targetClass, converterClass);
+    }
+
+    public Converter createConverter(String converterId) {
+        return (Converter) newInstance(converterIds.get(converterId),
+                converterId);
+    }
+
+    public Converter createConverter(Class targetClass) {
+        for (Class type = targetClass; type != null;
+                type = type.getSuperclass()) {
+            String converterClass = converterTypes.get(type);
+            if (converterClass != null) {
+                return (Converter) newInstance(converterClass,
+                        targetClass.getName());
+            }
+        }
+        return null;
+    }
+
+    public Iterator<String> getConverterIds() {
+        return converterIds.keySet().iterator();
+    }
+
+    public Iterator<Class> getConverterTypes() {
+        return converterTypes.keySet().iterator();
+    }
+
+    public MethodBinding createMethodBinding(String ref, Class[] params) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Iterator<Locale> getSupportedLocales() {
+        return supportedLocales.iterator();
+    }
+
+    public void setSupportedLocales(Collection<Locale> locales) {
+        supportedLocales = locales;
+    }
+
+    public void addValidator(String validatorId, String validatorClass) {
+        validatorIds.put(validatorId, validatorClass);
+    }
+
+    public Validator createValidator(String validatorId) {
+        return (Validator) newInstance(validatorIds.get(validatorId),
+                validatorId);
+    }
+
+    public Iterator<String> getValidatorIds() {
+        return validatorIds.keySet().iterator();
+    }
+
+    public ValueBinding createValueBinding(String ref) {
+        throw new UnsupportedOperationException();
+    }
+
+    // Create an instance of the class registered for the id.
+    private Object newInstance(String className, String id) {
+        if (className == null) {
+            throw new FacesException("Not registered: " + id); //NOI18N
+        }
+        try {
+            return Class.forName(className, true, loader).newInstance();
+        } catch (Exception e) {
+            throw new FacesException(className, e);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.faces.context.ExternalContext;
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * An <code>ExternalContext</code> for a request which is not received by a
+ * servlet container. The request, session and application are held in
+ * memory; the request parameters are those given to the harness.
+ * <p>
+ * The servlet request and context are provided as proxies, because some
+ * renderers test for a servlet environment or ask the request for the
+ * server name. Methods of the proxies which are not backed by the harness
+ * return null, or false.
+ * </p><p>
+ * A request may have a session id. If the id was not sent with a cookie,
+ * URLs are encoded with the id, as a servlet container does for clients
+ * which do not accept cookies.
+ * </p>
+ */
+public class HeadlessExternalContext extends ExternalContext {
+
+    /**
+     * The context path of the requests.
+     */
+    public static final String CONTEXT_PATH = "/benchmark"; //NOI18N
+
+    /**
+     * The servlet path of the requests.
+     */
+    public static final String SERVLET_PATH = "/faces"; //NOI18N
+
+    // The user agent of the requests. Some renderers write browser
+    // specific markup.
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (X11; Linux x86_64; rv:60.0) Gecko/20100101 Firefox/60.0"; //NOI18N
+
+    private final Map<String, Object> applicationMap;
+    private final Map initParameterMap;
+    private final Map<String, Object> sessionMap;
+    private final Map<String, Object> requestMap = new HashMap<String, Object>();
+    private final Map<String, String> requestParameterMap;
+    private final Map<String, String[]> requestParameterValuesMap;
+    private final Map<String, String> requestHeaderMap;
+    private final Map<String, String[]> requestHeaderValuesMap;
+    private final ServletContext servletContext;
+    private final HttpServletRequest request;
+    private final HttpSession session;
+    private final String sessionId;
+    private final boolean sessionIdFromCookie;
+
+    /**
+     * Construct the context of a request.
+     *
+     * @param applicationMap The attributes of the application.
+     * @param initParameterMap The context parameters of the application.
+     * @param sessionMap The attributes of the session.
+     * @param parameters The request parameters, by name.
+     */
+    public HeadlessExternalContext(Map<String, Object> applicationMap,
+            Map initParameterMap, Map<String, Object> sessionMap,
+            Map<String, String> parameters) {
+        this(applicationMap, initParameterMap, sessionMap, parameters, null,
+                true);
+    }
+
+    /**
+     * Construct the context of a request of a session.
+     *
+     * @param applicationMap The attributes of the application.
+     * @param initParameterMap The context parameters of the application.
+     * @param sessionMap The attributes of the session.
+     * @param parameters The request parameters, by name.
+     * @param sessionId The id of the session, or null if the request has
+     * no session.
+     * @param sessionIdFromCookie true if the session id was sent with a
+     * cookie, false if URLs are encoded with it.
+     */
+    public HeadlessExternalContext(Map<String, Object> applicationMap,
+            Map initParameterMap, Map<String, Object> sessionMap,
+            Map<String, String> parameters, String sessionId,
+            boolean sessionIdFromCookie) {
+        this.sessionId = sessionId;
+        this.sessionIdFromCookie = sessionIdFromCookie;
+        this.applicationMap = applicationMap;
+        this.initParameterMap = initParameterMap;
+        this.sessionMap = sessionMap;
+        this.requestParameterMap = Collections.unmodifiableMap(parameters);
+        Map<String, String[]> values = new HashMap<String, String[]>();
+        Iterator<Map.Entry<String, String>> entries =
+                parameters.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, String> entry = entries.next();
+            values.put(entry.getKey(), new String[] {entry.getValue()});
+        }
+        this.requestParameterValuesMap = Collections.unmodifiableMap(values);
+        Map<String, String> headers = new HashMap<String, String>();
+        headers.put("User-Agent", USER_AGENT); //NOI18N
+        headers.put("user-agent", USER_AGENT); //NOI18N
+        this.requestHeaderMap = Collections.unmodifiableMap(headers);
+        Map<String, String[]> headerValues = new HashMap<String, String[]>();
+        headerValues.put("User-Agent", new String[] {USER_AGENT}); //NOI18N
+        headerValues.put("user-agent", new String[] {USER_AGENT}); //NOI18N
+        this.requestHeaderValuesMap = Collections.unmodifiableMap(headerValues);
+        this.servletContext = (ServletContext) proxy(ServletContext.class);
+        this.request = (HttpServletRequest) proxy(HttpServletRequest.class);
+        this.session = sessionId == null
+                ? null : (HttpSession) proxy(HttpSession.class);
+    }
+
+    // Create a proxy of a servlet interface, answering the methods the
+    // harness can back.
+    private Object proxy(Class type) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class[] {type}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                return invokeServlet(proxy, method, args);
+            }
+        });
+    }
+
+    // Answer a method of the servlet request or context proxies.
+    private Object invokeServlet(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if (name.equals("equals")) { //NOI18N
+            return Boolean.valueOf(proxy == args[0]);
+        } else if (name.equals("hashCode")) { //NOI18N
+            return new Integer(System.identityHashCode(proxy));
+        } else if (name.equals("toString")) { //NOI18N
+            return method.getDeclaringClass().getName();
+        } else if (name.equals("getAttribute")) { //NOI18N
+            return getAttributes(proxy).get(args[0]);
+        } else if (name.equals("setAttribute")) { //NOI18N
+            getAttributes(proxy).put((String) args[0], args[1]);
+            return null;
+        } else if (name.equals("removeAttribute")) { //NOI18N
+            getAttributes(proxy).remove(args[0]);
+            return null;
+        } else if (name.equals("getSession")) { //NOI18N
+            return session;
+        } else if (name.equals("getId")) { //NOI18N
+            return sessionId;
+        } else if (name.equals("getRequestedSessionId")) { //NOI18N
+            return sessionId;
+        } else if (name.equals("isRequestedSessionIdFromCookie")) { //NOI18N
+            return Boolean.valueOf(sessionId != null && sessionIdFromCookie);
+        } else if (name.equals("isRequestedSessionIdFromURL")) { //NOI18N
+            return Boolean.valueOf(sessionId != null && !sessionIdFromCookie);
+        } else if (name.equals("getInitParameter")) { //NOI18N
+            return getInitParameter((String) args[0]);
+        } else if (name.equals("getParameter")) { //NOI18N
+            return requestParameterMap.get(args[0]);
+        } else if (name.equals("getHeader")) { //NOI18N
+            return requestHeaderMap.get(args[0]);
+        } else if (name.equals("getContextPath")) { //NOI18N
+            return CONTEXT_PATH;
+        } else if (name.equals("getServletPath")) { //NOI18N
+            return SERVLET_PATH;
+        } else if (name.equals("getScheme")) { //NOI18N
+            return "http"; //NOI18N
+        } else if (name.equals("getServerName")) { //NOI18N
+            return "localhost"; //NOI18N
+        } else if (name.equals("getServerPort")) { //NOI18N
+            return new Integer(8080);
+        } else if (name.equals("getLocale")) { //NOI18N
+            return getRequestLocale();
+        } else if (name.equals("getCharacterEncoding")) { //NOI18N
+            return "UTF-8"; //NOI18N
+        }
+        Class type = method.getReturnType();
+        if (type == Boolean.TYPE) {
+            return Boolean.FALSE;
+        } else if (type == Integer.TYPE) {
+            return new Integer(0);
+        } else if (type == Long.TYPE) {
+            return new Long(0);
+        }
+        return null;
+    }
+
+    // Return the attributes of the request, session or context proxy.
+    private Map<String, Object> getAttributes(Object proxy) {
+        if (proxy == request) {
+            return requestMap;
+        } else if (proxy == session) {
+            return sessionMap;
+        }
+        return applicationMap;
+    }
+
+    // Encode the session id in the URL, if it was not sent with a cookie.
+    private String encodeSessionId(String url) {
+        if (sessionId == null || sessionIdFromCookie) {
+            return url;
+        }
+        int end = url.length();
+        int query = url.indexOf('?');
+        int anchor = url.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        } else if (anchor >= 0) {
+            end = anchor;
+        }
+        return url.substring(0, end) + ";jsessionid=" + sessionId //NOI18N
+                + url.substring(end);
+    }
+
+    public void dispatch(String path) throws IOException {
+        throw new UnsupportedOperationException(path);
+    }
+
+    public String encodeActionURL(String url) {
+        return encodeSessionId(url);
+    }
+
+    public String encodeNamespace(String name) {
+        return name;
+    }
+
+    public String encodeResourceURL(String url) {
+        return encodeSessionId(url);
+    }
+
+    public Map<String, Object> getApplicationMap() {
+        return applicationMap;
+    }
+
+    public String getAuthType() {
+        return null;
+    }
+
+    public Object getContext() {
+        return servletContext;
+    }
+
+    public String getInitParameter(String name) {
+        return (String) initParameterMap.get(name);
+    }
+
+    public Map getInitParameterMap() {
+        return initParameterMap;
+    }
+
+    public String getRemoteUser() {
+        return null;
+    }
+
+    public Object getRequest() {
+        return request;
+    }
+
+    public String getRequestContextPath() {
+        return CONTEXT_PATH;
+    }
+
+    public Map<String, Object> getRequestCookieMap() {
+        return Collections.emptyMap();
+    }
+
+    public Map<String, String> getRequestHeaderMap() {
+        return requestHeaderMap;
+    }
+
+    public Map<String, String[]> getRequestHeaderValuesMap() {
+        return requestHeaderValuesMap;
+    }
+
+    public Locale getRequestLocale() {
+        return Locale.US;
+    }
+
+    public Iterator<Locale> getRequestLocales() {
+        return Collections.singletonList(Locale.US).iterator();
+    }
+
+    public Map<String, Object> getRequestMap() {
+        return requestMap;
+    }
+
+    public Map<String, String> getRequestParameterMap() {
+        return requestParameterMap;
+    }
+
+    public Iterator<String> getRequestParameterNames() {
+        return requestParameterMap.keySet().iterator();
+    }
+
+    public Map<String, String[]> getRequestParameterValuesMap() {
+        return requestParameterValuesMap;
+    }
+
+    public String getRequestPathInfo() {
+        return null;
+    }
+
+    public String getRequestServletPath() {
+        return SERVLET_PATH;
+    }
+
+    public URL getResource(String path) throws MalformedURLException {
+        return null;
+    }
+
+    public InputStream getResourceAsStream(String path) {
+        return null;
+    }
+
+    public Set<String> getResourcePaths(String path) {
+        return null;
+    }
+
+    public Object getResponse() {
+        return null;
+    }
+
+    public Object getSession(boolean create) {
+        return session;
+    }
+
+    public Map<String, Object> getSessionMap() {
+        return sessionMap;
+    }
+
+    public Principal getUserPrincipal() {
+        return null;
+    }
+
+    public boolean isUserInRole(String role) {
+        return false;
+    }
+
+    public void log(String message) {
+    }
+
+    public void log(String message, Throwable exception) {
+    }
+
+    public void redirect(String url) throws IOException {
+        throw new UnsupportedOperationException(url);
+    }
+}
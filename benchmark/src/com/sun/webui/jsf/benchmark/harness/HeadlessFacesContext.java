@@ -0,0 +1,219 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.FunctionMapper;
+import javax.el.VariableMapper;
+import javax.faces.application.Application;
+import javax.faces.application.FacesMessage;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseStream;
+import javax.faces.context.ResponseWriter;
+import javax.faces.render.RenderKit;
+
+/**
+ * A <code>FacesContext</code> for a request processed by the harness. It
+ * becomes the current instance when it is constructed, and stops being it
+ * when it is released.
+ */
+public class HeadlessFacesContext extends FacesContext {
+
+    private final Application application;
+    private final ExternalContext externalContext;
+    private final RenderKit renderKit;
+    private final ELResolver elResolver;
+    private final Map<String, List<FacesMessage>> messages =
+            new LinkedHashMap<String, List<FacesMessage>>();
+    private ELContext elContext;
+    private UIViewRoot viewRoot;
+    private ResponseWriter responseWriter;
+    private ResponseStream responseStream;
+    private boolean renderResponse;
+    private boolean responseComplete;
+
+    /**
+     * Construct the context of a request, and make it the current instance.
+     *
+     * @param application The application.
+     * @param externalContext The external context of the request.
+     * @param renderKit The render kit of the view.
+     * @param elResolver The resolver of the ELContext of the request.
+     */
+    public HeadlessFacesContext(Application application,
+            ExternalContext externalContext, RenderKit renderKit,
+            ELResolver elResolver) {
+        this.application = application;
+        this.externalContext = externalContext;
+        this.renderKit = renderKit;
+        this.elResolver = elResolver;
+        setCurrentInstance(this);
+    }
+
+    public Application getApplication() {
+        return application;
+    }
+
+    public Iterator<String> getClientIdsWithMessages() {
+        return messages.keySet().iterator();
+    }
+
+    @Override
+    public ELContext getELContext() {
+        if (elContext == null) {
+            elContext = new ELContext() {
+                public ELResolver getELResolver() {
+                    return elResolver;
+                }
+                public FunctionMapper getFunctionMapper() {
+                    return null;
+                }
+                public VariableMapper getVariableMapper() {
+                    return null;
+                }
+            };
+            elContext.putContext(FacesContext.class, this);
+            if (viewRoot != null) {
+                elContext.setLocale(viewRoot.getLocale());
+            }
+        }
+        return elContext;
+    }
+
+    public ExternalContext getExternalContext() {
+        return externalContext;
+    }
+
+    public FacesMessage.Severity getMaximumSeverity() {
+        FacesMessage.Severity severity = null;
+        Iterator<FacesMessage> iterator = getMessages();
+        while (iterator.hasNext()) {
+            FacesMessage message = iterator.next();
+            if (severity == null
+                    || message.getSeverity().compareTo(severity) > 0) {
+                severity = message.getSeverity();
+            }
+        }
+        return severity;
+    }
+
+    public Iterator<FacesMessage> getMessages() {
+        List<FacesMessage> all = new ArrayList<FacesMessage>();
+        Iterator<List<FacesMessage>> lists = messages.values().iterator();
+        while (lists.hasNext()) {
+            all.addAll(lists.next());
+        }
+        return all.iterator();
+    }
+
+    public Iterator<FacesMessage> getMessages(String clientId) {
+        List<FacesMessage> list = messages.get(clientId);
+        if (list == null) {
+            list = new ArrayList<FacesMessage>();
+        }
+        return list.iterator();
+    }
+
+    public RenderKit getRenderKit() {
+        return renderKit;
+    }
+
+    public boolean getRenderResponse() {
+        return renderResponse;
+    }
+
+    public boolean getResponseComplete() {
+        return responseComplete;
+    }
+
+    public ResponseStream getResponseStream() {
+        return responseStream;
+    }
+
+    public void setResponseStream(ResponseStream responseStream) {
+        this.responseStream = responseStream;
+    }
+
+    public ResponseWriter getResponseWriter() {
+        return responseWriter;
+    }
+
+    public void setResponseWriter(ResponseWriter responseWriter) {
+        this.responseWriter = responseWriter;
+    }
+
+    public UIViewRoot getViewRoot() {
+        return viewRoot;
+    }
+
+    public void setViewRoot(UIViewRoot viewRoot) {
+        this.viewRoot = viewRoot;
+    }
+
+    public void addMessage(String clientId, FacesMessage message) {
+        List<FacesMessage> list = messages.get(clientId);
+        if (list == null) {
+            list = new ArrayList<FacesMessage>();
+            messages.put(clientId, list);
+        }
+        list.add(message);
+    }
+
+    public void release() {
+        setCurrentInstance(null);
+    }
+
+    public void renderResponse() {
+        renderResponse = true;
+    }
+
+    public void responseComplete() {
+        responseComplete = true;
+    }
+}
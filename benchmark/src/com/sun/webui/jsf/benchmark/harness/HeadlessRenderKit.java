@@ -0,0 +1,109 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import com.sun.faces.renderkit.html_basic.HtmlResponseWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import javax.faces.context.ResponseStream;
+import javax.faces.context.ResponseWriter;
+import javax.faces.render.RenderKit;
+import javax.faces.render.Renderer;
+import javax.faces.render.ResponseStateManager;
+
+/**
+ * The HTML render kit of the harness, holding the renderers declared by the
+ * faces-config files of the class path. The response writer is that of the
+ * JSF implementation, so that the cost of writing the markup is included
+ * in the measurements.
+ */
+public class HeadlessRenderKit extends RenderKit {
+
+    private final Map<String, Renderer> renderers =
+            new HashMap<String, Renderer>();
+    private final ResponseStateManager responseStateManager =
+            new ResponseStateManager() {
+            };
+
+    public void addRenderer(String family, String rendererType,
+            Renderer renderer) {
+        renderers.put(family + '|' + rendererType, renderer);
+    }
+
+    public Renderer getRenderer(String family, String rendererType) {
+        return renderers.get(family + '|' + rendererType);
+    }
+
+    public ResponseStateManager getResponseStateManager() {
+        return responseStateManager;
+    }
+
+    public ResponseWriter createResponseWriter(Writer writer,
+            String contentTypeList, String characterEncoding) {
+        return new HtmlResponseWriter(writer,
+                contentTypeList == null ? "text/html" : contentTypeList, //NOI18N
+                characterEncoding == null ? "UTF-8" : characterEncoding); //NOI18N
+    }
+
+    public ResponseStream createResponseStream(final OutputStream out) {
+        return new ResponseStream() {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+            }
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+            @Override
+            public void close() throws IOException {
+                out.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.io.IOException;
+import java.util.Locale;
+import javax.faces.application.ViewHandler;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+
+/**
+ * The <code>ViewHandler</code> of the harness. Views are built by the
+ * benchmarks rather than from pages, and are neither restored nor saved.
+ */
+public class HeadlessViewHandler extends ViewHandler {
+
+    public Locale calculateLocale(FacesContext context) {
+        return context.getApplication().getDefaultLocale();
+    }
+
+    public String calculateRenderKitId(FacesContext context) {
+        return context.getApplication().getDefaultRenderKitId();
+    }
+
+    public UIViewRoot createView(FacesContext context, String viewId) {
+        UIViewRoot root = new UIViewRoot();
+        root.setViewId(viewId);
+        root.setLocale(calculateLocale(context));
+        root.setRenderKitId(calculateRenderKitId(context));
+        return root;
+    }
+
+    public String getActionURL(FacesContext context, String viewId) {
+        return context.getExternalContext().getRequestContextPath()
+                + context.getExternalContext().getRequestServletPath()
+                + viewId;
+    }
+
+    public String getResourceURL(FacesContext context, String path) {
+        if (path.startsWith("/")) { //NOI18N
+            return context.getExternalContext().getRequestContextPath()
+                    + path;
+        }
+        return path;
+    }
+
+    public void renderView(FacesContext context, UIViewRoot viewToRender)
+            throws IOException {
+        throw new UnsupportedOperationException();
+    }
+
+    public UIViewRoot restoreView(FacesContext context, String viewId) {
+        return null;
+    }
+
+    public void writeState(FacesContext context) throws IOException {
+    }
+}
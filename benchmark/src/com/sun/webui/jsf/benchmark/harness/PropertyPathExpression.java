@@ -0,0 +1,162 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.PropertyNotFoundException;
+import javax.el.ValueExpression;
+
+/**
+ * A value expression of the form <code>#{name.property.property}</code>,
+ * which is resolved by the ELResolver of the ELContext one property at a
+ * time. It stands for the expressions of a page, since the harness runs
+ * without an EL implementation. Only names and property names separated by
+ * dots are supported.
+ */
+public class PropertyPathExpression extends ValueExpression {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String expression;
+    private final Class expectedType;
+    private final String[] path;
+
+    /**
+     * Construct an expression.
+     *
+     * @param expression The expression, such as <code>#{name.value.last}</code>.
+     * @param expectedType The type the value is coerced to, or Object.
+     */
+    public PropertyPathExpression(String expression, Class expectedType) {
+        if (!expression.startsWith("#{") || !expression.endsWith("}")) { //NOI18N
+            throw new IllegalArgumentException(expression);
+        }
+        this.expression = expression;
+        this.expectedType = expectedType;
+        this.path = expression.substring(2, expression.length() - 1).
+                split("\\."); //NOI18N
+    }
+
+    /**
+     * Construct an expression whose value is not coerced.
+     *
+     * @param expression The expression, such as <code>#{name.value.last}</code>.
+     */
+    public PropertyPathExpression(String expression) {
+        this(expression, Object.class);
+    }
+
+    public Object getValue(ELContext context) {
+        Object value = resolve(context, path.length);
+        if (value == null || expectedType == Object.class) {
+            return value;
+        }
+        if (expectedType == String.class) {
+            return value.toString();
+        }
+        return expectedType.cast(value);
+    }
+
+    public void setValue(ELContext context, Object value) {
+        Object base = resolve(context, path.length - 1);
+        context.setPropertyResolved(false);
+        context.getELResolver().setValue(context, base,
+                path[path.length - 1], value);
+        if (!context.isPropertyResolved()) {
+            throw new PropertyNotFoundException(expression);
+        }
+    }
+
+    public boolean isReadOnly(ELContext context) {
+        Object base = resolve(context, path.length - 1);
+        context.setPropertyResolved(false);
+        return context.getELResolver().isReadOnly(context, base,
+                path[path.length - 1]);
+    }
+
+    public Class getType(ELContext context) {
+        Object base = resolve(context, path.length - 1);
+        context.setPropertyResolved(false);
+        return context.getELResolver().getType(context, base,
+                path[path.length - 1]);
+    }
+
+    public Class getExpectedType() {
+        return expectedType;
+    }
+
+    public String getExpressionString() {
+        return expression;
+    }
+
+    public boolean isLiteralText() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object instanceof PropertyPathExpression
+                && expression.equals(((PropertyPathExpression) object).expression);
+    }
+
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+
+    // Resolve the first count names of the path.
+    private Object resolve(ELContext context, int count) {
+        ELResolver resolver = context.getELResolver();
+        Object value = null;
+        for (int i = 0; i < count; i++) {
+            context.setPropertyResolved(false);
+            value = resolver.getValue(context, value, path[i]);
+            if (!context.isPropertyResolved()) {
+                throw new PropertyNotFoundException(expression);
+            }
+            if (value == null && i + 1 < count) {
+                return null;
+            }
+        }
+        return value;
+    }
+}
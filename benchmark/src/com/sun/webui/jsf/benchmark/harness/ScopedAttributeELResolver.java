@@ -0,0 +1,115 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.benchmark.harness;
+
+import java.beans.FeatureDescriptor;
+import java.util.Iterator;
+import java.util.Map;
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.faces.context.ExternalContext;
+import javax.faces.context.FacesContext;
+
+/**
+ * Resolve the first name of an expression to an attribute of the request,
+ * session or application, in this order. A name which is not found
+ * resolves to null; a value is set as a request attribute.
+ */
+public class ScopedAttributeELResolver extends ELResolver {
+
+    public Object getValue(ELContext context, Object base, Object property) {
+        if (base != null) {
+            return null;
+        }
+        context.setPropertyResolved(true);
+        ExternalContext external = getExternalContext(context);
+        String name = property.toString();
+        Object value = external.getRequestMap().get(name);
+        if (value == null) {
+            value = external.getSessionMap().get(name);
+        }
+        if (value == null) {
+            value = external.getApplicationMap().get(name);
+        }
+        return value;
+    }
+
+    public Class getType(ELContext context, Object base, Object property) {
+        if (base != null) {
+            return null;
+        }
+        context.setPropertyResolved(true);
+        return Object.class;
+    }
+
+    public void setValue(ELContext context, Object base, Object property,
+            Object value) {
+        if (base != null) {
+            return;
+        }
+        context.setPropertyResolved(true);
+        getExternalContext(context).getRequestMap().put(property.toString(),
+                value);
+    }
+
+    public boolean isReadOnly(ELContext context, Object base,
+            Object property) {
+        if (base == null) {
+            context.setPropertyResolved(true);
+        }
+        return false;
+    }
+
+    public Iterator<FeatureDescriptor> getFeatureDescriptors(
+            ELContext context, Object base) {
+        return null;
+    }
+
+    public Class<?> getCommonPropertyType(ELContext context, Object base) {
+        return base == null ? String.class : null;
+    }
+
+    // Return the external context of the request the ELContext is for.
+    private static ExternalContext getExternalContext(ELContext context) {
+        return ((FacesContext) context.getContext(FacesContext.class)).
+                getExternalContext();
+    }
+}
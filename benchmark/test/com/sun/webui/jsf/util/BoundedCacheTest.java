@@ -0,0 +1,105 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Test that a BoundedCache evicts single entries, keeping the entries which
+ * are used again.
+ */
+public class BoundedCacheTest extends TestCase {
+
+    private static final int SIZE = 8;
+
+    private BoundedCache cache;
+
+    public BoundedCacheTest(String testName) {
+        super(testName);
+    }
+
+    protected void setUp() {
+        cache = new BoundedCache(SIZE);
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(BoundedCacheTest.class);
+        return suite;
+    }
+
+    /**
+     * The first value put for a key is kept and returned.
+     */
+    public void testPutIfAbsent() {
+        assertEquals("a", cache.put("key", "a")); //NOI18N
+        assertEquals("a", cache.put("key", "b")); //NOI18N
+        assertEquals("a", cache.get("key")); //NOI18N
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * A full cache evicts one entry per put rather than starting over.
+     */
+    public void testBound() {
+        for (int i = 0; i < SIZE; i++) {
+            cache.put(Integer.valueOf(i), "v" + i); //NOI18N
+        }
+        cache.put("extra", "x"); //NOI18N
+        assertEquals(SIZE, cache.size());
+        assertNull(cache.get(Integer.valueOf(0)));
+        assertEquals("v1", cache.get(Integer.valueOf(1))); //NOI18N
+    }
+
+    /**
+     * Entries used again survive a stream of keys which are used once.
+     */
+    public void testUsedEntriesSurvive() {
+        cache.put("hot", "h"); //NOI18N
+        for (int i = 0; i < SIZE * 100; i++) {
+            assertEquals("h", cache.get("hot")); //NOI18N
+            cache.put("agent" + i, "a"); //NOI18N
+            assertTrue(cache.size() <= SIZE);
+        }
+        assertEquals("h", cache.get("hot")); //NOI18N
+    }
+}
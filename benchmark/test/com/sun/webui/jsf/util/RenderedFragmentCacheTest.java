@@ -0,0 +1,157 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+
+package com.sun.webui.jsf.util;
+
+import com.sun.webui.jsf.benchmark.harness.Harness;
+import com.sun.webui.jsf.benchmark.harness.PropertyPathExpression;
+import com.sun.webui.jsf.component.FragmentCache;
+import com.sun.webui.jsf.component.Hyperlink;
+import com.sun.webui.jsf.component.StaticText;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import javax.faces.component.UIViewRoot;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Test that the markup cached by a FragmentCache component does not carry
+ * the session id of one client to others.
+ */
+public class RenderedFragmentCacheTest extends TestCase {
+
+    private Harness harness;
+    private UIViewRoot root;
+    private Map user;
+
+    public RenderedFragmentCacheTest(String testName) {
+        super(testName);
+    }
+
+    protected void setUp() throws Exception {
+        harness = new Harness();
+        user = new HashMap();
+        harness.setSessionAttribute("user", user); //NOI18N
+        root = harness.createView("/chrome.jsp"); //NOI18N
+        FragmentCache fragment = new FragmentCache();
+        fragment.setId("chrome"); //NOI18N
+        root.getChildren().add(fragment);
+        Hyperlink link = new Hyperlink();
+        link.setId("home"); //NOI18N
+        link.setUrl("/home.jsp"); //NOI18N
+        link.setText("Home"); //NOI18N
+        fragment.getChildren().add(link);
+    }
+
+    public static Test suite() {
+        TestSuite suite = new TestSuite(RenderedFragmentCacheTest.class);
+        return suite;
+    }
+
+    /**
+     * A hyperlink rendered for a client without cookies carries its own
+     * session id, and the markup is not cached for other clients.
+     */
+    public void testURLRewriting() throws IOException {
+        harness.setSessionId("session1", false); //NOI18N
+        String markup = render();
+        assertTrue(markup, markup.indexOf(";jsessionid=session1") >= 0); //NOI18N
+
+        harness.setSessionId("session2", false); //NOI18N
+        markup = render();
+        assertTrue(markup, markup.indexOf(";jsessionid=session2") >= 0); //NOI18N
+        assertTrue(markup, markup.indexOf("session1") < 0); //NOI18N
+
+        harness.setSessionId("session3", true); //NOI18N
+        markup = render();
+        assertTrue(markup, markup.indexOf("jsessionid") < 0); //NOI18N
+    }
+
+    /**
+     * Markup cached for a client with cookies is not written for a client
+     * without cookies, which needs its session id in the URLs.
+     */
+    public void testCachedForCookies() throws IOException {
+        harness.setSessionId("session1", true); //NOI18N
+        String cached = render();
+        assertTrue(cached, cached.indexOf("jsessionid") < 0); //NOI18N
+
+        harness.setSessionId("session2", false); //NOI18N
+        String markup = render();
+        assertTrue(markup, markup.indexOf(";jsessionid=session2") >= 0); //NOI18N
+
+        harness.setSessionId("session3", true); //NOI18N
+        assertEquals(cached, render());
+    }
+
+    /**
+     * Markup which contains the session id of the request is not cached.
+     */
+    public void testSessionIdInMarkup() throws IOException {
+        StaticText text = new StaticText();
+        text.setId("user"); //NOI18N
+        text.setValueExpression("text", //NOI18N
+                new PropertyPathExpression("#{user.id}")); //NOI18N
+        root.getChildren().get(0).getChildren().add(text);
+
+        harness.setSessionId("session1", true); //NOI18N
+        user.put("id", "session1"); //NOI18N
+        String markup = render();
+        assertTrue(markup, markup.indexOf("session1") >= 0); //NOI18N
+
+        harness.setSessionId("session2", true); //NOI18N
+        user.put("id", "session2"); //NOI18N
+        markup = render();
+        assertTrue(markup, markup.indexOf("session2") >= 0); //NOI18N
+        assertTrue(markup, markup.indexOf("session1") < 0); //NOI18N
+    }
+
+    // Render the view.
+    private String render() throws IOException {
+        StringWriter out = new StringWriter();
+        harness.render(root, out);
+        return out.toString();
+    }
+}
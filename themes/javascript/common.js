@@ -523,7 +523,7 @@ define(["webui/suntheme/browser", "webui/suntheme/props"], function(browser, pro
             this.stripStyleClass(element,
                 props.hiddenClassName);
         } else {
-            thi.addStyleClass(element,
+            this.addStyleClass(element,
                 props.hiddenClassName);
         }
     }
@@ -0,0 +1,176 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+// This Javascript file is used by forms whose command components, rendered
+// in table rows, delegate their events to a single listener of the form.
+//
+define(["webui/suntheme/hyperlink", "webui/suntheme/button"], function(hyperlink, button) {
+    
+    return {
+    /**
+     * This function is used to listen to the events of the delegated links
+     * and buttons of a form. Links with a data-submit attribute submit the
+     * form when clicked, as hyperlink.submit does. Buttons with a data-button
+     * attribute are initialized as button.init does, and their style classes
+     * are updated on focus, blur, mouse over and mouse out.
+     *
+     * @params formId The form id
+     */
+    init: function(formId) {
+        var form = document.getElementById(formId);
+        if (form == null || form.delegatesEvents == true) {
+            return false;
+        }
+        form.delegatesEvents = true;
+
+        // Initialize the buttons rendered with the form.
+        var tags = ["input", "button"];
+        for (var i = 0; i < tags.length; i++) {
+            var elements = form.getElementsByTagName(tags[i]);
+            for (var j = 0; j < elements.length; j++) {
+                if (elements[j].getAttribute("data-button") != null) {
+                    this.initButton(elements[j]);
+                }
+            }
+        }
+
+        var delegate = this;
+        var listen = function(type, ieType, capture, listener) {
+            var handler = function(event) {
+                return listener.call(delegate, form, event || window.event);
+            };
+            if (form.addEventListener) {
+                form.addEventListener(type, handler, capture);
+            } else {
+                form.attachEvent("on" + ieType, handler);
+            }
+        };
+        listen("click", "click", false, this.onclick);
+        listen("mouseover", "mouseover", false, this.onbutton);
+        listen("mouseout", "mouseout", false, this.onbutton);
+
+        // Focus and blur events do not bubble, they are captured instead.
+        listen("focus", "focusin", true, this.onbutton);
+        listen("blur", "focusout", true, this.onbutton);
+        return true;
+    },
+
+    /**
+     * Initialize a delegated button from its data-button attribute, which
+     * holds the space separated properties of the button.
+     *
+     * @params domNode The button element
+     */
+    initButton: function(domNode) {
+        var flags = " " + domNode.getAttribute("data-button") + " ";
+        button.init({
+            id: domNode.id,
+            mini: flags.indexOf(" mini ") != -1,
+            disabled: flags.indexOf(" disabled ") != -1,
+            secondary: flags.indexOf(" secondary ") != -1,
+            icon: flags.indexOf(" icon ") != -1
+        });
+    },
+
+    /**
+     * Find the element with the given attribute which is, or contains, the
+     * target of the event.
+     *
+     * @params form The form
+     * @params event The event
+     * @params name The attribute name
+     */
+    getElement: function(form, event, name) {
+        var domNode = event.target || event.srcElement;
+        while (domNode != null && domNode != form) {
+            if (domNode.getAttribute && domNode.getAttribute(name) != null) {
+                return domNode;
+            }
+            domNode = domNode.parentNode;
+        }
+        return null;
+    },
+
+    /**
+     * Submit the form for a delegated link, unless an onclick script of the
+     * link returned false.
+     *
+     * @params form The form
+     * @params event The click event
+     */
+    onclick: function(form, event) {
+        var link = this.getElement(form, event, "data-submit");
+        if (link == null || event.defaultPrevented == true
+                || event.returnValue == false) {
+            return true;
+        }
+        hyperlink.submit(link, form.id, link.getAttribute("data-submit"));
+        if (event.preventDefault) {
+            event.preventDefault();
+        }
+        event.returnValue = false;
+        return false;
+    },
+
+    /**
+     * Update the style classes of a delegated button, initializing buttons
+     * rendered after the form, such as by an asynchronous request.
+     *
+     * @params form The form
+     * @params event The focus, blur, mouse over or mouse out event
+     */
+    onbutton: function(form, event) {
+        var domNode = this.getElement(form, event, "data-button");
+        if (domNode == null) {
+            return true;
+        }
+        if (domNode.isOneOfOurButtons != true) {
+            this.initButton(domNode);
+        }
+        var type = event.type;
+        if (type == "focusin") {
+            type = "focus";
+        } else if (type == "focusout") {
+            type = "blur";
+        }
+        return domNode["myon" + type]();
+    }
+    };
+});
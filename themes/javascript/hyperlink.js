@@ -46,7 +46,7 @@ define( function() {
      *
      * @params hyperlink The hyperlink element
      * @params formId The form id
-     * @params params Name value pairs
+     * @params params Name value pairs, or a query string of them
      */
     submit: function(hyperlink, formId, params) {
         //params are name value pairs but all one big string array
@@ -55,7 +55,11 @@ define( function() {
 	var oldTarget = theForm.target;
         var oldAction = theForm.action;
         theForm.action += "?" + hyperlink.id + "_submittedField="+hyperlink.id; 
-        if (params != null) {
+        if (typeof params == "string") {
+            if (params.length > 0) {
+                theForm.action += "&" + params;
+            }
+        } else if (params != null) {
             for (var i = 0; i < params.length; i++) {
              theForm.action +="&" + params[i] + "=" + params[i+1]; 
                 i++;
@@ -0,0 +1,76 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+// This Javascript file is used by tab sets which select tabs asynchronously,
+// where JSF Extensions is used as the underlying transfer protocol.
+//
+define( function() {
+    
+    return {
+    /**
+     * This function is used to select a tab with an asynchronous request,
+     * which processes and renders only the enclosing tab set. The content
+     * of the tab is therefore loaded when the tab is selected.
+     *
+     * @params tab The tab hyperlink element
+     * @params tabSetId The tab set id
+     * @params params Name value pairs
+     */
+    select: function(tab, tabSetId, params) {
+        // Tell the tab which tab was clicked, as hyperlink.submit does.
+        var parameters = encodeURIComponent(tab.id + "_submittedField")
+            + "=" + encodeURIComponent(tab.id);
+        if (params != null) {
+            for (var i = 0; i < params.length; i++) {
+                parameters += "&" + encodeURIComponent(params[i])
+                    + "=" + encodeURIComponent(params[i+1]);
+                i++;
+            }
+        }
+
+        // Generate AJAX request using the JSF Extensions library.
+        DynaFaces.fireAjaxTransaction(tab, {
+            execute: tabSetId,
+            render: tabSetId,
+            parameters: parameters });
+        return false;
+    }
+    };
+});
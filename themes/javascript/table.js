@@ -603,7 +603,9 @@ define(["webui/suntheme/common"], function(common) {
 
         // Get flag indicating groupis collapsed.
         var prefix = groupId + this.SEPARATOR;
-        var collapsed = !common.isVisible(prefix + rowIds[0]);
+        var clientRows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        var collapsed = (clientRows != null) ? clientRows.collapsed
+            : !common.isVisible(prefix + rowIds[0]);
 
         // Set next warning image.
         var image = document.getElementById(prefix + this.warningIconId);
@@ -620,6 +622,386 @@ define(["webui/suntheme/common"], function(common) {
         return true;
     },
 
+    /**
+     * This function is used to initialize the row data of a row group, used
+     * to sort, filter, and paginate the rows without submitting the page. The
+     * sort, filter, and page chosen are saved in a hidden field and applied
+     * to the row group when the page is next submitted.
+     *
+     * Supported Properties:
+     * <ul>
+     *  <li>id: The HTML element ID for the table component.</li>
+     *  <li>groupId: The HTML element ID for the tableRowGroup component.</li>
+     *  <li>barId: ID for the hidden row holding the row data.</li>
+     *  <li>fieldId: ID for the hidden field holding the sort, filter, and page.</li>
+     *  <li>rowIds: The row IDs, in the rendered order.</li>
+     *  <li>keys: The sort criteria keys of the sortable columns.</li>
+     *  <li>values: For each row, the values of the sortable columns.</li>
+     *  <li>sort: The current sort, as an array of [key, ascending] pairs.</li>
+     *  <li>filter: The text filter applied by the server.</li>
+     *  <li>paginated: Flag indicating the rows are paginated.</li>
+     *  <li>first: The index of the first row of the current page.</li>
+     *  <li>rows: The number of rows per page.</li>
+     *  <li>collapsed: Flag indicating the row group is collapsed.</li>
+     *  <li>styleClasses: The row style classes, applied in turn.</li>
+     *  <li>pageFieldIds: IDs for the page fields of the pagination controls.</li>
+     *  <li>pagesTextIds: IDs for the pages text of the pagination controls.</li>
+     *  <li>pagesText: The pages text, where {0} is the number of pages.</li>
+     * </ul>
+     *
+     * Note: This is considered a private API, do not use.
+     *
+     * @param props Key-Value pairs of properties.
+     * @return true if successful; otherwise, false.
+     */
+    initClientRows: function(props) {
+        if (props == null || props.id == null || props.groupId == null
+                || props.rowIds == null || props.values == null) {
+            return false;
+        }
+        var domNode = document.getElementById(props.id);
+        if (domNode == null) {
+            return false;
+        }
+
+        // The rows are rendered in the current sort order, filtered by the
+        // server; the current page is the one rendered.
+        props.order = [];
+        for (var i = 0; i < props.rowIds.length; i++) {
+            props.order[i] = i;
+        }
+        props.visible = props.order.slice(0);
+        props.filterText = props.filter != null ? props.filter : "";
+        props.page = (props.paginated && props.rows > 0)
+            ? Math.floor(props.first / props.rows) : 0;
+        props.shown = {};
+        for (var i = 0; i < props.rowIds.length; i++) {
+            props.shown[props.rowIds[i]] = !(props.paginated && props.rows > 0)
+                || (i >= props.first && i < props.first + props.rows);
+        }
+
+        if (domNode.clientRows == null) {
+            domNode.clientRows = {};
+        }
+        domNode.clientRows[props.groupId] = props;
+
+        // Private functions.
+        domNode.compareClientRows = this.compareClientRows;
+        domNode.saveClientRows = this.saveClientRows;
+        domNode.showClientRows = this.showClientRows;
+
+        // Public functions.
+        domNode.filterClientRows = this.filterClientRows;
+        domNode.pageClientRows = this.pageClientRows;
+        domNode.sortClientRows = this.sortClientRows;
+        return true;
+    },
+
+    /**
+     * This function is used to compare two sort values of the row data. Empty
+     * values come first, numbers and boolean values are compared by value,
+     * and text is compared in the user's locale.
+     *
+     * Note: This is considered a private API, do not use.
+     *
+     * @param a The first value.
+     * @param b The second value.
+     * @return A negative number, zero, or a positive number as the first
+     * value is less than, equal to, or greater than the second value.
+     */
+    compareClientRows: function(a, b) {
+        if (a == null || b == null) {
+            return (a == null ? 0 : 1) - (b == null ? 0 : 1);
+        }
+        if (typeof a != typeof b) {
+            a = String(a);
+            b = String(b);
+        }
+        if (typeof a == "string") {
+            return a.localeCompare(b);
+        }
+        return (a < b) ? -1 : (a > b ? 1 : 0);
+    },
+
+    /**
+     * This function is used to filter the rows of the given row group to the
+     * rows with a text value containing the given text, ignoring case. When
+     * the text does not narrow the filter applied by the server, the page is
+     * submitted to filter the rows again.
+     *
+     * @param groupId The HTML element ID for the tableRowGroup component.
+     * @param text The text to find.
+     * @return true if successful; otherwise, false.
+     */
+    filterClientRows: function(groupId, text) {
+        var rows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        if (rows == null) {
+            return false;
+        }
+        text = (text != null) ? String(text).toLowerCase() : "";
+        rows.filterText = text;
+        rows.page = 0; // Reset to first page.
+
+        // Rows filtered by the server are not available.
+        if (text.indexOf(rows.filter) < 0) {
+            this.saveClientRows(groupId);
+            var form = this;
+            while (form != null && form.tagName != "FORM") {
+                form = form.parentNode;
+            }
+            if (form == null) {
+                return false;
+            }
+            form.submit();
+            return true;
+        }
+
+        rows.visible = [];
+        for (var i = 0; i < rows.order.length; i++) {
+            var values = rows.values[rows.order[i]];
+            var match = (text.length == 0);
+            for (var k = 0; !match && k < values.length; k++) {
+                match = typeof values[k] == "string"
+                    && values[k].toLowerCase().indexOf(text) >= 0;
+            }
+            if (match) {
+                rows.visible.push(rows.order[i]);
+            }
+        }
+        this.showClientRows(groupId);
+        return this.saveClientRows(groupId);
+    },
+
+    /**
+     * This function is used to show another page of the given row group.
+     *
+     * @param groupId The HTML element ID for the tableRowGroup component.
+     * @param action The page to show: "first", "prev", "next", "last", or
+     * "page" for the page given by the page field.
+     * @param pageFieldId The ID for the page field, used with "page".
+     * @return true if successful; otherwise, false.
+     */
+    pageClientRows: function(groupId, action, pageFieldId) {
+        var rows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        if (rows == null || !rows.paginated || !(rows.rows > 0)) {
+            return false;
+        }
+        var count = Math.max(1, Math.ceil(rows.visible.length / rows.rows));
+        var page = rows.page;
+        if (action == "first") {
+            page = 0;
+        } else if (action == "prev") {
+            page--;
+        } else if (action == "next") {
+            page++;
+        } else if (action == "last") {
+            page = count - 1;
+        } else if (action == "page") {
+            var field = document.getElementById(pageFieldId + "_field");
+            if (field == null) {
+                field = document.getElementById(pageFieldId);
+            }
+            var value = (field != null) ? parseInt(field.value, 10) : NaN;
+            if (!isNaN(value)) {
+                page = value - 1;
+            }
+        } else {
+            return false;
+        }
+        rows.page = Math.min(Math.max(page, 0), count - 1);
+        this.showClientRows(groupId);
+        return this.saveClientRows(groupId);
+    },
+
+    /**
+     * This function is used to save the sort, filter, and page of the given
+     * row group in its hidden field, to be applied when the page is submitted.
+     *
+     * Note: This is considered a private API, do not use.
+     *
+     * @param groupId The HTML element ID for the tableRowGroup component.
+     * @return true if successful; otherwise, false.
+     */
+    saveClientRows: function(groupId) {
+        var rows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        var field = (rows != null) ? document.getElementById(rows.fieldId) : null;
+        if (field == null) {
+            return false;
+        }
+        var quote = function(s) {
+            return '"' + String(s).replace(/[\\"]/g, "\\$&")
+                .replace(/[\u0000-\u001f]/g, function(c) {
+                    return "\\u" + ("000" + c.charCodeAt(0).toString(16)).slice(-4);
+                }) + '"';
+        };
+        var sort = [];
+        for (var i = 0; i < rows.sort.length; i++) {
+            sort.push("[" + quote(rows.sort[i][0]) + "," 
+                + (rows.sort[i][1] ? "true" : "false") + "]");
+        }
+        field.value = '{"sort":[' + sort.join(",") + '],"filter":' 
+            + quote(rows.filterText) + ',"page":' + (rows.page + 1) + "}";
+        return true;
+    },
+
+    /**
+     * This function is used to show the rows of the current page of the given
+     * row group, in the sort order, and to update the pagination controls.
+     *
+     * Note: This is considered a private API, do not use.
+     *
+     * @param groupId The HTML element ID for the tableRowGroup component.
+     * @return true if successful; otherwise, false.
+     */
+    showClientRows: function(groupId) {
+        var rows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        var bar = (rows != null) ? document.getElementById(rows.barId) : null;
+        if (bar == null) {
+            return false;
+        }
+
+        // Get the rows of the current page.
+        var first = 0;
+        var last = rows.visible.length;
+        if (rows.paginated && rows.rows > 0) {
+            first = rows.page * rows.rows;
+            last = Math.min(first + rows.rows, last);
+        }
+        rows.shown = {};
+        for (var i = first; i < last; i++) {
+            rows.shown[rows.rowIds[rows.visible[i]]] = true;
+        }
+
+        // Move each row before the hidden row, in the sort order, and set
+        // its visibility and style class.
+        var prefix = groupId + ":";
+        var count = 0;
+        for (var i = 0; i < rows.order.length; i++) {
+            var index = rows.order[i];
+            var row = document.getElementById(prefix + rows.rowIds[index]);
+            if (row == null) {
+                continue;
+            }
+            bar.parentNode.insertBefore(row, bar);
+            var shown = rows.shown[rows.rowIds[index]] == true;
+            common.setVisibleElement(row, shown && !rows.collapsed);
+            if (rows.styleClasses.length > 0) {
+                for (var k = 0; k < rows.styleClasses.length; k++) {
+                    common.stripStyleClass(row, rows.styleClasses[k]);
+                }
+                if (shown) {
+                    common.addStyleClass(row, 
+                        rows.styleClasses[count++ % rows.styleClasses.length]);
+                }
+            }
+        }
+
+        // Update pagination controls.
+        var pages = (rows.paginated && rows.rows > 0)
+            ? Math.max(1, Math.ceil(rows.visible.length / rows.rows)) : 1;
+        for (var i = 0; rows.pageFieldIds != null && i < rows.pageFieldIds.length; i++) {
+            var field = document.getElementById(rows.pageFieldIds[i] + "_field");
+            if (field == null) {
+                field = document.getElementById(rows.pageFieldIds[i]);
+            }
+            if (field != null) {
+                field.value = rows.page + 1;
+            }
+            var text = document.getElementById(rows.pagesTextIds[i]);
+            if (text != null && rows.pagesText != null) {
+                while (text.firstChild != null) {
+                    text.removeChild(text.firstChild);
+                }
+                text.appendChild(document.createTextNode(
+                    rows.pagesText.replace("{0}", pages)));
+            }
+        }
+        return true;
+    },
+
+    /**
+     * This function is used to sort the rows of the given row group by the
+     * given column, as the sort buttons of the column header would.
+     *
+     * @param groupId The HTML element ID for the tableRowGroup component.
+     * @param key The sort criteria key of the column.
+     * @param mode The sort applied: "primary" replaces the sort, "add" adds
+     * the column to the sort, and "toggle" reverses the column's sort order.
+     * @param ascending Flag indicating the column is sorted in ascending order,
+     * used with "primary" and "add".
+     * @return true if successful; otherwise, false.
+     */
+    sortClientRows: function(groupId, key, mode, ascending) {
+        var rows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        if (rows == null || rows.keys == null) {
+            return false;
+        }
+
+        // Find the column of each sort key.
+        var columns = {};
+        for (var k = 0; k < rows.keys.length; k++) {
+            columns[rows.keys[k]] = k;
+        }
+        if (columns[key] == null) {
+            return false;
+        }
+
+        // Apply the sort.
+        var sort = rows.sort.slice(0);
+        var level = -1;
+        for (var i = 0; i < sort.length; i++) {
+            if (sort[i][0] == key) {
+                level = i;
+                break;
+            }
+        }
+        if (mode == "primary") {
+            sort = [[key, ascending]];
+        } else if (mode == "add") {
+            if (level < 0) {
+                sort.push([key, ascending]);
+            } else {
+                sort[level] = [key, ascending];
+            }
+        } else if (mode == "toggle") {
+            if (level < 0) {
+                sort.push([key, ascending]);
+            } else {
+                sort[level] = [key, !sort[level][1]];
+            }
+        } else {
+            return false;
+        }
+
+        // All sort keys must be known.
+        for (var i = 0; i < sort.length; i++) {
+            if (columns[sort[i][0]] == null) {
+                return false;
+            }
+        }
+        rows.sort = sort;
+
+        // Sort the rows, keeping the rendered order of equal rows.
+        var _this = this;
+        var compare = function(a, b) {
+            for (var i = 0; i < sort.length; i++) {
+                var column = columns[sort[i][0]];
+                var result = _this.compareClientRows(rows.values[a][column],
+                    rows.values[b][column]);
+                if (result != 0) {
+                    return sort[i][1] ? result : -result;
+                }
+            }
+            return a - b;
+        };
+        rows.order.sort(compare);
+        rows.visible.sort(compare);
+        rows.page = 0; // Reset to first page.
+        this.showClientRows(groupId);
+        return this.saveClientRows(groupId);
+    },
+
+
     /**
      * This function is used to initialize the primary sort order menus used in the 
      * table sort panel.
@@ -1095,8 +1477,14 @@ define(["webui/suntheme/common"], function(common) {
             return false;
         }
 
+        // Rows of other pages, or filtered in the browser, are not selected.
+        var clientRows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+
         // Update the select component for each row.
         for (var k = 0; k < rowIds.length; k++) {
+            if (clientRows != null && clientRows.shown[rowIds[k]] != true) {
+                continue;
+            }
             var select = document.getElementById(
                 this.groupIds[i] + this.SEPARATOR + rowIds[k] + this.SEPARATOR + selectId);
             if (select == null) {
@@ -1138,7 +1526,9 @@ define(["webui/suntheme/common"], function(common) {
 
         // Get flag indicating group is collapsed.
         var prefix = groupId + this.SEPARATOR;
-        var collapsed = !common.isVisible(prefix + rowIds[0]);
+        var clientRows = (this.clientRows != null) ? this.clientRows[groupId] : null;
+        var collapsed = (clientRows != null) ? clientRows.collapsed
+            : !common.isVisible(prefix + rowIds[0]);
 
         // Get the number of column headers and table column footers for all 
         // TableRowGroup children.
@@ -1194,10 +1584,15 @@ define(["webui/suntheme/common"], function(common) {
             }
         }
 
-        // Toggle group rows.
-        for (var k = 0; k < rowIds.length; k++) {
-            var rowId = prefix + rowIds[k];
-            common.setVisible(rowId, collapsed);
+        // Toggle group rows, showing only the current page of client rows.
+        if (clientRows != null) {
+            clientRows.collapsed = !collapsed;
+            this.showClientRows(groupId);
+        } else {
+            for (var k = 0; k < rowIds.length; k++) {
+                var rowId = prefix + rowIds[k];
+                common.setVisible(rowId, collapsed);
+            }
         }
 
         // Toggle group footers.
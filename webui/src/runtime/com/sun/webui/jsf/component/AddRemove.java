@@ -51,14 +51,18 @@ import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.MessageUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 
+import java.text.CollationKey;
 import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.TreeMap;
 
 import javax.el.ValueExpression;
 import javax.faces.FacesException;
@@ -277,8 +281,6 @@ public class AddRemove extends ListSelector implements ListManager {
     public static final String MULTIPLEADDITIONS_FUNCTION =
             ".allowMultipleAdditions()";  //NOI8N
     public static final String SPACER_STRING = "_"; //NOI18N
-    private static final String KEY_STRING = "a"; //NOI18N
-    private static final String DUP_STRING = "1"; //NOI18N
     /**
      * The string used as a separator between the selected values
      */
@@ -288,8 +290,9 @@ public class AddRemove extends ListSelector implements ListManager {
      */
     public static final String ADDREMOVE_LABEL_LEVEL =
             "AddRemove.labelLevel"; //NOI18N
-    private TreeMap availableItems = null;
-    private TreeMap selectedItems = null;
+    private List availableItems = null;
+    private List selectedItems = null;
+    private ListItem rulerItem = null;
     private Collator collator = null;
     private String allValues = ""; //NOI18N
     private String selectedValues = ""; //NOI18N
@@ -367,7 +370,7 @@ public class AddRemove extends ListSelector implements ListManager {
         FacesContext context = FacesContext.getCurrentInstance();
         // Initialize selectedItems and selectedValues.
         Iterator itr = getListItems(context, true);
-        return selectedItems.values().iterator();
+        return selectedItems.iterator();
     }
 
     /**
@@ -1042,8 +1045,9 @@ public class AddRemove extends ListSelector implements ListManager {
         collator = Collator.getInstance(locale);
         collator.setStrength(Collator.IDENTICAL);
 
-        availableItems = new TreeMap(collator);
-        selectedItems = new TreeMap(collator);
+        availableItems = new ArrayList();
+        selectedItems = new ArrayList();
+        rulerItem = null;
 
         // Retrieve the current selections. If there are selected
         // objects, mark the corresponding items as selected.
@@ -1056,12 +1060,17 @@ public class AddRemove extends ListSelector implements ListManager {
 
         processSelections();
 
+        // The ruler always ends the selected list as well.
+        if (rulerItem != null) {
+            selectedItems.add(rulerItem);
+        }
+
         // We construct a string representation of the selected values
         // only
         selectedValues =
                 constructValueString(selectedItems, SEPARATOR_VALUE);
 
-        return availableItems.values().iterator();
+        return availableItems.iterator();
     }
 
     /**
@@ -1084,10 +1093,9 @@ public class AddRemove extends ListSelector implements ListManager {
 
         ListItem listItem = null;
         String label = null;
-        String lastKey = ""; //NOI18N
         String longestString = ""; //NOI18N
-        StringBuffer unsortedKeyBuffer = new StringBuffer(100);
         boolean sorted = isSorted();
+        ArrayList sortKeys = sorted ? new ArrayList(length) : null;
 
         for (int counter = 0; counter < length; ++counter) {
 
@@ -1112,23 +1120,31 @@ public class AddRemove extends ListSelector implements ListManager {
             }
 
             if (sorted) {
-
-                availableItems.put(label, listItem);
-                if (collator.compare(label, lastKey) > 0) {
-                    lastKey = label;
-                }
+                // Collation keys are computed once per label, rather
+                // than on every comparison.
+                sortKeys.add(new SortKey(collator.getCollationKey(label),
+                        listItem));
             } else {
-
                 // If the page author does not want the list items to be
                 // sorted (alphabetically by locale), then they're
                 // supposed to be sorted by the order they were added.
-                // Maps are not guaranteed to return items in the order
-                // they were added, so we have to create this order
-                // artificially. We do that by creating a successively
-                // longer key for each element. (a, aa, aaa...).
-                unsortedKeyBuffer.append(KEY_STRING);
-                availableItems.put(unsortedKeyBuffer.toString(), listItem);
-                lastKey = unsortedKeyBuffer.toString();
+                availableItems.add(listItem);
+            }
+        }
+
+        if (sorted) {
+            // The sort is stable. Of several options whose labels collate
+            // identically only the last one is shown, since the label
+            // identifies the option in a sorted list.
+            Collections.sort(sortKeys);
+            int size = sortKeys.size();
+            for (int counter = 0; counter < size; ++counter) {
+                SortKey sortKey = (SortKey) sortKeys.get(counter);
+                if (counter + 1 < size && sortKey.compareTo(
+                        sortKeys.get(counter + 1)) == 0) {
+                    continue;
+                }
+                availableItems.add(sortKey.item);
             }
         }
 
@@ -1148,43 +1164,27 @@ public class AddRemove extends ListSelector implements ListManager {
             ListItem item = new ListItem(labelBuffer.toString());
             item.setDisabled(true);
             item.setValue(SEPARATOR_VALUE);
-            if (sorted) {
-                lastKey = lastKey.concat(KEY_STRING);
-                availableItems.put(lastKey, item); //NOI18N
-                lastKey = lastKey.concat(KEY_STRING);
-                selectedItems.put(lastKey, item);  //NOI18N
-            } else {
-                unsortedKeyBuffer.append(KEY_STRING);
-                availableItems.put(unsortedKeyBuffer.toString(), item);
-                unsortedKeyBuffer.append(KEY_STRING);
-                selectedItems.put(unsortedKeyBuffer.toString(), item);
-            }
-        }
-
-        if (DEBUG) {
-            log("AvailableItems keys"); //NOI18N
-            Iterator iterator = availableItems.keySet().iterator();
-            while (iterator.hasNext()) {
-                log("next key " + iterator.next().toString());  //NOI18N
-            }
+            availableItems.add(item);
+            // getListItems adds the ruler to the end of the selected items
+            rulerItem = item;
         }
     }
 
-    private String constructValueString(TreeMap map) {
-        return constructValueString(map, null);
+    private String constructValueString(List list) {
+        return constructValueString(list, null);
     }
 
-    private String constructValueString(TreeMap map, String filter) {
+    private String constructValueString(List list, String filter) {
 
         // Set up the "All values" string. This is rendered as a
         // hidden input on the client side, and is used to
-        StringBuffer valuesBuffer = new StringBuffer(392);
-        Iterator values = map.values().iterator();
+        int size = list.size();
+        StringBuffer valuesBuffer = new StringBuffer(16 * size + 16);
         ListItem listItem = null;
         String separator = getSeparator();
         valuesBuffer.append(separator);
-        while (values.hasNext()) {
-            listItem = (ListItem) (values.next());
+        for (int counter = 0; counter < size; ++counter) {
+            listItem = (ListItem) list.get(counter);
             if (filter != null && listItem.getValue().equals(filter)) {
                 continue;
             }
@@ -1202,7 +1202,7 @@ public class AddRemove extends ListSelector implements ListManager {
      * @return An Iterator over the selected ListItem
      */
     public Iterator getSelectedListItems() {
-        return selectedItems.values().iterator();
+        return selectedItems.iterator();
     }
 
     /** 
@@ -1223,16 +1223,6 @@ public class AddRemove extends ListSelector implements ListManager {
         if (DEBUG) {
             log("markSelectedListItems()"); //NOI18N
         }
-        // The "selected" variable is an iteration over the selected
-        // items
-
-        // CR 6359071
-        // Drive the comparisons from the selected list vs. the
-        // available list. This results in the resulting mapped
-        // selected list reflecting the order of the original
-        // selected list.
-        //
-        Iterator selected = list.iterator();
 
         boolean allowDups = isDuplicateSelections();
 
@@ -1245,145 +1235,89 @@ public class AddRemove extends ListSelector implements ListManager {
         //
         boolean sorted = isSorted() && !isMoveButtons();
 
-        // Use the HashMap "removeItems" to record the selected
-        // items that must be removed from the available items.
-        // This allows us to not use the available item keys in the
-        // selectedItems list, enabling the
-        // selectedItems to be sorted as inserted.
+        // Index the available items by the value compared against,
+        // keeping the first item for each value.
         //
-        Map removeItems = new HashMap();
+        int count = availableItems.size();
+        Map index = new HashMap(2 * count + 1);
+        for (int counter = count - 1; counter >= 0; --counter) {
+            ListItem listItem = (ListItem) availableItems.get(counter);
+            if (listItem == rulerItem) {
+                continue;
+            }
+            Object value = processed
+                    ? listItem.getValueObject() : listItem.getValue();
+            if (value != null) {
+                index.put(value, Integer.valueOf(counter));
+            }
+        }
 
-        // Devise a key to use for the selectedItems. Use the same
-        // strategy as used for available items. Create an increasing
-        // String of the letter KEY_STRING as selected items are recorded.
-        // If sorting, use the available item key.
+        // "matched" records the available items that must be removed
+        // from the available items. When sorting, the selected items
+        // are collected per available item so that they follow the
+        // order of the available items, with duplicates after the
+        // first selection.
         //
-        String selectedKey = ""; //NOI18N
+        boolean[] matched = new boolean[count];
+        List[] sortedSelections = sorted ? new List[count] : null;
+
+        // The items the index may miss, found on the first miss.
+        int[] unhashed = null;
 
+        // CR 6359071
+        // Drive the comparisons from the selected list vs. the
+        // available list. This results in the resulting mapped
+        // selected list reflecting the order of the original
+        // selected list.
+        //
+        Iterator selected = list.iterator();
         while (selected.hasNext()) {
 
             Object selectedValue = selected.next();
-
-            // The "keys" are the keys of the options on the available map
-            // Need to "rewind" for every selected item.
-            //
-            Iterator keys = availableItems.keySet().iterator();
-
-            // Does the current listItem match the selected value?
-            boolean match = false;
-
-            while (keys.hasNext()) {
-
-                Object key = keys.next();
-                // The next object from the available map
-                //
-                Object nextItem = availableItems.get(key);
-                ListItem listItem = null;
-
-                // If we get an exception just log it and continue.
-                // It's cheaper this way than testing with "instanceof".
-                //
-                try {
-                    listItem = (ListItem) nextItem;
-                } catch (Exception e) {
-                    log("An available item was not a ListItem."); //NOI18N
-                    continue;
+            int match = findListItem(index, selectedValue, processed);
+            if (match == -1 && processed && selectedValue != null) {
+                if (unhashed == null) {
+                    unhashed = getUnhashedItems();
                 }
+                match = findUnhashedItem(unhashed, selectedValue);
+            }
 
+            // Note that elements in the selected list that do
+            // not match will not appear in the "selectedItems"
+            // list.
+            //
+            if (match == -1) {
                 if (DEBUG) {
-                    log("Now processing ListItem " + //NOI18N
-                            listItem.getValue());
-                    log("\tSelected object value: " + //NOI18N
-                            String.valueOf(selectedValue));
-                    log("\tSelected object type: " + //NOI18N
-                            selectedValue.getClass().getName());
-                    if (processed) {
-                        log("\tMatching the values by " + //NOI18N
-                                "object.equals()"); //NOI18N
-                    } else {
-                        log("\tMatching the values by string" + //NOI18N
-                                "comparison on converted values."); //NOI18N
-                    }
-                }
-
-                if (processed) {
-                    match = listItem.getValueObject().equals(selectedValue);
-                } else {
-                    // Recall that "processed" means that we compare using the 
-                    // actual value of this component, and this case means that 
-                    // we compare from the submitted values. In other words, in
-                    // this scenario, the selectedValue is an already converted 
-                    // String. 
-                    match =
-                            selectedValue.toString().equals(listItem.getValue());
-                }
-
-                // Note that elements in the selected list that do
-                // not match will not appear in the "selectedItems"
-                // TreeMap.
-                //
-                if (!match) {
-                    continue;
+                    log("\tSelected value " + //NOI18N
+                            String.valueOf(selectedValue) +
+                            " not present on the list of options."); //NOI18N
                 }
-
+                continue;
+            }
+            if (matched[match] && !allowDups) {
                 if (DEBUG) {
-                    log("\tListItem and selected item match"); //NOI18N
-                }
-                // Ensure that the selectedItems are sorted appropriately.
-                // Use the sort order of the available items if sorted
-                // and the insertion order if not.
-                //
-                if (sorted) {
-                    selectedKey = key.toString();
-                } else {
-                    selectedKey = selectedKey.concat(KEY_STRING);
+                    log("\tDuplicates not allowed " + //NOI18N
+                            "ignoring this duplicate selected item."); //NOI18N
                 }
+                continue;
+            }
+            matched[match] = true;
 
-                // See if we have a dup. If dups are allowed
-                // create a new unique key for the dup and add it
-                // to the selectedItems.
-                // If not a dup, add it to the removeItems map
-                // and add it to the selectedItems.
-                //
-                if (removeItems.containsKey(key)) {
-                    if (allowDups) {
-                        // In case users are allowed to add the same
-                        // item more than once, use this complicated
-                        // procedure.
-                        // The assumption is that "1" comes before "a".
-                        //
-                        if (DEBUG) {
-                            log("\tAdding duplicate " + //NOI18N
-                                    "and creating unique key."); //NOI18N
-                        }
-                        String key2 = selectedKey.toString().concat(DUP_STRING);
-                        while (selectedItems.containsKey(key2)) {
-                            key2 = key2.concat(DUP_STRING);
-                        }
-                        selectedItems.put(key2, listItem);
-                    } else {
-                        if (DEBUG) {
-                            log("\tDuplicates not allowed " + //NOI18N
-                                    "ignoring this duplicate selected item."); //NOI18N
-                        }
-                    }
-                } else {
-                    // Add the found key to the removeItems map
-                    // and add to the selectedItems.
-                    //
-                    removeItems.put(key, null);
-                    selectedItems.put(selectedKey, listItem);
+            ListItem listItem = (ListItem) availableItems.get(match);
+            if (sorted) {
+                if (sortedSelections[match] == null) {
+                    sortedSelections[match] = new ArrayList(1);
                 }
-
-                // We have a match break the loop
-                //
-                break;
+                sortedSelections[match].add(listItem);
+            } else {
+                selectedItems.add(listItem);
             }
-            if (DEBUG) {
-                if (!match) {
-                    log("\tSelected value " + //NOI18N
-                            String.valueOf(selectedValue) +
-                            " not present on the list of options."); //NOI18N
+        }
+
+        if (sorted) {
+            for (int counter = 0; counter < count; ++counter) {
+                if (sortedSelections[counter] != null) {
+                    selectedItems.addAll(sortedSelections[counter]);
                 }
             }
         }
@@ -1393,12 +1327,110 @@ public class AddRemove extends ListSelector implements ListManager {
                 log("\tRemove the selected items from " +
                         "the available items"); //NOI18N
             }
-            Iterator keys = removeItems.keySet().iterator();
-            Object key = null;
-            while (keys.hasNext()) {
-                key = keys.next();
-                availableItems.remove(key);
+            ArrayList remaining = new ArrayList(count);
+            for (int counter = 0; counter < count; ++counter) {
+                if (!matched[counter]) {
+                    remaining.add(availableItems.get(counter));
+                }
             }
+            availableItems = remaining;
+        }
+    }
+
+    /**
+     * Return the index in the available items of the first item matching
+     * the selected value, or -1 if there is none.
+     */
+    private int findListItem(Map index, Object selectedValue,
+            boolean processed) {
+        if (selectedValue == null) {
+            return -1;
+        }
+        if (!processed) {
+            // Recall that "processed" means that we compare using the 
+            // actual value of this component, and this case means that 
+            // we compare from the submitted values. In other words, in
+            // this scenario, the selectedValue is an already converted 
+            // String. 
+            Integer match = (Integer) index.get(selectedValue.toString());
+            return (match != null) ? match.intValue() : -1;
+        }
+        Integer match = (Integer) index.get(selectedValue);
+        return (match != null) ? match.intValue() : -1;
+    }
+
+    /**
+     * Return the indexes in the available items of the items whose value
+     * class overrides equals() but not hashCode(). Such a value may equal a
+     * selected value without being found in the index. Other value classes
+     * are expected to have a hashCode() consistent with equals().
+     */
+    private int[] getUnhashedItems() {
+        int count = availableItems.size();
+        int[] items = new int[count];
+        int size = 0;
+        Map unhashedClasses = new HashMap();
+        for (int counter = 0; counter < count; ++counter) {
+            ListItem listItem = (ListItem) availableItems.get(counter);
+            Object value = listItem.getValueObject();
+            if (listItem == rulerItem || value == null) {
+                continue;
+            }
+            Class valueClass = value.getClass();
+            Boolean unhashed = (Boolean) unhashedClasses.get(valueClass);
+            if (unhashed == null) {
+                unhashed = Boolean.valueOf(isUnhashed(valueClass));
+                unhashedClasses.put(valueClass, unhashed);
+            }
+            if (unhashed.booleanValue()) {
+                items[size++] = counter;
+            }
+        }
+        int[] result = new int[size];
+        System.arraycopy(items, 0, result, 0, size);
+        return result;
+    }
+
+    private static boolean isUnhashed(Class valueClass) {
+        try {
+            return valueClass.getMethod("equals", Object.class)
+                    .getDeclaringClass() != Object.class &&
+                valueClass.getMethod("hashCode")
+                    .getDeclaringClass() == Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Return the index in the available items of the first of the given
+     * items whose value equals the selected value, or -1 if there is none.
+     */
+    private int findUnhashedItem(int[] items, Object selectedValue) {
+        for (int i = 0; i < items.length; ++i) {
+            ListItem listItem = (ListItem) availableItems.get(items[i]);
+            if (listItem.getValueObject().equals(selectedValue)) {
+                return items[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A list item of a sorted list, with the collation key of its label.
+     */
+    private static class SortKey implements Comparable {
+
+        private final CollationKey key;
+        private final ListItem item;
+
+        SortKey(CollationKey key, ListItem item) {
+            this.key = key;
+            this.item = item;
+        }
+
+        public int compareTo(Object o) {
+            return key.compareTo(((SortKey) o).key);
         }
     }
 
@@ -1544,7 +1576,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("availableItemsLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1580,7 +1612,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("duplicateSelections");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1618,7 +1650,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("moveButtons");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1652,7 +1684,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("selectAll");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1685,7 +1717,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("selectedItemsLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1721,7 +1753,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("sorted");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1763,7 +1795,7 @@ public class AddRemove extends ListSelector implements ListManager {
         }
         ValueExpression _vb = getValueExpression("vertical");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -45,6 +45,7 @@ import java.io.IOException;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
@@ -230,7 +231,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("alt");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -263,7 +264,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -295,7 +296,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -326,7 +327,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -356,7 +357,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -386,7 +387,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -417,7 +418,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -449,7 +450,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -481,7 +482,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -513,7 +514,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -545,7 +546,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -590,7 +591,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("severity");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -628,7 +629,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -660,7 +661,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -689,7 +690,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("text");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -718,7 +719,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("textPosition");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "right";
     }
@@ -751,7 +752,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -795,7 +796,7 @@ public class Alarm extends ImageComponent implements Comparator {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
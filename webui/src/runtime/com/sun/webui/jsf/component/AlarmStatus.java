@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
@@ -122,7 +123,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("criticalAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -156,7 +157,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("criticalIcon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -186,7 +187,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("downAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -220,7 +221,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("downIcon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -250,7 +251,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("majorAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -284,7 +285,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("majorIcon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -314,7 +315,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("minorAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -348,7 +349,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("minorIcon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -376,7 +377,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("numCriticalAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -410,7 +411,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("numDownAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -444,7 +445,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("numMajorAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -478,7 +479,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("numMinorAlarms");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -514,7 +515,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -546,7 +547,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -589,7 +590,7 @@ public class AlarmStatus extends ImageHyperlink {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
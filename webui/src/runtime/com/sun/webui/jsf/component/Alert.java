@@ -46,6 +46,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 import javax.el.MethodExpression;
 import javax.el.ValueExpression;
@@ -280,7 +281,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("alt");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -309,7 +310,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("detail");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -363,7 +364,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("linkActionExpression");
         if (_vb != null) {
-            return (javax.el.MethodExpression) _vb.getValue(getFacesContext().getELContext());
+            return (javax.el.MethodExpression) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -403,7 +404,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("linkTarget");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -430,7 +431,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("linkText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -457,7 +458,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("linkToolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -486,7 +487,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("linkURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -516,7 +517,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -546,7 +547,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -576,7 +577,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("summary");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -611,7 +612,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -651,7 +652,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("type");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -693,7 +694,7 @@ public class Alert extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
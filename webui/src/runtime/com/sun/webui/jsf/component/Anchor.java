@@ -46,6 +46,7 @@ import javax.el.ValueExpression;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Anchor component is used to create an XHTML &lt;a&gt; anchor element.
@@ -112,7 +113,7 @@ public class Anchor extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -142,7 +143,7 @@ public class Anchor extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -49,9 +49,11 @@ import javax.faces.component.UIComponent;
 import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 
+import com.sun.webui.jsf.util.ComponentIdIndex;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.FocusManager;
 import com.sun.webui.jsf.util.LogUtil;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 
 /**
@@ -111,7 +113,8 @@ public class Body extends UIComponentBase {
                 // identify a sub component of a ComplexComponent, that
                 // must be done here.
                 //
-                UIComponent comp = findComponent(absid);
+                UIComponent comp =
+                        ComponentIdIndex.findComponent(context, this, absid);
                 if (comp != null && comp instanceof ComplexComponent) {
                     id = ((ComplexComponent) comp).getFocusElementId(context);
                 }
@@ -189,7 +192,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("focus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -221,7 +224,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("imageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -248,7 +251,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onBlur");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -277,7 +280,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -307,7 +310,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -339,7 +342,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onFocus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -370,7 +373,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -400,7 +403,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -430,7 +433,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -458,7 +461,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onLoad");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -487,7 +490,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -517,7 +520,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -547,7 +550,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -577,7 +580,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -607,7 +610,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -635,7 +638,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("onUnload");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -675,7 +678,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("preserveFocus");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -725,7 +728,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -755,7 +758,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -796,7 +799,7 @@ public class Body extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 import javax.faces.component.NamingContainer;
 import javax.faces.component.UIComponent;
@@ -143,7 +144,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("pages");
         if (_vb != null) {
-            return (com.sun.webui.jsf.component.Hyperlink[]) _vb.getValue(getFacesContext().getELContext());
+            return (com.sun.webui.jsf.component.Hyperlink[]) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -174,7 +175,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -206,7 +207,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -242,7 +243,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -277,7 +278,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("immediate");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -310,7 +311,7 @@ public class Breadcrumbs extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
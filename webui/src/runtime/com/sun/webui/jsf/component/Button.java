@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
@@ -200,7 +201,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("alt");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -234,7 +235,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -276,7 +277,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("escape");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -312,7 +313,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
     }
     ValueExpression _vb = getValueExpression("htmlTemplate");
     if (_vb != null) {
-    return (String) _vb.getValue(getFacesContext().getELContext());
+    return (String) PropertySnapshot.getValue(this, _vb);
     }
     return null;
     }
@@ -340,7 +341,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("icon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -375,7 +376,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("imageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -413,7 +414,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("mini");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -456,7 +457,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("noTextPadding");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -492,7 +493,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onBlur");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -521,7 +522,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -551,7 +552,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -583,7 +584,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onFocus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -614,7 +615,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -644,7 +645,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -674,7 +675,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -704,7 +705,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -734,7 +735,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -762,7 +763,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -791,7 +792,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -821,7 +822,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -850,7 +851,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("primary");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -888,7 +889,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("reset");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -925,7 +926,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -955,7 +956,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -990,7 +991,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1052,7 +1053,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1094,7 +1095,7 @@ public class Button extends WebuiCommand implements ComplexComponent {//, Widget
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -45,6 +45,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.converter.DateConverter;
 import com.sun.webui.jsf.validator.DateInRangeValidator;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.text.DateFormat;
 import java.util.Date;
 import java.util.TimeZone;
@@ -404,7 +405,7 @@ public class Calendar extends Field implements DateManager, NamingContainer {
         }
         ValueExpression _vb = getValueExpression("dateFormatPattern");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -481,7 +482,7 @@ public class Calendar extends Field implements DateManager, NamingContainer {
         }
         ValueExpression _vb = getValueExpression("dateFormatPatternHelp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -543,7 +544,7 @@ public class Calendar extends Field implements DateManager, NamingContainer {
         }
         ValueExpression _vb = getValueExpression("maxDate");
         if (_vb != null) {
-            return (java.util.Date) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.Date) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -592,7 +593,7 @@ public class Calendar extends Field implements DateManager, NamingContainer {
         }
         ValueExpression _vb = getValueExpression("minDate");
         if (_vb != null) {
-            return (java.util.Date) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.Date) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -648,7 +649,7 @@ public class Calendar extends Field implements DateManager, NamingContainer {
         }
         ValueExpression _vb = getValueExpression("timeZone");
         if (_vb != null) {
-            return (java.util.TimeZone) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.TimeZone) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
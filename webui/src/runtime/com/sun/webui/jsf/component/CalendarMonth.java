@@ -46,7 +46,9 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.model.Option;
 import com.sun.webui.jsf.model.ScheduledEvent;
+import com.sun.webui.jsf.util.DateFormatUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.beans.Beans;
 import java.io.Serializable;
 import java.text.DateFormat;
@@ -242,15 +244,14 @@ public class CalendarMonth extends UIOutput implements NamingContainer {
         if (DEBUG) {
             log("Dateformat not calculated"); //NOI18N
         }
-        SimpleDateFormat simpleDateFormat = (SimpleDateFormat) SimpleDateFormat.getDateInstance(DateFormat.SHORT, getLocale());
+        SimpleDateFormat simpleDateFormat = DateFormatUtilities.getDateFormat(
+                getDateFormatPattern(), getLocale());
 
         // We need to set the locale and the timeZone of the dateFormat. 
         // I can't tell from the spec whether just setting the Calendar 
         // does this correctly (the Calendar does know both). 
 
         simpleDateFormat.setCalendar(getCalendar());
-        ((SimpleDateFormat) simpleDateFormat).applyPattern(
-                getDateFormatPattern(simpleDateFormat));
 
         // For creator don't store the value, always derive it.
         // It's not clear if storing the value prevents responding
@@ -669,8 +670,6 @@ public class CalendarMonth extends UIOutput implements NamingContainer {
             if (dfp != null && dfp instanceof String) {
                 return (String) dfp;
             }
-            dateFormat = (SimpleDateFormat) SimpleDateFormat.getDateInstance(
-                    DateFormat.SHORT, getLocale());
         }
 
         // Derive the date format pattern.
@@ -681,7 +680,10 @@ public class CalendarMonth extends UIOutput implements NamingContainer {
             pattern = ((DateManager) parent).getDateFormatPattern();
         }
 
-        if (pattern == null) {
+        if (pattern == null && dateFormat == null) {
+            // The locale's pattern is normalized once and shared.
+            pattern = DateFormatUtilities.getShortDatePattern(getLocale());
+        } else if (pattern == null) {
 
             pattern = dateFormat.toPattern();
 
@@ -689,21 +691,13 @@ public class CalendarMonth extends UIOutput implements NamingContainer {
                 log("Default pattern " + pattern); //NOI18N
             }
 
-            if (pattern.indexOf("yyyy") == -1) {//NOI18N
-                pattern = pattern.replaceFirst("yy", "yyyy");//NOI18N
-            }
-
-            if (pattern.indexOf("MM") == -1) {//NOI18N
-                pattern = pattern.replaceFirst("M", "MM");//NOI18N
-            }
-
-            if (pattern.indexOf("dd") == -1) {//NOI18N
-                pattern = pattern.replaceFirst("d", "dd");//NOI18N
-            }
+            pattern = DateFormatUtilities.expandPattern(pattern);
         }
 
-        dateFormat.applyPattern(pattern);
-        pattern = dateFormat.toPattern();
+        if (dateFormat != null) {
+            dateFormat.applyPattern(pattern);
+            pattern = dateFormat.toPattern();
+        }
 
         if (!Beans.isDesignTime()) {
             getAttributes().put(DATE_FORMAT_PATTERN_ATTR, pattern);
@@ -811,7 +805,7 @@ public class CalendarMonth extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("popup");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.ArrayList;
 import java.util.Map;
 import javax.el.ValueExpression;
@@ -386,7 +387,7 @@ public class Checkbox extends RbCbSelector {
         }
         ValueExpression _vb = getValueExpression("labelLevel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 import javax.faces.component.NamingContainer;
 import javax.faces.context.FacesContext;
@@ -199,7 +200,7 @@ public class CheckboxGroup extends Selector implements NamingContainer,
         }
         ValueExpression _vb = getValueExpression("columns");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -249,7 +250,7 @@ public class CheckboxGroup extends Selector implements NamingContainer,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -48,6 +48,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 
 /**
@@ -142,7 +143,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -180,7 +181,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("icon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -213,7 +214,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("imageHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -252,7 +253,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("imageUrl");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -285,7 +286,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("imageWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -322,7 +323,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("immediate");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -362,7 +363,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("infoLinkText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -396,7 +397,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("infoLinkUrl");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -426,7 +427,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("infoText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -454,7 +455,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("infoTitle");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -482,7 +483,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onBlur");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -512,7 +513,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -543,7 +544,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -576,7 +577,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onFocus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -608,7 +609,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -639,7 +640,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -670,7 +671,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -701,7 +702,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -732,7 +733,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -761,7 +762,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -791,7 +792,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -822,7 +823,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -853,7 +854,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -884,7 +885,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -920,7 +921,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -963,7 +964,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("target");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1009,7 +1010,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1040,7 +1041,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1082,7 +1083,7 @@ public class CommonTask extends com.sun.webui.jsf.component.WebuiCommand
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.faces.context.FacesContext;
 import javax.faces.component.NamingContainer;
 import javax.el.ValueExpression;
@@ -113,7 +114,7 @@ public class CommonTasksGroup extends javax.faces.component.UIComponentBase impl
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -143,7 +144,7 @@ public class CommonTasksGroup extends javax.faces.component.UIComponentBase impl
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -173,7 +174,7 @@ public class CommonTasksGroup extends javax.faces.component.UIComponentBase impl
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -213,7 +214,7 @@ public class CommonTasksGroup extends javax.faces.component.UIComponentBase impl
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
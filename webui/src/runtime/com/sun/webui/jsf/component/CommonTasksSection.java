@@ -51,6 +51,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 
 /**
@@ -125,7 +126,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("helpText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -155,7 +156,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -186,7 +187,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -215,7 +216,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -255,7 +256,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -298,7 +299,7 @@ public class CommonTasksSection extends javax.faces.component.UIComponentBase im
         }
         ValueExpression _vb = getValueExpression("columns");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -46,6 +46,7 @@ import com.sun.webui.jsf.el.DropDownMethodExpression;
 import com.sun.webui.jsf.event.MethodExprActionListener;
 import com.sun.webui.jsf.util.MethodBindingMethodExpressionAdapter;
 import com.sun.webui.jsf.util.MethodExpressionMethodBindingAdapter;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.Iterator;
 import java.util.Map;
 import javax.el.ValueExpression;
@@ -619,7 +620,7 @@ public class DropDown extends ListSelector implements ActionSource2 {
         }
         ValueExpression _vb = getValueExpression("forgetValue");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -667,7 +668,7 @@ public class DropDown extends ListSelector implements ActionSource2 {
         }
         ValueExpression _vb = getValueExpression("navigateToValue");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -710,7 +711,7 @@ public class DropDown extends ListSelector implements ActionSource2 {
         }
         ValueExpression _vb = getValueExpression("submitForm");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -750,7 +751,7 @@ public class DropDown extends ListSelector implements ActionSource2 {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
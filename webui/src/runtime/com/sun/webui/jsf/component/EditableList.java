@@ -50,6 +50,7 @@ import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.validator.StringLengthValidator;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.lang.reflect.Array;
 import java.io.Serializable;
 import java.text.Collator;
@@ -1564,7 +1565,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1599,7 +1600,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("fieldLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1629,7 +1630,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("labelLevel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1685,7 +1686,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("listLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1717,7 +1718,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("listOnTop");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1754,7 +1755,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("maxLength");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1790,7 +1791,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("multiple");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1827,7 +1828,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1865,7 +1866,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1906,7 +1907,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("sorted");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1945,7 +1946,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1976,7 +1977,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2012,7 +2013,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2053,7 +2054,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2095,7 +2096,7 @@ public class EditableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
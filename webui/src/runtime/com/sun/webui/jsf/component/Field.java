@@ -43,6 +43,7 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 import javax.faces.component.NamingContainer;
 import javax.faces.component.UIComponent;
@@ -408,7 +409,7 @@ public class Field extends HiddenField implements ComplexComponent,
         } else {
             ValueExpression _vb = getValueExpression("columns");
             if (_vb != null) {
-                Object _result = _vb.getValue(getFacesContext().getELContext());
+                Object _result = PropertySnapshot.getValue(this, _vb);
                 if (_result == null) {
                     cols = Integer.MIN_VALUE;
                 } else {
@@ -453,7 +454,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -492,7 +493,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("label");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -526,7 +527,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("labelLevel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -563,7 +564,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("maxLength");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -597,7 +598,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onBlur");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -627,7 +628,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onChange");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -658,7 +659,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -689,7 +690,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -722,7 +723,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onFocus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -754,7 +755,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -785,7 +786,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -816,7 +817,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -847,7 +848,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -878,7 +879,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -909,7 +910,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -940,7 +941,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -971,7 +972,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1002,7 +1003,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("onSelect");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1035,7 +1036,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1073,7 +1074,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1104,7 +1105,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1140,7 +1141,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1206,7 +1207,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1240,7 +1241,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("trim");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1278,7 +1279,7 @@ public class Field extends HiddenField implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -54,6 +54,7 @@ import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ClientSniffer;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.jsf.validator.FileChooserLookInValidator;
 import com.sun.webui.jsf.validator.FileChooserFilterValidator;
 import com.sun.webui.jsf.validator.FileChooserSelectValidator;
@@ -2755,7 +2756,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2801,7 +2802,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2844,7 +2845,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("descending");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result != null) {
                 return ((Boolean) _result).booleanValue();
             }
@@ -2885,7 +2886,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2919,7 +2920,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("folderChooser");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2954,7 +2955,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("lookin");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2988,7 +2989,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("model");
         if (_vb != null) {
-            return (com.sun.webui.jsf.model.ResourceModel) _vb.getValue(getFacesContext().getELContext());
+            return (com.sun.webui.jsf.model.ResourceModel) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3020,7 +3021,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("multiple");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -3054,7 +3055,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -3088,7 +3089,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result != null && ((Integer) _result).intValue() > 0) {
                 return ((Integer) _result).intValue();
             }
@@ -3185,7 +3186,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortField");
         if (_vb != null) {
-            String _result = (String) _vb.getValue(getFacesContext().getELContext());
+            String _result = (String) PropertySnapshot.getValue(this, _vb);
             if (_result != null || _result.trim().length() > 0) {
                 _result = _result.trim();
                 if (_result.equals(ALPHABETIC) || _result.equals(SIZE) ||
@@ -3244,7 +3245,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3270,7 +3271,7 @@ public class FileChooser extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -43,9 +43,12 @@ package com.sun.webui.jsf.component;
 import com.sun.data.provider.RowKey;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.BoundedCache;
 import com.sun.webui.jsf.util.MessageUtil;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -83,6 +86,8 @@ public class Form extends UIForm {
     private transient Map erasedMap = new HashMap();  //has an EditableValueHolder as the key, and an Object[] value pair or a TableValues as the value
     private transient Set nonDefaultRetainStatusEvhs = new HashSet(); //contains EditableValueHolders with a retain status different from the default
     private static final boolean DEFAULT_RETAIN_STATUS = true; //default for whether non-participating submitted values are retained
+    private transient Map idIndex;  //has each fully and partially qualified id of the kids as the key, and the first matching kid as the value
+    private transient int idLookups; //number of findComponentById searches made before idIndex is built
 
     /**
      * Default constructor.
@@ -139,7 +144,7 @@ public class Form extends UIForm {
             //if the children of the Form are known to participate in submittedVirtualForm,
             //then don't bother erasing
             if (!childrenAreKnownToParticipate(this, submittedVirtualForm)) {
-                eraseVirtualFormNonParticipants(this, null, null);
+                eraseVirtualFormNonParticipants();
             }
         }
     }
@@ -290,9 +295,60 @@ public class Form extends UIForm {
         if (fullyQualifiedIdMatchesPattern(fqId, id)) {
             return this;
         }
+        //a single search is cheaper than indexing; index once ids are looked up repeatedly
+        if (idIndex == null && ++idLookups > 1) {
+            idIndex = new HashMap();
+            indexKidsRecursively(this, ID_SEP);
+        }
+        if (idIndex != null) {
+            UIComponent match = (UIComponent) idIndex.get(id);
+            //the tree may have changed since it was indexed; verify the match
+            if (match != null && isKid(match) && fullyQualifiedIdMatchesPattern(getFullyQualifiedId(match), id)) {
+                return match;
+            }
+            if (match != null) {
+                idIndex = null;
+            }
+        }
         return searchKidsRecursivelyForId(this, id);
     }
 
+    //index kids in the order searchKidsRecursivelyForId visits them, computing fully qualified ids as getFullyQualifiedId does
+    private void indexKidsRecursively(UIComponent parent, String parentFqId) {
+        Iterator kids = parent.getFacetsAndChildren();
+        while (kids.hasNext()) {
+            UIComponent kid = (UIComponent) kids.next();
+            String fqId = null;
+            if (kid instanceof Form) {
+                fqId = ID_SEP;
+            } else if (parentFqId != null && kid.getId() != null) {
+                fqId = ID_SEP.equals(parentFqId) ? ID_SEP + kid.getId() : parentFqId + ID_SEP + kid.getId();
+            }
+            if (fqId != null && !ID_SEP.equals(fqId) && isValidFullyQualifiedId(fqId)) {
+                //a pattern matches the fully qualified id, or any part following a separator
+                if (!idIndex.containsKey(fqId)) {
+                    idIndex.put(fqId, kid);
+                }
+                for (int i = fqId.indexOf(ID_SEP); i != -1; i = fqId.indexOf(ID_SEP, i + 1)) {
+                    String key = fqId.substring(i + 1);
+                    if (!idIndex.containsKey(key)) {
+                        idIndex.put(key, kid);
+                    }
+                }
+            }
+            indexKidsRecursively(kid, fqId);
+        }
+    }
+
+    //return true if the component is still a kid of this form
+    private boolean isKid(UIComponent component) {
+        UIComponent parent = component.getParent();
+        while (parent != null && parent != this) {
+            parent = parent.getParent();
+        }
+        return parent == this;
+    }
+
     private UIComponent searchKidsRecursivelyForId(UIComponent parent, String id) {
         Iterator kids = parent.getFacetsAndChildren();
         while (kids.hasNext()) {
@@ -695,15 +751,12 @@ public class Form extends UIForm {
 
         //return true if the component id provided participates in this virtual form
         public boolean hasParticipant(String fqId) {
-            if (!isValidFullyQualifiedId(fqId)) {
-                return false;
-            }
-            for (int i = 0; participatingIds != null && i < participatingIds.length; i++) {
-                if (Form.fullyQualifiedIdMatchesPattern(fqId, participatingIds[i])) {
-                    return true;
-                }
-            }
-            return false;
+            return getParticipantMatcher().matches(fqId, false);
+        }
+
+        //return the compiled form of the participating ids
+        private ParticipantMatcher getParticipantMatcher() {
+            return ParticipantMatcher.getInstance(participatingIds);
         }
 
         @Override
@@ -739,20 +792,226 @@ public class Form extends UIForm {
         if (fqId == null) {
             return false;
         }
+        return vfd.getParticipantMatcher().matches(fqId, true);
+    }
 
-        String[] participants = vfd.getParticipatingIds();
-        for (int i = 0; participants != null && i < participants.length; i++) {
-            String participant = participants[i];
+    /**
+     * <p>The participating ids of a virtual form, compiled so that a
+     * component can be tested without revalidating and rescanning every
+     * pattern. Ids starting with <code>NamingContainer.SEPARATOR_CHAR</code>
+     * are stored in a tree keyed by component id, so the node for a
+     * component is found by stepping down from its parent's node. Relative
+     * ids are indexed by their last component id and compared backwards
+     * against the path of the component.</p>
+     * <p>Instances are immutable and shared between requests for the same
+     * participating ids. The matching rules are exactly those of
+     * <code>fullyQualifiedIdMatchesPattern</code>.</p>
+     */
+    private static final class ParticipantMatcher {
+
+        private static final int CACHE_SIZE = 256;
+        private static final BoundedCache cache = new BoundedCache(CACHE_SIZE); //has a List of participating ids as the key, and a ParticipantMatcher as the value
+        private static final ParticipantMatcher EMPTY = new ParticipantMatcher(null);
+        private static final String[] NO_IDS = new String[0];
+        private boolean all;                        //true if ":*" is a participating id
+        private final Node root = new Node();       //the Form; children are the absolute ids
+        private final Map relatives = new HashMap(); //has the last id of a relative pattern as the key, and a List of RelativePatterns as the value
+
+        static ParticipantMatcher getInstance(String[] participatingIds) {
+            if (participatingIds == null || participatingIds.length == 0) {
+                return EMPTY;
+            }
+            List key = Arrays.asList(participatingIds);
+            ParticipantMatcher matcher = (ParticipantMatcher) cache.get(key);
+            if (matcher == null) {
+                // Copy the ids, the array itself may be changed later.
+                matcher = (ParticipantMatcher) cache.put(new ArrayList(key),
+                        new ParticipantMatcher(participatingIds));
+            }
+            return matcher;
+        }
+
+        private ParticipantMatcher(String[] patterns) {
             String wildSuffix = ID_SEP + ID_WILD;
-            if (participant == null || !participant.endsWith(wildSuffix)) {
-                continue;
+            for (int i = 0; patterns != null && i < patterns.length; i++) {
+                String pattern = patterns[i];
+                //same pattern validation as fullyQualifiedIdMatchesPattern
+                if (pattern == null || pattern.length() < 1 || pattern.indexOf(' ') != -1) {
+                    continue;
+                }
+                if (pattern.endsWith(ID_SEP) && !pattern.equals(ID_SEP)) {
+                    continue;
+                }
+                int indexOfWildInPattern = pattern.indexOf(ID_WILD);
+                if (indexOfWildInPattern != -1 &&
+                        (indexOfWildInPattern != pattern.length() - 1 || !pattern.endsWith(wildSuffix))) {
+                    continue;
+                }
+
+                if (pattern.equals(wildSuffix)) {
+                    all = true;
+                } else if (pattern.endsWith(wildSuffix)) {
+                    add(pattern.substring(0, pattern.length() - wildSuffix.length()), true);
+                } else {
+                    add(pattern, false);
+                }
+            }
+        }
+
+        private void add(String pattern, boolean wild) {
+            if (pattern.startsWith(ID_SEP)) {
+                Node node = root;
+                String[] ids = split(pattern);
+                for (int i = 0; i < ids.length; i++) {
+                    node = node.addChild(ids[i]);
+                }
+                if (wild) {
+                    node.wild = true;
+                    if (node == root) {
+                        //"::*" matches ":" and any id starting with "::"
+                        root.addChild("").wild = true;
+                    }
+                } else {
+                    node.exact = true;
+                }
+            } else {
+                String[] ids = pattern.split(ID_SEP, -1);
+                String last = ids[ids.length - 1];
+                List list = (List) relatives.get(last);
+                if (list == null) {
+                    list = new ArrayList(2);
+                    relatives.put(last, list);
+                }
+                list.add(new RelativePattern(ids, wild));
             }
-            if (fullyQualifiedIdMatchesPattern(fqId, participant)) {
+        }
+
+        //split a fully qualified id into component ids; ":" yields none
+        private static String[] split(String fqId) {
+            return fqId.length() == 1 ? NO_IDS : fqId.substring(1).split(ID_SEP, -1);
+        }
+
+        Node getRoot() {
+            return root;
+        }
+
+        /**
+         * Test a fully qualified id. If <code>childrenOnly</code> is true,
+         * only the participating ids ending in <code>ID_WILD</code> are
+         * considered, as for <code>childrenAreKnownToParticipate</code>.
+         */
+        boolean matches(String fqId, boolean childrenOnly) {
+            if (!isValidFullyQualifiedId(fqId)) {
+                return false;
+            }
+            if (all) {
+                return true;
+            }
+            String[] path = split(fqId);
+            Node node = root;
+            for (int depth = 0; depth < path.length; depth++) {
+                //an ancestor matched by a wild pattern makes this a match;
+                //the Form itself is not an ancestor in this sense, since
+                //"::*" does not match ":a"
+                if (depth > 0 && childrenKnownToParticipate(node, path, depth)) {
+                    return true;
+                }
+                node = (node != null) ? node.getChild(path[depth]) : null;
+            }
+            return childrenOnly
+                    ? childrenKnownToParticipate(node, path, path.length)
+                    : participates(node, path, path.length);
+        }
+
+        /**
+         * Return true if the component whose fully qualified id is given by
+         * the first <code>depth</code> entries of <code>path</code>, and
+         * whose node is <code>node</code>, participates. Wild matches of
+         * ancestors are not considered.
+         */
+        boolean participates(Node node, String[] path, int depth) {
+            return all || (node != null && (node.exact || node.wild)) ||
+                    matchesRelative(path, depth, false);
+        }
+
+        /**
+         * Return true if the children of the given component are known to
+         * participate. Wild matches of ancestors are not considered.
+         */
+        boolean childrenKnownToParticipate(Node node, String[] path, int depth) {
+            return all || (node != null && node.wild) ||
+                    matchesRelative(path, depth, true);
+        }
+
+        private boolean matchesRelative(String[] path, int depth, boolean wildOnly) {
+            if (depth == 0) {
+                return false;
+            }
+            List list = (List) relatives.get(path[depth - 1]);
+            for (int i = 0; list != null && i < list.size(); i++) {
+                RelativePattern pattern = (RelativePattern) list.get(i);
+                if ((!wildOnly || pattern.wild) && pattern.matches(path, depth)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static final class Node {
+
+            boolean exact;  //a pattern equals this id
+            boolean wild;   //a pattern equals this id followed by ":*"
+            private Map children;
+
+            Node getChild(String id) {
+                return (children != null) ? (Node) children.get(id) : null;
+            }
+
+            Node addChild(String id) {
+                if (children == null) {
+                    children = new HashMap();
+                }
+                Node child = (Node) children.get(id);
+                if (child == null) {
+                    child = new Node();
+                    children.put(id, child);
+                }
+                return child;
+            }
+        }
+
+        private static final class RelativePattern {
+
+            private final String[] ids;
+            private final boolean wild;
+
+            RelativePattern(String[] ids, boolean wild) {
+                this.ids = ids;
+                this.wild = wild;
+            }
+
+            //true if the path ends with the ids of this pattern
+            boolean matches(String[] path, int depth) {
+                if (ids.length > depth) {
+                    return false;
+                }
+                for (int i = ids.length - 1, j = depth - 1; i >= 0; i--, j--) {
+                    if (!ids[i].equals(path[j])) {
+                        return false;
+                    }
+                }
                 return true;
             }
         }
+    }
 
-        return false;
+    private void eraseVirtualFormNonParticipants() {
+        ParticipantMatcher matcher = submittedVirtualForm.getParticipantMatcher();
+        //FIXME check the synchronization issue here
+        synchronized (erasedMap) {  //prevent multiple threads from the same session simultaneously accessing erasedMap, nonDefaultRetainStatusEvhs
+            eraseVirtualFormNonParticipants(this, matcher, matcher.getRoot(),
+                    new String[16], 0, null, null);
+        }
     }
 
     /**
@@ -764,6 +1023,9 @@ public class Form extends UIForm {
      * are used to record the table- and row-based context of the 
      * submitted value, so that such context can be stored in the 
      * <code>erasedMap</code>.</p>
+     * <p>The fully qualified id of each child is not built from scratch;
+     * it is tracked as a path of component ids, together with the node of
+     * the <code>matcher</code> tree for that path, while descending.</p>
      * <p><b>Note:</b> Restoring of submitted values works for 
      * the braveheart table but not the standard jsf table. However, submitted 
      * values inside a standard jsf table are still cached and an attempt is 
@@ -772,6 +1034,13 @@ public class Form extends UIForm {
      * its saved state during rendering.</p>
      * @param parent A parent component whose children will be examined and 
      * possibly erased
+     * @param matcher the compiled participating ids of the submitted virtual
+     * form
+     * @param node the node of <code>matcher</code> for the parent, or
+     * <code>null</code> if no absolute id starts with the parent's id
+     * @param path the component ids making up the parent's fully qualified
+     * id, or <code>null</code> if the parent has no valid fully qualified id
+     * @param depth the number of entries of <code>path</code> in use
      * @param contextualTables an array of UIData or TableRowGroup components 
      * in the parent's ancestry (with the most distant ancestor as the first 
      * member of the array), or <code>null</code> if the parent is not embedded
@@ -781,68 +1050,98 @@ public class Form extends UIForm {
      * contextual table, or <code>null</code> if the parent is not embedded
      * within any tables
      */
-    private void eraseVirtualFormNonParticipants(UIComponent parent, Object[] contextualTables, Object[] contextualRows) {
+    private void eraseVirtualFormNonParticipants(UIComponent parent,
+            ParticipantMatcher matcher, ParticipantMatcher.Node node,
+            String[] path, int depth, Object[] contextualTables, Object[] contextualRows) {
         // Process all facets and children of this component
-        //FIXME check the synchronization issue here
-        synchronized (erasedMap) {  //prevent multiple threads from the same session simultaneously accessing erasedMap, nonDefaultRetainStatusEvhs
-            Iterator kids = parent.getFacetsAndChildren();
-            while (kids.hasNext()) {
-                UIComponent kid = (UIComponent) kids.next();
-
-                //if this kid is an EditableValueHolder, and it does not participate, set submitted value to null
-                if (kid instanceof EditableValueHolder && !participatesInSubmittedVirtualForm(kid)) {
-                    EditableValueHolder kidEvh = (EditableValueHolder) kid;
-                    //cache the submitted value to be erased in eraseMap
-                    Object submittedValueToErase = kidEvh.getSubmittedValue();
-                    if (contextualTables == null) {
-                        erasedMap.put(kidEvh, submittedValueToErase);
-                    } else {
-                        addTableValuesEntry(erasedMap, kidEvh, 0, contextualTables, contextualRows, submittedValueToErase);
+        Iterator kids = parent.getFacetsAndChildren();
+        while (kids.hasNext()) {
+            UIComponent kid = (UIComponent) kids.next();
+
+            //work out the kid's path and node from those of the parent,
+            //following the rules of getFullyQualifiedId and isValidFullyQualifiedId
+            String[] kidPath = null;
+            int kidDepth = 0;
+            ParticipantMatcher.Node kidNode = null;
+            boolean kidIdValid = false;
+            if (kid instanceof Form) {
+                //a nested Form starts a new path; the parent's array is still in use
+                kidPath = new String[16];
+                kidNode = matcher.getRoot();
+                kidIdValid = true;
+            } else if (path != null) {
+                String kidId = kid.getId();
+                if (kidId != null && kidId.indexOf(' ') == -1) {
+                    kidPath = path;
+                    if (depth == kidPath.length) {
+                        kidPath = new String[depth * 2];
+                        System.arraycopy(path, 0, kidPath, 0, depth);
                     }
-                    kidEvh.setSubmittedValue(null);
+                    kidPath[depth] = kidId;
+                    kidDepth = depth + 1;
+                    kidNode = (node != null) ? node.getChild(kidId) : null;
+                    kidIdValid = !kidId.endsWith(ID_WILD);
                 }
+            }
 
-                //if children of kid are known to participate in submittedVirtualForm,
-                //then no need to recurse on kid
-                if (childrenAreKnownToParticipate(kid, submittedVirtualForm)) {
-                    continue;   //continue to next kid
+            //if this kid is an EditableValueHolder, and it does not participate, set submitted value to null
+            if (kid instanceof EditableValueHolder &&
+                    !(kidIdValid && matcher.participates(kidNode, kidPath, kidDepth))) {
+                EditableValueHolder kidEvh = (EditableValueHolder) kid;
+                //cache the submitted value to be erased in eraseMap
+                Object submittedValueToErase = kidEvh.getSubmittedValue();
+                if (contextualTables == null) {
+                    erasedMap.put(kidEvh, submittedValueToErase);
+                } else {
+                    addTableValuesEntry(erasedMap, kidEvh, 0, contextualTables, contextualRows, submittedValueToErase);
                 }
+                kidEvh.setSubmittedValue(null);
+            }
 
-                //recurse. if kid is a UIData or TableRowGroup, perform a recursive call once per row.
-                //if kid is not a UIData or TableRowGroup, simply perform a recursive call once.
-                if (kid instanceof UIData) {
-                    UIData kidTable = (UIData) kid;
-                    int originalRowIndex = kidTable.getRowIndex();
-                    int rowIndex = 0;
-                    kidTable.setRowIndex(rowIndex);
-                    while (kidTable.isRowAvailable()) {
-                        Object[] localContextualTables = appendToArray(contextualTables, kidTable);
-                        Object[] localContextualRows = appendToArray(contextualRows, new Integer(rowIndex));
-                        eraseVirtualFormNonParticipants(kidTable, localContextualTables, localContextualRows);
-                        kidTable.setRowIndex(++rowIndex);
-                    }
-                    kidTable.setRowIndex(originalRowIndex);
-                } else if (kid instanceof TableRowGroup) {
-                    TableRowGroup group = (TableRowGroup) kid;
-                    RowKey[] rowKeys = group.getRowKeys();
-                    RowKey oldRowKey = group.getRowKey(); // Save RowKey.
-
-                    // Check for null TableDataProvider.
-                    if (rowKeys != null) {
-                        for (int i = 0; i < rowKeys.length; i++) {
-                            group.setRowKey(rowKeys[i]);
-                            if (!group.isRowAvailable()) {
-                                continue;
-                            }
-                            Object[] localContextualTables = appendToArray(contextualTables, group);
-                            Object[] localContextualRows = appendToArray(contextualRows, rowKeys[i]);
-                            eraseVirtualFormNonParticipants(group, localContextualTables, localContextualRows);
+            //if children of kid are known to participate in submittedVirtualForm,
+            //then no need to recurse on kid
+            if (kidIdValid && matcher.childrenKnownToParticipate(kidNode, kidPath, kidDepth)) {
+                continue;   //continue to next kid
+            }
+
+            //recurse. if kid is a UIData or TableRowGroup, perform a recursive call once per row.
+            //if kid is not a UIData or TableRowGroup, simply perform a recursive call once.
+            if (kid instanceof UIData) {
+                UIData kidTable = (UIData) kid;
+                int originalRowIndex = kidTable.getRowIndex();
+                int rowIndex = 0;
+                kidTable.setRowIndex(rowIndex);
+                while (kidTable.isRowAvailable()) {
+                    Object[] localContextualTables = appendToArray(contextualTables, kidTable);
+                    Object[] localContextualRows = appendToArray(contextualRows, new Integer(rowIndex));
+                    eraseVirtualFormNonParticipants(kidTable, matcher, kidNode, kidPath, kidDepth,
+                            localContextualTables, localContextualRows);
+                    kidTable.setRowIndex(++rowIndex);
+                }
+                kidTable.setRowIndex(originalRowIndex);
+            } else if (kid instanceof TableRowGroup) {
+                TableRowGroup group = (TableRowGroup) kid;
+                RowKey oldRowKey = group.getRowKey(); // Save RowKey.
+                // Only rows holding submitted values need to be visited.
+                RowKey[] rowKeys = group.getSubmittedRowKeys();
+
+                // Check for null TableDataProvider.
+                if (rowKeys != null) {
+                    for (int i = 0; i < rowKeys.length; i++) {
+                        group.setRowKey(rowKeys[i]);
+                        if (!group.isRowAvailable()) {
+                            continue;
                         }
+                        Object[] localContextualTables = appendToArray(contextualTables, group);
+                        Object[] localContextualRows = appendToArray(contextualRows, rowKeys[i]);
+                        eraseVirtualFormNonParticipants(group, matcher, kidNode, kidPath, kidDepth,
+                                localContextualTables, localContextualRows);
                     }
-                    group.setRowKey(oldRowKey); // Restore RowKey.
-                } else {
-                    eraseVirtualFormNonParticipants(kid, contextualTables, contextualRows);
                 }
+                group.setRowKey(oldRowKey); // Restore RowKey.
+            } else {
+                eraseVirtualFormNonParticipants(kid, matcher, kidNode, kidPath, kidDepth,
+                        contextualTables, contextualRows);
             }
         }
     }
@@ -1189,7 +1488,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("autoComplete");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1226,7 +1525,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("enctype");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "application/x-www-form-urlencoded";
     }
@@ -1262,7 +1561,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("internalVirtualForms");
         if (_vb != null) {
-            return (com.sun.webui.jsf.component.Form.VirtualFormDescriptor[]) _vb.getValue(getFacesContext().getELContext());
+            return (com.sun.webui.jsf.component.Form.VirtualFormDescriptor[]) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1294,7 +1593,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1321,7 +1620,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1348,7 +1647,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1375,7 +1674,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1402,7 +1701,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1429,7 +1728,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1456,7 +1755,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1483,7 +1782,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1510,7 +1809,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1537,7 +1836,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1563,7 +1862,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onReset");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1588,7 +1887,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("onSubmit");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1614,7 +1913,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1641,7 +1940,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1667,7 +1966,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("target");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1695,7 +1994,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("virtualForms");
         if (_vb != null) {
-            return (com.sun.webui.jsf.component.Form.VirtualFormDescriptor[]) _vb.getValue(getFacesContext().getELContext());
+            return (com.sun.webui.jsf.component.Form.VirtualFormDescriptor[]) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1728,7 +2027,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("virtualFormsConfig");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1759,7 +2058,7 @@ public class Form extends UIForm {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
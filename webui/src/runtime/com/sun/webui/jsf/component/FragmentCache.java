@@ -0,0 +1,224 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.component;
+
+import com.sun.faces.annotation.Component;
+import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
+import javax.el.ValueExpression;
+import javax.faces.component.UIComponentBase;
+import javax.faces.context.FacesContext;
+
+/**
+ * The FragmentCache component renders its children once, and renders the
+ * same markup again on later requests, instead of rendering the children
+ * each time. It is meant for page chrome, such as a masthead or a
+ * breadcrumbs component, whose markup does not change from one request to
+ * the next.
+ * <p>
+ * The markup is cached for the theme, locale and client type of the
+ * request, and for the client id of the component, so a fragment is not
+ * used by a differently named component or a different browser. Anything
+ * else the markup depends on, such as the user or the page, must be part of
+ * the <code>key</code> attribute. Children which hold a submitted value, as
+ * well as forms and tables, are rendered as usual, and are never cached.
+ * </p><p>
+ * Cached fragments are discarded after <code>timeToLive</code> seconds, or
+ * by calling <code>RenderedFragmentCache.invalidate</code> with the key.
+ * </p>
+ *
+ * @see com.sun.webui.jsf.util.RenderedFragmentCache
+ */
+@Component(type = "com.sun.webui.jsf.FragmentCache",
+family = "com.sun.webui.jsf.FragmentCache",
+displayName = "Fragment Cache",
+instanceName = "fragmentCache",
+tagName = "fragmentCache")
+public class FragmentCache extends UIComponentBase {
+
+    /**
+     * Default constructor.
+     */
+    public FragmentCache() {
+        super();
+        setRendererType("com.sun.webui.jsf.FragmentCache");
+    }
+
+    /**
+     * <p>Return the family for this component.</p>
+     */
+    public String getFamily() {
+        return "com.sun.webui.jsf.FragmentCache";
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Tag attribute methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * The component identifier for this component. This value must be unique 
+     * within the closest parent component that is a naming container.
+     */
+    @Property(name = "id")
+    @Override
+    public void setId(String id) {
+        super.setId(id);
+    }
+
+    /**
+     * Use the rendered attribute to indicate whether the HTML code for the
+     * component should be included in the rendered HTML page. If set to false,
+     * the rendered HTML page does not include the HTML for the component. If
+     * the component is not rendered, it is also not processed on any subsequent
+     * form submission.
+     */
+    @Property(name = "rendered")
+    @Override
+    public void setRendered(boolean rendered) {
+        super.setRendered(rendered);
+    }
+    /**
+     * <p>Identifies the markup of the children, in addition to the theme,
+     * locale, client type and client id of the component. Use an expression
+     * which changes whenever the markup would change, for example
+     * <code>#{user.role}</code> if the children render links depending on
+     * the role of the user.</p>
+     */
+    @Property(name = "key", displayName = "Cache Key", category = "Advanced",
+    editorClassName = "com.sun.rave.propertyeditors.StringPropertyEditor")
+    private String key = null;
+
+    /**
+     * <p>Identifies the markup of the children, in addition to the theme,
+     * locale, client type and client id of the component. Use an expression
+     * which changes whenever the markup would change, for example
+     * <code>#{user.role}</code> if the children render links depending on
+     * the role of the user.</p>
+     */
+    public String getKey() {
+        if (this.key != null) {
+            return this.key;
+        }
+        ValueExpression _vb = getValueExpression("key");
+        if (_vb != null) {
+            Object _result = PropertySnapshot.getValue(this, _vb);
+            return _result == null ? null : _result.toString();
+        }
+        return null;
+    }
+
+    /**
+     * <p>Identifies the markup of the children, in addition to the theme,
+     * locale, client type and client id of the component. Use an expression
+     * which changes whenever the markup would change, for example
+     * <code>#{user.role}</code> if the children render links depending on
+     * the role of the user.</p>
+     * @see #getKey()
+     */
+    public void setKey(String key) {
+        this.key = key;
+    }
+    /**
+     * <p>The number of seconds the markup is cached for. The markup is
+     * rendered again when it is older. If the value is zero or less, the
+     * markup is cached until it is invalidated.</p>
+     */
+    @Property(name = "timeToLive", displayName = "Time To Live", category = "Advanced",
+    editorClassName = "com.sun.rave.propertyeditors.IntegerPropertyEditor")
+    private int timeToLive = Integer.MIN_VALUE;
+    private boolean timeToLive_set = false;
+
+    /**
+     * <p>The number of seconds the markup is cached for. The markup is
+     * rendered again when it is older. If the value is zero or less, the
+     * markup is cached until it is invalidated.</p>
+     */
+    public int getTimeToLive() {
+        if (this.timeToLive_set) {
+            return this.timeToLive;
+        }
+        ValueExpression _vb = getValueExpression("timeToLive");
+        if (_vb != null) {
+            Object _result = PropertySnapshot.getValue(this, _vb);
+            if (_result == null) {
+                return 0;
+            } else {
+                return ((Integer) _result).intValue();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * <p>The number of seconds the markup is cached for. The markup is
+     * rendered again when it is older. If the value is zero or less, the
+     * markup is cached until it is invalidated.</p>
+     * @see #getTimeToLive()
+     */
+    public void setTimeToLive(int timeToLive) {
+        this.timeToLive = timeToLive;
+        this.timeToLive_set = true;
+    }
+
+    /**
+     * <p>Restore the state of this component.</p>
+     */
+    @Override
+    public void restoreState(FacesContext _context, Object _state) {
+        Object _values[] = (Object[]) _state;
+        super.restoreState(_context, _values[0]);
+        this.key = (String) _values[1];
+        this.timeToLive = ((Integer) _values[2]).intValue();
+        this.timeToLive_set = ((Boolean) _values[3]).booleanValue();
+    }
+
+    /**
+     * <p>Save the state of this component.</p>
+     */
+    @Override
+    public Object saveState(FacesContext _context) {
+        Object _values[] = new Object[4];
+        _values[0] = super.saveState(_context);
+        _values[1] = this.key;
+        _values[2] = new Integer(this.timeToLive);
+        _values[3] = this.timeToLive_set ? Boolean.TRUE : Boolean.FALSE;
+        return _values;
+    }
+}
@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Frame component is used inside a FrameSet component to denote a frame.
@@ -113,7 +114,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("frameBorder");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -147,7 +148,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("longDesc");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -176,7 +177,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("marginHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -211,7 +212,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("marginWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -244,7 +245,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("name");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -274,7 +275,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("noResize");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -308,7 +309,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("scrolling");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -338,7 +339,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -369,7 +370,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -402,7 +403,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -431,7 +432,7 @@ public class Frame extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("url");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The FrameSet component defines a set of frames.
@@ -116,7 +117,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("border");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -153,7 +154,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("borderColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -187,7 +188,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("cols");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -226,7 +227,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("frameBorder");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -269,7 +270,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("frameSpacing");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -310,7 +311,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -343,7 +344,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -374,7 +375,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -407,7 +408,7 @@ public class FrameSet extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Head component is used to provide information to be used in the head 
@@ -113,7 +114,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("debug");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -147,7 +148,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("javaScript");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -182,7 +183,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("parseWidgets");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -216,7 +217,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("meta");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -253,7 +254,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("defaultBase");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -290,7 +291,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("profile");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -318,7 +319,7 @@ public class Head extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -44,6 +44,7 @@ import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import javax.el.MethodExpression;
 import javax.el.ValueExpression;
@@ -334,7 +335,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("helpFile");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -362,7 +363,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("helpSetPath");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -393,7 +394,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("linkIcon");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -443,7 +444,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -471,7 +472,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -505,7 +506,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -543,7 +544,7 @@ public class HelpWindow extends IconHyperlink {
         }
         ValueExpression _vb = getValueExpression("windowTitle");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         // else return the default help window title.
         Theme theme = ThemeUtilities.getTheme(FacesContext.getCurrentInstance());
@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Html component is used to create the &lt;html&gt; element.
@@ -110,7 +111,7 @@ public class Html extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("lang");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -139,7 +140,7 @@ public class Html extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("xmlns");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "http://www.w3.org/1999/xhtml";
     }
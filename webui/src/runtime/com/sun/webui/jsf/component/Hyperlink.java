@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
 
@@ -208,7 +209,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -247,7 +248,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onBlur");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -289,7 +290,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -327,7 +328,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -360,7 +361,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onFocus");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -392,7 +393,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -423,7 +424,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -454,7 +455,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -485,7 +486,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -516,7 +517,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -547,7 +548,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -578,7 +579,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -609,7 +610,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -641,7 +642,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("shape");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -673,7 +674,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -704,7 +705,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -740,7 +741,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -783,7 +784,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("target");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -835,7 +836,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -865,7 +866,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("type");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -901,7 +902,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("url");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -933,7 +934,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("urlLang");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -973,7 +974,7 @@ public class Hyperlink extends WebuiCommand implements ComplexComponent {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -44,6 +44,7 @@ import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Iframe component is used to create an inline frame.
@@ -112,7 +113,7 @@ public class IFrame extends Frame {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -142,7 +143,7 @@ public class IFrame extends Frame {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -174,7 +175,7 @@ public class IFrame extends Frame {
         }
         ValueExpression _vb = getValueExpression("noResize");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -211,7 +212,7 @@ public class IFrame extends Frame {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -43,6 +43,7 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.Map;
 import javax.el.ValueExpression;
 import javax.faces.component.NamingContainer;
@@ -234,7 +235,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -267,7 +268,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("alt");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -300,7 +301,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("border");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -336,7 +337,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -375,7 +376,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("hspace");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -411,7 +412,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("icon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -439,7 +440,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("imageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -469,7 +470,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("textPosition");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "right";
     }
@@ -511,7 +512,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -557,7 +558,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("vspace");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -598,7 +599,7 @@ public class ImageHyperlink extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -43,9 +43,11 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.theme.ThemeImages;
+import com.sun.webui.jsf.util.ComponentIdIndex;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import java.beans.Beans;
 import java.util.Iterator;
@@ -214,7 +216,8 @@ public class Label extends UIOutput implements NamingContainer {
             //
             try {
                 UIComponent parent = this.getParent();
-                setLabeledComponent(parent.findComponent(id));
+                setLabeledComponent(ComponentIdIndex.findComponent(
+                        getFacesContext(), parent, id));
             } catch (Exception e) {
                 if (DEBUG) {
                     log("\t ID is not found");
@@ -525,7 +528,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("for");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -572,7 +575,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("hideIndicators");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -620,7 +623,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("labelLevel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -659,7 +662,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -690,7 +693,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -721,7 +724,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -752,7 +755,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -783,7 +786,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -814,7 +817,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -849,7 +852,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("requiredIndicator");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -888,7 +891,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -919,7 +922,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -977,7 +980,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1019,7 +1022,7 @@ public class Label extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
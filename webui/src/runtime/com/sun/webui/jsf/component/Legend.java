@@ -44,6 +44,7 @@ import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.theme.Theme;
 import javax.el.ValueExpression;
@@ -179,7 +180,7 @@ public class Legend extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("position");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -208,7 +209,7 @@ public class Legend extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -238,7 +239,7 @@ public class Legend extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -268,7 +269,7 @@ public class Legend extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("text");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -308,7 +309,7 @@ public class Legend extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
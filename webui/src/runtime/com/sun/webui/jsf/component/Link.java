@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Link component is iused to insert information into the &lt;head&gt; 
@@ -114,7 +115,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("charset");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -149,7 +150,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("media");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -184,7 +185,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("rel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "stylesheet";
     }
@@ -213,7 +214,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("type");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "text/css";
     }
@@ -241,7 +242,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("url");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -271,7 +272,7 @@ public class Link extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("urlLang");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -52,6 +52,7 @@ import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.util.MessageUtil;
 import com.sun.webui.jsf.util.ValueType;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.beans.Beans;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
@@ -828,7 +829,7 @@ public class ListSelector extends Selector implements ListManager,
         }
         ValueExpression _vb = getValueExpression("labelOnTop");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -865,7 +866,7 @@ public class ListSelector extends Selector implements ListManager,
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -915,7 +916,7 @@ public class ListSelector extends Selector implements ListManager,
         }
         ValueExpression _vb = getValueExpression("separators");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -970,7 +971,7 @@ public class ListSelector extends Selector implements ListManager,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
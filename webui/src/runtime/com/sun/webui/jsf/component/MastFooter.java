@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.faces.component.NamingContainer;
 import javax.faces.context.FacesContext;
 import javax.el.ValueExpression;
@@ -115,7 +116,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -145,7 +146,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -176,7 +177,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("corporateImageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -205,7 +206,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("corporateImageDescription");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -240,7 +241,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("corporateImageHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -282,7 +283,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("corporateImageWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -330,7 +331,7 @@ public class MastFooter extends javax.faces.component.UIComponentBase
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -52,6 +52,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Masthead component displays a masthead or page banner at the top of the
@@ -138,7 +139,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("alarmCounts");
         if (_vb != null) {
-            return (int[]) _vb.getValue(getFacesContext().getELContext());
+            return (int[]) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -168,7 +169,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("brandImageDescription");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -199,7 +200,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("brandImageHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -234,7 +235,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("brandImageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -269,7 +270,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("brandImageWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -306,7 +307,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("dateTime");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -345,7 +346,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("jobCount");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -381,7 +382,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("notificationMsg");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -409,7 +410,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageDescription");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -442,7 +443,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -478,7 +479,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -513,7 +514,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -550,7 +551,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("secondary");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -586,7 +587,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("serverInfo");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -615,7 +616,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("serverInfoLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -645,7 +646,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -676,7 +677,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -707,7 +708,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("userInfo");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -736,7 +737,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("userInfoLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -766,7 +767,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("roleInfo");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -795,7 +796,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("roleInfoLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -829,7 +830,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("utilities");
         if (_vb != null) {
-            return (com.sun.webui.jsf.component.Hyperlink[]) _vb.getValue(getFacesContext().getELContext());
+            return (com.sun.webui.jsf.component.Hyperlink[]) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -872,7 +873,7 @@ public class Masthead extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
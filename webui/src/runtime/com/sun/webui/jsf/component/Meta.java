@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Meta component is used to create an HTML <meta> element in the rendered
@@ -113,7 +114,7 @@ public class Meta extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("content");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -145,7 +146,7 @@ public class Meta extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("httpEquiv");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -178,7 +179,7 @@ public class Meta extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("name");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -209,7 +210,7 @@ public class Meta extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("scheme");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -49,6 +49,7 @@ import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.util.ValueType;
 import com.sun.webui.jsf.util.ValueTypeEvaluator;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -987,7 +988,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1023,7 +1024,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("label");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1055,7 +1056,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("labelLevel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1094,7 +1095,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("labelOnTop");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1155,7 +1156,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("moveTopBottom");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1192,7 +1193,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("multiple");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1229,7 +1230,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1267,7 +1268,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1304,7 +1305,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1335,7 +1336,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1371,7 +1372,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1412,7 +1413,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1454,7 +1455,7 @@ public class OrderableList extends WebuiInput implements ListManager,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
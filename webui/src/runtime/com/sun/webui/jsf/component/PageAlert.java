@@ -45,6 +45,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import javax.el.ValueExpression;
 import javax.faces.component.NamingContainer;
@@ -287,7 +288,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("alt");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -317,7 +318,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("detail");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -347,7 +348,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("escape");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -384,7 +385,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -415,7 +416,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -444,7 +445,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("summary");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -479,7 +480,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -516,7 +517,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -544,7 +545,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("type");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "error";
     }
@@ -584,7 +585,7 @@ public class PageAlert extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
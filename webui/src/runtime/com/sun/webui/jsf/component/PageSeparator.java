@@ -46,6 +46,7 @@ import javax.faces.context.FacesContext;
 import javax.faces.convert.Converter;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The PageSeparator component creates a horizontal line.
@@ -116,7 +117,7 @@ public class PageSeparator extends UIOutput {
         }
         ValueExpression _vb = getValueExpression("value");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -143,7 +144,7 @@ public class PageSeparator extends UIOutput {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -174,7 +175,7 @@ public class PageSeparator extends UIOutput {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -215,7 +216,7 @@ public class PageSeparator extends UIOutput {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
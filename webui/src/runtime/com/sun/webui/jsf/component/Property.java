@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.beans.Beans;
 import java.util.Iterator;
 import javax.el.ValueExpression;
@@ -442,7 +443,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -484,7 +485,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("helpText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -525,7 +526,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("label");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -569,7 +570,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("labelAlign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -610,7 +611,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("noWrap");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -654,7 +655,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("overlapLabel");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -693,7 +694,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -724,7 +725,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -765,7 +766,7 @@ public class Property extends UIComponentBase implements ComplexComponent,
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
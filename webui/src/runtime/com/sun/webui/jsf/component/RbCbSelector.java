@@ -43,6 +43,7 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.io.IOException;
 import javax.el.ValueExpression;
 import javax.faces.component.UIComponent;
@@ -641,7 +642,7 @@ public class RbCbSelector extends Selector implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("imageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -678,7 +679,7 @@ public class RbCbSelector extends Selector implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("items");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -723,7 +724,7 @@ public class RbCbSelector extends Selector implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("name");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
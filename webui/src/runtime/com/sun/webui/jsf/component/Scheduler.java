@@ -54,6 +54,7 @@ import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.jsf.validator.DateInRangeValidator;
 import com.sun.webui.theme.Theme;
 import java.io.IOException;
@@ -1848,7 +1849,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("dateFormatPattern");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1926,7 +1927,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("dateFormatPatternHelp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1973,7 +1974,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("dateLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2005,7 +2006,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2043,7 +2044,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("endTime");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2078,7 +2079,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("endTimeLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2108,7 +2109,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("limitRepeating");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2160,7 +2161,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("maxDate");
         if (_vb != null) {
-            return (java.util.Date) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.Date) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2211,7 +2212,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("minDate");
         if (_vb != null) {
-            return (java.util.Date) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.Date) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2248,7 +2249,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("previewButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2287,7 +2288,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2345,7 +2346,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("repeatIntervalItems");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2386,7 +2387,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("repeatIntervalLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2417,7 +2418,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("repeatLimitLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2460,7 +2461,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("repeatUnitItems");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2497,7 +2498,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("repeating");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2535,7 +2536,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("required");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2573,7 +2574,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("requiredLegend");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2610,7 +2611,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("startTime");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2645,7 +2646,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("startTimeLabel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2675,7 +2676,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2706,7 +2707,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2742,7 +2743,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2782,7 +2783,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("timeZone");
         if (_vb != null) {
-            return (java.util.TimeZone) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.TimeZone) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2824,7 +2825,7 @@ public class Scheduler extends WebuiInput
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -45,6 +45,7 @@ import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The Script component is can be used to refer to a Javascript file, by using 
@@ -114,7 +115,7 @@ public class Script extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("charset");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -143,7 +144,7 @@ public class Script extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("type");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return "text/javascript";
     }
@@ -175,7 +176,7 @@ public class Script extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("url");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
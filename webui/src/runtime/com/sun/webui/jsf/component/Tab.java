@@ -43,6 +43,7 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.event.MethodExprActionListener;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.ArrayList;
 import java.util.List;
 import javax.faces.component.UIComponent;
@@ -127,7 +128,7 @@ public class Tab extends Hyperlink implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectedChildId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -207,6 +208,52 @@ public class Tab extends Hyperlink implements NamingContainer {
         }
     }
 
+    /**
+     * Customized implementation that, when the enclosing tab set processes only
+     * the selected tab, validates the child components only if this tab was the
+     * selected tab in the submitted page. Otherwise only tab children are
+     * processed, since one of them may be the selected tab.
+     */
+    @Override
+    public void processValidators(FacesContext context) {
+        if (this.isContentProcessed()) {
+            super.processValidators(context);
+        } else if (this.isRendered()) {
+            for (Tab tabChild : this.getTabChildren()) {
+                tabChild.processValidators(context);
+            }
+        }
+    }
+
+    /**
+     * Customized implementation that, when the enclosing tab set processes only
+     * the selected tab, updates the model values of the child components only if
+     * this tab was the selected tab in the submitted page.
+     */
+    @Override
+    public void processUpdates(FacesContext context) {
+        if (this.isContentProcessed()) {
+            super.processUpdates(context);
+        } else if (this.isRendered()) {
+            for (Tab tabChild : this.getTabChildren()) {
+                tabChild.processUpdates(context);
+            }
+        }
+    }
+
+    /**
+     * Test if all child components of this tab take part in validation and
+     * model updates, which is the case unless the enclosing tab set processes
+     * only the selected tab and this tab was not selected in the submitted page.
+     */
+    private boolean isContentProcessed() {
+        TabSet tabSet = Tab.getTabSet(this);
+        if (tabSet == null || !tabSet.isProcessSelectedTabOnly()) {
+            return true;
+        }
+        return this.getId() != null && this.getId().equals(tabSet.getSubmittedTabId());
+    }
+
     /**
      * Customized implementation that, in addition to invoking all other action
      * listeners for this tab, invokes the action listener method bound by the
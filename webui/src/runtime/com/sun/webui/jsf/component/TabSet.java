@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Property;
 import com.sun.faces.annotation.Component;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.Stack;
 import javax.faces.component.NamingContainer;
 import javax.el.MethodExpression;
@@ -181,6 +182,44 @@ public class TabSet extends WebuiInput implements NamingContainer {
     public void setActionListenerExpression(MethodExpression actionListenerExpression) {
         this.actionListenerExpression = actionListenerExpression;
     }
+    /**
+     * Flag indicating that tabs are selected with an asynchronous request,
+     * which processes and renders only this tab set, rather than by submitting
+     * the page. The content of a tab is then rendered only when the tab is
+     * selected. The JSF Extensions library must be available in the page.
+     */
+    @Property(name = "ajaxify", displayName = "Ajaxify", category = "Javascript")
+    private boolean ajaxify = false;
+    private boolean ajaxify_set = false;
+
+    /**
+     * Test if tabs are selected with an asynchronous request, which processes
+     * and renders only this tab set, rather than by submitting the page.
+     */
+    public boolean isAjaxify() {
+        if (this.ajaxify_set) {
+            return this.ajaxify;
+        }
+        ValueExpression _vb = getValueExpression("ajaxify");
+        if (_vb != null) {
+            Object _result = PropertySnapshot.getValue(this, _vb);
+            if (_result == null) {
+                return false;
+            } else {
+                return ((Boolean) _result).booleanValue();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Set to true to select tabs with an asynchronous request, which processes
+     * and renders only this tab set, rather than by submitting the page.
+     */
+    public void setAjaxify(boolean ajaxify) {
+        this.ajaxify = ajaxify;
+        this.ajaxify_set = true;
+    }
     /**
      * Returns true if the tabs in this tab set should remember
      * which of their tab children was last selected. This enables the user to
@@ -203,7 +242,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("lastSelectedChildSaved");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -243,7 +282,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("lite");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -282,7 +321,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("mini");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -301,6 +340,48 @@ public class TabSet extends WebuiInput implements NamingContainer {
         this.mini = mini;
         this.mini_set = true;
     }
+    /**
+     * Returns true if only the content of the selected tab is validated and
+     * updates its model values when the page is submitted. The content of
+     * the other tabs is never decoded, since it is not rendered. By default,
+     * it is still validated and may update model values from a local value
+     * set in an earlier request.
+     */
+    @Property(name = "processSelectedTabOnly", displayName = "Process Selected Tab Only", category = "Behavior")
+    private boolean processSelectedTabOnly = false;
+    private boolean processSelectedTabOnly_set = false;
+
+    /**
+     * Returns true if only the content of the selected tab is validated and
+     * updates its model values when the page is submitted. The content of
+     * the other tabs is never decoded, since it is not rendered. By default,
+     * it is still validated and may update model values from a local value
+     * set in an earlier request.
+     */
+    public boolean isProcessSelectedTabOnly() {
+        if (this.processSelectedTabOnly_set) {
+            return this.processSelectedTabOnly;
+        }
+        ValueExpression _vb = getValueExpression("processSelectedTabOnly");
+        if (_vb != null) {
+            Object _result = PropertySnapshot.getValue(this, _vb);
+            if (_result == null) {
+                return false;
+            } else {
+                return ((Boolean) _result).booleanValue();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Set to true to validate and update the model values of only the
+     * content of the selected tab when the page is submitted.
+     */
+    public void setProcessSelectedTabOnly(boolean processSelectedTabOnly) {
+        this.processSelectedTabOnly = processSelectedTabOnly;
+        this.processSelectedTabOnly_set = true;
+    }
 
     /**
      * The id of the selected tab.
@@ -374,7 +455,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -405,7 +486,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -446,7 +527,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -471,6 +552,42 @@ public class TabSet extends WebuiInput implements NamingContainer {
         this.visible_set = true;
     }
 
+    // The id of the tab that was selected when the page was submitted. The
+    // selected property changes during validation when another tab was
+    // clicked, but the content submitted is that of this tab.
+    private transient String submittedTabId = null;
+
+    /**
+     * Customized implementation that records the tab selected when the page
+     * was submitted, whose content is decoded by its tab.
+     */
+    @Override
+    public void processDecodes(FacesContext context) {
+        this.submittedTabId = this.getSelected();
+        super.processDecodes(context);
+    }
+
+    /**
+     * Customized implementation that forgets the tab selected when the page
+     * was submitted, once the model values are updated.
+     */
+    @Override
+    public void processUpdates(FacesContext context) {
+        try {
+            super.processUpdates(context);
+        } finally {
+            this.submittedTabId = null;
+        }
+    }
+
+    /**
+     * Returns the id of the tab whose content was submitted with the current
+     * request.
+     */
+    String getSubmittedTabId() {
+        return this.submittedTabId != null ? this.submittedTabId : this.getSelected();
+    }
+
     /**
      * Marks this tab set as valid only if all input component children of the
      * currently selected tab are valid.
@@ -532,6 +649,10 @@ public class TabSet extends WebuiInput implements NamingContainer {
         this.styleClass = (String) _values[9];
         this.visible = ((Boolean) _values[10]).booleanValue();
         this.visible_set = ((Boolean) _values[11]).booleanValue();
+        this.ajaxify = ((Boolean) _values[12]).booleanValue();
+        this.ajaxify_set = ((Boolean) _values[13]).booleanValue();
+        this.processSelectedTabOnly = ((Boolean) _values[14]).booleanValue();
+        this.processSelectedTabOnly_set = ((Boolean) _values[15]).booleanValue();
     }
 
     /**
@@ -539,7 +660,7 @@ public class TabSet extends WebuiInput implements NamingContainer {
      */
     @Override
     public Object saveState(FacesContext _context) {
-        Object _values[] = new Object[12];
+        Object _values[] = new Object[16];
         _values[0] = super.saveState(_context);
         _values[1] = this.actionListenerExpression;
         _values[2] = this.lastSelectedChildSaved ? Boolean.TRUE : Boolean.FALSE;
@@ -552,6 +673,10 @@ public class TabSet extends WebuiInput implements NamingContainer {
         _values[9] = this.styleClass;
         _values[10] = this.visible ? Boolean.TRUE : Boolean.FALSE;
         _values[11] = this.visible_set ? Boolean.TRUE : Boolean.FALSE;
+        _values[12] = this.ajaxify ? Boolean.TRUE : Boolean.FALSE;
+        _values[13] = this.ajaxify_set ? Boolean.TRUE : Boolean.FALSE;
+        _values[14] = this.processSelectedTabOnly ? Boolean.TRUE : Boolean.FALSE;
+        _values[15] = this.processSelectedTabOnly_set ? Boolean.TRUE : Boolean.FALSE;
         return _values;
     }
 
@@ -48,6 +48,7 @@ import com.sun.webui.jsf.model.Separator;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -1279,7 +1280,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1316,7 +1317,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("augmentTitle");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1354,7 +1355,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1381,7 +1382,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("border");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1417,7 +1418,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("cellPadding");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1456,7 +1457,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("cellSpacing");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1488,7 +1489,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("clearSortButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1520,7 +1521,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("deselectMultipleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1553,7 +1554,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("deselectMultipleButtonOnClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1580,7 +1581,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("deselectSingleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1613,7 +1614,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("deselectSingleButtonOnClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1641,7 +1642,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraActionBottomHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1670,7 +1671,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraActionTopHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1699,7 +1700,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraFooterHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1727,7 +1728,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraPanelHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1755,7 +1756,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraTitleHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1788,7 +1789,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("filterId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1817,7 +1818,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("filterPanelFocusId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1843,7 +1844,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("filterText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1870,7 +1871,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("footerText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1893,7 +1894,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("frame");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1933,7 +1934,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("hiddenSelectedRows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1987,7 +1988,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("internalVirtualForm");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2026,7 +2027,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("itemsText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2051,7 +2052,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("lite");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2080,7 +2081,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2103,7 +2104,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2126,7 +2127,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2149,7 +2150,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2172,7 +2173,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2195,7 +2196,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2218,7 +2219,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2241,7 +2242,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2264,7 +2265,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2287,7 +2288,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2310,7 +2311,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("paginateButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2341,7 +2342,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("paginationControls");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2371,7 +2372,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("preferencesPanelFocusId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2398,7 +2399,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rules");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2428,7 +2429,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectMultipleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2459,7 +2460,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectMultipleButtonOnClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2481,7 +2482,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortPanelFocusId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2502,7 +2503,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortPanelToggleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2530,7 +2531,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2553,7 +2554,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2576,7 +2577,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("summary");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2601,7 +2602,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2631,7 +2632,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2654,7 +2655,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2683,7 +2684,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2719,7 +2720,7 @@ public class Table extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
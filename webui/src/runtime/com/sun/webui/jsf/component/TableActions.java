@@ -49,6 +49,7 @@ import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ClientSniffer;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import java.io.IOException;
 import javax.el.ValueExpression;
@@ -454,7 +455,8 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         Table table = getTableAncestor();
         TableRowGroup group = (table != null)
                 ? table.getTableRowGroupChild() : null;
-        boolean disabled = (group != null) ? group.getFirst() <= 0 : false;
+        boolean disabled = (group != null && !group.isClientRows())
+                ? group.getFirst() <= 0 : false;
 
         // Get child.
         IconHyperlink child = new IconHyperlink();
@@ -466,6 +468,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         child.setAlign("top"); //NOI18N
         child.setDisabled(disabled);
         child.addActionListener(new TablePaginationActionListener());
+        child.setOnClick(getClientRowsJavascript("first")); //NOI18N
 
         // Set tool tip.
         String toolTip = getTheme().getMessage("table.pagination.first"); //NOI18N
@@ -501,6 +504,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         child.setText(getTheme().getMessage("table.pagination.submit")); //NOI18N
         child.setToolTip(getTheme().getMessage("table.pagination.submitPage")); //NOI18N
         child.addActionListener(new TablePaginationActionListener());
+        child.setOnClick(getClientRowsJavascript("page")); //NOI18N
 
         // Set tab index.
         Table table = getTableAncestor();
@@ -530,7 +534,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         Table table = getTableAncestor();
         TableRowGroup group = (table != null)
                 ? table.getTableRowGroupChild() : null;
-        boolean disabled = (group != null)
+        boolean disabled = (group != null && !group.isClientRows())
                 ? group.getFirst() >= group.getLast() : false;
 
         // Get child.
@@ -543,6 +547,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         child.setAlign("top"); //NOI18N
         child.setDisabled(disabled);
         child.addActionListener(new TablePaginationActionListener());
+        child.setOnClick(getClientRowsJavascript("last")); //NOI18N
 
         // Set tool tip.
         String toolTip = getTheme().getMessage("table.pagination.last"); //NOI18N
@@ -576,7 +581,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         Table table = getTableAncestor();
         TableRowGroup group = (table != null)
                 ? table.getTableRowGroupChild() : null;
-        boolean disabled = (group != null)
+        boolean disabled = (group != null && !group.isClientRows())
                 ? group.getFirst() >= group.getLast() : false;
 
         // Get child.
@@ -589,6 +594,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         child.setAlign("top"); //NOI18N
         child.setDisabled(disabled);
         child.addActionListener(new TablePaginationActionListener());
+        child.setOnClick(getClientRowsJavascript("next")); //NOI18N
 
         // Set tool tip.
         String toolTip = getTheme().getMessage("table.pagination.next"); //NOI18N
@@ -737,7 +743,8 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         Table table = getTableAncestor();
         TableRowGroup group = (table != null)
                 ? table.getTableRowGroupChild() : null;
-        boolean disabled = (group != null) ? group.getFirst() <= 0 : false;
+        boolean disabled = (group != null && !group.isClientRows())
+                ? group.getFirst() <= 0 : false;
 
         // Get child.
         IconHyperlink child = new IconHyperlink();
@@ -749,6 +756,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         child.setAlign("top"); //NOI18N
         child.setDisabled(disabled);
         child.addActionListener(new TablePaginationActionListener());
+        child.setOnClick(getClientRowsJavascript("prev")); //NOI18N
 
         // Set tool tip.
         String toolTip = getTheme().getMessage("table.pagination.previous"); //NOI18N
@@ -1142,7 +1150,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("abbr");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1167,7 +1175,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("actionsBottom");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1203,7 +1211,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1235,7 +1243,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("axis");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1266,7 +1274,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1299,7 +1307,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("char");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1332,7 +1340,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("charOff");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1364,7 +1372,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("colSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1395,7 +1403,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1419,7 +1427,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headers");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1444,7 +1452,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1470,7 +1478,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("noWrap");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1502,7 +1510,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1525,7 +1533,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1548,7 +1556,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1571,7 +1579,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1594,7 +1602,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1617,7 +1625,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1640,7 +1648,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1663,7 +1671,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1686,7 +1694,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1709,7 +1717,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1735,7 +1743,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rowSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1775,7 +1783,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("scope");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1806,7 +1814,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1829,7 +1837,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1853,7 +1861,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1882,7 +1890,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("valign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1915,7 +1923,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1951,7 +1959,7 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2115,6 +2123,36 @@ public class TableActions extends UIComponentBase implements NamingContainer {
         return child;
     }
 
+    /**
+     * Helper method to get Javascript to change the page in the browser, when
+     * the table row group renders the row data for the browser. The page is
+     * submitted as before when the script cannot change the page.
+     *
+     * @param action The page to show: "first", "prev", "next", "last", or
+     * "page" for the page of the page field.
+     * @return The Javascript used to change the page, or null.
+     */
+    private String getClientRowsJavascript(String action) {
+        Table table = getTableAncestor();
+        TableRowGroup group = (table != null)
+                ? table.getTableRowGroupChild() : null;
+        if (group == null || !group.isClientRows()) {
+            return null;
+        }
+        FacesContext context = getFacesContext();
+        StringBuffer buff = new StringBuffer(128);
+        buff.append("if (document.getElementById('") //NOI18N
+                .append(table.getClientId(context)).append("').pageClientRows('") //NOI18N
+                .append(group.getClientId(context)).append("', '") //NOI18N
+                .append(action).append("'"); //NOI18N
+        if ("page".equals(action)) { //NOI18N
+            buff.append(", '").append(getClientId(context)) //NOI18N
+                    .append(NamingContainer.SEPARATOR_CHAR)
+                    .append(PAGINATION_PAGE_FIELD_ID).append("'"); //NOI18N
+        }
+        return buff.append(")) return false").toString(); //NOI18N
+    }
+
     /**
      * Helper method to get Javascript to submit the "go" button when the user
      * clicks enter in the page field.
@@ -50,6 +50,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
@@ -1113,7 +1114,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("abbr");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1145,7 +1146,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1182,7 +1183,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("alignKey");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1214,7 +1215,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("axis");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1245,7 +1246,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1278,7 +1279,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("char");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1311,7 +1312,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("charOff");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1343,7 +1344,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("colSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1377,7 +1378,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("descending");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1410,7 +1411,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("embeddedActions");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1446,7 +1447,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("emptyCell");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1483,7 +1484,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraFooterHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1512,7 +1513,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraHeaderHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1541,7 +1542,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraTableFooterHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1566,7 +1567,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("footerText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1587,7 +1588,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headerText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1611,7 +1612,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headers");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1636,7 +1637,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1662,7 +1663,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("noWrap");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1694,7 +1695,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1717,7 +1718,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1740,7 +1741,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1763,7 +1764,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1786,7 +1787,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1809,7 +1810,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1832,7 +1833,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1855,7 +1856,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1878,7 +1879,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1901,7 +1902,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1942,7 +1943,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rowHeader");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1992,7 +1993,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rowSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2032,7 +2033,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("scope");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2072,7 +2073,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectId");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2110,7 +2111,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("severity");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2149,7 +2150,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sort");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2182,7 +2183,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortIcon");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2205,7 +2206,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortImageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2233,7 +2234,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("spacerColumn");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2267,7 +2268,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2290,7 +2291,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2314,7 +2315,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tableFooterText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2339,7 +2340,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2368,7 +2369,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("valign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2401,7 +2402,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2437,7 +2438,7 @@ public class TableColumn extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -45,6 +45,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.io.IOException;
 import javax.el.ValueExpression;
 import javax.faces.context.FacesContext;
@@ -478,7 +479,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("abbr");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -510,7 +511,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -542,7 +543,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("axis");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -573,7 +574,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -606,7 +607,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("char");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -639,7 +640,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("charOff");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -671,7 +672,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("colSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -702,7 +703,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -725,7 +726,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("groupFooter");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -757,7 +758,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headers");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -782,7 +783,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -808,7 +809,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("noWrap");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -840,7 +841,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -863,7 +864,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -886,7 +887,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -909,7 +910,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -932,7 +933,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -955,7 +956,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -978,7 +979,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1001,7 +1002,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1024,7 +1025,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1047,7 +1048,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1073,7 +1074,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rowSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1113,7 +1114,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("scope");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1144,7 +1145,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1167,7 +1168,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1191,7 +1192,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tableColumnFooter");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1222,7 +1223,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tableFooter");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1253,7 +1254,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1282,7 +1283,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("valign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1315,7 +1316,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1351,7 +1352,7 @@ public class TableFooter extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -43,11 +43,13 @@ package com.sun.webui.jsf.component;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.data.provider.RowKey;
+import com.sun.data.provider.SortCriteria;
 import com.sun.webui.jsf.event.TableSortActionListener;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import java.io.IOException;
 import javax.el.ValueExpression;
@@ -55,6 +57,7 @@ import javax.faces.component.NamingContainer;
 import javax.faces.component.UIComponent;
 import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
+import org.json.JSONObject;
 
 /**
  * Component that represents various table headers, including sortable, 
@@ -725,6 +728,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         child.setStyleClass(
                 theme.getStyleClass(ThemeStyles.TABLE_HEADER_LINK_IMG));
         child.addActionListener(new TableSortActionListener());
+        setClientRowsOnClick(child, "add"); //NOI18N
 
         // Set tool tip.       
         String toolTip = getTheme().getMessage("table.sort.button.add", //NOI18N
@@ -786,6 +790,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         child.setStyleClass(
                 theme.getStyleClass(ThemeStyles.TABLE_HEADER_LINK_IMG));
         child.addActionListener(new TableSortActionListener());
+        setClientRowsOnClick(child, "primary"); //NOI18N
 
         // Set tool tip.        
         String toolTip = theme.getMessage("table.sort.button.primary", //NOI18N
@@ -835,6 +840,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         child.setId(PRIMARY_SORT_LINK_ID);
         child.setStyleClass(theme.getStyleClass(ThemeStyles.TABLE_HEADER_LINK));
         child.addActionListener(new TableSortActionListener());
+        setClientRowsOnClick(child, "primary"); //NOI18N
 
         // Get tool tip.
         String toolTip = "table.sort.link.other"; //NOI18N
@@ -970,6 +976,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         child.setBorder(0);
         child.setAlign("top"); //NOI18N
         child.addActionListener(new TableSortActionListener());
+        setClientRowsOnClick(child, "toggle"); //NOI18N
 
         // Disable descending sort so selections don't move off page.
         if (table != null && col != null) {
@@ -1093,7 +1100,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("abbr");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1125,7 +1132,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1157,7 +1164,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("axis");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1188,7 +1195,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1221,7 +1228,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("char");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1254,7 +1261,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("charOff");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1286,7 +1293,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("colSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1317,7 +1324,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1339,7 +1346,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("groupHeader");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1370,7 +1377,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headers");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1395,7 +1402,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("height");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1421,7 +1428,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("noWrap");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1453,7 +1460,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1476,7 +1483,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1499,7 +1506,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1522,7 +1529,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1545,7 +1552,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1568,7 +1575,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1591,7 +1598,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1614,7 +1621,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1637,7 +1644,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1660,7 +1667,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1686,7 +1693,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rowSpan");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -1726,7 +1733,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("scope");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1758,7 +1765,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectHeader");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1789,7 +1796,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sortHeader");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1819,7 +1826,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1842,7 +1849,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1866,7 +1873,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1895,7 +1902,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("valign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -1928,7 +1935,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -1964,7 +1971,7 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("width");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2115,6 +2122,37 @@ public class TableHeader extends UIComponentBase implements NamingContainer {
         return ThemeUtilities.getTheme(getFacesContext());
     }
 
+    /**
+     * Helper method to set the JavaScript which sorts the rows in the browser,
+     * when the table row group renders the row data for the browser. The
+     * page is submitted as before when the script cannot sort the rows.
+     *
+     * @param child The sort button or link.
+     * @param mode The sort applied: "primary", "add", or "toggle".
+     */
+    private void setClientRowsOnClick(IconHyperlink child, String mode) {
+        Table table = getTableAncestor();
+        TableColumn col = getTableColumnAncestor();
+        TableRowGroup group = getTableRowGroupAncestor();
+        if (table == null || col == null || group == null
+                || isSelectHeader() || !group.isClientRows()) {
+            return;
+        }
+        SortCriteria criteria = col.getSortCriteria();
+        if (criteria == null || criteria.getCriteriaKey() == null) {
+            return;
+        }
+        FacesContext context = getFacesContext();
+        StringBuffer buff = new StringBuffer(128);
+        buff.append("if (document.getElementById('") //NOI18N
+                .append(table.getClientId(context)).append("').sortClientRows('") //NOI18N
+                .append(group.getClientId(context)).append("', ") //NOI18N
+                .append(JSONObject.quote(criteria.getCriteriaKey()))
+                .append(", '").append(mode).append("', ") //NOI18N
+                .append(!col.isDescending()).append(")) return false"); //NOI18N
+        child.setOnClick(buff.toString());
+    }
+
     /**
      * Helper method to test if the next sort order is descending.
      *
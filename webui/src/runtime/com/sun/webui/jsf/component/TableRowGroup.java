@@ -49,21 +49,27 @@ import com.sun.data.provider.SortCriteria;
 import com.sun.data.provider.TableDataFilter;
 import com.sun.data.provider.TableDataProvider;
 import com.sun.data.provider.TableDataSorter;
-import com.sun.data.provider.impl.BasicTableDataFilter;
 import com.sun.data.provider.impl.BasicTableDataSorter;
+import com.sun.data.provider.impl.IndexRowKey;
 import com.sun.data.provider.impl.ObjectArrayDataProvider;
 import com.sun.data.provider.impl.ObjectListDataProvider;
 import com.sun.data.provider.impl.TableRowDataProvider;
 import com.sun.webui.theme.Theme;
+import com.sun.webui.jsf.faces.DataProviderRevision;
+import com.sun.webui.jsf.faces.PartitionedTableDataFilter;
+import com.sun.webui.jsf.faces.TextFilterCriteria;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.ClientTableRows;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.beans.Beans;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +84,9 @@ import javax.faces.event.AbortProcessingException;
 import javax.faces.event.FacesEvent;
 import javax.faces.event.FacesListener;
 import javax.faces.event.PhaseId;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 
 /**
  * Component that represents a group of table rows.
@@ -116,6 +125,12 @@ family = "com.sun.webui.jsf.TableRowGroup", displayName = "Row Group", tagName =
 helpKey = "projrave_ui_elements_palette_wdstk-jsf1.2_row_group")
 public class TableRowGroup extends UIComponentBase implements NamingContainer {
 
+    /** The id for the client rows bar. */
+    public static final String CLIENT_ROWS_BAR_ID = "_clientRowsBar"; //NOI18N
+    /** The component id for the client rows hidden field. */
+    public static final String CLIENT_ROWS_HIDDEN_FIELD_ID = "_clientRowsHiddenField"; //NOI18N
+    /** The facet name for the client rows hidden field. */
+    public static final String CLIENT_ROWS_HIDDEN_FIELD_FACET = "clientRowsHiddenField"; //NOI18N
     /** The id for the column footer bar. */
     public static final String COLUMN_FOOTER_BAR_ID = "_columnFooterBar"; //NOI18N
     /** The id for the column header bar. */
@@ -184,9 +199,20 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
     // and update phases.
     private RowKey[] sortedRowKeys = null;
 
+    // The DataProviderRevision id and count of the TableDataProvider when the
+    // cached RowKey objects were computed. A count of -1 indicates the cached
+    // RowKey objects may not be kept once cleared.
+    private long revisionId = 0;
+    private int revision = -1;
+
     // The number of columns to be rendered.
     private int columnCount = -1;
 
+    // Flag indicating the rows are sorted, filtered, and paginated in the
+    // browser. The flag is decided when rendering and kept in the saved
+    // state, so that the rows rendered are the rows decoded.
+    private Boolean clientRows = null;
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Tag attributes
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -230,6 +256,16 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
      */
     @Property(name = "bgColor", displayName = "Row Background Color", isHidden = true, isAttribute = false)
     private String bgColor = null;
+    /**
+     * Set the <code>cacheRowKeys</code> attribute to true to keep the filtered and 
+     * sorted rows across requests while the TableDataProvider reports no changes to 
+     * its listeners. Rows added, removed, or changed through the provider are patched 
+     * into the cached rows. Use this attribute only when the data is changed through 
+     * the provider; changes made directly to the underlying objects are not seen.
+     */
+    @Property(name = "cacheRowKeys", displayName = "Cache Row Keys", category = "Advanced")
+    private boolean cacheRowKeys = false;
+    private boolean cacheRowKeys_set = false;
     /**
      * Use the <code>char </code>attribute to specify a character to use for 
      * horizontal alignment in each cell in the row. You must also set the 
@@ -561,9 +597,9 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         provider = null;
         tableAncestor = null;
         tableColumnChildren = null;
-        filteredRowKeys = null;
-        sortedRowKeys = null;
+        updateRowKeys(); // Clear or update cached row keys.
         columnCount = -1;
+        clientRows = null;
 
         // Clear properties of TableColumn children.
         Iterator kids = getTableColumnChildren();
@@ -635,6 +671,28 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Component methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * Get client rows hidden field, which holds the sort, filter, and page
+     * applied in the browser.
+     *
+     * @return The client rows hidden field.
+     */
+    public UIComponent getClientRowsHiddenField() {
+        UIComponent facet = getFacet(CLIENT_ROWS_HIDDEN_FIELD_FACET);
+        if (facet != null) {
+            return facet;
+        }
+
+        // Get child. The value is set by the browser.
+        HiddenField child = new HiddenField();
+        child.setId(CLIENT_ROWS_HIDDEN_FIELD_ID);
+        child.setText(""); //NOI18N
+
+        // Save facet and return child.
+        getFacets().put(child.getId(), child);
+        return child;
+    }
+
     /**
      * Get empty data column.
      *
@@ -801,6 +859,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         if (filteredRowKeys != null) {
             return filteredRowKeys;
         } else {
+            setRevision();
             filteredRowKeys = getRowKeys();
         }
 
@@ -840,7 +899,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
 
         // Get default filter.
         if (filter == null) {
-            filter = new BasicTableDataFilter();
+            filter = new PartitionedTableDataFilter();
         }
         return filter;
     }
@@ -850,14 +909,62 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
      * component. 
      * <p>
      * Note: This method clears the cached filter and sort, then resets
-     * pagination to the first page per UI guidelines.
+     * pagination to the first page per UI guidelines. If the given criteria
+     * start with the current criteria objects, the filter is a
+     * PartitionedTableDataFilter matching all criteria, and the filtered rows
+     * are cached, only the added criteria are evaluated over the cached rows.
+     * Criteria objects must therefore not be modified once set; set new
+     * objects instead.
      * </p>
      * @param filterCriteria An array of FilterCriteria objects defining the
      * filter order on this TableDataFilter.
      */
     public void setFilterCriteria(FilterCriteria[] filterCriteria) {
+        TableDataFilter filter = getTableDataFilter();
+        RowKey[] rowKeys = filteredRowKeys;
+        FilterCriteria[] added = getAddedCriteria(filter.getFilterCriteria(),
+                filterCriteria);
         clearFilter();
-        getTableDataFilter().setFilterCriteria(filterCriteria);
+        filter.setFilterCriteria(filterCriteria);
+
+        // Refine the cached rows, if the criteria were only narrowed.
+        if (added == null || rowKeys == null
+                || !(filter instanceof PartitionedTableDataFilter)
+                || !((PartitionedTableDataFilter) filter).isMatchAllCriteria()) {
+            return;
+        }
+        TableDataProvider provider = getTableRowDataProvider().
+                getTableDataProvider();
+        if (provider != null && provider != filter) {
+            filteredRowKeys = ((PartitionedTableDataFilter) filter).refine(
+                    provider, rowKeys, added);
+        }
+    }
+
+    /**
+     * Add FilterCriteria objects to the TableDataFilter instance used by this
+     * component, narrowing the current filter.
+     * <p>
+     * Note: This method behaves as setFilterCriteria with the current
+     * criteria followed by the given criteria, so that only the given
+     * criteria are evaluated over the cached filtered rows when possible.
+     * </p>
+     * @param filterCriteria An array of FilterCriteria objects to add to the
+     * filter order on this TableDataFilter.
+     */
+    public void addFilterCriteria(FilterCriteria[] filterCriteria) {
+        if (filterCriteria == null || filterCriteria.length == 0) {
+            return;
+        }
+        FilterCriteria[] current = getTableDataFilter().getFilterCriteria();
+        FilterCriteria[] combined = filterCriteria;
+        if (current != null && current.length > 0) {
+            combined = new FilterCriteria[current.length + filterCriteria.length];
+            System.arraycopy(current, 0, combined, 0, current.length);
+            System.arraycopy(filterCriteria, 0, combined, current.length,
+                    filterCriteria.length);
+        }
+        setFilterCriteria(combined);
     }
 
     /**
@@ -1064,6 +1171,25 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Row methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * Test if the rows of this component are sorted, filtered, and paginated
+     * in the browser, as decided by the ClientTableRows class.
+     * <p>
+     * Note: The flag is decided when this component is rendered, and kept
+     * until the page is submitted, so that the rows decoded are the rows
+     * which were rendered.
+     * </p>
+     * @return true if all rows are rendered for the browser to sort, filter,
+     * and paginate them.
+     */
+    public boolean isClientRows() {
+        if (clientRows == null) {
+            clientRows = Boolean.valueOf(ClientTableRows.isEnabled(
+                    getFacesContext(), this));
+        }
+        return clientRows.booleanValue();
+    }
+
     /**
      * Get the flag indicating whether there is row data available for the
      * current RowKey. If no row data is available, false is returned.
@@ -1096,7 +1222,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
      * @return An array of RowKey objects.
      */
     public RowKey[] getHiddenRowKeys() {
-        if (!isPaginated()) {
+        if (!isPaginated() || isClientRows()) {
             return null; // No rows are hidden during scroll mode.
         }
 
@@ -1285,6 +1411,9 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
      * instances used by this component. If TableDataFilter and TableDataSorter
      * are modified directly, invoke the clearSort and clearFilter method to
      * clear the previous sort and filter.
+     * </p><p>
+     * Note: If the rows are paginated in the browser, the rows of all pages
+     * are rendered.
      * </p>
      * @return An array of RowKey objects.
      */
@@ -1295,6 +1424,11 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
             return rowKeys;
         }
 
+        // All rows are rendered when the browser paginates them.
+        if (isClientRows()) {
+            return (RowKey[]) rowKeys.clone();
+        }
+
         // Find the number of selected rows hidden from view.
         ArrayList list = new ArrayList();
         int first = getFirst();
@@ -1310,6 +1444,70 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         return (RowKey[]) list.toArray(rowKeys);
     }
 
+    /**
+     * Get the RowKey objects for the rows which may hold submitted values:
+     * the rendered rows, which were decoded on this request, and any other
+     * row for which a submitted value was kept in the saved state of this
+     * component. Components in the remaining rows have no submitted value.
+     *
+     * @return The RowKey objects of rows which may hold submitted values, or
+     * null if the TableDataProvider is null.
+     */
+    RowKey[] getSubmittedRowKeys() {
+        RowKey[] renderedRowKeys = getRenderedRowKeys();
+        if (renderedRowKeys == null || saved == null || saved.isEmpty()) {
+            return renderedRowKeys;
+        }
+
+        // Collect the row ids of saved submitted values; client ids of
+        // descendants have the form <baseClientId>:<rowId>:...
+        String prefix = super.getClientId(getFacesContext()) +
+                NamingContainer.SEPARATOR_CHAR;
+        HashSet rowIds = null;
+        Iterator entries = saved.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry entry = (Map.Entry) entries.next();
+            SavedState state = (SavedState) entry.getValue();
+            String clientId = (String) entry.getKey();
+            if (state == null || state.getSubmittedValue() == null ||
+                    !clientId.startsWith(prefix)) {
+                continue;
+            }
+            int end = clientId.indexOf(NamingContainer.SEPARATOR_CHAR,
+                    prefix.length());
+            if (end == -1) {
+                continue;
+            }
+            if (rowIds == null) {
+                rowIds = new HashSet();
+            }
+            rowIds.add(clientId.substring(prefix.length(), end));
+        }
+        if (rowIds == null) {
+            return renderedRowKeys;
+        }
+
+        // Remove the rendered rows, which are visited anyway.
+        for (int i = 0; i < renderedRowKeys.length; i++) {
+            rowIds.remove(renderedRowKeys[i].getRowId());
+        }
+        if (rowIds.isEmpty()) {
+            return renderedRowKeys;
+        }
+
+        ArrayList list = new ArrayList();
+        for (int i = 0; i < renderedRowKeys.length; i++) {
+            list.add(renderedRowKeys[i]);
+        }
+        RowKey[] rowKeys = getRowKeys();
+        for (int i = 0; rowKeys != null && i < rowKeys.length; i++) {
+            if (rowIds.contains(rowKeys[i].getRowId())) {
+                list.add(rowKeys[i]);
+            }
+        }
+        return (RowKey[]) list.toArray(new RowKey[list.size()]);
+    }
+
     /**
      * Set the RowKey associated with the current row or null for no current row
      * association.
@@ -1395,6 +1593,9 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
 
         // Reset current state information for the new row.
         restoreDescendantState();
+
+        // Property values kept while rendering may depend on the row.
+        PropertySnapshot.clear(getFacesContext());
     }
 
     /**
@@ -1728,6 +1929,24 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         return result;
     }
 
+    /**
+     * Get the value by which the given SortCriteria object sorts a row.
+     *
+     * @param criteria The SortCriteria object to sort.
+     * @param rowKey The RowKey of the row.
+     * @return The sort value, or null if the TableDataProvider is null.
+     */
+    public Object getSortValue(SortCriteria criteria, RowKey rowKey) {
+        TableDataProvider provider = getTableRowDataProvider().
+                getTableDataProvider();
+        if (provider == null || criteria == null) {
+            log("getSortValue", //NOI18N
+                    "Cannot obtain sort value, TableDataProvider or SortCriteria is null"); //NOI18N
+            return null;
+        }
+        return criteria.getSortValue(provider, rowKey);
+    }
+
     /**
      * Test if given SortCriteria object is a descending sort.
      *
@@ -1879,6 +2098,16 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         // Restore previously filtered and sorted RowKey objects.
         filteredRowKeys = (RowKey[]) values[5]; // Clear filtered row keys.
         sortedRowKeys = (RowKey[]) values[6]; // Clear sorted row keys.
+        clientRows = (Boolean) values[8];
+
+        // Restore the revision of the provider the RowKey objects came from.
+        long[] stamp = (long[]) values[7];
+        if (stamp != null) {
+            revisionId = stamp[0];
+            revision = (int) stamp[1];
+        } else {
+            revision = -1;
+        }
     }
 
     /**
@@ -1888,7 +2117,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
      */
     @Override
     public Object saveState(FacesContext context) {
-        Object values[] = new Object[8];
+        Object values[] = new Object[9];
         values[0] = _saveState(context);
         values[1] = saved;
         values[2] = isPaginated() ? Boolean.TRUE : Boolean.FALSE;
@@ -1896,6 +2125,8 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         values[4] = getTableDataFilter().getFilterCriteria(); // Save FilterCriteria.
         values[5] = getFilteredRowKeys(); // Save filtered RowKey objects.
         values[6] = getSortedRowKeys(); // Save sorted RowKey objects.
+        values[7] = (revision < 0) ? null : new long[]{revisionId, revision};
+        values[8] = isClientRows() ? Boolean.TRUE : Boolean.FALSE;
         return values;
     }
 
@@ -2172,6 +2403,16 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         } else {
             log("processUpdates", "Cannot obtain collapsed hidden field value"); //NOI18N
         }
+
+        // Apply the sort, filter, and page chosen in the browser.
+        if (isClientRows()) {
+            field = (UIComponent) getFacets().get(CLIENT_ROWS_HIDDEN_FIELD_ID);
+            Object value = (field instanceof HiddenField)
+                    ? ((HiddenField) field).getText() : null;
+            if (value != null && value.toString().length() > 0) {
+                setClientRowsState(value.toString());
+            }
+        }
     // This is not a EditableValueHolder, so no further processing is required
     }
 
@@ -2212,7 +2453,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("aboveColumnFooter");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2243,7 +2484,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("aboveColumnHeader");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2279,7 +2520,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("align");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2313,7 +2554,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("bgColor");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2331,6 +2572,41 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         this.bgColor = bgColor;
     }
 
+    /**
+     * Set the <code>cacheRowKeys</code> attribute to true to keep the filtered and 
+     * sorted rows across requests while the TableDataProvider reports no changes to 
+     * its listeners. Rows added, removed, or changed through the provider are patched 
+     * into the cached rows. Use this attribute only when the data is changed through 
+     * the provider; changes made directly to the underlying objects are not seen.
+     */
+    public boolean isCacheRowKeys() {
+        if (this.cacheRowKeys_set) {
+            return this.cacheRowKeys;
+        }
+        ValueExpression _vb = getValueExpression("cacheRowKeys");
+        if (_vb != null) {
+            Object _result = PropertySnapshot.getValue(this, _vb);
+            if (_result == null) {
+                return false;
+            } else {
+                return ((Boolean) _result).booleanValue();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Set the <code>cacheRowKeys</code> attribute to true to keep the filtered and 
+     * sorted rows across requests while the TableDataProvider reports no changes to 
+     * its listeners. Rows added, removed, or changed through the provider are patched 
+     * into the cached rows. Use this attribute only when the data is changed through 
+     * the provider; changes made directly to the underlying objects are not seen.
+     */
+    public void setCacheRowKeys(boolean cacheRowKeys) {
+        this.cacheRowKeys = cacheRowKeys;
+        this.cacheRowKeys_set = true;
+    }
+
     /**
      * Use the <code>char </code>attribute to specify a character to use for 
      * horizontal alignment in each cell in the row. You must also set the 
@@ -2345,7 +2621,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("char");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2378,7 +2654,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("charOff");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2408,7 +2684,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("collapsed");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2442,7 +2718,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("emptyDataMsg");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2472,7 +2748,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraFooterHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2501,7 +2777,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("extraHeaderHtml");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2530,7 +2806,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("first");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2561,7 +2837,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("footerText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2583,7 +2859,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("groupToggleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2611,7 +2887,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("headerText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2636,7 +2912,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("multipleColumnFooters");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2671,7 +2947,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("multipleTableColumnFooters");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2703,7 +2979,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2726,7 +3002,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onDblClick");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2749,7 +3025,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2772,7 +3048,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyPress");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2795,7 +3071,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onKeyUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2818,7 +3094,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseDown");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2841,7 +3117,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseMove");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2864,7 +3140,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOut");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2887,7 +3163,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseOver");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2910,7 +3186,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onMouseUp");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2933,7 +3209,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("rows");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -2964,7 +3240,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selectMultipleToggleButton");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2995,7 +3271,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("selected");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -3031,7 +3307,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sourceData");
         if (_vb != null) {
-            return _vb.getValue(getFacesContext().getELContext());
+            return PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3065,7 +3341,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("sourceVar");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3101,7 +3377,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClasses");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3136,7 +3412,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tableDataFilter");
         if (_vb != null) {
-            return (TableDataFilter) _vb.getValue(getFacesContext().getELContext());
+            return (TableDataFilter) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3165,7 +3441,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tableDataSorter");
         if (_vb != null) {
-            return (TableDataSorter) _vb.getValue(getFacesContext().getELContext());
+            return (TableDataSorter) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3192,7 +3468,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3221,7 +3497,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("valign");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -3254,7 +3530,7 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -3332,13 +3608,15 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         this.valign = (String) _values[46];
         this.visible = ((Boolean) _values[47]).booleanValue();
         this.visible_set = ((Boolean) _values[48]).booleanValue();
+        this.cacheRowKeys = ((Boolean) _values[49]).booleanValue();
+        this.cacheRowKeys_set = ((Boolean) _values[50]).booleanValue();
     }
 
     /**
      * Save the state of this component.
      */
     private Object _saveState(FacesContext _context) { // To do: Merge gen code with public method?
-        Object _values[] = new Object[49];
+        Object _values[] = new Object[51];
         _values[0] = super.saveState(_context);
         _values[1] = this.aboveColumnFooter ? Boolean.TRUE : Boolean.FALSE;
         _values[2] = this.aboveColumnFooter_set ? Boolean.TRUE : Boolean.FALSE;
@@ -3388,6 +3666,8 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         _values[46] = this.valign;
         _values[47] = this.visible ? Boolean.TRUE : Boolean.FALSE;
         _values[48] = this.visible_set ? Boolean.TRUE : Boolean.FALSE;
+        _values[49] = this.cacheRowKeys ? Boolean.TRUE : Boolean.FALSE;
+        _values[50] = this.cacheRowKeys_set ? Boolean.TRUE : Boolean.FALSE;
         return _values;
     }
 
@@ -3419,6 +3699,318 @@ public class TableRowGroup extends UIComponentBase implements NamingContainer {
         return (false);
     }
 
+    /**
+     * Helper method to get the criteria following the current criteria, if
+     * the given criteria start with the current criteria objects.
+     *
+     * @param current The current criteria, or null.
+     * @param criteria The criteria to be set, or null.
+     * @return The added criteria, or null if the criteria are not only
+     * narrowed.
+     */
+    private static FilterCriteria[] getAddedCriteria(FilterCriteria[] current,
+            FilterCriteria[] criteria) {
+        int count = (current != null) ? current.length : 0;
+        if (criteria == null || criteria.length <= count) {
+            return null;
+        }
+        for (int i = 0; i < count; i++) {
+            if (criteria[i] != current[i]) {
+                return null;
+            }
+        }
+        FilterCriteria[] added = new FilterCriteria[criteria.length - count];
+        System.arraycopy(criteria, count, added, 0, added.length);
+        return added;
+    }
+
+    /**
+     * Helper method to record the revision of the TableDataProvider before
+     * filtered and sorted RowKey objects are computed.
+     */
+    private void setRevision() {
+        revision = -1;
+        if (isCacheRowKeys() && !Beans.isDesignTime()) {
+            DataProviderRevision current = DataProviderRevision.getInstance(
+                    getTableRowDataProvider().getTableDataProvider());
+            if (current != null) {
+                revisionId = current.getId();
+                revision = current.getCount();
+            }
+        }
+    }
+
+    /**
+     * Helper method to apply the sort, filter, and page chosen in the
+     * browser. The state is a JSON object such as
+     * <code>{"sort":[["name",true]],"filter":"text","page":2}</code>,
+     * giving the criteria key and ascending flag of each sort level.
+     * <p>
+     * Note: Only what differs from the current sort, filter, and page is
+     * applied, so that the cached RowKey objects are kept otherwise.
+     * </p>
+     * @param state The state written by the browser.
+     */
+    private void setClientRowsState(String state) {
+        JSONObject json;
+        try {
+            json = new JSONObject(state);
+        } catch (JSONException e) {
+            log("setClientRowsState", "Cannot parse state: " + state); //NOI18N
+            return;
+        }
+
+        // Find the SortCriteria object of each key, current ones first.
+        Map criteria = new HashMap();
+        SortCriteria[] current = getTableDataSorter().getSortCriteria();
+        for (int i = 0; current != null && i < current.length; i++) {
+            if (current[i] != null && current[i].getCriteriaKey() != null) {
+                criteria.put(current[i].getCriteriaKey(), current[i]);
+            }
+        }
+        List cols = ClientTableRows.getSortColumns(this);
+        SortCriteria[] columnCriteria = new SortCriteria[cols.size()];
+        for (int i = 0; i < columnCriteria.length; i++) {
+            columnCriteria[i] = ((TableColumn) cols.get(i)).getSortCriteria();
+            String key = columnCriteria[i].getCriteriaKey();
+            if (!criteria.containsKey(key)) {
+                criteria.put(key, columnCriteria[i]);
+            }
+        }
+
+        // Apply sort.
+        JSONArray sort = json.optJSONArray("sort"); //NOI18N
+        if (sort != null) {
+            List list = new ArrayList();
+            boolean changed = false;
+            for (int i = 0; i < sort.length(); i++) {
+                JSONArray level = sort.optJSONArray(i);
+                SortCriteria sc = (level != null)
+                        ? (SortCriteria) criteria.get(level.optString(0)) : null;
+                if (sc == null) {
+                    continue;
+                }
+                boolean ascending = level.optBoolean(1, true);
+                int index = list.size();
+                if (current == null || index >= current.length
+                        || current[index] != sc
+                        || current[index].isAscending() != ascending) {
+                    changed = true;
+                }
+                sc.setAscending(ascending);
+                list.add(sc);
+            }
+            int count = (current != null) ? current.length : 0;
+            if (changed || list.size() != count) {
+                setSortCriteria(list.isEmpty() ? null
+                        : (SortCriteria[]) list.toArray(
+                        new SortCriteria[list.size()]));
+            }
+        }
+
+        // Apply filter, replacing the previous text filter.
+        String text = json.optString("filter", ""); //NOI18N
+        FilterCriteria[] filterCriteria = getTableDataFilter().getFilterCriteria();
+        List list = new ArrayList();
+        String previous = ""; //NOI18N
+        for (int i = 0; filterCriteria != null && i < filterCriteria.length; i++) {
+            if (filterCriteria[i] instanceof TextFilterCriteria) {
+                previous = ((TextFilterCriteria) filterCriteria[i]).getText();
+            } else {
+                list.add(filterCriteria[i]);
+            }
+        }
+        TextFilterCriteria textCriteria = new TextFilterCriteria(text,
+                columnCriteria);
+        if (!previous.equals(textCriteria.getText())) {
+            if (textCriteria.getText().length() > 0) {
+                list.add(textCriteria);
+            }
+            setFilterCriteria(list.isEmpty() ? null
+                    : (FilterCriteria[]) list.toArray(
+                    new FilterCriteria[list.size()]));
+        }
+
+        // Apply page.
+        int page = json.optInt("page", getPage()); //NOI18N
+        if (page != getPage()) {
+            setPage(page);
+        }
+    }
+
+    /**
+     * Helper method to clear the cached filtered and sorted RowKey objects.
+     * <p>
+     * Note: If the cacheRowKeys attribute is set, the cached RowKey objects
+     * are kept while the TableDataProvider reports no changes. Rows added,
+     * removed, or changed since are patched into the cached RowKey objects;
+     * any other change clears them.
+     * </p>
+     */
+    private void updateRowKeys() {
+        RowKey[] filtered = filteredRowKeys;
+        RowKey[] sorted = sortedRowKeys;
+        filteredRowKeys = null;
+        sortedRowKeys = null;
+        if (filtered == null || revision < 0 || !isCacheRowKeys()
+                || Beans.isDesignTime()) {
+            return;
+        }
+
+        TableDataProvider provider = getTableRowDataProvider().
+                getTableDataProvider();
+        DataProviderRevision current = DataProviderRevision.getInstance(provider);
+        if (current == null || current.getId() != revisionId) {
+            revision = -1;
+            return;
+        }
+        int count = current.getCount();
+        if (count != revision) {
+            Object[] changes = current.getRowChanges(revision);
+            if (changes == null) {
+                log("updateRowKeys", //NOI18N
+                        "Cannot patch row keys, TableDataProvider has changed"); //NOI18N
+                revision = -1;
+                return;
+            }
+
+            // Without a sort, the sorted rows are cheap to obtain again.
+            TableDataFilter filter = getTableDataFilter();
+            TableDataSorter sorter = getTableDataSorter();
+            SortCriteria[] sortCriteria = sorter.getSortCriteria();
+            if (provider == sorter || sortCriteria == null
+                    || sortCriteria.length == 0) {
+                sorted = null;
+            }
+
+            try {
+                // Rows reported as added may not be available yet, such as
+                // pending appends of a TransactionalDataProvider.
+                HashSet available = null;
+                List pending = new ArrayList();
+                for (int i = 0; i < changes.length; i += 2) {
+                    RowKey rowKey = (RowKey) changes[i];
+                    int type = ((Integer) changes[i + 1]).intValue();
+                    if (available == null
+                            && type != DataProviderRevision.ROW_REMOVED) {
+                        available = new HashSet();
+                        RowKey[] rowKeys = getRowKeys();
+                        for (int j = 0; rowKeys != null && j < rowKeys.length; j++) {
+                            available.add(rowKeys[j].getRowId());
+                        }
+                    }
+                    boolean match = type != DataProviderRevision.ROW_REMOVED
+                            && available.contains(rowKey.getRowId())
+                            && (provider == filter
+                            || filter.filter(provider, new RowKey[]{rowKey}).length > 0);
+                    int index = indexOf(filtered, rowKey);
+                    if (index >= 0 && !match) {
+                        filtered = remove(filtered, index);
+                    } else if (index < 0 && match) {
+                        filtered = insert(filtered, getFilteredIndex(filtered,
+                                rowKey), rowKey);
+                    }
+
+                    // Changed rows are sorted in once all are taken out;
+                    // otherwise the binary search would meet rows whose
+                    // values changed but which were not moved yet.
+                    if (sorted != null) {
+                        index = indexOf(sorted, rowKey);
+                        if (index >= 0) {
+                            sorted = remove(sorted, index);
+                        }
+                        pending.remove(rowKey);
+                        if (match) {
+                            pending.add(rowKey);
+                        }
+                    }
+                }
+                for (int i = 0; i < pending.size(); i++) {
+                    RowKey rowKey = (RowKey) pending.get(i);
+                    sorted = insert(sorted, getSortedIndex(provider, sorter,
+                            sorted, rowKey), rowKey);
+                }
+            } catch (RuntimeException e) {
+                log("updateRowKeys", //NOI18N
+                        "Cannot patch row keys, " + e.getMessage()); //NOI18N
+                revision = -1;
+                return;
+            }
+            revision = count;
+        }
+        filteredRowKeys = filtered;
+        sortedRowKeys = sorted;
+    }
+
+    /**
+     * Helper method to get the position of a new row in the filtered RowKey
+     * objects. Rows are kept in the order of their index, if any; otherwise
+     * the row is appended.
+     */
+    private int getFilteredIndex(RowKey[] rowKeys, RowKey rowKey) {
+        if (rowKey instanceof IndexRowKey) {
+            int index = ((IndexRowKey) rowKey).getIndex();
+            for (int i = 0; i < rowKeys.length; i++) {
+                if (rowKeys[i] instanceof IndexRowKey
+                        && ((IndexRowKey) rowKeys[i]).getIndex() > index) {
+                    return i;
+                }
+            }
+        }
+        return rowKeys.length;
+    }
+
+    /**
+     * Helper method to find the position of a row in the sorted RowKey
+     * objects by binary search, after any rows that sort equal. Two rows are
+     * compared by letting the sorter order them.
+     */
+    private int getSortedIndex(TableDataProvider provider,
+            TableDataSorter sorter, RowKey[] rowKeys, RowKey rowKey) {
+        int low = 0;
+        int high = rowKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            RowKey[] pair = sorter.sort(provider,
+                    new RowKey[]{rowKeys[mid], rowKey});
+            if (pair[0] == rowKey) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // Helper method to find a row in the given RowKey objects.
+    private static int indexOf(RowKey[] rowKeys, RowKey rowKey) {
+        for (int i = 0; i < rowKeys.length; i++) {
+            if (rowKey.equals(rowKeys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Helper method to insert a row into a copy of the given RowKey objects.
+    private static RowKey[] insert(RowKey[] rowKeys, int index, RowKey rowKey) {
+        RowKey[] result = new RowKey[rowKeys.length + 1];
+        System.arraycopy(rowKeys, 0, result, 0, index);
+        result[index] = rowKey;
+        System.arraycopy(rowKeys, index, result, index + 1,
+                rowKeys.length - index);
+        return result;
+    }
+
+    // Helper method to remove a row from a copy of the given RowKey objects.
+    private static RowKey[] remove(RowKey[] rowKeys, int index) {
+        RowKey[] result = new RowKey[rowKeys.length - 1];
+        System.arraycopy(rowKeys, 0, result, 0, index);
+        System.arraycopy(rowKeys, index + 1, result, index,
+                result.length - index);
+        return result;
+    }
+
     /**
      * Helper method to perform the appropriate phase-specific processing and
      * per-row iteration for the specified phase, as follows:
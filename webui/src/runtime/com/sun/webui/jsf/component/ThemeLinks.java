@@ -42,6 +42,7 @@ package com.sun.webui.jsf.component;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import javax.el.ValueExpression;
 import javax.faces.component.UIComponentBase;
 import javax.faces.context.FacesContext;
@@ -134,7 +135,7 @@ public class ThemeLinks extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("debug");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -168,7 +169,7 @@ public class ThemeLinks extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("javaScript");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -203,7 +204,7 @@ public class ThemeLinks extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("parseWidgets");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -238,7 +239,7 @@ public class ThemeLinks extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleSheet");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -275,7 +276,7 @@ public class ThemeLinks extends UIComponentBase {
         }
         ValueExpression _vb = getValueExpression("styleSheetInline");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
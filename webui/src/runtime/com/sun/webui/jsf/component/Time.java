@@ -46,6 +46,7 @@ import com.sun.webui.jsf.model.ClockTime;
 import com.sun.webui.jsf.model.Option;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.theme.Theme;
 import java.io.IOException;
 import java.util.Locale;
@@ -680,7 +681,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("disabled");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -715,7 +716,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("readOnly");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -749,7 +750,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -777,7 +778,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -808,7 +809,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("tabIndex");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -845,7 +846,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("timeZone");
         if (_vb != null) {
-            return (java.util.TimeZone) _vb.getValue(getFacesContext().getELContext());
+            return (java.util.TimeZone) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -880,7 +881,7 @@ public class Time extends WebuiInput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
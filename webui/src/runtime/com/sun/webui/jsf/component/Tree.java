@@ -45,6 +45,7 @@ import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.util.CookieUtils;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.RenderingUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -77,6 +78,8 @@ propertiesHelpKey = "projrave_ui_elements_palette_wdstk-jsf1.2_propsheets_tree_p
 public class Tree extends TreeNode implements EditableValueHolder {
 
     private static final long serialVersionUID = -3186310519238174661L;
+    // Layout of the line images of the nodes, see getTreeLayout().
+    private transient TreeLayout treeLayout = null;
 
     /**
      *	Constructor.
@@ -94,6 +97,16 @@ public class Tree extends TreeNode implements EditableValueHolder {
         return "com.sun.webui.jsf.Tree";
     }
 
+    /**
+     * <p>Return the layout of the line images of the nodes of this tree.</p>
+     */
+    TreeLayout getTreeLayout() {
+        if (treeLayout == null) {
+            treeLayout = new TreeLayout();
+        }
+        return treeLayout;
+    }
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Tag attribute methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -245,7 +258,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("clientSide");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -294,7 +307,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("expandOnSelect");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -340,7 +353,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("immediate");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -382,7 +395,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("required");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -421,7 +434,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -456,7 +469,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -501,7 +514,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -649,7 +662,7 @@ public class Tree extends TreeNode implements EditableValueHolder {
         }
         ValueExpression _vb = getValueExpression("value");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             return _result;
         }
         return null;
@@ -0,0 +1,231 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+package com.sun.webui.jsf.component;
+
+import com.sun.webui.jsf.theme.ThemeImages;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.faces.component.UIComponent;
+
+/**
+ * <p>Computes the theme images drawn before the text of each
+ * <code>TreeNode</code> of a <code>Tree</code>: a vertical line or a blank
+ * image for each ancestor, followed by the line or handle image of the
+ * node itself.</p>
+ * <p>The layout is computed top down. When a node is first looked up, all
+ * <code>TreeNode</code> children of its parent are laid out in one pass
+ * over the parent's children, each one receiving the set of ancestors
+ * which are the last child of their parent. Looking up a node therefore
+ * does not walk its ancestors or collect the children of each ancestor.
+ * The layout is kept by the <code>Tree</code> until {@link #clear} is
+ * called, which the tree renderer does before each rendering of the tree,
+ * as the structure of the tree may have changed in the meantime. The handle
+ * images depend on the expanded state of the nodes and are not cached.</p>
+ */
+public final class TreeLayout {
+
+    /**
+     * The layout of a node. Entries do not reference their own node, so
+     * that removed nodes can be collected.
+     */
+    private static final class Entry {
+
+        private final TreeNode parent;      // nearest TreeNode parent
+        private final Entry parentEntry;    // layout of parent, or null
+        private final int depth;            // number of ancestor TreeNodes
+        private final BitSet lastAncestors; // bit i: ancestor at depth i + 1 is a last child
+        private final boolean first;        // first TreeNode child of parent
+        private final boolean last;         // last TreeNode child of parent
+
+        Entry(TreeNode parent, Entry parentEntry, BitSet lastAncestors,
+                boolean first, boolean last) {
+            this.parent = parent;
+            this.parentEntry = parentEntry;
+            this.depth = (parentEntry != null) ? parentEntry.depth + 1 : 0;
+            this.lastAncestors = lastAncestors;
+            this.first = first;
+            this.last = last;
+        }
+    }
+    private static final BitSet NO_BITS = new BitSet(0);
+    private final Map entries = new WeakHashMap(); // has a TreeNode as the key, and an Entry as the value
+
+    TreeLayout() {
+    }
+
+    /**
+     * <p>Return the layout for the tree containing the given node.</p>
+     *
+     * @param node A <code>TreeNode</code> or <code>Tree</code>.
+     */
+    public static TreeLayout getInstance(TreeNode node) {
+        Tree root = TreeNode.getAbsoluteRoot(node);
+        return (root != null) ? root.getTreeLayout() : new TreeLayout();
+    }
+
+    /**
+     * <p>Discard the layout, it is computed again when next needed.</p>
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * <p>Return the theme keys of the images to draw from left to right
+     * before the text of the given node. The last key is the line or handle
+     * image of the node itself; it is one of the <code>TREE_HANDLE_*</code>
+     * keys if the node has <code>TreeNode</code> children.</p>
+     *
+     * @param node The node to be rendered.
+     * @return The image keys, an empty array for the root of the tree.
+     */
+    public String[] getImageKeys(TreeNode node) {
+        Entry entry = getEntry(node);
+        if (entry.depth == 0) {
+            return new String[0];
+        }
+
+        String[] keys = new String[entry.depth];
+        int handle = entry.depth - 1;
+        for (int i = 0; i < handle; i++) {
+            keys[i] = entry.lastAncestors.get(i)
+                    ? ThemeImages.TREE_BLANK : ThemeImages.TREE_LINE_VERTICAL;
+        }
+
+        String imageIcon;
+        if (hasChildTreeNodes(node)) {
+            if (node.isExpanded()) {
+                imageIcon = entry.last ? ThemeImages.TREE_HANDLE_DOWN_LAST
+                        : ThemeImages.TREE_HANDLE_DOWN_MIDDLE;
+            } else {
+                imageIcon = entry.last ? ThemeImages.TREE_HANDLE_RIGHT_LAST
+                        : ThemeImages.TREE_HANDLE_RIGHT_MIDDLE;
+            }
+        } else {
+            imageIcon = entry.last ? ThemeImages.TREE_LINE_LAST_NODE
+                    : ThemeImages.TREE_LINE_MIDDLE_NODE;
+        }
+
+        // Don't draw a line up to the root unless the root node has an icon.
+        if (entry.first && entry.parent instanceof Tree) {
+            TreeNode root = entry.parent;
+            String imgURL = root.getImageURL();
+            if ((imgURL == null || imgURL.length() == 0) &&
+                    root.getFacet(TreeNode.IMAGE_FACET_KEY) == null) {
+                imageIcon = TreeNode.getTopLineImage(imageIcon);
+            }
+        }
+        keys[handle] = imageIcon;
+        return keys;
+    }
+
+    /**
+     * Return the entry of the node, laying out the node and its siblings
+     * if necessary.
+     */
+    private Entry getEntry(TreeNode node) {
+        Entry entry = (Entry) entries.get(node);
+        if (entry != null) {
+            return entry;
+        }
+        TreeNode parent = TreeNode.getParentTreeNode(node);
+        if (parent == null) {
+            entry = new Entry(null, null, NO_BITS, false, false);
+            entries.put(node, entry);
+            return entry;
+        }
+
+        Entry parentEntry = getEntry(parent);
+        BitSet lastAncestors = parentEntry.lastAncestors;
+        if (parentEntry.last) {
+            // Children share one copy; it is never modified afterwards.
+            lastAncestors = (BitSet) lastAncestors.clone();
+            lastAncestors.set(parentEntry.depth - 1);
+        }
+
+        // Lay out all TreeNode children of the parent in one pass.
+        List children = parent.getChildren();
+        int lastIndex = -1;
+        for (int i = children.size() - 1; i >= 0; i--) {
+            if (children.get(i) instanceof TreeNode) {
+                lastIndex = i;
+                break;
+            }
+        }
+        boolean first = true;
+        for (int i = 0; i <= lastIndex; i++) {
+            Object child = children.get(i);
+            if (child instanceof TreeNode) {
+                entries.put(child, new Entry(parent, parentEntry,
+                        lastAncestors, first, i == lastIndex));
+                first = false;
+            }
+        }
+
+        entry = (Entry) entries.get(node);
+        if (entry == null) {
+            // The node is nested in a component which is not a TreeNode.
+            entry = new Entry(parent, parentEntry, lastAncestors, false, false);
+            entries.put(node, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * <p>Return true if the node has at least one <code>TreeNode</code>
+     * child, in which case its handle image is displayed by its turner.</p>
+     *
+     * @param node The node to check.
+     */
+    public static boolean hasChildTreeNodes(TreeNode node) {
+        if (node.getChildCount() == 0) {
+            return false;
+        }
+        for (Iterator iter = node.getChildren().iterator(); iter.hasNext();) {
+            if (iter.next() instanceof TreeNode) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -54,7 +54,6 @@ import java.util.List;
 import java.util.Vector;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Stack;
 import java.io.Serializable;
 import javax.faces.component.UIComponent;
 import javax.faces.component.UIComponentBase;
@@ -70,6 +69,7 @@ import com.sun.webui.jsf.component.util.Util;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.event.ToggleActionListener;
 import com.sun.webui.jsf.util.ComponentUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The TreeNode component is used to insert a node in a tree structure.
@@ -166,7 +166,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("actionExpression");
         if (_vb != null) {
-            return (javax.el.MethodExpression) _vb.getValue(getFacesContext().getELContext());
+            return (javax.el.MethodExpression) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -268,7 +268,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("expanded");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -319,7 +319,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("imageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -355,7 +355,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -388,7 +388,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -427,7 +427,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("target");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -467,7 +467,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("text");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -504,7 +504,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("toolTip");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -542,7 +542,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("url");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -587,7 +587,7 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -651,179 +651,61 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
      *	    left to right (0 to x) when rendering the lines before the text
      *	    for this node.</p>
      *
-     *	@return	A <code>List</code> of Strings that represent theme keys for
-     *		the images to be drawn.  The first list element is the first
+     *	<p> The images are facets of this node. The tree renderers draw the
+     *	    images of {@link TreeLayout#getImageKeys} directly instead, and
+     *	    only use the turner <code>IconHyperlink</code>.</p>
+     *
+     *	@return	A <code>List</code> of components that display the images
+     *		to be drawn.  The first list element is the first
      *		image to display when rendering left to right.
      */
     public List getImageKeys() {
-        // Walk backward up the tree, calculate the theme image
-        Stack stack = new Stack();
-        Stack tempStack = new Stack();
-
-        Object value = null;
-        Map attributes = null;
-        boolean last = false;
-        boolean first = true;
-        boolean bottomNode = false;
-        int count = 1;
-        TreeNode prevNode = getParentTreeNode(this);
-
-        for (TreeNode node = prevNode; node != null;
-                prevNode = node, node = getParentTreeNode(node)) {
-
-            attributes = node.getAttributes();
-
-            // get the list of peers and find if the current node
-            // (this instance) is the last one among them
-
-            TreeNode[] peerList = getChildTreeNodes(node);
-            int len = peerList.length;
-            TreeNode thisNode = peerList[len - 1];
-            if (thisNode == this) { // the current node is the last one
-                bottomNode = true;
-                last = true;
-            }
-
-            if (first) {
-                // Direct parent is special
-                first = false;
-                TreeNode[] list = getChildTreeNodes(this);
-                if (list != null && list.length > 0) {
-                    String imageIcon = null;
-                    // For this property, we use 'this' for attributes
-                    if (((Boolean) getAttributes().get("expanded")).booleanValue()) {
-
-                        if (bottomNode) {
-                            imageIcon = ThemeImages.TREE_HANDLE_DOWN_LAST;
-                        } else {
-                            imageIcon = ThemeImages.TREE_HANDLE_DOWN_MIDDLE;
-                        }
-                    } else {
-
-                        if (bottomNode) {
-                            imageIcon = ThemeImages.TREE_HANDLE_RIGHT_LAST;
-                        } else {
-                            imageIcon = ThemeImages.TREE_HANDLE_RIGHT_MIDDLE;
-                        }
-                    }
-                    stack.push(imageIcon);
-                    IconHyperlink ihl = getTurnerImageHyperlink();
-                    ihl.setIcon(imageIcon);
-                    ihl.setToolTip("Toggle " + getText() + " node");  // GF-required 508 change
-                    ihl.setAlt("Toggle " + getText() + " node icon");  // GF-required 508 change
-                    Tree rootNode = getAbsoluteRoot(this);
-                    if (rootNode != null) {
-                        if (rootNode.isClientSide()) {
-                            ihl.setOnClick("return false;");
-                        }
-                    }
-                    ihl.setBorder(0);
-
-                    tempStack.push(ihl);
-
-                } else {
-
-                    String imageIcon = null;
-                    if (bottomNode) {
-                        imageIcon = ThemeImages.TREE_LINE_LAST_NODE;
-                    } else {
-                        imageIcon = ThemeImages.TREE_LINE_MIDDLE_NODE;
-                    }
-                    stack.push(imageIcon);
-                    String id = "icon" + count++;
-                    ImageComponent ic = (ImageComponent) Util.getChild(this, id);
-                    if (ic == null) {
-                        ic = new ImageComponent();
-
-                        ic.setId(id);
-                        ic.setToolTip(getText() + " node");  // GF-required 508 change
-                        ic.setAlt(getText() + " node icon");  // GF-required 508 change
-                        this.getFacets().put(id, ic);
-                    }
-                    ic.setIcon(imageIcon);
-                    tempStack.push(ic);
-                }
+        String[] keys = TreeLayout.getInstance(this).getImageKeys(this);
+        UIComponent[] images = new UIComponent[keys.length];
+        if (keys.length > 0) {
+            // Facet ids are numbered from this node's image outward.
+            int count = 1;
+            int handle = keys.length - 1;
+            if (TreeLayout.hasChildTreeNodes(this)) {
+                images[handle] = getTurnerImageHyperlink(keys[handle]);
             } else {
-                // We get the attributes this way because we really want to parent's values
-                // to see if we have a peer
-
-                String imageIcon = null;
-                value = node.getAttributes().get("lastChild");
-                TreeNode[] list = getChildTreeNodes(node);
-                last = (value == null) ? false : value.toString().equals("true");
-
-                if (!last && (list != null && list.length > 0)) {
-                    imageIcon = ThemeImages.TREE_LINE_VERTICAL;
-
-                } else {
-                    imageIcon = ThemeImages.TREE_BLANK;
-                }
-                stack.push(imageIcon);
-                String id = "icon" + count++;
-                ImageComponent ic = (ImageComponent) Util.getChild(this, id);
-                if (ic == null) {
-                    ic = new ImageComponent();
-                    ic.setIcon(imageIcon);
-                    ic.setToolTip(prevNode.getText()+ " child");  // GF-required 508 change
-                    ic.setAlt(prevNode.getText() + " child icon");  // GF-required 508 change
-                    ic.setId(id);
-		    this.getFacets().put(id, ic);
-                }
-                tempStack.push(ic);
+                images[handle] = getLineImage("icon" + count++, keys[handle],
+                        getText() + " node", // GF-required 508 change
+                        getText() + " node icon"); // GF-required 508 change
             }
-        }
-
-        // Handle special case where this.getParent() is the root node...
-        // don't draw a line up to it unless the root node has an icon.
-        TreeNode parent = getParentTreeNode(this);
-        if (parent instanceof Tree) {
-            // Ok, so this is a direct child of the root... but is it the first?
-            Iterator children = parent.getChildren().iterator();
-            Object child = null;
-            while (children.hasNext()) {
-                child = children.next();
-                if (child instanceof TreeNode) {
-                    // Check to see if the child is 'this'
-                    if (child == this) {
-                        // Ok, so this is the child that is effected... make
-                        // sure the root node doesn't have an icon
-                        String imgURL = parent.getImageURL();
-                        if (((imgURL == null) || imgURL.equals("")) &&
-                                (parent.getFacet(IMAGE_FACET_KEY) == null)) {
-                            // This is the special case
-                            // Get the top image and change it
-                            // stack.push(topLineImageMapping.get(stack.pop()));
-                            String imageIcon = (String) topLineImageMapping.get(stack.pop());
-
-                            // how to find the component associated with it and then
-                            // change the image icon of that component?
-                            Object topmost = tempStack.pop();
-                            if (topmost instanceof ImageComponent) {
-                                ((ImageComponent) topmost).setIcon(imageIcon);
-                            } else if (topmost instanceof IconHyperlink) {
-                                ((IconHyperlink) topmost).setIcon(imageIcon);
-                            }
-                            stack.push(imageIcon);
-                            tempStack.push(topmost);
-                        }
-                    }
-                    // break b/c we only want to check the first TreeNode
-                    break;
-                }
+            TreeNode owner = this;
+            for (int i = handle - 1; i >= 0; i--) {
+                owner = getParentTreeNode(owner);
+                images[i] = getLineImage("icon" + count++, keys[i],
+                        owner.getText() + " child", // GF-required 508 change
+                        owner.getText() + " child icon"); // GF-required 508 change
             }
         }
 
-        // Reverse the order
-        List list = new ArrayList();
-
-        while (!tempStack.empty()) {
-            list.add(tempStack.pop());
+        List list = new ArrayList(images.length);
+        for (int i = 0; i < images.length; i++) {
+            list.add(images[i]);
         }
-
-        // Return the list
         return list;
     }
 
+    /**
+     * Return the line image facet with the given id, creating it if needed.
+     */
+    private ImageComponent getLineImage(String id, String imageIcon,
+            String toolTip, String alt) {
+        ImageComponent ic = (ImageComponent) Util.getChild(this, id);
+        if (ic == null) {
+            ic = new ImageComponent();
+            ic.setId(id);
+            ic.setToolTip(toolTip);
+            ic.setAlt(alt);
+            this.getFacets().put(id, ic);
+        }
+        ic.setIcon(imageIcon);
+        return ic;
+    }
+
     /**
      * Given the ID of a child of this node this method
      * returns the TreeNode component corresponding to
@@ -1075,6 +957,27 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         return child;
     }
 
+    /**
+     * <p>Return the turner IconHyperlink of this node, set up to display
+     * the given handle image.</p>
+     *
+     * @param imageIcon The theme key of the handle image.
+     */
+    public IconHyperlink getTurnerImageHyperlink(String imageIcon) {
+        IconHyperlink ihl = getTurnerImageHyperlink();
+        ihl.setIcon(imageIcon);
+        ihl.setToolTip("Toggle " + getText() + " node");  // GF-required 508 change
+        ihl.setAlt("Toggle " + getText() + " node icon");  // GF-required 508 change
+        Tree rootNode = getAbsoluteRoot(this);
+        if (rootNode != null) {
+            if (rootNode.isClientSide()) {
+                ihl.setOnClick("return false;");
+            }
+        }
+        ihl.setBorder(0);
+        return ihl;
+    }
+
     public IconHyperlink getTurnerImageHyperlink() {
         IconHyperlink ihl =
                 (IconHyperlink) ComponentUtilities.getPrivateFacet(this,
@@ -1157,6 +1060,16 @@ public class TreeNode extends UIComponentBase implements NamingContainer, Serial
         topLineImageMapping.put(ThemeImages.TREE_LINE_LAST_NODE,
                 ThemeImages.TREE_BLANK);
     }
+
+    /**
+     * Return the "special case" image for the given image, used for the
+     * first node below a root without an image.
+     */
+    static String getTopLineImage(String imageIcon) {
+        String topLineImage = (String) topLineImageMapping.get(imageIcon);
+        return (topLineImage != null) ? topLineImage : imageIcon;
+    }
+
     /**
      *	<p> This is the facet key used to set a custom image for this
      *	    <code>TreeNode</code>. (image)</p>
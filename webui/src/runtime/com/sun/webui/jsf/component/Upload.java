@@ -44,6 +44,7 @@ import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.model.UploadedFile;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import java.io.InputStream;
 import java.io.Serializable;
 import javax.el.ValueExpression;
@@ -562,7 +563,7 @@ public class Upload extends Field implements Serializable {
         }
         ValueExpression _vb = getValueExpression("columns");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -48,6 +48,7 @@ import javax.faces.convert.Converter;
 
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The VersionPage component is used to display a version page.
@@ -134,7 +135,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("copyrightString");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -162,7 +163,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageDescription");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -191,7 +192,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageHeight");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -225,7 +226,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageURL");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -254,7 +255,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("productImageWidth");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return Integer.MIN_VALUE;
             } else {
@@ -290,7 +291,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -321,7 +322,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -351,7 +352,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("versionInformationFile");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -379,7 +380,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("versionString");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -419,7 +420,7 @@ public class VersionPage extends UIOutput implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
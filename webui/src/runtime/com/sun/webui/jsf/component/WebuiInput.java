@@ -41,6 +41,7 @@
 package com.sun.webui.jsf.component;
 
 import com.sun.webui.jsf.event.MethodExprValueChangeListener;
+import com.sun.webui.jsf.util.RenderTiming;
 import javax.el.MethodExpression;
 import javax.faces.component.UIInput;
 import javax.faces.convert.Converter;
@@ -239,6 +240,23 @@ public class WebuiInput extends UIInput {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The time the validation takes is recorded if the request is timed by
+     * {@link RenderTiming}.
+     * </p>
+     **/
+    @Override
+    public void validate(FacesContext context) {
+        long start = RenderTiming.start(context);
+        try {
+            super.validate(context);
+        } finally {
+            RenderTiming.endValidate(context, this, start);
+        }
+    }
+
     /**
      * {@inheritDoc}
      **/
@@ -64,6 +64,7 @@ import com.sun.webui.jsf.model.WizardStepListItem;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.ThemeUtilities;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 // On Sub Components
 //
@@ -305,7 +306,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("model");
         if (_vb != null) {
-            return (WizardModel) _vb.getValue(getFacesContext().getELContext());
+            return (WizardModel) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2168,7 +2169,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("eventListener");
         if (_vb != null) {
-            return (WizardEventListener) _vb.getValue(getFacesContext().getELContext());
+            return (WizardEventListener) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2214,7 +2215,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("isPopup");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -2272,7 +2273,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onCancel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2301,7 +2302,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClose");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2330,7 +2331,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onFinish");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2359,7 +2360,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onHelpTab");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2388,7 +2389,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onNext");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2429,7 +2430,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onPopupDismiss");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2464,7 +2465,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onPrevious");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2493,7 +2494,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onStepLink");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2522,7 +2523,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onStepsTab");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2562,7 +2563,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("steps");
         if (_vb != null) {
-            return (Object) _vb.getValue(getFacesContext().getELContext());
+            return (Object) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2598,7 +2599,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("style");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2630,7 +2631,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("styleClass");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2665,7 +2666,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -2711,7 +2712,7 @@ public class Wizard extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("visible");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
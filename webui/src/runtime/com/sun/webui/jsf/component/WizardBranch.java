@@ -49,6 +49,7 @@ import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.event.WizardEventListener;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /*
  * The WizardBranch represents a step in a Wizard sequence that indicates
@@ -219,7 +220,7 @@ public class WizardBranch extends WizardStep implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("placeholderText");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -262,7 +263,7 @@ public class WizardBranch extends WizardStep implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("taken");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -49,6 +49,7 @@ import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.event.WizardEventListener;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The WizardBranchSteps component groups a sequence of 
@@ -244,7 +245,7 @@ public class WizardBranchSteps extends WizardStep implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("taken");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -50,6 +50,7 @@ import javax.faces.context.FacesContext;
 import com.sun.faces.annotation.Component;
 import com.sun.faces.annotation.Property;
 import com.sun.webui.jsf.event.WizardEventListener;
+import com.sun.webui.jsf.util.PropertySnapshot;
 
 /**
  * The WizardStep component represents a single step in a Wizard component
@@ -119,7 +120,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("detail");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -182,7 +183,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("eventListener");
         if (_vb != null) {
-            return (WizardEventListener) _vb.getValue(getFacesContext().getELContext());
+            return (WizardEventListener) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -237,7 +238,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("finish");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -288,7 +289,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("help");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -323,7 +324,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onCancel");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -352,7 +353,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onClose");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -381,7 +382,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onFinish");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -410,7 +411,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onHelpTab");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -439,7 +440,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onNext");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -468,7 +469,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onPrevious");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -497,7 +498,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onStepLink");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -526,7 +527,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("onStepsTab");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -564,7 +565,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("results");
         if (_vb != null) {
-            Object _result = _vb.getValue(getFacesContext().getELContext());
+            Object _result = PropertySnapshot.getValue(this, _vb);
             if (_result == null) {
                 return false;
             } else {
@@ -605,7 +606,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("summary");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
@@ -643,7 +644,7 @@ public class WizardStep extends UIComponentBase implements NamingContainer {
         }
         ValueExpression _vb = getValueExpression("title");
         if (_vb != null) {
-            return (String) _vb.getValue(getFacesContext().getELContext());
+            return (String) PropertySnapshot.getValue(this, _vb);
         }
         return null;
     }
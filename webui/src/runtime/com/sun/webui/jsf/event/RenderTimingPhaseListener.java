@@ -0,0 +1,122 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.event;
+
+import com.sun.webui.jsf.util.RenderTiming;
+import javax.faces.event.PhaseEvent;
+import javax.faces.event.PhaseId;
+import javax.faces.event.PhaseListener;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+ * A phase listener which makes the timing of components available to an
+ * application, and times the phases of the lifecycle. It is registered in
+ * the faces-config.xml of the application:
+ * <p><pre>
+ * &lt;lifecycle&gt;
+ *   &lt;phase-listener&gt;com.sun.webui.jsf.event.RenderTimingPhaseListener&lt;/phase-listener&gt;
+ * &lt;/lifecycle&gt;
+ * </pre></p><p>
+ * It is registered as a listener in the web.xml of the application as well,
+ * so that the MBean of the timing is unregistered when the application is
+ * destroyed:
+ * <p><pre>
+ * &lt;listener&gt;
+ *   &lt;listener-class&gt;com.sun.webui.jsf.event.RenderTimingPhaseListener&lt;/listener-class&gt;
+ * &lt;/listener&gt;
+ * </pre></p><p>
+ * Timing stays off until it is switched on, either with the
+ * <code>com.sun.webui.jsf.util.RENDER_TIMING</code> context parameter or
+ * through the MBean of the application. See {@link RenderTiming}.
+ * </p>
+ */
+public class RenderTimingPhaseListener implements PhaseListener,
+        ServletContextListener {
+
+    private static final long serialVersionUID = -4305367236475734213L;
+
+    /**
+     * Start timing the phase. On the first request, timing is made
+     * available to the application.
+     *
+     * @param event The phase event.
+     */
+    public void beforePhase(PhaseEvent event) {
+        RenderTiming.install(event.getFacesContext()).beginPhase(
+                event.getFacesContext());
+    }
+
+    /**
+     * Stop timing the phase.
+     *
+     * @param event The phase event.
+     */
+    public void afterPhase(PhaseEvent event) {
+        RenderTiming.install(event.getFacesContext()).endPhase(
+                event.getFacesContext(), event.getPhaseId());
+    }
+
+    /**
+     * Return the identifier of the phases this listener is interested in.
+     */
+    public PhaseId getPhaseId() {
+        return PhaseId.ANY_PHASE;
+    }
+
+    /**
+     * Nothing is done when the application starts; timing is made available
+     * on the first request.
+     *
+     * @param event The servlet context event.
+     */
+    public void contextInitialized(ServletContextEvent event) {
+    }
+
+    /**
+     * Unregister the MBean of the timing of the application.
+     *
+     * @param event The servlet context event.
+     */
+    public void contextDestroyed(ServletContextEvent event) {
+        RenderTiming.uninstall(event.getServletContext());
+    }
+}
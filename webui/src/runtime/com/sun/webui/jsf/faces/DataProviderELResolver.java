@@ -42,10 +42,13 @@ package com.sun.webui.jsf.faces;
 
 import com.sun.faces.annotation.Resolver;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.el.ELResolver;
 import javax.el.ELContext;
 import javax.el.PropertyNotFoundException;
+import javax.faces.context.FacesContext;
 import javax.faces.model.SelectItem;
 import com.sun.data.provider.DataProvider;
 import com.sun.data.provider.FieldKey;
@@ -53,6 +56,7 @@ import com.sun.data.provider.RowKey;
 import com.sun.data.provider.TableDataProvider;
 import com.sun.data.provider.impl.TableRowDataProvider;
 import com.sun.webui.jsf.model.Option;
+import com.sun.webui.jsf.util.BoundedCache;
 import java.util.Iterator;
 import java.beans.FeatureDescriptor;
 import java.util.Arrays;
@@ -139,6 +143,20 @@ public class DataProviderELResolver extends ELResolver {
     public static final String ROWID_FKEY = ":ROWID:";     // NOI18N
     public static final String ROWKEY_FKEY = ":ROWKEY:";    // NOI18N
 
+    // Request map key of the select items built during the request.
+    private static final String ITEMS_CACHE =
+            "com.sun.webui.jsf.faces.DataProviderELResolver.items"; // NOI18N
+
+    // Number of rows fetched at a time when the row count is unknown.
+    private static final int ROW_WINDOW = 256;
+
+    // The maximum number of parsed column specs to cache.
+    private static final int COLUMNS_CACHE_SIZE = 256;
+
+    // Parsed column specs, keyed by the spec string.
+    private static final BoundedCache columnsCache =
+        new BoundedCache(COLUMNS_CACHE_SIZE);
+
     /**
      * {@inheritDoc}
      */
@@ -363,6 +381,101 @@ public class DataProviderELResolver extends ELResolver {
         return null;
     }
 
+    /**
+     * Split a select items column spec such as "ID,NAME" into its field
+     * ids. Commas inside single quotes do not separate fields.
+     */
+    private static String[] parseColumns(String columns) {
+        String[] args = (String[]) columnsCache.get(columns);
+        if (args != null) {
+            return args;
+        }
+
+        List cols = new ArrayList();
+        String col;
+        boolean quoteOpen = false;
+        int currStart = 0;
+        for (int i = 0; i < columns.length(); i++) {
+            char c = columns.charAt(i);
+            if (c == '\'') {
+                quoteOpen = !quoteOpen;
+            } else if (c == ',' && !quoteOpen) {
+                col = columns.substring(currStart, i);
+                if (col.length() > 0) {
+                    cols.add(col);
+                }
+                currStart = i + 1;
+            }
+        }
+
+        //get the remaining stuff after the last period
+        if (currStart < columns.length()) {
+            col = columns.substring(currStart);
+            cols.add(col);
+        }
+
+        args = (String[]) cols.toArray(new String[cols.size()]);
+        if (args.length < 1) {
+            throw new IllegalArgumentException();
+        }
+        return (String[]) columnsCache.put(columns, args);
+    }
+
+    /**
+     * Return the select items built during the current request, or null
+     * outside of a faces request.
+     */
+    private static Map getItemsCache() {
+        FacesContext context = FacesContext.getCurrentInstance();
+        if (context == null) {
+            return null;
+        }
+        Map requestMap = context.getExternalContext().getRequestMap();
+        Map cache = (Map) requestMap.get(ITEMS_CACHE);
+        if (cache == null) {
+            cache = new HashMap();
+            requestMap.put(ITEMS_CACHE, cache);
+        }
+        return cache;
+    }
+
+    // ---------------------------------------------------------------- ItemsKey
+    /**
+     * Key of a list of select items built during the request: the provider
+     * instance, the kind of items, the column spec and the provider revision.
+     */
+    private static final class ItemsKey {
+
+        private final DataProvider provider;
+        private final Class kind;
+        private final String columns;
+        private final int revision;
+
+        ItemsKey(DataProvider provider, Class kind, String columns,
+                int revision) {
+            this.provider = provider;
+            this.kind = kind;
+            this.columns = columns;
+            this.revision = revision;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ItemsKey)) {
+                return false;
+            }
+            ItemsKey key = (ItemsKey) obj;
+            return provider == key.provider && kind == key.kind
+                    && revision == key.revision && columns.equals(key.columns);
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(provider) * 31 + kind.hashCode())
+                    * 31 + columns.hashCode() + revision;
+        }
+    }
+
     // --------------------------------------------------------------- ValueData
     /**
      *
@@ -662,68 +775,61 @@ public class DataProviderELResolver extends ELResolver {
              *
              * Any cases that are out-of-scope throw IllegalArgumentException
              */
-            String valueId = null;
-            String labelId = null;
-            String descrId = null;
-
-            List cols = new ArrayList();
-            String col;
-            boolean quoteOpen = false;
-            int currStart = 0;
-            for (int i = 0; i < columns.length(); i++) {
-                char c = columns.charAt(i);
-                if (c == '\'') {
-                    quoteOpen = !quoteOpen;
-                } else if (c == ',' && !quoteOpen) {
-                    col = columns.substring(currStart, i);
-                    if (col.length() > 0) {
-                        cols.add(col);
+            String[] args = parseColumns(columns);
+            String valueId = args[0];
+            String labelId = args.length > 1 ? args[1] : null;
+            String descrId = args.length > 2 ? args[2] : null;
+
+            // The same list is typically asked for several times while a
+            // page is processed; build it once per provider revision.
+            Map cache = getItemsCache();
+            ItemsKey key = null;
+            if (cache != null) {
+                DataProviderRevision revision = DataProviderRevision.getInstance(provider);
+                if (revision != null) {
+                    key = new ItemsKey(provider, getClass(), columns,
+                            revision.getCount());
+                    List items = (List) cache.get(key);
+                    if (items != null) {
+                        return new ArrayList(items);
                     }
-                    currStart = i + 1;
                 }
             }
 
-            //get the remaining stuff after the last period
-            if (currStart < columns.length()) {
-                col = columns.substring(currStart);
-                cols.add(col);
-            }
-
-            String[] args = (String[]) cols.toArray(new String[cols.size()]);
-            if (args.length < 1) {
-                throw new IllegalArgumentException();
-            }
-            valueId = args[0];
-            if (args.length > 1) {
-                labelId = args[1];
-            }
-            if (args.length > 2) {
-                descrId = args[2];
-            }
-
             ArrayList list = new ArrayList();
 
             if (provider instanceof TableDataProvider) {
 
                 TableDataProvider tableProvider = (TableDataProvider) provider;
                 int rowCount = tableProvider.getRowCount();
-                if (rowCount < 0) {
-                    rowCount = 999;
-                }
 
-                RowKey[] rows = tableProvider.getRowKeys(rowCount, null);
+                // When the row count is unknown, read the rows a window
+                // at a time until the provider runs out.
+                int window = rowCount < 0 ? ROW_WINDOW : rowCount;
+                RowKey afterRow = null;
+                while (true) {
+                    RowKey[] rows = tableProvider.getRowKeys(window, afterRow);
+                    if (rows == null) {
+                        break;
+                    }
+
+                    for (int i = 0; i < rows.length; i++) {
 
-                for (int i = 0; i < rows.length; i++) {
+                        Object itemValue = getValue(provider, valueId, rows[i]);
+                        Object itemLabel = getValue(provider, labelId, rows[i]);
+                        Object itemDescr = getValue(provider, descrId, rows[i]);
 
-                    Object itemValue = getValue(provider, valueId, rows[i]);
-                    Object itemLabel = getValue(provider, labelId, rows[i]);
-                    Object itemDescr = getValue(provider, descrId, rows[i]);
+                        Object selectItem = getSelectItem(itemValue, itemLabel, itemDescr);
+                        if (selectItem != null) {
+                            list.add(selectItem);
+                        }
 
-                    Object selectItem = getSelectItem(itemValue, itemLabel, itemDescr);
-                    if (selectItem != null) {
-                        list.add(selectItem);
                     }
 
+                    if (rowCount >= 0 || rows.length < window) {
+                        break;
+                    }
+                    afterRow = rows[rows.length - 1];
                 }
 
             } else {
@@ -738,6 +844,11 @@ public class DataProviderELResolver extends ELResolver {
                 }
 
             }
+
+            if (key != null) {
+                cache.put(key, list);
+                return new ArrayList(list);
+            }
             return list;
         }
     }
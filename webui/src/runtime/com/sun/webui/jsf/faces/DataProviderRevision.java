@@ -0,0 +1,361 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.faces;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Random;
+import java.util.WeakHashMap;
+import com.sun.data.provider.DataListener;
+import com.sun.data.provider.DataProvider;
+import com.sun.data.provider.FieldKey;
+import com.sun.data.provider.RowKey;
+import com.sun.data.provider.TableDataListener;
+import com.sun.data.provider.TableDataProvider;
+import com.sun.data.provider.TransactionalDataListener;
+import com.sun.data.provider.TransactionalDataProvider;
+
+/**
+ * <p>The DataProviderRevision counts the changes a {@link DataProvider}
+ * reports to its listeners, so that results computed from the data of the
+ * provider may be reused until the provider changes. One instance is
+ * registered per provider; use {@link #getInstance} to obtain it.</p>
+ *
+ * <p>The most recent row additions, removals and row value changes of a
+ * {@link TableDataProvider} are remembered, so that results may be patched
+ * rather than computed again; see {@link #getRowChanges}. Any other change
+ * invalidates all earlier revisions.</p>
+ *
+ * <p>The provider references its revision weakly, through a listener which
+ * removes itself from the provider once the revision is no longer used.
+ * A provider which outlives the application therefore does not keep the
+ * classes of the application loaded.</p>
+ *
+ * <p>Note: Changes that do not go through the provider, such as changes to
+ * the objects or list wrapped by the provider, are not seen.</p>
+ */
+public final class DataProviderRevision implements Serializable {
+
+    private static final long serialVersionUID = 4164207317372185012L;
+
+    /**
+     * A row was added to the provider.
+     */
+    public static final int ROW_ADDED = 0;
+
+    /**
+     * A row was removed from the provider.
+     */
+    public static final int ROW_REMOVED = 1;
+
+    /**
+     * A value of a row of the provider was changed.
+     */
+    public static final int ROW_CHANGED = 2;
+
+    // The number of row changes remembered.
+    private static final int LOG_SIZE = 32;
+
+    // The revisions of the providers.
+    private static final Map revisions = new WeakHashMap();
+
+    // Source of the ids telling instances apart.
+    private static final Random ids = new Random();
+
+    // Identifies this instance, so that revisions saved with a previous
+    // instance are not mistaken for revisions of this one.
+    private final long id;
+
+    // The number of changes reported.
+    private int count;
+
+    // Revisions before this one can not be patched.
+    private int base;
+
+    // The most recent row changes, indexed by revision modulo LOG_SIZE.
+    private final RowKey[] rowKeys = new RowKey[LOG_SIZE];
+    private final int[] types = new int[LOG_SIZE];
+
+    // Construct a new revision.
+    private DataProviderRevision() {
+        synchronized (ids) {
+            id = ids.nextLong();
+        }
+    }
+
+    /**
+     * Return the revision of the provider, registering it on first use.
+     *
+     * @param provider The DataProvider to track.
+     * @return The revision of the provider, or null if the provider does not
+     * accept listeners.
+     */
+    public static DataProviderRevision getInstance(DataProvider provider) {
+        if (provider == null) {
+            return null;
+        }
+        synchronized (revisions) {
+            DataProviderRevision revision =
+                    (DataProviderRevision) revisions.get(provider);
+            if (revision != null) {
+                return revision;
+            }
+
+            // A deserialized provider brings its revision along.
+            DataListener[] listeners = provider.getDataListeners();
+            for (int i = 0; listeners != null && i < listeners.length; i++) {
+                if (listeners[i] instanceof Registration) {
+                    revision = ((Registration) listeners[i]).adopt();
+                    if (revision == null) {
+                        ((Registration) listeners[i]).remove(provider);
+                    }
+                    break;
+                }
+            }
+            if (revision == null) {
+                revision = new DataProviderRevision();
+                Registration registration = new Registration(revision);
+                try {
+                    if (provider instanceof TableDataProvider) {
+                        ((TableDataProvider) provider).addTableDataListener(registration);
+                    } else {
+                        provider.addDataListener(registration);
+                    }
+                    if (provider instanceof TransactionalDataProvider) {
+                        ((TransactionalDataProvider) provider).
+                                addTransactionalDataListener(registration);
+                    }
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            }
+            revisions.put(provider, revision);
+            return revision;
+        }
+    }
+
+    /**
+     * Get the id of this instance. Together with the count, the id identifies
+     * a state of the provider.
+     *
+     * @return The id of this instance.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get the number of changes reported by the provider.
+     *
+     * @return The number of changes reported by the provider.
+     */
+    public synchronized int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the row changes made since the given count. Changes are returned
+     * in the order they were made, as pairs of a RowKey and an Integer giving
+     * the type of the change: ROW_ADDED, ROW_REMOVED or ROW_CHANGED.
+     *
+     * @param since A count previously returned by getCount.
+     * @return The changes, or null if other changes were made since then or
+     * the changes are no longer remembered.
+     */
+    public synchronized Object[] getRowChanges(int since) {
+        if (since < base || since < count - LOG_SIZE || since > count) {
+            return null;
+        }
+        Object[] changes = new Object[2 * (count - since)];
+        for (int i = since; i < count; i++) {
+            int n = 2 * (i - since);
+            changes[n] = rowKeys[i % LOG_SIZE];
+            changes[n + 1] = new Integer(types[i % LOG_SIZE]);
+        }
+        return changes;
+    }
+
+    // Record a change of a single row.
+    private synchronized void rowChange(RowKey rowKey, int type) {
+        if (rowKey == null) {
+            change();
+            return;
+        }
+        rowKeys[count % LOG_SIZE] = rowKey;
+        types[count % LOG_SIZE] = type;
+        count++;
+    }
+
+    // Record a change that can not be patched.
+    private synchronized void change() {
+        count++;
+        base = count;
+    }
+
+    /**
+     * Listens to a provider on behalf of a revision. The revision is only
+     * referenced weakly, and is kept by the revisions map for as long as
+     * its provider is in use. Once the revision is gone the registration
+     * removes itself from the provider, on the next change reported.
+     */
+    private static final class Registration implements TableDataListener,
+            TransactionalDataListener, Serializable {
+
+        private static final long serialVersionUID = -2387152206516436045L;
+
+        private transient WeakReference reference;
+
+        // The revision of a deserialized provider, kept until getInstance
+        // adopts it.
+        private transient DataProviderRevision adopted;
+
+        Registration(DataProviderRevision revision) {
+            reference = new WeakReference(revision);
+        }
+
+        // Return the revision, or null if it is gone.
+        DataProviderRevision adopt() {
+            DataProviderRevision revision =
+                    (DataProviderRevision) reference.get();
+            adopted = null;
+            return revision;
+        }
+
+        // Stop listening to the provider.
+        void remove(DataProvider provider) {
+            if (provider instanceof TableDataProvider) {
+                ((TableDataProvider) provider).removeTableDataListener(this);
+            } else {
+                provider.removeDataListener(this);
+            }
+            if (provider instanceof TransactionalDataProvider) {
+                ((TransactionalDataProvider) provider).
+                        removeTransactionalDataListener(this);
+            }
+        }
+
+        // Return the revision of the provider, or null if it is gone, in
+        // which case the registration is removed.
+        private DataProviderRevision getRevision(DataProvider provider) {
+            DataProviderRevision revision =
+                    (DataProviderRevision) reference.get();
+            if (revision == null) {
+                remove(provider);
+            }
+            return revision;
+        }
+
+        public void valueChanged(DataProvider provider, FieldKey fieldKey,
+                Object oldValue, Object newValue) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision == null) {
+                return;
+            }
+            // A value of the cursor row, typically reported as a row change
+            // too.
+            if (provider instanceof TableDataProvider) {
+                revision.rowChange(((TableDataProvider) provider).getCursorRow(),
+                        ROW_CHANGED);
+            } else {
+                revision.change();
+            }
+        }
+
+        public void providerChanged(DataProvider provider) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.change();
+            }
+        }
+
+        public void valueChanged(TableDataProvider provider, FieldKey fieldKey,
+                RowKey rowKey, Object oldValue, Object newValue) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.rowChange(rowKey, ROW_CHANGED);
+            }
+        }
+
+        public void rowAdded(TableDataProvider provider, RowKey rowKey) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.rowChange(rowKey, ROW_ADDED);
+            }
+        }
+
+        public void rowRemoved(TableDataProvider provider, RowKey rowKey) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.rowChange(rowKey, ROW_REMOVED);
+            }
+        }
+
+        public void changesCommitted(TransactionalDataProvider provider) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.change();
+            }
+        }
+
+        public void changesReverted(TransactionalDataProvider provider) {
+            DataProviderRevision revision = getRevision(provider);
+            if (revision != null) {
+                revision.change();
+            }
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeObject(reference.get());
+        }
+
+        private void readObject(ObjectInputStream in)
+                throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            adopted = (DataProviderRevision) in.readObject();
+            reference = new WeakReference(adopted);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.faces;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import com.sun.data.provider.DataProviderException;
+import com.sun.data.provider.FilterCriteria;
+import com.sun.data.provider.RowKey;
+import com.sun.data.provider.TableDataFilter;
+import com.sun.data.provider.TableDataProvider;
+import com.sun.data.provider.impl.BasicTableDataFilter;
+
+/**
+ * <p>The PartitionedTableDataFilter is a {@link TableDataFilter} that gives
+ * the same results as {@link BasicTableDataFilter}, but evaluates the
+ * criteria in a cheaper order and, optionally, in parallel.</p>
+ *
+ * <p>Criteria that evaluate value expressions need the <code>FacesContext</code>
+ * of the request thread; they are always evaluated last, on the calling
+ * thread, and only for rows the other criteria left undecided. The other
+ * criteria are evaluated first. When an <code>ExecutorService</code> has been
+ * set and there are at least <code>parallelThreshold</code> rows, the rows
+ * are split into partitions that are evaluated concurrently. In that case
+ * the provider and those criteria must allow concurrent reads. The order of
+ * the rows is always kept.</p>
+ *
+ * <p>When the criteria are only narrowed, the previous result may be refined
+ * rather than filtering all rows again; see {@link #refine}.</p>
+ *
+ * @see TableDataProvider
+ * @see FilterCriteria
+ */
+public class PartitionedTableDataFilter extends BasicTableDataFilter {
+
+    /**
+     * The default minimum number of rows filtered in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+
+    // The executor used for parallel filtering, or null to filter serially.
+    private transient ExecutorService executor;
+
+    // The minimum number of rows filtered in parallel.
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    // The number of partitions used for parallel filtering.
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Construct a new PartitionedTableDataFilter.
+     */
+    public PartitionedTableDataFilter() {
+    }
+
+    /**
+     * Construct a new PartitionedTableDataFilter which filters in parallel
+     * with the given executor.
+     *
+     * @param executor The executor used for parallel filtering.
+     */
+    public PartitionedTableDataFilter(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the executor used for parallel filtering.
+     *
+     * @return The executor, or null if rows are filtered serially.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Set the executor used for parallel filtering. The executor is not
+     * shut down by this filter.
+     *
+     * @param executor The executor, or null to filter rows serially.
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Get the minimum number of rows filtered in parallel.
+     *
+     * @return The minimum number of rows filtered in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Set the minimum number of rows filtered in parallel.
+     *
+     * @param parallelThreshold The minimum number of rows filtered in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+    }
+
+    /**
+     * Get the number of partitions used for parallel filtering.
+     *
+     * @return The number of partitions.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of partitions used for parallel filtering. Defaults to
+     * the number of available processors.
+     *
+     * @param parallelism The number of partitions.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Filter the given rows against the current filter criteria.
+     *
+     * @param provider The TableDataProvider containing the rows.
+     * @param rows The rows to filter.
+     * @return The matching rows, in their original order.
+     */
+    @Override
+    public RowKey[] filter(TableDataProvider provider, RowKey[] rows)
+            throws DataProviderException {
+        if (filterCriteria == null || filterCriteria.length == 0) {
+            return rows;
+        }
+        return filter(provider, rows, filterCriteria, matchAll);
+    }
+
+    /**
+     * Refine a previous result of this filter after criteria were added.
+     * Only the given criteria are evaluated, over the previously matched
+     * rows. This is only valid when all criteria must match and the data of
+     * the provider did not change since the previous result was computed.
+     *
+     * @param provider The TableDataProvider containing the rows.
+     * @param filteredRows The rows returned by a previous call to filter.
+     * @param addedCriteria The criteria that were added to this filter.
+     * @return The rows that also match the added criteria.
+     * @throws IllegalStateException if not all criteria must match.
+     */
+    public RowKey[] refine(TableDataProvider provider, RowKey[] filteredRows,
+            FilterCriteria[] addedCriteria) throws DataProviderException {
+        if (!matchAll) {
+            throw new IllegalStateException(
+                    "Results can only be refined when all criteria must match"); //NOI18N
+        }
+        if (addedCriteria == null || addedCriteria.length == 0) {
+            return filteredRows;
+        }
+        return filter(provider, filteredRows, addedCriteria, true);
+    }
+
+    /**
+     * Test if the criteria can be evaluated off the request thread. Criteria
+     * that evaluate value expressions need the FacesContext of the request
+     * and return false.
+     *
+     * @param criteria The criteria to test.
+     * @return true if the criteria can be evaluated concurrently.
+     */
+    protected boolean isConcurrent(FilterCriteria criteria) {
+        return !(criteria instanceof ValueExpressionFilterCriteria
+                || criteria instanceof ValueBindingFilterCriteria);
+    }
+
+    // Filter the rows against the given criteria.
+    private RowKey[] filter(TableDataProvider provider, RowKey[] rows,
+            FilterCriteria[] criteria, boolean matchAll) {
+        if (rows == null) {
+            return new RowKey[0];
+        }
+
+        List concurrent = new ArrayList(criteria.length);
+        List requestBound = new ArrayList(criteria.length);
+        for (int i = 0; i < criteria.length; i++) {
+            if (isConcurrent(criteria[i])) {
+                concurrent.add(criteria[i]);
+            } else {
+                requestBound.add(criteria[i]);
+            }
+        }
+
+        // When all criteria must match, a row is decided by the first
+        // criteria it fails; otherwise by the first criteria it matches.
+        boolean[] result = new boolean[rows.length];
+        if (concurrent.isEmpty()) {
+            if (matchAll) {
+                Arrays.fill(result, true);
+            }
+        } else {
+            FilterCriteria[] first = (FilterCriteria[]) concurrent.toArray(
+                    new FilterCriteria[concurrent.size()]);
+            if (executor != null && parallelism > 1
+                    && rows.length >= parallelThreshold) {
+                evaluateParallel(provider, rows, first, matchAll, result);
+            } else {
+                evaluate(provider, rows, first, matchAll, result, 0, rows.length);
+            }
+        }
+
+        if (!requestBound.isEmpty()) {
+            FilterCriteria[] last = (FilterCriteria[]) requestBound.toArray(
+                    new FilterCriteria[requestBound.size()]);
+            for (int i = 0; i < rows.length; i++) {
+                if (result[i] == matchAll) {
+                    result[i] = matches(provider, rows[i], last, matchAll);
+                }
+            }
+        }
+
+        int count = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (result[i]) {
+                count++;
+            }
+        }
+        RowKey[] filteredRows = new RowKey[count];
+        count = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (result[i]) {
+                filteredRows[count++] = rows[i];
+            }
+        }
+        return filteredRows;
+    }
+
+    // Evaluate the partitions on the executor, the first one on this thread.
+    private void evaluateParallel(final TableDataProvider provider,
+            final RowKey[] rows, final FilterCriteria[] criteria,
+            final boolean matchAll, final boolean[] result) {
+        int parts = Math.min(parallelism, rows.length);
+        int size = (rows.length + parts - 1) / parts;
+        List futures = new ArrayList(parts);
+        try {
+            for (int from = size; from < rows.length; from += size) {
+                final int start = from;
+                final int end = Math.min(from + size, rows.length);
+                Callable task = new Callable() {
+
+                    public Object call() {
+                        evaluate(provider, rows, criteria, matchAll, result,
+                                start, end);
+                        return null;
+                    }
+                };
+                try {
+                    futures.add(executor.submit(task));
+                } catch (RejectedExecutionException e) {
+                    evaluate(provider, rows, criteria, matchAll, result,
+                            start, end);
+                }
+            }
+            evaluate(provider, rows, criteria, matchAll, result, 0,
+                    Math.min(size, rows.length));
+
+            for (int i = 0; i < futures.size(); i++) {
+                ((Future) futures.get(i)).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataProviderException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DataProviderException(cause);
+        } finally {
+            for (int i = 0; i < futures.size(); i++) {
+                ((Future) futures.get(i)).cancel(true);
+            }
+        }
+    }
+
+    // Evaluate the criteria for the rows from start up to end.
+    private static void evaluate(TableDataProvider provider, RowKey[] rows,
+            FilterCriteria[] criteria, boolean matchAll, boolean[] result,
+            int start, int end) {
+        for (int i = start; i < end; i++) {
+            result[i] = matches(provider, rows[i], criteria, matchAll);
+        }
+    }
+
+    // Test the row against the criteria, stopping once the row is decided.
+    private static boolean matches(TableDataProvider provider, RowKey row,
+            FilterCriteria[] criteria, boolean matchAll) {
+        for (int i = 0; i < criteria.length; i++) {
+            boolean match = criteria[i].match(provider, row);
+            if (match != criteria[i].isInclude()) {
+                if (matchAll) {
+                    return false;
+                }
+            } else if (!matchAll) {
+                return true;
+            }
+        }
+        return matchAll;
+    }
+}
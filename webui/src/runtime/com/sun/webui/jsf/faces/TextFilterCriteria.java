@@ -0,0 +1,146 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.faces;
+
+import com.sun.data.provider.FilterCriteria;
+import com.sun.data.provider.RowKey;
+import com.sun.data.provider.SortCriteria;
+import com.sun.data.provider.TableDataProvider;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * <p>The TextFilterCriteria class matches the rows in which the text of any
+ * of the values given by a set of {@link SortCriteria} contains a given
+ * text, ignoring case. Only text values are searched; numbers, dates and
+ * boolean values are not.</p>
+ *
+ * <p>This is the filter applied by the browser to tables which are sorted,
+ * filtered and paginated in the browser, so that the rows it shows are the
+ * rows matched on the server when the page is submitted.</p>
+ */
+public class TextFilterCriteria extends FilterCriteria {
+
+    private static final long serialVersionUID = -2286173474893371513L;
+
+    // The text to search for, in lower case.
+    private String text;
+
+    // The SortCriteria objects giving the values to search.
+    private SortCriteria[] criteria;
+
+    /**
+     * Construct a TextFilterCriteria.
+     *
+     * @param text The text to search for.
+     * @param criteria The SortCriteria objects giving the values to search.
+     */
+    public TextFilterCriteria(String text, SortCriteria[] criteria) {
+        this.text = (text != null) ? text.toLowerCase(Locale.ENGLISH) : ""; //NOI18N
+        this.criteria = criteria;
+    }
+
+    /**
+     * Get the text to search for, in lower case.
+     *
+     * @return The text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Get the SortCriteria objects giving the values to search.
+     *
+     * @return The SortCriteria objects.
+     */
+    public SortCriteria[] getSortCriteria() {
+        return criteria;
+    }
+
+    /**
+     * Get the text of a value, as searched by this filter.
+     *
+     * @param value The value.
+     * @return The text of the value, or null if it is not searched.
+     */
+    public static String getText(Object value) {
+        if (value == null || value instanceof Number || value instanceof Date
+                || value instanceof Boolean) {
+            return null;
+        }
+        return value.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayName() {
+        String name = super.getDisplayName();
+        if (name != null && name.length() > 0) {
+            return name;
+        }
+        return (isInclude() ? "Include [" : "Exclude [") + text + "]"; //NOI18N
+    }
+
+    /**
+     * <p>This method matches a row if the text of any value given by the
+     * SortCriteria objects for the row contains the text, ignoring case.
+     * Every row is matched if the text is empty.</p>
+     *
+     * {@inheritDoc}
+     */
+    public boolean match(TableDataProvider provider, RowKey row) {
+        if (text.length() == 0 || criteria == null) {
+            return true;
+        }
+        for (int i = 0; i < criteria.length; i++) {
+            if (criteria[i] == null) {
+                continue;
+            }
+            String value = getText(criteria[i].getSortValue(provider, row));
+            if (value != null
+                    && value.toLowerCase(Locale.ENGLISH).indexOf(text) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -43,11 +43,11 @@ package com.sun.webui.jsf.model;
 import java.io.Serializable;
 import java.io.File;
 import java.text.Collator;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Vector;
@@ -56,6 +56,7 @@ import javax.faces.application.FacesMessage;
 import javax.faces.context.FacesContext;
 import com.sun.webui.jsf.component.FileChooser;
 import com.sun.webui.theme.Theme;
+import com.sun.webui.jsf.util.DateFormatUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.FilterUtil;
 
@@ -489,19 +490,8 @@ public class FileChooserModel implements ResourceModel, Serializable {
 
         Locale locale = context.getViewRoot().getLocale();
 
-        DateFormat dateFormat =
-                SimpleDateFormat.getDateInstance(DateFormat.SHORT, locale);
         String defaultPattern =
-                ((SimpleDateFormat) dateFormat).toLocalizedPattern();
-        if (defaultPattern.indexOf("yyyy") == -1) {
-            defaultPattern = defaultPattern.replaceFirst("yy", "yyyy"); //NOI18N
-        }
-        if (defaultPattern.indexOf("MM") == -1) {
-            defaultPattern = defaultPattern.replaceFirst("M", "MM"); //NOI18N
-        }
-        if (defaultPattern.indexOf("dd") == -1) {
-            defaultPattern = defaultPattern.replaceFirst("d", "dd"); //NOI18N
-        }
+                DateFormatUtilities.getLocalizedShortDatePattern(locale);
 
         try {
             defaultPattern = ThemeUtilities.getTheme(context).getMessage("filechooser.".concat(defaultPattern));
@@ -509,11 +499,6 @@ public class FileChooserModel implements ResourceModel, Serializable {
             defaultPattern = "MM/dd/yyyy"; //NOI18N
         }
 
-        ((SimpleDateFormat) dateFormat).applyPattern(defaultPattern);
-
-        SimpleDateFormat timeFormat =
-                new SimpleDateFormat(theme.getMessage("filechooser.timeFormat"), locale);
-
         String name = file.getName();
         String value = null;
         if (file.isDirectory()) {
@@ -526,8 +511,10 @@ public class FileChooserModel implements ResourceModel, Serializable {
         String size = Long.toString(file.length());
         size = getDisplayString(size, fileSizeLen);
         Date modifiedDate = new Date(file.lastModified());
-        String date = dateFormat.format(modifiedDate);
-        String time = timeFormat.format(modifiedDate);
+        String date = DateFormatUtilities.format(modifiedDate, defaultPattern,
+                locale);
+        String time = DateFormatUtilities.format(modifiedDate,
+                theme.getMessage("filechooser.timeFormat"), locale); //NOI18N
         StringBuffer buffer = new StringBuffer(128);
         buffer.append(name).append(SPACE).append(SPACE).append(SPACE).append(size).append(SPACE).append(SPACE).append(date).append(SPACE).append(time);
         FileChooserItem item = new FileChooserItem(file);
@@ -557,11 +544,6 @@ public class FileChooserModel implements ResourceModel, Serializable {
         return str;
     }
 
-    interface SortRule {
-
-        public boolean compare(File f1, File f2);
-    }
-
     /**
      * This module sorts the files and dirs in a given directory
      * according to the sort field selected by the user.
@@ -570,7 +552,7 @@ public class FileChooserModel implements ResourceModel, Serializable {
      * alphabetical order. If the sort field is TIME the file will be
      * sorted in ascending order with the earliest modified file first.
      * if the sort field is SIZE, the files will be sorted by size with
-     * the smallest first. The bubble sort algorithm is being used here.
+     * the smallest first. Files which compare equal keep their order.
      * @param fileList array of files to be sorted
      * @param sortValue ths field to be sorted oin
      */
@@ -593,88 +575,64 @@ public class FileChooserModel implements ResourceModel, Serializable {
             sortValue = FileChooser.ALPHABETIC_ASC;
         }
 
-        // check if the two files being compared are already
-        // in the desired order
-
-        SortRule sr = null;
-        if (sortValue.equals(FileChooser.ALPHABETIC_ASC)) {
-            sr = new SortRule() {
-
-                public boolean compare(File file1, File file2) {
-                    return (collator.compare(file1.getName(),
-                            file2.getName()) >= 0);
-                }
-            };
-        } else if (sortValue.equals(FileChooser.ALPHABETIC_DSC)) {
-            sr = new SortRule() {
+        final Collator nameCollator = collator;
+        Comparator comparator = null;
+        if (sortValue.equals(FileChooser.ALPHABETIC_DSC)) {
+            comparator = new Comparator() {
 
-                public boolean compare(File file1, File file2) {
-                    return (collator.compare(file2.getName(),
-                            file1.getName()) >= 0);
-                }
-            };
-        } else if (sortValue.equals(FileChooser.SIZE_ASC)) {
-            sr = new SortRule() {
-
-                public boolean compare(File file1, File file2) {
-                    if (file1.length() == file2.length()) {
-                        return (collator.compare(file1.getName(),
-                                file2.getName()) >= 0);
-                    } else {
-                        return (file1.length() > file2.length());
-                    }
+                public int compare(Object o1, Object o2) {
+                    return nameCollator.compare(((File) o2).getName(),
+                            ((File) o1).getName());
                 }
             };
-        } else if (sortValue.equals(FileChooser.SIZE_DSC)) {
-            sr = new SortRule() {
-
-                public boolean compare(File file1, File file2) {
-                    if (file1.length() == file2.length()) {
-                        return (collator.compare(file1.getName(),
-                                file2.getName()) >= 0);
-                    } else {
-                        return (file1.length() < file2.length());
+        } else if (sortValue.equals(FileChooser.SIZE_ASC)
+                || sortValue.equals(FileChooser.SIZE_DSC)) {
+            final boolean ascending = sortValue.equals(FileChooser.SIZE_ASC);
+            comparator = new Comparator() {
+
+                public int compare(Object o1, Object o2) {
+                    File file1 = (File) o1;
+                    File file2 = (File) o2;
+                    long length1 = file1.length();
+                    long length2 = file2.length();
+                    if (length1 == length2) {
+                        return nameCollator.compare(file1.getName(),
+                                file2.getName());
                     }
+                    return (length1 < length2) == ascending ? -1 : 1;
                 }
             };
-        } else if (sortValue.equals(FileChooser.LASTMODIFIED_ASC)) {
-            sr = new SortRule() {
-
-                public boolean compare(File file1, File file2) {
-                    if (file1.lastModified() == file2.lastModified()) {
-                        return (collator.compare(file1.getName(),
-                                file2.getName()) >= 0);
-                    } else {
-                        return (file1.lastModified() > file2.lastModified());
+        } else if (sortValue.equals(FileChooser.LASTMODIFIED_ASC)
+                || sortValue.equals(FileChooser.LASTMODIFIED_DSC)) {
+            final boolean ascending =
+                    sortValue.equals(FileChooser.LASTMODIFIED_ASC);
+            comparator = new Comparator() {
+
+                public int compare(Object o1, Object o2) {
+                    File file1 = (File) o1;
+                    File file2 = (File) o2;
+                    long modified1 = file1.lastModified();
+                    long modified2 = file2.lastModified();
+                    if (modified1 == modified2) {
+                        return nameCollator.compare(file1.getName(),
+                                file2.getName());
                     }
+                    return (modified1 < modified2) == ascending ? -1 : 1;
                 }
             };
-        } else if (sortValue.equals(FileChooser.LASTMODIFIED_DSC)) {
-            sr = new SortRule() {
-
-                public boolean compare(File file1, File file2) {
-                    if (file1.lastModified() == file2.lastModified()) {
-                        return (collator.compare(file1.getName(),
-                                file2.getName()) >= 0);
-                    } else {
-                        return (file1.lastModified() < file2.lastModified());
-                    }
+        } else {
+            comparator = new Comparator() {
+
+                public int compare(Object o1, Object o2) {
+                    return nameCollator.compare(((File) o1).getName(),
+                            ((File) o2).getName());
                 }
             };
         }
 
-        // sort the file using bubble sort
-        for (int i = fileList.length - 1; i >= 0; i--) {
-            for (int j = 0; j < i; j++) {
-
-                // if not swap them
-                if (sr.compare(fileList[j], fileList[j + 1])) {
-                    File tmp = fileList[j];
-                    fileList[j] = fileList[j + 1];
-                    fileList[j + 1] = tmp;
-                }
-            }
-        }
+        // A merge sort; the bubble sort used before made a folder of a few
+        // thousand files take seconds to list.
+        Arrays.sort(fileList, comparator);
     }
 
     // This was returning "getCurrentDir" on exception and if there
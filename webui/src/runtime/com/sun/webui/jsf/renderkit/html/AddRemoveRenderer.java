@@ -55,6 +55,7 @@ import com.sun.webui.jsf.component.ListSelector;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.html.HTMLAttributes;
@@ -178,22 +179,20 @@ public class AddRemoveRenderer extends ListRendererBase {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("addRemove")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("addRemove")).append("'], function (addRemove) {").append("\n")
 //                    .append(JavaScriptUtilities.getModuleName("addRemove.init")) // NOI18N
-                    .append("addRemove.init") // NOI18N
+            buff.append("addRemove.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n") //NOI18N
+                    .append(json.toString()).append(");\n") //NOI18N
                     .append(jsObject).append(AddRemove.UPDATEBUTTONS_FUNCTION);
 
             if (component.isDuplicateSelections()) {
                 buff.append("\n") //NOI18N
                         .append(jsObject).append(AddRemove.MULTIPLEADDITIONS_FUNCTION);
             }
-            buff.append("});");
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "addRemove", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
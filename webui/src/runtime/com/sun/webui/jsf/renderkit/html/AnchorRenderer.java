@@ -146,8 +146,10 @@ public class AnchorRenderer extends AbstractRenderer {
     protected void renderEnd(FacesContext context, UIComponent component,
             ResponseWriter writer) throws IOException {
 
+        // Only Internet Explorer before version 9 needs the image to make
+        // the anchor a target; standards based browsers get smaller pages.
         ClientSniffer sniffer = ClientSniffer.getInstance(context);
-        if (sniffer.isIe6up() || sniffer.isIe7() || sniffer.isIe7up()) {
+        if (sniffer.isIe6up() && sniffer.isIeLegacy()) {
             Icon icon = new Icon();
             icon.setIcon(ThemeImages.DOT);
             icon.setId(component.getId() + ANCHOR_IMAGE);
@@ -43,12 +43,14 @@ package com.sun.webui.jsf.renderkit.html;
 import com.sun.faces.annotation.Renderer;
 import com.sun.webui.jsf.component.Body;
 import com.sun.webui.jsf.component.ComplexComponent;
+import com.sun.webui.jsf.util.ComponentIdIndex;
 import com.sun.webui.jsf.util.CookieUtils;
 import com.sun.webui.jsf.util.FocusManager;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.MessageUtil;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
 import com.sun.webui.jsf.util.RenderingUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.theme.Theme;
 import java.io.IOException;
@@ -135,6 +137,10 @@ public class BodyRenderer extends AbstractRenderer {
         }
 
         writer.startElement("body", component); //NOI18N  
+
+        // Collect the initialization scripts of the components in the body,
+        // which are rendered together before the body ends.
+        ScriptCollector.collectScripts(context, component);
     }
 
     /**
@@ -281,6 +287,7 @@ public class BodyRenderer extends AbstractRenderer {
                 .append(");"); //NOI18N
 
         // Render JavaScript.
+        ScriptCollector.renderScripts(context, component, writer);
         JavaScriptUtilities.renderJavaScript(component, writer,
                 buff.toString());
 
@@ -330,7 +337,8 @@ public class BodyRenderer extends AbstractRenderer {
             // will recurse to find the appropriate sub-component id.
             // to return.
             //
-            UIComponent comp = context.getViewRoot().findComponent(absid);
+            UIComponent comp = ComponentIdIndex.findComponent(context,
+                    context.getViewRoot(), absid);
             if (comp != null && comp instanceof ComplexComponent) {
                 id = ((ComplexComponent) comp).getFocusElementId(context);
             }
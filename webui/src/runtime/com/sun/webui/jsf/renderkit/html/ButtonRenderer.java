@@ -45,11 +45,15 @@ import com.sun.webui.jsf.component.Button;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ConversionUtilities;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.EventDelegation;
+import com.sun.webui.jsf.util.PropertySnapshot;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import java.io.IOException;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import javax.el.ELContext;
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
@@ -127,6 +131,44 @@ public class ButtonRenderer extends AbstractRenderer {
         }
     }
 
+    /**
+     * Render the beginning of the button, evaluating each property of the
+     * button at most once until it is rendered.
+     *
+     * @param context <code>FacesContext</code> for the current request
+     * @param component <code>UIComponent</code> to be rendered
+     *
+     * @exception IOException if an input/output error occurs
+     */
+    @Override
+    public void encodeBegin(FacesContext context, UIComponent component)
+            throws IOException {
+        if (context != null && component != null) {
+            PropertySnapshot.begin(context, component);
+        }
+        super.encodeBegin(context, component);
+    }
+
+    /**
+     * Render the ending of the button.
+     *
+     * @param context <code>FacesContext</code> for the current request
+     * @param component <code>UIComponent</code> to be rendered
+     *
+     * @exception IOException if an input/output error occurs
+     */
+    @Override
+    public void encodeEnd(FacesContext context, UIComponent component)
+            throws IOException {
+        try {
+            super.encodeEnd(context, component);
+        } finally {
+            if (context != null && component != null) {
+                PropertySnapshot.end(context, component);
+            }
+        }
+    }
+
     /**
      * Render the appropriate element start.
      *
@@ -176,22 +218,33 @@ public class ButtonRenderer extends AbstractRenderer {
         String style = getStyle(button, ThemeUtilities.getTheme(context));
         RenderingUtilities.renderStyleClass(context, writer, button, style);
 
-        String js = getJavascript(button.getOnBlur(), "onblur"); //NOI18N
+        // The listener of the form handles the events of a delegated
+        // button; only the scripts of the page author are rendered.
+        boolean delegated = EventDelegation.isDelegated(context, component);
+        if (delegated) {
+            getDelegatedButtons(context).put(component, Boolean.TRUE);
+        }
+
+        String js = delegated ? button.getOnBlur()
+                : getJavascript(button.getOnBlur(), "onblur"); //NOI18N
         if (js != null) {
             writer.writeAttribute("onblur", js, "onBlur"); //NOI18N
         }
 
-        js = getJavascript(button.getOnFocus(), "onfocus");  //NOI18N
+        js = delegated ? button.getOnFocus()
+                : getJavascript(button.getOnFocus(), "onfocus");  //NOI18N
         if (js != null) {
             writer.writeAttribute("onfocus", js, "onFocus"); //NOI18N
         }
 
-        js = getJavascript(button.getOnMouseOut(), "onmouseout");  //NOI18N
+        js = delegated ? button.getOnMouseOut()
+                : getJavascript(button.getOnMouseOut(), "onmouseout");  //NOI18N
         if (js != null) {
             writer.writeAttribute("onmouseout", js, "onMouseOut"); //NOI18N
         }
 
-        js = getJavascript(button.getOnMouseOver(), "onmouseover");  //NOI18N
+        js = delegated ? button.getOnMouseOver()
+                : getJavascript(button.getOnMouseOver(), "onmouseover");  //NOI18N
         if (js != null) {
             writer.writeAttribute("onmouseover", js, "onMouseOver"); //NOI18N
         }
@@ -215,6 +268,12 @@ public class ButtonRenderer extends AbstractRenderer {
             addStringAttributes(context, component, writer, inputAttributes);
         }
 
+        // Render the properties the listener of the form initializes a
+        // delegated button with.
+        if (delegated) {
+            writer.writeAttribute("data-button", getButtonFlags(button), null); //NOI18N
+        }
+
         // Note: Text attributes must be assigned last because the starting
         // element may be closed here -- see bugtraq #6315893.
         String imageURL = button.getImageURL();
@@ -250,6 +309,11 @@ public class ButtonRenderer extends AbstractRenderer {
             writer.endElement("button"); //NOI18N
         }
 
+        // The listener of the form initializes a delegated button.
+        if (getDelegatedButtons(context).remove(component) != null) {
+            return;
+        }
+
         try {
             // Append button properties.
             StringBuffer buff = new StringBuffer(256);
@@ -258,13 +322,11 @@ public class ButtonRenderer extends AbstractRenderer {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModuleName("button.init")).append("(").append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");");
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("button")).append("'], function (button) {").append("\n")
-                    .append("button.init").append("(").append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");")
-                    .append("});");
+            buff.append("button.init").append("(").append(json.toString()).append(");");
             
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "button", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
@@ -485,6 +547,46 @@ public class ButtonRenderer extends AbstractRenderer {
         return style;
     }
 
+    /**
+     * Get the space separated properties of a delegated button, as read by
+     * the listener of the form.
+     *
+     * @param button The button being rendered.
+     */
+    private String getButtonFlags(Button button) {
+        StringBuffer buff = new StringBuffer(32);
+        if (button.isMini()) {
+            buff.append("mini "); //NOI18N
+        }
+        if (button.isDisabled()) {
+            buff.append("disabled "); //NOI18N
+        }
+        if (!button.isPrimary()) {
+            buff.append("secondary "); //NOI18N
+        }
+        if (button.getImageURL() != null || button.getIcon() != null) {
+            buff.append("icon "); //NOI18N
+        }
+        return buff.toString().trim();
+    }
+
+    /**
+     * Return the delegated buttons being rendered, kept in the ELContext of
+     * the request so that renderEnd knows the delegation renderAttributes
+     * found without testing it again.
+     *
+     * @param context <code>FacesContext</code> for the current request
+     */
+    private Map getDelegatedButtons(FacesContext context) {
+        ELContext elContext = context.getELContext();
+        Map buttons = (Map) elContext.getContext(ButtonRenderer.class);
+        if (buttons == null) {
+            buttons = new IdentityHashMap();
+            elContext.putContext(ButtonRenderer.class, buttons);
+        }
+        return buttons;
+    }
+
     /**
      * Helper method to set style classes during Javascript events such as
      * onblur, onfocus, onmouseover, and onmouseout.
@@ -42,8 +42,13 @@ package com.sun.webui.jsf.renderkit.html;
 
 import com.sun.faces.annotation.Renderer;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -57,9 +62,12 @@ import com.sun.webui.jsf.component.DropDown;
 import com.sun.webui.jsf.component.Icon;
 import com.sun.webui.jsf.component.IconHyperlink;
 import com.sun.webui.jsf.model.Option;
+import com.sun.webui.jsf.model.ScheduledEvent;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.BoundedCache;
+import com.sun.webui.jsf.util.DateFormatUtilities;
 import com.sun.webui.jsf.util.MessageUtil;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
@@ -164,154 +172,107 @@ public class CalendarMonthRenderer extends AbstractRenderer {
             String[] styles, DateFormat dateFormat, ResponseWriter writer)
             throws IOException {
 
-        // now render each week in a row with each day in a td
-        Calendar monthToShow = calendarMonth.getCalendar();
-        monthToShow.set(Calendar.YEAR,
-                calendarMonth.getCurrentYear().intValue());
-        monthToShow.set(Calendar.MONTH,
-                calendarMonth.getCurrentMonth().intValue() - 1);
-        monthToShow.set(Calendar.DAY_OF_MONTH, 1);
+        MonthGrid grid = MonthGrid.getInstance(calendarMonth, dateFormat);
 
-        if (DEBUG) {
-            log("Month to show " + monthToShow.getTime().toString());
-        }
-        // get the int constant repsenting the day of the week (i.e. SUNDAY)
-        int weekStartDay = monthToShow.getFirstDayOfWeek();
-
-        // Get the startDate
-        Calendar startDate = (Calendar) (monthToShow.clone());
-        while (startDate.get(Calendar.DAY_OF_WEEK) != weekStartDay) {
-            startDate.add(Calendar.DATE, -1);
-            startDate.getTime();
-        }
-        if (DEBUG) {
-            log("First day " + startDate.getTime().toString());
-        }
-
-        // Get the end date
-        Calendar endDate = (Calendar) (monthToShow.clone());
-        endDate.add(Calendar.MONTH, 1);
-        endDate.getTime();
-
-        if (endDate.get(Calendar.DAY_OF_WEEK) == weekStartDay) {
-            endDate.add(Calendar.DATE, -1);
-            endDate.getTime();
-        } else {
-            while (endDate.get(Calendar.DAY_OF_WEEK) != weekStartDay) {
-                endDate.add(Calendar.DATE, 1);
-                endDate.getTime();
-            }
-            endDate.add(Calendar.DATE, -1);
-            endDate.getTime();
-        }
-        if (DEBUG) {
-            log("Last day " + endDate.getTime().toString());
-        }
+        // Overlay the selected dates and today on the shared grid.
+        boolean[] selected = getSelectedCells(calendarMonth, grid);
+        int today = grid.indexOf(calendarMonth.getCalendar());
 
         String rowIdPrefix = id.concat(":row");
         String dateLinkPrefix = id.concat(":dateLink");
-        boolean selected;
-        boolean dayInMonth;
-        int displayedMonth = monthToShow.get(Calendar.MONTH);
-        Calendar todaysDate = calendarMonth.getCalendar();
-
-        int dateLinkId = 0;
-        int rowNum = 0;
-        while (startDate.before(endDate)) {
+        String scriptObject = calendarMonth.getJavaScriptObjectName();
+        boolean popup = calendarMonth.isPopup();
+
+        int cell = 0;
+        for (int rowNum = 0; rowNum < grid.rows; rowNum++) {
             writer.startElement("tr", calendarMonth);
-            String rowId = rowIdPrefix + rowNum++;
-            writer.writeAttribute("id", rowId, null); // NOI18N
+            writer.writeAttribute("id", rowIdPrefix + rowNum, null); // NOI18N
+            // The last row only pads the table to six weeks.
+            if (rowNum == grid.weeks) {
+                writer.writeAttribute("style", "display:none;", null); // NOI18N
+            }
             writer.write("\n");
 
-            for (int i = 0; i < 7; ++i) {
-
-                if (DEBUG) {
-                    log("Now rendering " + startDate.getTime().toString());
-                }
-                selected = calendarMonth.isDateSelected(startDate, endDate);
-
-                dayInMonth = (startDate.get(Calendar.MONTH) == displayedMonth);
-
+            for (int i = 0; i < 7; ++i, ++cell) {
                 String style = styles[17];
-
-                if (selected) {
-                    if (dayInMonth) {
-                        style = styles[18];
-                    } else {
-                        style = styles[19];
-                    }
-                } else if (dayInMonth) {
-                    if (calendarMonth.compareDate(startDate, todaysDate)) {
-                        style = styles[20];
-                    } else {
-                        style = styles[16];
+                if (rowNum < grid.weeks) {
+                    boolean dayInMonth = grid.inMonth[cell];
+                    if (selected != null && selected[cell]) {
+                        style = dayInMonth ? styles[18] : styles[19];
+                    } else if (dayInMonth) {
+                        style = (cell == today) ? styles[20] : styles[16];
                     }
-                } else if (DEBUG) {
-                    log("Date is outside month and selected");
                 }
-
-                renderDateLink(startDate, style,
-                        dateLinkPrefix.concat(String.valueOf(dateLinkId)),
-                        calendarMonth,
-                        dateFormat, writer);
-
-                dateLinkId++;
-                startDate.add(Calendar.DAY_OF_YEAR, 1);
-                startDate.getTime();
+                renderDateLink(grid, cell, style,
+                        dateLinkPrefix.concat(String.valueOf(cell)),
+                        calendarMonth, scriptObject, popup, writer);
             }
             writer.endElement("tr"); //NOI18N
             writer.write("\n");
         }
-        if (rowNum < 6) {
-            writer.startElement("tr", calendarMonth);
-            String rowId = rowIdPrefix + rowNum++;
-            writer.writeAttribute("id", rowId, null); // NOI18N
-            writer.writeAttribute("style", "display:none;", null); // NOI18N
-            writer.write("\n");
-
-            for (int i = 0; i < 7; ++i) {
-                renderDateLink(startDate, styles[17],
-                        dateLinkPrefix.concat(String.valueOf(dateLinkId)),
-                        calendarMonth, dateFormat, writer);
+    }
 
-                dateLinkId++;
-                startDate.add(Calendar.DAY_OF_YEAR, 1);
-                startDate.getTime();
+    // Return which cells of the grid show a selected date, or null if
+    // no date is selected.
+    private boolean[] getSelectedCells(CalendarMonth calendarMonth,
+            MonthGrid grid) {
+
+        Object value = calendarMonth.getValue();
+        boolean[] selected = null;
+        if (value instanceof Date) {
+            Calendar calendar = calendarMonth.getCalendar();
+            calendar.setTime((Date) value);
+            int cell = grid.indexOf(calendar);
+            if (cell != -1) {
+                selected = new boolean[grid.inMonth.length];
+                selected[cell] = true;
+            }
+        } else if (value instanceof ScheduledEvent) {
+            Calendar endDate = calendarMonth.getCalendar();
+            endDate.set(grid.endYear, grid.endMonth, grid.endDay);
+            endDate.getTime();
+            Iterator dates = ((ScheduledEvent) value).getDates(endDate);
+            while (dates.hasNext()) {
+                int cell = grid.indexOf((Calendar) dates.next());
+                if (cell != -1) {
+                    if (selected == null) {
+                        selected = new boolean[grid.inMonth.length];
+                    }
+                    selected[cell] = true;
+                }
             }
-            writer.endElement("tr"); //NOI18N
-            writer.write("\n");
         }
+        return selected;
     }
 
-    private void renderDateLink(Calendar startDate,
+    private void renderDateLink(MonthGrid grid, int cell,
             String style,
             String id,
             CalendarMonth calendarMonth,
-            DateFormat dateFormat,
+            String scriptObject,
+            boolean popup,
             ResponseWriter writer) throws IOException {
 
         writer.startElement("td", calendarMonth);//NOI18N
         writer.writeAttribute("align", "center", null); // NOI18N
         writer.writeText("\n", null);//NOI18N
 
-        int day = startDate.get(Calendar.DAY_OF_MONTH);
-
         // For performance reasons, don't create a hyperlink component
         // for each date...
         writer.startElement("a", calendarMonth); //NOI18N
         writer.writeAttribute("class", style, null); //NOI18N
         writer.writeAttribute("id", id, null); //NOI18N
 
-        String dateString = dateFormat.format(startDate.getTime());
+        String dateString = grid.titles[cell];
         writer.writeAttribute("title", dateString, null); //NOI18N
 
         StringBuffer buffer = new StringBuffer(128);
 
-        if (calendarMonth.isPopup()) {
-            buffer.append(calendarMonth.getJavaScriptObjectName());
+        if (popup) {
+            buffer.append(scriptObject);
             buffer.append(".dayClicked(this); return false;");
         } else {
-            buffer.append(calendarMonth.getJavaScriptObjectName());
+            buffer.append(scriptObject);
             buffer.append(".setDateValue('");
             buffer.append(dateString);
             buffer.append("', this); return false;");
@@ -319,7 +280,7 @@ public class CalendarMonthRenderer extends AbstractRenderer {
 
         writer.writeAttribute("onclick", buffer.toString(), null); //NOI18N
         writer.writeAttribute("href", "#", null); //NOI18N
-        writer.write(String.valueOf(day));
+        writer.write(grid.days[cell]);
         writer.endElement("a");  //NOI18N
         writer.write("\n"); //NOI18N
         writer.endElement("td"); //NOI18N
@@ -444,15 +405,13 @@ public class CalendarMonthRenderer extends AbstractRenderer {
         writer.startElement("div", calendarMonth);//NOI18N
         writer.writeAttribute("class", styles[24], null); //NOI18N
 
-        DateFormat dateFormat =
-                SimpleDateFormat.getDateInstance(DateFormat.MEDIUM,
-                context.getViewRoot().getLocale());
-        dateFormat.setTimeZone((TimeZone) (calendarMonth.getTimeZone()));
         Date today = calendarMonth.getCalendar().getTime();
         if (DEBUG) {
             log("Today is " + today.toString());
         }
-        String[] detailArg = {dateFormat.format(today)};
+        String[] detailArg = {DateFormatUtilities.formatDate(today,
+                DateFormat.MEDIUM, context.getViewRoot().getLocale(),
+                (TimeZone) (calendarMonth.getTimeZone()))};
         String detailMsg = theme.getMessage("CalendarMonth.todayIs", detailArg);
         writer.writeText(detailMsg, null);
 
@@ -991,4 +950,201 @@ public class CalendarMonthRenderer extends AbstractRenderer {
 
         super.decode(context, component);
     }
+
+    /**
+     * The cells of a displayed month: the weeks of the month plus a hidden
+     * padding week when the month spans fewer than six weeks. A grid only
+     * depends on the month, the calendar settings and the date format, so
+     * it is shared by all CalendarMonth components that display the same
+     * month. Selection and today are applied per render.
+     */
+    private static final class MonthGrid {
+
+        // The maximum number of grids to cache.
+        private static final int CACHE_SIZE = 256;
+
+        // Cached grids, keyed by GridKey.
+        private static final BoundedCache gridCache =
+                new BoundedCache(CACHE_SIZE);
+
+        // Number of weeks of the month, and of rows including padding.
+        final int weeks;
+        final int rows;
+
+        // Per cell: day of month text, date text and whether it is in the
+        // displayed month.
+        final String[] days;
+        final String[] titles;
+        final boolean[] inMonth;
+
+        // The last visible day.
+        final int endYear;
+        final int endMonth;
+        final int endDay;
+
+        // The visible cells by year, month and day, see getDateKey.
+        private final Map cellIndex = new HashMap();
+
+        static MonthGrid getInstance(CalendarMonth calendarMonth,
+                DateFormat dateFormat) {
+
+            Calendar monthToShow = calendarMonth.getCalendar();
+            monthToShow.set(Calendar.YEAR,
+                    calendarMonth.getCurrentYear().intValue());
+            monthToShow.set(Calendar.MONTH,
+                    calendarMonth.getCurrentMonth().intValue() - 1);
+            monthToShow.set(Calendar.DAY_OF_MONTH, 1);
+
+            // A pattern with time fields formats the time of day of the
+            // current render, which cannot be shared.
+            String pattern = (dateFormat instanceof SimpleDateFormat)
+                    ? ((SimpleDateFormat) dateFormat).toPattern() : null;
+            if (pattern == null || hasTimeFields(pattern)) {
+                return new MonthGrid(monthToShow, dateFormat);
+            }
+
+            GridKey key = new GridKey(monthToShow,
+                    FacesContext.getCurrentInstance().getViewRoot().getLocale(),
+                    pattern);
+            MonthGrid grid = (MonthGrid) gridCache.get(key);
+            if (grid == null) {
+                grid = (MonthGrid) gridCache.put(key,
+                        new MonthGrid(monthToShow, dateFormat));
+            }
+            return grid;
+        }
+
+        // Return true if the pattern has letters outside quotes that
+        // format a time of day.
+        private static boolean hasTimeFields(String pattern) {
+            boolean quoted = false;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (!quoted && "aHkKhmsSzZ".indexOf(c) != -1) { //NOI18N
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private MonthGrid(Calendar monthToShow, DateFormat dateFormat) {
+
+            // get the int constant repsenting the day of the week (i.e. SUNDAY)
+            int weekStartDay = monthToShow.getFirstDayOfWeek();
+
+            // Get the startDate
+            Calendar startDate = (Calendar) (monthToShow.clone());
+            while (startDate.get(Calendar.DAY_OF_WEEK) != weekStartDay) {
+                startDate.add(Calendar.DATE, -1);
+                startDate.getTime();
+            }
+
+            // Get the end date
+            Calendar endDate = (Calendar) (monthToShow.clone());
+            endDate.add(Calendar.MONTH, 1);
+            endDate.getTime();
+            while (endDate.get(Calendar.DAY_OF_WEEK) != weekStartDay) {
+                endDate.add(Calendar.DATE, 1);
+                endDate.getTime();
+            }
+            endDate.add(Calendar.DATE, -1);
+            endDate.getTime();
+            endYear = endDate.get(Calendar.YEAR);
+            endMonth = endDate.get(Calendar.MONTH);
+            endDay = endDate.get(Calendar.DAY_OF_MONTH);
+
+            int displayedMonth = monthToShow.get(Calendar.MONTH);
+            int nWeeks = 0;
+            ArrayList cells = new ArrayList(42);
+            while (startDate.before(endDate)) {
+                for (int i = 0; i < 7; ++i) {
+                    cells.add(startDate.clone());
+                    startDate.add(Calendar.DAY_OF_YEAR, 1);
+                    startDate.getTime();
+                }
+                nWeeks++;
+            }
+            weeks = nWeeks;
+            if (weeks < 6) {
+                for (int i = 0; i < 7; ++i) {
+                    cells.add(startDate.clone());
+                    startDate.add(Calendar.DAY_OF_YEAR, 1);
+                    startDate.getTime();
+                }
+                rows = weeks + 1;
+            } else {
+                rows = weeks;
+            }
+
+            int nCells = cells.size();
+            days = new String[nCells];
+            titles = new String[nCells];
+            inMonth = new boolean[nCells];
+            for (int i = 0; i < nCells; i++) {
+                Calendar date = (Calendar) cells.get(i);
+                days[i] = String.valueOf(date.get(Calendar.DAY_OF_MONTH));
+                titles[i] = dateFormat.format(date.getTime());
+                inMonth[i] = i < weeks * 7
+                        && date.get(Calendar.MONTH) == displayedMonth;
+                if (i < weeks * 7) {
+                    cellIndex.put(new Integer(getDateKey(date)),
+                            new Integer(i));
+                }
+            }
+        }
+
+        // Return the visible cell showing the date, or -1.
+        int indexOf(Calendar date) {
+            Integer index = (Integer) cellIndex.get(
+                    new Integer(getDateKey(date)));
+            return index != null ? index.intValue() : -1;
+        }
+
+        private static int getDateKey(Calendar date) {
+            return (date.get(Calendar.YEAR) * 12 + date.get(Calendar.MONTH))
+                    * 32 + date.get(Calendar.DAY_OF_MONTH);
+        }
+    }
+
+    // Key for the month grid cache.
+    private static final class GridKey {
+
+        private final int year;
+        private final int month;
+        private final int firstDayOfWeek;
+        private final String timeZone;
+        private final Locale locale;
+        private final String pattern;
+
+        GridKey(Calendar monthToShow, Locale locale, String pattern) {
+            this.year = monthToShow.get(Calendar.YEAR);
+            this.month = monthToShow.get(Calendar.MONTH);
+            this.firstDayOfWeek = monthToShow.getFirstDayOfWeek();
+            this.timeZone = monthToShow.getTimeZone().getID();
+            this.locale = locale;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof GridKey)) {
+                return false;
+            }
+            GridKey key = (GridKey) obj;
+            return year == key.year && month == key.month
+                    && firstDayOfWeek == key.firstDayOfWeek
+                    && timeZone.equals(key.timeZone)
+                    && locale.equals(key.locale)
+                    && pattern.equals(key.pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((((year * 31 + month) * 31 + firstDayOfWeek) * 31
+                    + timeZone.hashCode()) * 31 + locale.hashCode()) * 31
+                    + pattern.hashCode();
+        }
+    }
 }
@@ -55,7 +55,7 @@ import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.MessageUtil;
 import com.sun.webui.jsf.util.ConversionUtilities;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import java.text.SimpleDateFormat;
@@ -334,16 +334,14 @@ public class CalendarRenderer extends FieldRenderer {
             json.put("id", calendar.getClientId(context)).put("firstDay", day).put("fieldId", calendar.getClientId(context).concat(Calendar.INPUT_ID)).put("patternId", calendar.getClientId(context).concat(Calendar.PATTERN_ID)).put("calendarToggleId", calendar.getDatePickerLink(context).getClientId(context)).put("datePickerId", datePickerId).put("monthMenuId", calendar.getDatePicker().getMonthMenu().getClientId(context)).put("yearMenuId", calendar.getDatePicker().getYearMenu().getClientId(context)).put("rowId", datePickerId + ":row5").put("showButtonSrc", styles[8]).put("hideButtonSrc", styles[9]).put("dateFormat", calendar.getDatePicker().getDateFormatPattern()).put("dateClass", styles[10]).put("edgeClass", styles[11]).put("selectedClass", styles[15]).put("edgeSelectedClass", styles[16]).put("todayClass", styles[17]).put("hiddenClass", styles[2]);
 
             // Append JavaScript.
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("calendar")).append("'], function (calendar) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("calendar.init")) // NOI18N
-                    .append("calendar.init")
+            buff.append("calendar.init")
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");"); //NOI18N
-            buff.append("});");
+                    .append(json.toString()).append(");"); //NOI18N
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(calendar, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, calendar, writer,
+                    "calendar", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
@@ -55,6 +55,7 @@ import com.sun.webui.jsf.component.util.Util;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
@@ -432,8 +433,10 @@ public class CommonTaskRenderer extends AbstractRenderer {
             JSONObject json = getJSONProperties(context, theme, task, close,
                     section);
 
-            sb.append(JavaScriptUtilities.getDomNode(context, section)).append(".addCommonTask(").append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n"); //NOI18N
-            JavaScriptUtilities.renderJavaScript(task, writer, sb.toString());
+            // Run after the section is initialized by its module.
+            sb.append(JavaScriptUtilities.getDomNode(context, section)).append(".addCommonTask(").append(json.toString()).append(");"); //NOI18N
+            ScriptCollector.renderModuleScript(context, task, writer,
+                    "commonTasksSection", sb.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
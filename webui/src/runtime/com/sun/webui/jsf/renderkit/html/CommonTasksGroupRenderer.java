@@ -47,7 +47,7 @@ import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import com.sun.faces.annotation.Renderer;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.LogUtil;
@@ -170,15 +170,12 @@ public class CommonTasksGroupRenderer extends AbstractRenderer {
         try {
             JSONObject json = getJSONProperties(context, theme, component);
 
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("commonTasksSection")).append("'], function (commonTasksSection) {").append("\n") // NOI18N
-//                    .append(JavaScriptUtilities.getModuleName("commonTasksSection.init(")) // NOI18N
-                    .append("commonTasksSection.init(")
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n"); //NOI18N
-            buff.append("});");
+            buff.append("commonTasksSection.init(") // NOI18N
+                    .append(json.toString()).append(");"); //NOI18N
             
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "commonTasksSection", buff.toString()); //NOI18N
         } catch (JSONException e) {
             if (LogUtil.fineEnabled()) {
                 LogUtil.fine(e.getStackTrace().toString()); //NOI18N
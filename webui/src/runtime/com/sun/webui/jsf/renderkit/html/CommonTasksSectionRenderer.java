@@ -55,7 +55,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.LogUtil;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.component.CommonTasksGroup;
@@ -212,13 +212,11 @@ public class CommonTasksSectionRenderer extends AbstractRenderer {
                     ThemeImages.CTS_RIGHT_TOGGLE));
 
             StringBuffer buff = new StringBuffer();
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("commonTasksSection")).append("'], function (commonTasksSection) {").append("\n") // NOI18N
-                    .append("commonTasksSection.init(") // NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n"); //NOI18N
-            buff.append("});");
+            buff.append("commonTasksSection.init(") // NOI18N
+                    .append(json.toString()).append(");"); //NOI18N
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "commonTasksSection", buff.toString()); //NOI18N
         } catch (JSONException e) {
             if (LogUtil.fineEnabled()) {
                 LogUtil.fine(e.getStackTrace().toString()); //NOI18N
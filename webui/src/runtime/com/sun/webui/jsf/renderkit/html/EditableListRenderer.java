@@ -61,6 +61,7 @@ import com.sun.webui.jsf.component.ListSelector;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import org.json.JSONException;
@@ -475,17 +476,15 @@ public class EditableListRenderer extends ListRendererBase {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("editableList")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("editableList")).append("'], function (editableList) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("editableList.init")) // NOI18N
-                    .append("editableList.init") // NOI18N
+            buff.append("editableList.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n") //NOI18N
+                    .append(json.toString()).append(");\n") //NOI18N
                     .append(JavaScriptUtilities.getDomNode(context, component)).append(EditableList.UPDATE_BUTTONS_FUNCTION);
-            buff.append("});");
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "editableList", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
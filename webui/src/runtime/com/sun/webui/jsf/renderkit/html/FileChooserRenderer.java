@@ -67,6 +67,7 @@ import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ClientSniffer;
 import com.sun.webui.jsf.util.LogUtil;
@@ -977,16 +978,14 @@ public class FileChooserRenderer extends AbstractRenderer {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("fileChooser")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("fileChooser")).append("'], function (fileChooser) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("fileChooser.init")) // NOI18N
-                    .append("fileChooser.init")
+            buff.append("fileChooser.init")
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");"); //NOI18N
-            buff.append("});");
+                    .append(json.toString()).append(");"); //NOI18N
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(chooser, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, chooser, writer,
+                    "fileChooser", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
@@ -47,6 +47,7 @@ import com.sun.faces.annotation.Renderer;
 import com.sun.webui.jsf.component.Form;
 import com.sun.webui.jsf.model.Markup;
 import com.sun.webui.jsf.model.ScriptMarkup;
+import com.sun.webui.jsf.util.EventDelegation;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import java.io.IOException;
@@ -199,6 +200,8 @@ public class FormRenderer extends AbstractRenderer {
         writer.write("\n"); //NOI18N
         context.getApplication().getViewHandler().writeState(context);
         writer.write("\n"); //NOI18N
+        // Render the listener of components which delegate their events
+        EventDelegation.renderListener(context, component, writer);
         // Render the end of the form element
         writer.endElement("form"); //NOI18N
         writer.write("\n"); //NOI18N
@@ -156,29 +156,9 @@ public class HeadRenderer extends AbstractRenderer {
                 return;
             }
 
-            // Render Dojo config.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    JavaScriptUtilities.getDojoConfig(head.isDebug(),
-                    head.isParseWidgets()));
-
-            // Render Dojo include.
-            JavaScriptUtilities.renderDojoInclude(component, writer);
-
-            // Render JSON include.
-            JavaScriptUtilities.renderJsonInclude(component, writer);
-
-            // Render Prototype include before JSF Extensions.
-            JavaScriptUtilities.renderPrototypeInclude(component, writer);
-
-            // Render JSF Extensions include.
-            JavaScriptUtilities.renderJsfxInclude(component, writer);
-
-            // Render module config after including dojo.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    JavaScriptUtilities.getModuleConfig(head.isDebug()));
-
-            // Render global include.
-            JavaScriptUtilities.renderGlobalInclude(component, writer);
+            // Render Dojo config, JavaScript includes and module config.
+            JavaScriptUtilities.renderBootstrap(context, component, writer,
+                    head.isDebug(), head.isParseWidgets());
         }
     }
 
@@ -50,6 +50,7 @@ import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import com.sun.webui.jsf.util.RenderingUtilities;
+import com.sun.webui.jsf.util.RenderTiming;
 
 /**
  * <p>Renderer for a {@link Html} component.</p>
@@ -128,6 +129,7 @@ public class HtmlRenderer extends AbstractRenderer {
             ResponseWriter writer) throws IOException {
 
         if (!RenderingUtilities.isPortlet(context)) {
+            RenderTiming.renderSummary(context, writer);
             writer.endElement("html"); //NOI18N
             writer.write("\n"); //NOI18N
         }
@@ -46,6 +46,7 @@ import com.sun.webui.jsf.component.util.Util;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ConversionUtilities;
+import com.sun.webui.jsf.util.EventDelegation;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
@@ -260,6 +261,15 @@ public class HyperlinkRenderer extends AbstractRenderer {
                 if (onclick != null) {
                     writer.writeAttribute("onclick", onclick, "onclick");
                 }
+            } else if (EventDelegation.isDelegated(context, component)) {
+                // The listener of the form submits the link.
+                if (onclick != null) {
+                    writer.writeAttribute("onclick", onclick, "onclick");
+                }
+                StringBuffer buff = new StringBuffer(64);
+                appendParameterQuery(component, buff);
+                writer.writeAttribute("data-submit", buff.toString(), null); //NOI18N
+                writer.writeAttribute("href", "#", null); //NOI18N
             } else {
                 UIComponent form = Util.getForm(context, component);
                 if (form != null) {
@@ -272,48 +282,7 @@ public class HyperlinkRenderer extends AbstractRenderer {
                         }
                     }
                     
-                    buff.append("return admingui.woodstock.hyperLinkSubmit(this, '") //NOI18N
-//                    buff.append("return hyperlinkfunc(this, '") //NOI18N
-                            .append(formClientId).append("', "); //NOI18N
-
-                    boolean didOnce = false;
-                    Iterator kids = component.getChildren().iterator();
-                    while (kids.hasNext()) {
-                        UIComponent kid = (UIComponent) kids.next();
-                        if (!(kid instanceof UIParameter)) {
-                            continue;
-                        }
-                        String name = (String) kid.getAttributes().get("name"); //NOI18N
-                        String value = (String) kid.getAttributes().get("value"); //NOI18N
-
-                        if (name == null || value == null) {
-                            log(paramErr + kid.getId());
-                            continue;
-                        }
-                        if (!didOnce) {
-                            buff.append("new Array(");
-                        }
-
-                        //add to map for later use.
-                        if (!didOnce) {
-                            buff.append("'");
-                        } else {
-                            buff.append(",'");
-                        }
-                        buff.append(name);
-                        buff.append("','");
-                        buff.append(value);
-                        buff.append("'"); //NOI18N
-                        didOnce = true;
-                    }
-
-                    if (!didOnce) {
-                        buff.append("null");
-                    } else {
-                        buff.append(")");
-                    }
-                    
-                    buff.append(");");
+                    appendSubmitScript(context, component, formClientId, buff);
                     writer.writeAttribute("onclick", buff.toString(), null);
                     writer.writeAttribute("href", "#", null); //NOI18N
                 }
@@ -347,6 +316,103 @@ public class HyperlinkRenderer extends AbstractRenderer {
         }
     }
 
+    /**
+     * Append the onclick script which submits the form when the link is
+     * clicked. It is provided so renderers that extend HyperlinkRenderer may
+     * submit the link differently.
+     *
+     * @param context The current FacesContext.
+     * @param component The current component.
+     * @param formClientId The client id of the form to submit.
+     * @param buff The buffer to append the script to.
+     */
+    protected void appendSubmitScript(FacesContext context,
+            UIComponent component, String formClientId, StringBuffer buff) {
+        buff.append("return admingui.woodstock.hyperLinkSubmit(this, '") //NOI18N
+//        buff.append("return hyperlinkfunc(this, '") //NOI18N
+                .append(formClientId).append("', "); //NOI18N
+        appendParameters(component, buff);
+        buff.append(");");
+    }
+
+    /**
+     * Append the names and values of the UIParameter children of the link,
+     * as a JavaScript array of name value pairs, or null if there are none.
+     *
+     * @param component The current component.
+     * @param buff The buffer to append the array to.
+     */
+    protected void appendParameters(UIComponent component, StringBuffer buff) {
+        boolean didOnce = false;
+        Iterator kids = component.getChildren().iterator();
+        while (kids.hasNext()) {
+            UIComponent kid = (UIComponent) kids.next();
+            if (!(kid instanceof UIParameter)) {
+                continue;
+            }
+            String name = (String) kid.getAttributes().get("name"); //NOI18N
+            String value = (String) kid.getAttributes().get("value"); //NOI18N
+
+            if (name == null || value == null) {
+                log(paramErr + kid.getId());
+                continue;
+            }
+            if (!didOnce) {
+                buff.append("new Array(");
+            }
+
+            //add to map for later use.
+            if (!didOnce) {
+                buff.append("'");
+            } else {
+                buff.append(",'");
+            }
+            buff.append(name);
+            buff.append("','");
+            buff.append(value);
+            buff.append("'"); //NOI18N
+            didOnce = true;
+        }
+
+        if (!didOnce) {
+            buff.append("null");
+        } else {
+            buff.append(")");
+        }
+    }
+
+    /**
+     * Append the names and values of the UIParameter children of the link,
+     * as the query string appended to the form action when the link is
+     * submitted by the listener of the form.
+     *
+     * @param component The current component.
+     * @param buff The buffer to append the query string to.
+     */
+    protected void appendParameterQuery(UIComponent component,
+            StringBuffer buff) {
+        boolean didOnce = false;
+        Iterator kids = component.getChildren().iterator();
+        while (kids.hasNext()) {
+            UIComponent kid = (UIComponent) kids.next();
+            if (!(kid instanceof UIParameter)) {
+                continue;
+            }
+            String name = (String) kid.getAttributes().get("name"); //NOI18N
+            String value = (String) kid.getAttributes().get("value"); //NOI18N
+
+            if (name == null || value == null) {
+                log(paramErr + kid.getId());
+                continue;
+            }
+            if (didOnce) {
+                buff.append("&"); //NOI18N
+            }
+            buff.append(name).append("=").append(value); //NOI18N
+            didOnce = true;
+        }
+    }
+
     /**
      * This method is called by renderEnd. It is provided so renderers that
      * extend HyperlinkRenderer (such as TabRenderer) may override it in order 
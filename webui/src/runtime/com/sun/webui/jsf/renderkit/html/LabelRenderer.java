@@ -48,6 +48,7 @@ import com.sun.webui.jsf.component.ComplexComponent;
 import com.sun.webui.jsf.component.Label;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.ComponentIdIndex;
 import com.sun.webui.jsf.util.ConversionUtilities;
 import com.sun.webui.jsf.util.LogUtil;
 import com.sun.webui.jsf.util.MessageUtil;
@@ -256,7 +257,7 @@ public class LabelRenderer extends javax.faces.render.Renderer {
             //
             UIComponent comp = label.getParent();
             if (comp != null) {
-                comp = comp.findComponent(id);
+                comp = ComponentIdIndex.findComponent(context, comp, id);
                 if (comp != null) {
                     if (comp instanceof ComplexComponent) {
                         id = ((ComplexComponent) comp).getLabeledElementId(context);
@@ -61,6 +61,7 @@ import com.sun.webui.jsf.component.ImageComponent;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.DateFormatUtilities;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.html.HTMLAttributes;
@@ -200,11 +201,9 @@ public class MastheadRenderer extends AbstractRenderer {
                     theme.getStyleClass(ThemeStyles.MASTHEAD_TEXT), null);
 
             // FIXME: This date formatting should be in the theme.
-            DateFormat dateFormat = DateFormat.getDateTimeInstance(
+            writer.write(DateFormatUtilities.formatDateTime(new Date(),
                     DateFormat.MEDIUM, DateFormat.LONG,
-                    context.getViewRoot().getLocale());
-
-            writer.write(dateFormat.format(new Date()));
+                    context.getViewRoot().getLocale()));
             writer.endElement(HTMLElements.SPAN);
             writer.write("&nbsp;"); //NOI18N
         }
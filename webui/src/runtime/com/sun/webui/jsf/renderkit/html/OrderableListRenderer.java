@@ -59,6 +59,7 @@ import com.sun.webui.jsf.component.OrderableList;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import org.json.JSONException;
@@ -245,17 +246,15 @@ public class OrderableListRenderer extends ListRendererBase {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("orderableList")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("orderableList")).append("'], function (orderableList) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("orderableList.init")) // NOI18N
-                    .append("orderableList.init") // NOI18N
+            buff.append("orderableList.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n") //NOI18N
+                    .append(json.toString()).append(");\n") //NOI18N
                     .append(JavaScriptUtilities.getDomNode(context, component)).append(OrderableList.UPDATEBUTTONS_FUNCTION);
-            buff.append("});");
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "orderableList", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
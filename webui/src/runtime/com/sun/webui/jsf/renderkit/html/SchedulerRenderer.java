@@ -61,7 +61,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.MessageUtil;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import org.json.JSONException;
@@ -659,16 +659,14 @@ public class SchedulerRenderer extends javax.faces.render.Renderer {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("scheduler")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("scheduler")).append("'], function (scheduler) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("scheduler.init")) // NOI18N
-                    .append("scheduler.init") // NOI18N
+            buff.append("scheduler.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");"); //NOI18N
-            buff.append("});");
+                    .append(json.toString()).append(");"); //NOI18N
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(scheduler, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, scheduler, writer,
+                    "scheduler", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
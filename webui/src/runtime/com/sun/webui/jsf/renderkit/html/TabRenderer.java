@@ -56,6 +56,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.ConversionUtilities;
+import com.sun.webui.jsf.util.JavaScriptUtilities;
 
 /**
  * <p>Renders a Tab component.</p>
@@ -126,6 +127,33 @@ public class TabRenderer extends HyperlinkRenderer {
         super.finishRenderAttributes(context, component, writer);
     }
 
+    /**
+     * When the enclosing TabSet is ajaxified, the tab is selected with an
+     * asynchronous request that processes and renders only the tab set.
+     * Otherwise the form is submitted, as for any other hyperlink.
+     *
+     * @param context The current FacesContext.
+     * @param component The current component.
+     * @param formClientId The client id of the form to submit.
+     * @param buff The buffer to append the script to.
+     */
+    @Override
+    protected void appendSubmitScript(FacesContext context,
+            UIComponent component, String formClientId, StringBuffer buff) {
+        TabSet tabSet = Tab.getTabSet((Tab) component);
+        if (tabSet == null || !tabSet.isAjaxify()) {
+            super.appendSubmitScript(context, component, formClientId, buff);
+            return;
+        }
+        buff.append("var tab = this; require(['") //NOI18N
+                .append(JavaScriptUtilities.getModuleName("tabSet")) //NOI18N
+                .append("'], function (tabSet) {") //NOI18N
+                .append("tabSet.select(tab, '") //NOI18N
+                .append(tabSet.getClientId(context)).append("', "); //NOI18N
+        appendParameters(component, buff);
+        buff.append(");}); return false;"); //NOI18N
+    }
+
     /**
      * This function returns the style classes necessary to display the
      * {@link Hyperlink} component as it's state indicates
@@ -48,6 +48,7 @@ import com.sun.webui.jsf.component.TableRowGroup;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.LogUtil;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import java.io.IOException;
@@ -139,6 +140,9 @@ public class TableColumnRenderer extends javax.faces.render.Renderer {
             return;
         }
 
+        // Evaluate the properties of the column once per row.
+        PropertySnapshot.begin(context, component);
+
         // Don't render TableColumn parents.
         TableColumn col = (TableColumn) component;
         Iterator kids = col.getTableColumnChildren();
@@ -244,9 +248,13 @@ public class TableColumnRenderer extends javax.faces.render.Renderer {
         // Don't render TableColumn parents.
         TableColumn col = (TableColumn) component;
         Iterator kids = col.getTableColumnChildren();
-        if (!kids.hasNext()) {
-            ResponseWriter writer = context.getResponseWriter();
-            renderEnclosingTagEnd(context, col, writer);
+        try {
+            if (!kids.hasNext()) {
+                ResponseWriter writer = context.getResponseWriter();
+                renderEnclosingTagEnd(context, col, writer);
+            }
+        } finally {
+            PropertySnapshot.end(context, component);
         }
     }
 
@@ -52,7 +52,7 @@ import com.sun.webui.jsf.component.TableRowGroup;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.LogUtil;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.theme.ThemeImages;
@@ -909,16 +909,14 @@ public class TableRenderer extends javax.faces.render.Renderer {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("table")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("table")).append("'], function (table) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("table.init")) // NOI18N
-                    .append("table.init") // NOI18N
+            buff.append("table.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");"); //NOI18N
-            buff.append("});");
+                    .append(json.toString()).append(");"); //NOI18N
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "table", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
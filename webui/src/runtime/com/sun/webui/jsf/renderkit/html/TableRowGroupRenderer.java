@@ -41,17 +41,25 @@
 package com.sun.webui.jsf.renderkit.html;
 
 import com.sun.faces.annotation.Renderer;
+import com.sun.data.provider.FilterCriteria;
 import com.sun.data.provider.RowKey;
+import com.sun.data.provider.SortCriteria;
 import com.sun.webui.jsf.component.Table;
+import com.sun.webui.jsf.component.TableActions;
 import com.sun.webui.jsf.component.TableColumn;
 import com.sun.webui.jsf.component.TableRowGroup;
+import com.sun.webui.jsf.faces.TextFilterCriteria;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.ClientTableRows;
 import com.sun.webui.jsf.util.LogUtil;
+import com.sun.webui.jsf.util.PropertySnapshot;
 import com.sun.webui.jsf.util.RenderingUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -60,6 +68,9 @@ import javax.faces.component.NamingContainer;
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
 
 /**
  * This class renders TableRowGroup components.
@@ -140,6 +151,9 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
             return;
         }
 
+        // Evaluate the properties of the group once per row.
+        PropertySnapshot.begin(context, component);
+
         TableRowGroup group = (TableRowGroup) component;
         ResponseWriter writer = context.getResponseWriter();
 
@@ -220,6 +234,11 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
             renderEnclosingTagEnd(writer);
         }
         group.setRowKey(null); // Clean up.
+
+        // Render row data for the browser to sort, filter, and paginate.
+        if (group.isClientRows()) {
+            renderClientRows(context, group, writer, rowKeys);
+        }
     }
 
     /**
@@ -245,35 +264,39 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
             return;
         }
 
-        TableRowGroup group = (TableRowGroup) component;
-        ResponseWriter writer = context.getResponseWriter();
+        try {
+            TableRowGroup group = (TableRowGroup) component;
+            ResponseWriter writer = context.getResponseWriter();
 
-        // Do not render footers for an empty table.
-        if (group.getRowCount() == 0) {
-            log("encodeEnd", //NOI18N
-                    "Column, group, and table footers not rendered, row count is zero"); //NOI18N
-            return;
-        }
+            // Do not render footers for an empty table.
+            if (group.getRowCount() == 0) {
+                log("encodeEnd", //NOI18N
+                        "Column, group, and table footers not rendered, row count is zero"); //NOI18N
+                return;
+            }
 
-        // Render group and column footers.
-        if (group.isAboveColumnFooter()) {
-            renderGroupFooter(context, group, writer);
-            renderColumnFooters(context, group, writer);
-        } else {
-            renderColumnFooters(context, group, writer);
-            renderGroupFooter(context, group, writer);
-        }
+            // Render group and column footers.
+            if (group.isAboveColumnFooter()) {
+                renderGroupFooter(context, group, writer);
+                renderColumnFooters(context, group, writer);
+            } else {
+                renderColumnFooters(context, group, writer);
+                renderGroupFooter(context, group, writer);
+            }
 
-        // Do not render table footers for an empty table.
-        Table table = group.getTableAncestor();
-        if (table.getRowCount() > 0) {
-            renderTableColumnFooters(context, group, writer);
-        } else {
-            log("encodeEnd", //NOI18N
-                    "Table column footers not rendered, row count is zero"); //NOI18N
-        }
+            // Do not render table footers for an empty table.
+            Table table = group.getTableAncestor();
+            if (table.getRowCount() > 0) {
+                renderTableColumnFooters(context, group, writer);
+            } else {
+                log("encodeEnd", //NOI18N
+                        "Table column footers not rendered, row count is zero"); //NOI18N
+            }
 
-        group.setRowKey(null); // Clean up.
+            group.setRowKey(null); // Clean up.
+        } finally {
+            PropertySnapshot.end(context, component);
+        }
     }
 
     /**
@@ -772,10 +795,21 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
         writer.startElement("tr", component); //NOI18N
         writer.writeAttribute("id", component.getClientId(context), null); //NOI18N
 
+        // Rows of other pages are rendered hidden when the browser paginates
+        // the rows, and the style classes start over on the current page.
+        boolean hidden = component.isCollapsed();
+        int row = index;
+        if (index > -1 && component.isClientRows()
+                && component.isPaginated()) {
+            row = index - component.getFirst();
+            hidden |= row < 0 || row >= component.getRows();
+        }
+
         // Get style class for nonempty table.
         String styleClasses[] = getRowStyleClasses(component);
         String styleClass = (index > -1 && styleClasses.length > 0)
-                ? styleClasses[index % styleClasses.length] : null;
+                ? styleClasses[(row % styleClasses.length + styleClasses.length)
+                % styleClasses.length] : null;
 
         // Get selected style class.
         if (component.isSelected()) {
@@ -784,7 +818,7 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
         }
 
         // Get collapsed style class.
-        if (component.isCollapsed()) {
+        if (hidden) {
             String s = theme.getStyleClass(ThemeStyles.HIDDEN);
             styleClass = (styleClass != null) ? styleClass + " " + s : s; //NOI18N
         }
@@ -815,6 +849,177 @@ public class TableRowGroupRenderer extends javax.faces.render.Renderer {
         writer.endElement("tr"); //NOI18N
     }
 
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Client rows methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * Render the row data used by the browser to sort, filter, and paginate
+     * the rows, together with the hidden field which holds the sort, filter,
+     * and page chosen in the browser. Both are rendered in a hidden row.
+     *
+     * @param context FacesContext for the current request.
+     * @param component TableRowGroup to be rendered.
+     * @param writer ResponseWriter to which the component should be rendered.
+     * @param rowKeys The rendered RowKey objects, in the rendered order.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    protected void renderClientRows(FacesContext context,
+            TableRowGroup component, ResponseWriter writer, RowKey[] rowKeys)
+            throws IOException {
+        if (component == null || rowKeys == null) {
+            log("renderClientRows", //NOI18N
+                    "Cannot render client rows, TableRowGroup or RowKey array is null"); //NOI18N
+            return;
+        }
+
+        Theme theme = getTheme();
+        writer.writeText("\n", null); //NOI18N
+        writer.startElement("tr", component); //NOI18N
+        writer.writeAttribute("id", getId(component, //NOI18N
+                TableRowGroup.CLIENT_ROWS_BAR_ID), null);
+        writer.writeAttribute("class", //NOI18N
+                theme.getStyleClass(ThemeStyles.HIDDEN), null);
+        writer.startElement("td", component); //NOI18N
+
+        // Render hidden field.
+        UIComponent field = component.getClientRowsHiddenField();
+        RenderingUtilities.renderComponent(field, context);
+
+        // Render JavaScript.
+        try {
+            JSONObject json = getClientRowsProperties(context, component,
+                    rowKeys);
+            json.put("fieldId", field.getClientId(context)); //NOI18N
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "table", "table.initClientRows(" + json.toString() + ");"); //NOI18N
+        } catch (JSONException e) {
+            LogUtil.warning(e.getMessage(), e);
+        }
+        writer.endElement("td"); //NOI18N
+        writer.endElement("tr"); //NOI18N
+    }
+
+    /**
+     * Helper method to get the properties given to the browser to sort,
+     * filter, and paginate the rows: the id of each row, in the rendered
+     * order, and for each row the values of the sort columns.
+     * <p>
+     * Note: Numbers and dates are given as numbers, and other values, except
+     * for boolean values, as text, which is searched by the filter.
+     * </p>
+     * @param context FacesContext for the current request.
+     * @param component TableRowGroup to be rendered.
+     * @param rowKeys The rendered RowKey objects, in the rendered order.
+     * @return The properties.
+     */
+    private JSONObject getClientRowsProperties(FacesContext context,
+            TableRowGroup component, RowKey[] rowKeys) throws JSONException {
+        Table table = component.getTableAncestor();
+        String tableId = table.getClientId(context);
+        JSONObject json = new JSONObject();
+        json.put("id", tableId) //NOI18N
+                .put("groupId", component.getClientId(context)) //NOI18N
+                .put("barId", getId(component, //NOI18N
+                TableRowGroup.CLIENT_ROWS_BAR_ID))
+                .put("paginated", component.isPaginated()) //NOI18N
+                .put("first", component.getFirst()) //NOI18N
+                .put("rows", component.getRows()) //NOI18N
+                .put("collapsed", component.isCollapsed()); //NOI18N
+
+        // Append the key of each sort column.
+        List cols = ClientTableRows.getSortColumns(component);
+        SortCriteria[] criteria = new SortCriteria[cols.size()];
+        JSONArray keys = new JSONArray();
+        for (int i = 0; i < criteria.length; i++) {
+            criteria[i] = ((TableColumn) cols.get(i)).getSortCriteria();
+            keys.put(criteria[i].getCriteriaKey());
+        }
+        json.put("keys", keys); //NOI18N
+
+        // Append the id and the sort values of each row.
+        JSONArray rowIds = new JSONArray();
+        JSONArray values = new JSONArray();
+        for (int i = 0; i < rowKeys.length; i++) {
+            rowIds.put(rowKeys[i].getRowId());
+            JSONArray row = new JSONArray();
+            for (int k = 0; k < criteria.length; k++) {
+                row.put(getClientValue(component.getSortValue(criteria[k],
+                        rowKeys[i])));
+            }
+            values.put(row);
+        }
+        json.put("rowIds", rowIds).put("values", values); //NOI18N
+
+        // Append the current sort.
+        JSONArray sort = new JSONArray();
+        SortCriteria[] current = component.getTableDataSorter().getSortCriteria();
+        for (int i = 0; current != null && i < current.length; i++) {
+            if (current[i] != null && current[i].getCriteriaKey() != null) {
+                sort.put(new JSONArray().put(current[i].getCriteriaKey())
+                        .put(current[i].isAscending()));
+            }
+        }
+        json.put("sort", sort); //NOI18N
+
+        // Append the text filter applied when the page was last submitted.
+        String filter = ""; //NOI18N
+        FilterCriteria[] filterCriteria =
+                component.getTableDataFilter().getFilterCriteria();
+        for (int i = 0; filterCriteria != null && i < filterCriteria.length; i++) {
+            if (filterCriteria[i] instanceof TextFilterCriteria) {
+                filter = ((TextFilterCriteria) filterCriteria[i]).getText();
+            }
+        }
+        json.put("filter", filter); //NOI18N
+
+        // Append the row style classes, to apply them again after a sort.
+        JSONArray styleClasses = new JSONArray();
+        String[] classes = getRowStyleClasses(component);
+        for (int i = 0; i < classes.length; i++) {
+            styleClasses.put(classes[i]);
+        }
+        json.put("styleClasses", styleClasses); //NOI18N
+
+        // Append the ids of the pagination controls.
+        JSONArray pageFieldIds = new JSONArray();
+        JSONArray pagesTextIds = new JSONArray();
+        String[] actionsIds = {Table.TABLE_ACTIONS_TOP_ID,
+            Table.TABLE_ACTIONS_BOTTOM_ID};
+        for (int i = 0; i < actionsIds.length; i++) {
+            String prefix = tableId + NamingContainer.SEPARATOR_CHAR
+                    + actionsIds[i] + NamingContainer.SEPARATOR_CHAR;
+            pageFieldIds.put(prefix + TableActions.PAGINATION_PAGE_FIELD_ID);
+            pagesTextIds.put(prefix + TableActions.PAGINATION_PAGES_TEXT_ID);
+        }
+        json.put("pageFieldIds", pageFieldIds) //NOI18N
+                .put("pagesTextIds", pagesTextIds) //NOI18N
+                .put("pagesText", getTheme().getMessage( //NOI18N
+                "table.pagination.pages", new String[]{"{0}"})); //NOI18N
+        return json;
+    }
+
+    /**
+     * Helper method to get the value given to the browser for a sort value.
+     *
+     * @param value The sort value.
+     * @return A number for numbers and dates, a boolean, or the text of the
+     * value.
+     */
+    private Object getClientValue(Object value) {
+        if (value instanceof Number) {
+            double d = ((Number) value).doubleValue();
+            return (Double.isNaN(d) || Double.isInfinite(d))
+                    ? JSONObject.NULL : new Double(d);
+        } else if (value instanceof Date) {
+            return new Long(((Date) value).getTime());
+        } else if (value instanceof Boolean) {
+            return value;
+        }
+        String text = TextFilterCriteria.getText(value);
+        return (text != null) ? text : JSONObject.NULL;
+    }
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // Private methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -93,29 +93,9 @@ public class ThemeLinksRenderer extends javax.faces.render.Renderer {
             return;
         }
 
-        // Render Dojo config.
-        JavaScriptUtilities.renderJavaScript(component, writer,
-                JavaScriptUtilities.getDojoConfig(themeLinks.isDebug(),
-                themeLinks.isParseWidgets()));
-
-        // Render Dojo include.
-        JavaScriptUtilities.renderDojoInclude(component, writer);
-
-        // Render JSON include.
-        JavaScriptUtilities.renderJsonInclude(component, writer);
-
-        // Render Prototype include before JSF Extensions.
-        JavaScriptUtilities.renderPrototypeInclude(component, writer);
-
-        // Render JSF Extensions include.
-        JavaScriptUtilities.renderJsfxInclude(component, writer);
-
-        // Render module config after including dojo.
-        JavaScriptUtilities.renderJavaScript(component, writer,
-                JavaScriptUtilities.getModuleConfig(themeLinks.isDebug()));
-
-        // Render global include.
-        JavaScriptUtilities.renderGlobalInclude(component, writer);
+        // Render Dojo config, JavaScript includes and module config.
+        JavaScriptUtilities.renderBootstrap(context, component, writer,
+                themeLinks.isDebug(), themeLinks.isParseWidgets());
     }
 
     @Override
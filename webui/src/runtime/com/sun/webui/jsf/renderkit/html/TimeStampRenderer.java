@@ -44,13 +44,13 @@ import com.sun.faces.annotation.Renderer;
 import java.util.Date;
 import java.util.Locale;
 import java.io.IOException;
-import java.text.DateFormat;
 import javax.faces.context.FacesContext;
 import javax.faces.context.ResponseWriter;
 import javax.faces.component.UIComponent;
 import com.sun.webui.jsf.component.TimeStamp;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
+import com.sun.webui.jsf.util.DateFormatUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.RenderingUtilities;
 
@@ -124,11 +124,9 @@ public class TimeStampRenderer extends AbstractRenderer {
         Locale locale =
                 FacesContext.getCurrentInstance().getViewRoot().getLocale();
 
-        DateFormat dateFormat = DateFormat.getDateTimeInstance(
+        writer.write(DateFormatUtilities.formatDateTime(new Date(),
                 Integer.parseInt(theme.getMessage("TimeStamp.dateStyle")), // NOI18N
-                Integer.parseInt(theme.getMessage("TimeStamp.timeStyle")), locale); // NOI18N
-
-        writer.write(dateFormat.format(new Date())); // NOI18N
+                Integer.parseInt(theme.getMessage("TimeStamp.timeStyle")), locale)); // NOI18N
 
         writer.endElement("span"); // NOI18N
         writer.endElement("span"); // NOI18N
@@ -41,6 +41,7 @@
 package com.sun.webui.jsf.renderkit.html;
 
 import com.sun.faces.annotation.Renderer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Iterator;
 import javax.el.MethodExpression;
@@ -54,6 +55,8 @@ import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.component.TreeNode;
 import com.sun.webui.jsf.component.Tree;
+import com.sun.webui.jsf.component.TreeLayout;
+import com.sun.webui.theme.ThemeImage;
 import com.sun.webui.jsf.util.ComponentUtilities;
 import java.io.IOException;
 import javax.faces.component.UIComponent;
@@ -168,7 +171,7 @@ public class TreeNodeRenderer extends javax.faces.render.Renderer {
         // Getting the list of images for a given row before they are
         // used for the first time.
 
-        Iterator imageIter = node.getImageKeys().iterator();
+        Iterator imageIter = getImages(node).iterator();
 
         IconHyperlink ihl = node.getTurnerImageHyperlink();
         UIComponent imageFacet = null;
@@ -279,11 +282,14 @@ public class TreeNodeRenderer extends javax.faces.render.Renderer {
         // data for a given tree row.
 
         // Iterator imageIter = node.getImageKeys().iterator();
-        int count = 0;
         while (imageIter.hasNext()) {
-            // read each image IconHyperlink or ImageHyperlink and render it
-            UIComponent imageComp = (UIComponent) imageIter.next();
-            RenderingUtilities.renderComponent(imageComp, context);
+            // render each turner IconHyperlink or line image
+            Object image = imageIter.next();
+            if (image instanceof LineImage) {
+                renderLineImage(node, (LineImage) image, theme, context, writer);
+            } else {
+                RenderingUtilities.renderComponent((UIComponent) image, context);
+            }
         //writer.writeText("\n", null);
         }
 
@@ -341,6 +347,80 @@ public class TreeNodeRenderer extends javax.faces.render.Renderer {
     //writer.writeText("\n", null);
     }
 
+    /**
+     * Return the images to render before the text of the given node, from
+     * left to right. The turner of a node with child nodes is returned as
+     * its <code>IconHyperlink</code>, the line images as
+     * <code>LineImage</code> objects which are rendered directly rather
+     * than through a component.
+     *
+     * @param node The TreeNode object whose row is to be rendered
+     */
+    protected List getImages(TreeNode node) {
+        String[] keys = TreeLayout.getInstance(node).getImageKeys(node);
+        Object[] images = new Object[keys.length];
+        if (keys.length > 0) {
+            int handle = keys.length - 1;
+            String text = node.getText();
+            if (TreeLayout.hasChildTreeNodes(node)) {
+                images[handle] = node.getTurnerImageHyperlink(keys[handle]);
+            } else {
+                images[handle] = new LineImage(keys[handle],
+                        text + " node", text + " node icon"); // GF-required 508 change
+            }
+            TreeNode owner = node;
+            for (int i = handle - 1; i >= 0; i--) {
+                owner = TreeNode.getParentTreeNode(owner);
+                text = owner.getText();
+                images[i] = new LineImage(keys[i],
+                        text + " child", text + " child icon"); // GF-required 508 change
+            }
+        }
+        return Arrays.asList(images);
+    }
+
+    /**
+     * Render a line image, as the image component with the same theme icon
+     * would.
+     */
+    private void renderLineImage(TreeNode node, LineImage image, Theme theme,
+            FacesContext context, ResponseWriter writer) throws IOException {
+        ThemeImage themeImage = theme.getImage(image.icon);
+        String url = themeImage.getPath();
+        url = (url != null && url.trim().length() != 0)
+                ? context.getExternalContext().encodeResourceURL(url) : "";
+
+        writer.startElement(HTMLElements.IMG, node);
+        writer.writeURIAttribute(HTMLAttributes.SRC, url, null);
+        writer.writeAttribute(HTMLAttributes.ALT, image.alt, null);
+        writer.writeAttribute(HTMLAttributes.TITLE, image.toolTip, null);
+        if (themeImage.getHeight() >= 0) {
+            writer.writeAttribute(HTMLAttributes.HEIGHT,
+                    Integer.toString(themeImage.getHeight()), null);
+        }
+        if (themeImage.getWidth() >= 0) {
+            writer.writeAttribute(HTMLAttributes.WIDTH,
+                    Integer.toString(themeImage.getWidth()), null);
+        }
+        writer.endElement(HTMLElements.IMG);
+    }
+
+    /**
+     * A line image of a tree row.
+     */
+    private static class LineImage {
+
+        private final String icon;
+        private final String toolTip;
+        private final String alt;
+
+        LineImage(String icon, String toolTip, String alt) {
+            this.icon = icon;
+            this.toolTip = toolTip;
+            this.alt = alt;
+        }
+    }
+
     private void renderImageOrText(TreeNode node, Hyperlink link,
             FacesContext context) throws IOException {
 
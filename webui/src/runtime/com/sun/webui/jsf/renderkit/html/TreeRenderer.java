@@ -42,10 +42,12 @@ package com.sun.webui.jsf.renderkit.html;
 
 import java.util.Iterator;
 import com.sun.webui.jsf.component.Tree;
+import com.sun.webui.jsf.component.TreeLayout;
 import com.sun.webui.jsf.component.TreeNode;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import com.sun.webui.jsf.util.LogUtil;
@@ -117,6 +119,10 @@ public class TreeRenderer extends TreeNodeRenderer {
         ResponseWriter writer = context.getResponseWriter();
         Tree node = (Tree) component;
 
+        // The structure of the tree may have changed since the last time
+        // it was rendered; lay it out again.
+        TreeLayout.getInstance(node).clear();
+
         // Get the theme
         //
         Theme theme = ThemeUtilities.getTheme(context);
@@ -181,7 +187,7 @@ public class TreeRenderer extends TreeNodeRenderer {
             writer.writeAttribute(HTMLAttributes.CLASS,
                     theme.getStyleClass(ThemeStyles.TREE_ROOT_ROW), null);
             writer.write("\n");
-            Iterator imageIter = node.getImageKeys().iterator();
+            Iterator imageIter = getImages(node).iterator();
             if (((node.getUrl() != null) && (node.getUrl().length() > 0)) ||
                     hasRootContentFacet) {
 
@@ -236,22 +242,20 @@ public class TreeRenderer extends TreeNodeRenderer {
             // Append JavaScript.
             String jsObject = JavaScriptUtilities.getDomNode(context, node);
 //            buff.append(JavaScriptUtilities.getModule("tree")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("tree")).append("'], function (tree) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("tree.init")) // NOI18N
-                    .append("tree.init") // NOI18N
+            buff.append("tree.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");\n"); //NOI18N
+                    .append(json.toString()).append(");\n"); //NOI18N
 
             if (nodeID != null) {
                 buff.append("tree").append(".selectTreeNode('").append(nodeID).append("');");
             } else {
                 buff.append("tree").append(".updateHighlight('").append(clientID).append("');");
             }
-            buff.append("});");
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "tree", buff.toString()); //NOI18N
 
             // Render skip anchor.
             RenderingUtilities.renderAnchor(SKIPTREE_LINK, node, context);
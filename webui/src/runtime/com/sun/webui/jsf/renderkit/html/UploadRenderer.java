@@ -53,7 +53,7 @@ import javax.faces.context.FacesContext;
 import javax.faces.application.FacesMessage;
 import com.sun.webui.jsf.component.Upload;
 import com.sun.webui.jsf.util.MessageUtil;
-import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.util.ThemeUtilities;
@@ -139,16 +139,15 @@ public class UploadRenderer extends FieldRenderer {
         String id = component.getClientId(context);
 
         StringBuilder jsString = new StringBuilder(256);
-        jsString.append(JavaScriptUtilities.getModuleName(
-                "upload.setEncodingType")); //NOI18N
+        jsString.append("upload.setEncodingType"); //NOI18N
         jsString.append("(\'"); //NOI18N
         jsString.append(id);
-        jsString.append("\');\n"); //NOI18N
+        jsString.append("\');"); //NOI18N
 
         // Render JavaScript.
         ResponseWriter writer = context.getResponseWriter();
-        JavaScriptUtilities.renderJavaScript(component, writer,
-                jsString.toString());
+        ScriptCollector.renderModuleScript(context, component, writer,
+                "upload", jsString.toString()); //NOI18N
 
         if (!spanRendered) {
             String param = id.concat(Upload.INPUT_PARAM_ID);
@@ -55,6 +55,7 @@ import com.sun.webui.theme.Theme;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.theme.ThemeImages;
 import com.sun.webui.jsf.util.JavaScriptUtilities;
+import com.sun.webui.jsf.util.ScriptCollector;
 import com.sun.webui.jsf.util.RenderingUtilities;
 import com.sun.webui.jsf.util.ThemeUtilities;
 import org.json.JSONException;
@@ -437,22 +438,19 @@ public class WizardRenderer extends AbstractRenderer {
 
             // Append JavaScript.
 //            buff.append(JavaScriptUtilities.getModule("wizard")).append("\n") // NOI18N
-            buff.append("require(['").append(JavaScriptUtilities.getModuleName("wizard")).append("'], function (wizard) {").append("\n") // NOI18N
 //                    .append(JavaScriptUtilities.getModuleName("wizard.init")) // NOI18N
-                    .append("wizard.init") // NOI18N
+            buff.append("wizard.init") // NOI18N
                     .append("(") //NOI18N
-                    .append(json.toString(JavaScriptUtilities.INDENT_FACTOR)).append(");"); //NOI18N
+                    .append(json.toString()).append(");"); //NOI18N
             
             // Render JavaScript to close wizard after init function is called.
             if (((Wizard) component).isComplete()) {
                 buff.append(getWizardCloseJavaScript(context, component));
             }
-            
-            buff.append("});");
 
             // Render JavaScript.
-            JavaScriptUtilities.renderJavaScript(component, writer,
-                    buff.toString());
+            ScriptCollector.renderModuleScript(context, component, writer,
+                    "wizard", buff.toString()); //NOI18N
         } catch (JSONException e) {
             e.printStackTrace();
         }
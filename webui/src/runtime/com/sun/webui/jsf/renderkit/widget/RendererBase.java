@@ -143,6 +143,9 @@ abstract public class RendererBase extends Renderer {
 
         // Render for JSF facets, but not subcomponents.
         if (!isSubComponent && widgetType != null) {
+            // The widget modules are not AMD modules, so the script is
+            // rendered in place rather than with ScriptCollector.
+            //
             // Render temporary place holder to position widget in page -- 
             // ultimately replaced by document fragment.
             writer.startElement("span", component);
@@ -165,8 +168,7 @@ abstract public class RendererBase extends Renderer {
 
         try {
             // Always render properties.
-            writer.write(getProperties(context, component).toString(
-                    JavaScriptUtilities.INDENT_FACTOR));
+            writer.write(getProperties(context, component).toString());
         } catch (JSONException e) {
             e.printStackTrace();
         }
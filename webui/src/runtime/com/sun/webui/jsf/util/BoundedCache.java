@@ -0,0 +1,164 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread safe cache holding at most a given number of entries.
+ * <p>
+ * Lookups take no lock. When an entry is added to a full cache, one entry
+ * is evicted, choosing among the entries in the order they were added and
+ * skipping, once, those looked up since they were last considered. Entries
+ * which are used again therefore survive a stream of keys which are used
+ * once, for example user agents sent by clients.
+ * </p>
+ */
+public final class BoundedCache {
+
+    // The most entries kept.
+    private final int maxSize;
+
+    // Entries keyed by their key.
+    private final ConcurrentHashMap entries = new ConcurrentHashMap();
+
+    // Entries in the order they are considered for eviction, guarded by
+    // itself.
+    private final LinkedList clock = new LinkedList();
+
+    /**
+     * Create a cache.
+     *
+     * @param maxSize The most entries kept.
+     */
+    public BoundedCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return the value cached for the key, or null.
+     *
+     * @param key The key.
+     */
+    public Object get(Object key) {
+        Entry entry = (Entry) entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.used) {
+            entry.used = true;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Cache a value unless one is already cached for the key, evicting an
+     * entry if the cache is full.
+     *
+     * @param key The key.
+     * @param value The value.
+     * @return The value cached for the key: the given value, or the value
+     * another thread cached first.
+     */
+    public Object put(Object key, Object value) {
+        Entry entry = new Entry(key, value);
+        synchronized (clock) {
+            Entry current = (Entry) entries.putIfAbsent(key, entry);
+            if (current != null) {
+                return current.value;
+            }
+            clock.addLast(entry);
+            if (clock.size() > maxSize) {
+                evict();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Return the number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        synchronized (clock) {
+            clock.clear();
+            entries.clear();
+        }
+    }
+
+    // Evict the first entry of the clock which was not used since it was
+    // last considered. An entry used meanwhile is moved to the end. After
+    // a full turn the first entry is evicted even if used again.
+    private void evict() {
+        int turn = clock.size();
+        Entry entry = (Entry) clock.removeFirst();
+        while (entry.used && turn-- > 0) {
+            entry.used = false;
+            clock.addLast(entry);
+            entry = (Entry) clock.removeFirst();
+        }
+        entries.remove(entry.key, entry);
+    }
+
+    private static final class Entry {
+
+        final Object key;
+        final Object value;
+
+        // Set when looked up, cleared when passed over for eviction.
+        volatile boolean used;
+
+        Entry(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
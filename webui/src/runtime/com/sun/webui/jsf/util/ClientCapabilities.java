@@ -0,0 +1,476 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.util.Map;
+import java.util.StringTokenizer;
+
+/**
+ * An immutable record of the browser capabilities derived from a user agent
+ * string. The user agent is parsed once per distinct string; records are
+ * shared by all requests through an application-wide, bounded cache, so
+ * that per-request work is a single lookup.
+ * <p>
+ * The tests follow those of {@link ClientSniffer}, which delegates to this
+ * class. In addition, {@link #isModern} and {@link #getIeVersion} identify
+ * clients for which legacy Internet Explorer specific output may be
+ * dropped.
+ * </p>
+ *
+ * @see ClientSniffer
+ */
+public final class ClientCapabilities {
+
+    // The maximum number of distinct user agents cached. Real traffic has a
+    // small number of distinct user agents; the bound guards against
+    // clients sending arbitrary headers.
+    private static final int CACHE_SIZE = 1024;
+
+    // Cache of capabilities keyed by the user agent header.
+    private static final BoundedCache cache = new BoundedCache(CACHE_SIZE);
+
+    /**
+     * Capabilities of a request without a user agent header.
+     */
+    public static final ClientCapabilities UNKNOWN =
+	new ClientCapabilities(null);
+
+    // Flags.
+    private static final int WIN = 1;
+    private static final int SUN = 1 << 1;
+    private static final int GECKO = 1 << 2;
+    private static final int NAV = 1 << 3;
+    private static final int NAV4 = 1 << 4;
+    private static final int NAV4UP = 1 << 5;
+    private static final int NAV6 = 1 << 6;
+    private static final int NAV6UP = 1 << 7;
+    private static final int NAV7 = 1 << 8;
+    private static final int NAV70 = 1 << 9;
+    private static final int NAV7UP = 1 << 10;
+    private static final int IE = 1 << 11;
+    private static final int IE3 = 1 << 12;
+    private static final int IE4 = 1 << 13;
+    private static final int IE5 = 1 << 14;
+    private static final int IE5UP = 1 << 15;
+    private static final int IE6 = 1 << 16;
+    private static final int IE6UP = 1 << 17;
+    private static final int IE7 = 1 << 18;
+    private static final int IE7UP = 1 << 19;
+    private static final int WEBKIT = 1 << 20;
+    private static final int TRIDENT = 1 << 21;
+    private static final int MODERN = 1 << 22;
+
+    // Lower case user agent.
+    private final String agent;
+
+    // User agent major version number.
+    private final int major;
+
+    // Internet Explorer version number.
+    private final int ieVersion;
+
+    // Capability flags.
+    private final int flags;
+
+    // Client type used by the theme.
+    private final ClientType clientType;
+
+    /**
+     * Get the capabilities of the given user agent.
+     *
+     * @param userAgent The user agent header, or null.
+     * @return The shared capabilities record.
+     */
+    public static ClientCapabilities getInstance(String userAgent) {
+	if (userAgent == null) {
+	    return UNKNOWN;
+	}
+	ClientCapabilities caps = (ClientCapabilities) cache.get(userAgent);
+	if (caps == null) {
+	    caps = (ClientCapabilities) cache.put(userAgent,
+		new ClientCapabilities(userAgent.toLowerCase()));
+	}
+	return caps;
+    }
+
+    // Parse the given lower case user agent.
+    private ClientCapabilities(String agent) {
+	this.agent = agent;
+	this.major = parseMajor(agent);
+	this.ieVersion = parseIeVersion(agent);
+
+	int f = 0;
+	if (agent != null) {
+	    if (agent.indexOf("win") != -1 || agent.indexOf("16bit") != -1) {
+		f |= WIN;
+	    }
+	    if (agent.indexOf("sunos") != -1) {
+		f |= SUN;
+	    }
+	    if (agent.indexOf("gecko") != -1) {
+		f |= GECKO;
+	    }
+	    if (agent.indexOf("applewebkit") != -1) {
+		f |= WEBKIT;
+	    }
+	    if (agent.indexOf("trident/") != -1) {
+		f |= TRIDENT;
+	    }
+	    if (agent.indexOf("mozilla") != -1
+		    && agent.indexOf("spoofer") == -1
+		    && agent.indexOf("compatible") == -1
+		    && agent.indexOf("opera") == -1
+		    && agent.indexOf("webtv") == -1
+		    && agent.indexOf("hotjava") == -1
+		    // The header for Netscape 4.x is similar to the header
+		    // for the Mozilla browser; however, Netscape 4.x does not
+		    // implement the Gecko engine.
+		    && !((f & GECKO) != 0 && agent.indexOf("netscape") == -1)) {
+		f |= NAV;
+		if (major == 4) {
+		    f |= NAV4;
+		}
+		if (major >= 4) {
+		    f |= NAV4UP;
+		}
+		if (major == 5 && agent.indexOf("netscape6") != -1) {
+		    f |= NAV6;
+		}
+		if (major >= 5) {
+		    f |= NAV6UP;
+		    if ((f & NAV6) == 0) {
+			f |= NAV7UP;
+		    }
+		}
+		if (major == 5 && agent.indexOf("netscape/7") != -1) {
+		    f |= NAV7;
+		}
+		if (major == 5 && agent.indexOf("netscape/7.0") != -1) {
+		    f |= NAV70;
+		}
+	    }
+	    if (agent.indexOf("msie") != -1 && agent.indexOf("opera") == -1) {
+		f |= IE;
+		if (major < 4) {
+		    f |= IE3;
+		}
+		if (major == 4 && agent.indexOf("msie 4") != -1) {
+		    f |= IE4;
+		}
+		if (major == 4 && agent.indexOf("msie 5") != -1) {
+		    f |= IE5;
+		}
+		if (major == 4 && agent.indexOf("msie 6") != -1) {
+		    f |= IE6;
+		}
+		if (major == 4 && agent.indexOf("msie 7") != -1) {
+		    f |= IE7;
+		}
+		if ((f & (IE3 | IE4)) == 0) {
+		    f |= IE5UP;
+		    if ((f & IE5) == 0) {
+			f |= IE6UP;
+			if ((f & IE6) == 0) {
+			    f |= IE7UP;
+			}
+		    }
+		}
+	    }
+	    // Standards based engines: any IE from version 9 (including IE 11,
+	    // which identifies itself by the Trident engine only), WebKit and
+	    // Blink based browsers, and Gecko based browsers from Firefox 4.
+	    if ((f & IE) != 0) {
+		if (ieVersion >= 9) {
+		    f |= MODERN;
+		}
+	    } else if ((f & (TRIDENT | WEBKIT)) != 0) {
+		f |= MODERN;
+	    } else if ((f & GECKO) != 0 && parseVersion(agent, "rv:") >= 2) {
+		f |= MODERN;
+	    }
+	}
+	this.flags = f;
+	this.clientType = parseClientType(agent);
+    }
+
+    /**
+     * Get the lower case user agent.
+     *
+     * @return The user agent, or null if unknown.
+     */
+    public String getUserAgent() {
+	return agent;
+    }
+
+    /**
+     * Get the user agent major version number.
+     *
+     * @return The user agent major version number or
+     * -1 if the version number was not retrieved.
+     */
+    public int getUserAgentMajor() {
+	return major;
+    }
+
+    /**
+     * Get the Internet Explorer version number, from the "msie" token.
+     *
+     * @return The major version number, or -1 if the user agent is not
+     * Internet Explorer or does not contain an "msie" token.
+     */
+    public int getIeVersion() {
+	return ieVersion;
+    }
+
+    /**
+     * Get the client type used by the theme.
+     *
+     * @return The {@link ClientType}.
+     */
+    public ClientType getClientType() {
+	return clientType;
+    }
+
+    /**
+     * Test if the user agent is a standards based browser (Internet Explorer
+     * 9 and above, or a WebKit, Blink or recent Gecko engine), for which
+     * legacy Internet Explorer specific output is not needed.
+     *
+     * @return true or false
+     */
+    public boolean isModern() {
+	return (flags & MODERN) != 0;
+    }
+
+    /**
+     * Test if the user agent is Internet Explorer before version 9.
+     *
+     * @return true or false
+     */
+    public boolean isIeLegacy() {
+	return (flags & IE) != 0 && (flags & MODERN) == 0;
+    }
+
+    /** @see ClientSniffer#isWin */
+    public boolean isWin() {
+	return (flags & WIN) != 0;
+    }
+
+    /** @see ClientSniffer#isSun */
+    public boolean isSun() {
+	return (flags & SUN) != 0;
+    }
+
+    /** @see ClientSniffer#isGecko */
+    public boolean isGecko() {
+	return (flags & GECKO) != 0;
+    }
+
+    /** @see ClientSniffer#isNav */
+    public boolean isNav() {
+	return (flags & NAV) != 0;
+    }
+
+    /** @see ClientSniffer#isNav4 */
+    public boolean isNav4() {
+	return (flags & NAV4) != 0;
+    }
+
+    /** @see ClientSniffer#isNav4up */
+    public boolean isNav4up() {
+	return (flags & NAV4UP) != 0;
+    }
+
+    /** @see ClientSniffer#isNav6 */
+    public boolean isNav6() {
+	return (flags & NAV6) != 0;
+    }
+
+    /** @see ClientSniffer#isNav6up */
+    public boolean isNav6up() {
+	return (flags & NAV6UP) != 0;
+    }
+
+    /** @see ClientSniffer#isNav7 */
+    public boolean isNav7() {
+	return (flags & NAV7) != 0;
+    }
+
+    /** @see ClientSniffer#isNav70 */
+    public boolean isNav70() {
+	return (flags & NAV70) != 0;
+    }
+
+    /** @see ClientSniffer#isNav7up */
+    public boolean isNav7up() {
+	return (flags & NAV7UP) != 0;
+    }
+
+    /** @see ClientSniffer#isIe */
+    public boolean isIe() {
+	return (flags & IE) != 0;
+    }
+
+    /** @see ClientSniffer#isIe3 */
+    public boolean isIe3() {
+	return (flags & IE3) != 0;
+    }
+
+    /** @see ClientSniffer#isIe4 */
+    public boolean isIe4() {
+	return (flags & IE4) != 0;
+    }
+
+    /** @see ClientSniffer#isIe5 */
+    public boolean isIe5() {
+	return (flags & IE5) != 0;
+    }
+
+    /** @see ClientSniffer#isIe5up */
+    public boolean isIe5up() {
+	return (flags & IE5UP) != 0;
+    }
+
+    /** @see ClientSniffer#isIe6 */
+    public boolean isIe6() {
+	return (flags & IE6) != 0;
+    }
+
+    /** @see ClientSniffer#isIe6up */
+    public boolean isIe6up() {
+	return (flags & IE6UP) != 0;
+    }
+
+    /** @see ClientSniffer#isIe7 */
+    public boolean isIe7() {
+	return (flags & IE7) != 0;
+    }
+
+    /** @see ClientSniffer#isIe7up */
+    public boolean isIe7up() {
+	return (flags & IE7UP) != 0;
+    }
+
+    // Parse the major version number following the first '/'.
+    private static int parseMajor(String agent) {
+	if (agent == null) {
+	    return -1;
+	}
+	String version = null;
+	StringTokenizer st = new StringTokenizer(agent, "/");
+
+	// Parse out user agent name.
+	if (st.hasMoreTokens()) {
+	    st.nextToken();
+	}
+
+	// Get user agent version number.
+	if (st.hasMoreTokens()) {
+	    version = st.nextToken();
+	}
+
+	if (version != null) {
+	    // Remove white space & extra info.
+	    st = new StringTokenizer(version);
+	    if (st.hasMoreTokens()) {
+		version = st.nextToken();
+	    }
+	}
+
+	// Parse user agent major version number.
+	if (version != null) {
+	    st = new StringTokenizer(version, ".");
+	    if (st.hasMoreTokens()) {
+		try {
+		    return Integer.parseInt(st.nextToken());
+		} catch (NumberFormatException ex) {
+		    // Ignore
+		}
+	    }
+	}
+	return -1;
+    }
+
+    // Parse the version number following "msie ".
+    private static int parseIeVersion(String agent) {
+	return agent == null ? -1 : parseVersion(agent, "msie ");
+    }
+
+    // Parse the leading digits following the given token.
+    private static int parseVersion(String agent, String token) {
+	int index = agent.indexOf(token);
+	if (index == -1) {
+	    return -1;
+	}
+	int version = -1;
+	for (int i = index + token.length(); i < agent.length(); i++) {
+	    char c = agent.charAt(i);
+	    if (c < '0' || c > '9') {
+		break;
+	    }
+	    version = (version == -1 ? 0 : version * 10) + (c - '0');
+	}
+	return version;
+    }
+
+    // Get the client type for the given lower case user agent.
+    private static ClientType parseClientType(String agent) {
+	if (agent == null) {
+	    return ClientType.OTHER;
+	}
+	// Need to test for Safari first since it has "Gecko like"
+	// in the user agent string and this will match "gecko"
+	//
+	if (agent.indexOf("safari") != -1) {
+	    return ClientType.SAFARI;
+	} else if (agent.indexOf("gecko") != -1) {
+	    return ClientType.GECKO;
+	} else if (agent.indexOf("msie 7") != -1) {
+	    return ClientType.IE7;
+	} else if (agent.indexOf("msie 6") != -1) {
+	    return ClientType.IE6;
+	} else if (agent.indexOf("msie 5.5") != -1) {
+	    return ClientType.IE5_5;
+	} else {
+	    return ClientType.OTHER;
+	}
+    }
+}
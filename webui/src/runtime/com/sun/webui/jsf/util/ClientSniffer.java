@@ -41,7 +41,6 @@
 package com.sun.webui.jsf.util;
 
 import java.util.Map;
-import java.util.StringTokenizer;
 
 import javax.faces.context.FacesContext;
 
@@ -114,8 +113,8 @@ public class ClientSniffer {
     // User agent.
     private String agent = null;
 
-    // User agent major version number.
-    private int major = -1;
+    // Capabilities of the user agent, shared by all requests.
+    private ClientCapabilities capabilities = ClientCapabilities.UNKNOWN;
 
     /**
      *	Default constructor.
@@ -124,46 +123,7 @@ public class ClientSniffer {
      *			extract the user agent.
      */
     public ClientSniffer(FacesContext context) {
-	String version = null;
 	setUserAgent(context);
-	agent = getUserAgent();
-
-	// Parse user agent.
-	if (agent != null) {
-
-	    StringTokenizer st = new StringTokenizer(agent, "/");
-
-	    // Parse out user agent name.
-	    if (st.hasMoreTokens()) {
-		st.nextToken();
-	    }
-
-	    // Get user agent version number.
-	    if (st.hasMoreTokens()) {
-		version = st.nextToken();
-	    }
-
-	    if (version != null) {
-		// Remove white space & extra info.
-		st = new StringTokenizer(version);
-		if (st.hasMoreTokens()) {
-		    version = st.nextToken();
-		}
-	    }
-	}
-
-	// Parse user agent major version number.
-	if (version != null) {
-	    StringTokenizer st = new StringTokenizer(version, ".");
-
-	    if (st.hasMoreTokens()) {
-		try {
-		    major = Integer.parseInt(st.nextToken());
-		} catch (NumberFormatException ex) {
-		    // Ignore
-		}
-	    }
-	}
     }
 
     /**
@@ -201,13 +161,36 @@ public class ClientSniffer {
      *	@param	context	The <code>FacesContext</code>
      */
     protected void setUserAgent(FacesContext context) {
+	capabilities = getCapabilities(context);
+	agent = capabilities.getUserAgent();
+    }
+
+    /**
+     *	<P> This method gets the capabilities of the user agent of the given
+     *	    <code>FacesContext</code>. The user agent is parsed once per
+     *	    distinct <code>USER-AGENT</code> header and the result is shared
+     *	    by all requests.</P>
+     *
+     *	@param	context	The <code>FacesContext</code>
+     *
+     *	@return	The {@link ClientCapabilities}.
+     */
+    public static ClientCapabilities getCapabilities(FacesContext context) {
 	Map headerMap = context.getExternalContext().getRequestHeaderMap();
-	if (null != headerMap) {
-	    agent = (String) headerMap.get("USER-AGENT");
-	    if (null != agent) {
-		agent = agent.toLowerCase();
-	    }
+	if (null == headerMap) {
+	    return ClientCapabilities.UNKNOWN;
 	}
+	return ClientCapabilities.getInstance(
+	    (String) headerMap.get("USER-AGENT"));
+    }
+
+    /**
+     * Get the capabilities of the user agent.
+     *
+     * @return The {@link ClientCapabilities}.
+     */
+    public ClientCapabilities getCapabilities() {
+	return capabilities;
     }
 
     /**
@@ -226,7 +209,7 @@ public class ClientSniffer {
      * -1 if the version number was not retrieved.
      */
     public int getUserAgentMajor() {
-	return major;
+	return capabilities.getUserAgentMajor();
     }
 
     /**
@@ -235,14 +218,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isWin() {
-	boolean result = false;
-
-	if ((agent != null) && ((agent.indexOf("win") != -1)
-		|| (agent.indexOf("16bit") != -1))) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isWin();
     }
 
     /**
@@ -251,13 +227,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isSun() {
-	boolean result = false;
-
-	if ((agent != null) && (agent.indexOf("sunos") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isSun();
     }
 
     /**
@@ -266,13 +236,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isGecko() {
-	boolean result = false;
-
-	if ((agent != null) && (agent.indexOf("gecko") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isGecko();
     }
 
     /**
@@ -281,24 +245,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav() {
-	boolean result = false;
-
-	if ((agent != null)
-		&& (agent.indexOf("mozilla") != -1)
-		&& (agent.indexOf("spoofer") == -1)
-		&& (agent.indexOf("compatible") == -1)
-		&& (agent.indexOf("opera") == -1)
-		&& (agent.indexOf("webtv") == -1)
-		&& (agent.indexOf("hotjava") == -1)) {
-	    // The header for Netscape 4.x is similar to the header
-	    // for the Mozilla browser; however, Netscape 4.x does not
-	    // implement the Gecko engine.
-	    if (!(isGecko() && (agent.indexOf("netscape") == -1))) {
-		result = true;
-	    }
-	}
-
-	return result;
+	return capabilities.isNav();
     }
 
     /**
@@ -308,13 +255,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav4() {
-	boolean result = false;
-
-	if (isNav() && (major == 4)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav4();
     }
 
     /**
@@ -324,13 +265,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav4up() {
-	boolean result = false;
-
-	if (isNav() && (major >= 4)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav4up();
     }
 
     /**
@@ -340,13 +275,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav6() {
-	boolean result = false;
-	if (isNav() && (major == 5) && (null != agent) &&
-		(agent.indexOf("netscape6") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav6();
     }
 
     /**
@@ -356,13 +285,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav6up() {
-	boolean result = false;
-
-	if (isNav() && major >= 5) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav6up();
     }
 
     /**
@@ -372,13 +295,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav7() {
-	boolean result = false;
-	if (isNav() && major == 5 && (null != agent)
-		&& (agent.indexOf("netscape/7") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav7();
     }
 
     /**
@@ -388,13 +305,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav70() {
-	boolean result = false;
-	if (isNav() && major == 5 && (null != agent)
-		&& (agent.indexOf("netscape/7.0") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav70();
     }
 
     /**
@@ -404,13 +315,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isNav7up() {
-	boolean result = false;
-
-	if (isNav() && (major >= 5) && !isNav4() && !isNav6()) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isNav7up();
     }
 
     /**
@@ -419,15 +324,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe() {
-	boolean result = false;
-
-	if ((agent != null)
-		&& (agent.indexOf("msie") != -1)
-		&& (agent.indexOf("opera") == -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe();
     }
 
     /**
@@ -437,13 +334,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe3() {
-	boolean result = false;
-
-	if (isIe() && (major < 4)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe3();
     }
 
     /**
@@ -453,13 +344,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe4() {
-	boolean result = false;
-	if (isIe() && (major == 4) && (null != agent)
-		&& (agent.indexOf("msie 4") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe4();
     }
 
     /**
@@ -469,12 +354,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe5() {
-	boolean result = false;
-	if (isIe() && (major == 4) && (null != agent) && (agent.indexOf("msie 5") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe5();
     }
 
     /**
@@ -484,13 +364,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe5up() {
-	boolean result = false;
-
-	if (isIe() && !isIe3() && !isIe4()) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe5up();
     }
 
     /**
@@ -500,12 +374,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe6() {
-	boolean result = false;
-	if (isIe() && (major == 4) && (null != agent) && (agent.indexOf("msie 6") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe6();
     }
 
     /**
@@ -515,12 +384,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe7() {
-	boolean result = false;
-	if (isIe() && (major == 4) && (null != agent) && (agent.indexOf("msie 7") != -1)) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe7();
     }
 
     /**
@@ -530,13 +394,7 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe6up() {
-	boolean result = false;
-
-	if (isIe() && !isIe3() && !isIe4() && !isIe5()) {
-	    result = true;
-	}
-
-	return result;
+	return capabilities.isIe6up();
     }
 
     /**
@@ -546,13 +404,28 @@ public class ClientSniffer {
      * @return true or false
      */
     public boolean isIe7up() {
-	boolean result = false;
+	return capabilities.isIe7up();
+    }
 
-	if (isIe() && !isIe3() && !isIe4() && !isIe5() && !isIe6()) {
-	    result = true;
-	}
+    /**
+     * Test if the user agent is a standards based browser, for which legacy
+     * Internet Explorer specific output is not needed.
+     *
+     * @return true or false
+     * @see ClientCapabilities#isModern
+     */
+    public boolean isModern() {
+	return capabilities.isModern();
+    }
 
-	return result;
+    /**
+     * Test if the user agent was generated by Internet Explorer,
+     * before version 9.
+     *
+     * @return true or false
+     */
+    public boolean isIeLegacy() {
+	return capabilities.isIeLegacy();
     }
 
     /**
@@ -563,31 +436,6 @@ public class ClientSniffer {
      *	@return	The {@link ClientType}.
      */
     public static ClientType getClientType(FacesContext context) {
-	Map map = context.getExternalContext().getRequestHeaderMap();
-	if (null == map) {
-	    return ClientType.OTHER;
-	}
-	String agent = (String) map.get("USER-AGENT");
-
-	if (agent == null) {
-	    return ClientType.OTHER;
-	}
-	agent = agent.toLowerCase();
-	// Need to test for Safari first since it has "Gecko like"
-	// in the user agent string and this will match "gecko"
-	//
-	if (agent.indexOf("safari") != -1) {
-	    return ClientType.SAFARI;
-	} else if (agent.indexOf("gecko") != -1) {
-	    return ClientType.GECKO;
-	} else if (agent.indexOf("msie 7") != -1) {
-	    return ClientType.IE7;
-	} else if (agent.indexOf("msie 6") != -1) {
-	    return ClientType.IE6;
-	} else if (agent.indexOf("msie 5.5") != -1) {
-	    return ClientType.IE5_5;
-	} else {
-	    return ClientType.OTHER;
-	}
+	return getCapabilities(context).getClientType();
     }
 }
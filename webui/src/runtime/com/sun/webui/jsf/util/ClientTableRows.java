@@ -0,0 +1,155 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import com.sun.data.provider.SortCriteria;
+import com.sun.data.provider.impl.BasicTableDataSorter;
+import com.sun.webui.jsf.component.Table;
+import com.sun.webui.jsf.component.TableColumn;
+import com.sun.webui.jsf.component.TableRowGroup;
+import java.beans.Beans;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import javax.faces.context.FacesContext;
+
+/**
+ * The ClientTableRows class decides which tables are sorted, filtered and
+ * paginated in the browser, rather than by submitting the page.
+ * <p>
+ * The browser mode is enabled by setting the <code>CLIENT_TABLE_ROWS</code>
+ * context parameter to the number of rows up to which a table is handled in
+ * the browser. It applies to a table with a single table row group, sorted
+ * by the default sorter. All rows of the group are rendered, the rows of
+ * other pages being hidden, and the row group renders the sort values of
+ * the rows for the table script. The sort, filter and page chosen in the
+ * browser are applied to the row group when the page is next submitted.
+ * </p>
+ */
+public final class ClientTableRows {
+
+    /**
+     * The context parameter giving the number of rows up to which a table
+     * is sorted, filtered and paginated in the browser. The browser mode is
+     * disabled if the parameter is not set.
+     */
+    public static final String CLIENT_TABLE_ROWS =
+            "com.sun.webui.jsf.util.CLIENT_TABLE_ROWS"; //NOI18N
+
+    // Not instantiated.
+    private ClientTableRows() {
+    }
+
+    /**
+     * Test if the rows of the row group should be sorted, filtered and
+     * paginated in the browser when it is rendered.
+     *
+     * @param context FacesContext for the current request.
+     * @param group The row group to be rendered.
+     * @return true if all rows of the group should be rendered for the
+     * browser to sort, filter and paginate them.
+     */
+    public static boolean isEnabled(FacesContext context,
+            TableRowGroup group) {
+        if (context == null || Beans.isDesignTime()) {
+            return false;
+        }
+        String value = context.getExternalContext().getInitParameter(
+                CLIENT_TABLE_ROWS);
+        if (value == null) {
+            return false;
+        }
+        int max = 0;
+        try {
+            max = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LogUtil.warning("Invalid " + CLIENT_TABLE_ROWS //NOI18N
+                    + ": " + value); //NOI18N
+        }
+        if (max <= 0) {
+            return false;
+        }
+
+        // The browser cannot take the place of a custom sorter, or keep the
+        // rows of several groups apart.
+        Table table = group.getTableAncestor();
+        if (table == null || table.getTableRowGroupCount() != 1
+                || group.getParent() != table
+                || group.getTableDataSorter().getClass()
+                != BasicTableDataSorter.class) {
+            return false;
+        }
+        int rowCount = group.getRowCount();
+        return rowCount > 0 && rowCount <= max;
+    }
+
+    /**
+     * Get the rendered columns of the row group, not nested in other
+     * columns, by which the rows can be sorted.
+     *
+     * @param group The row group.
+     * @return A List of TableColumn objects with a SortCriteria object.
+     */
+    public static List getSortColumns(TableRowGroup group) {
+        List list = new ArrayList();
+        addSortColumns(group.getTableColumnChildren(), list);
+        return list;
+    }
+
+    // Add the columns with a SortCriteria object, searching nested columns.
+    private static void addSortColumns(Iterator kids, List list) {
+        while (kids.hasNext()) {
+            TableColumn col = (TableColumn) kids.next();
+            if (!col.isRendered()) {
+                continue;
+            }
+            Iterator nested = col.getTableColumnChildren();
+            if (nested.hasNext()) {
+                addSortColumns(nested, list);
+                continue;
+            }
+            SortCriteria criteria = col.getSortCriteria();
+            if (criteria != null && criteria.getCriteriaKey() != null) {
+                list.add(col);
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import javax.faces.component.NamingContainer;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIViewRoot;
+import javax.faces.context.FacesContext;
+
+/**
+ * The ComponentIdIndex class resolves component ids against an index of the
+ * current view, rather than walking the component tree for every lookup.
+ * <p>
+ * The index is built once per request and view, after a few lookups have
+ * been made, so that views with a single lookup do not pay for it. The
+ * component tree may change while the request is processed. Therefore a
+ * component found in the index is checked to still be at the indexed place,
+ * and when an id is not found in the index, the lookup is made by walking
+ * the tree as before. The results are the same as those of
+ * <code>UIComponent.findComponent</code>.
+ * </p>
+ */
+public final class ComponentIdIndex {
+
+    // Request map key of the index.
+    private static final String INDEX =
+            "com.sun.webui.jsf.util.ComponentIdIndex"; //NOI18N
+
+    // The number of lookups made per view before the index is built.
+    private static final int LOOKUPS_BEFORE_INDEX = 4;
+
+    private static final String SEPARATOR =
+            String.valueOf(NamingContainer.SEPARATOR_CHAR);
+
+    // The view the index was built for.
+    private final UIViewRoot root;
+
+    // The number of lookups made so far.
+    private int lookups;
+
+    // The naming container, or the view root, each component is in.
+    private Map scopes;
+
+    // For each naming container and the view root, the components in it by
+    // id. Only the component found first is kept for an id.
+    private Map components;
+
+    // As components, holding only the naming containers.
+    private Map containers;
+
+    // For each simple id, the component found first when searching the
+    // naming containers of the view in document order. The values are
+    // Candidate instances.
+    private Map belowRoot;
+
+    // Construct an empty index for the view.
+    private ComponentIdIndex(UIViewRoot root) {
+        this.root = root;
+    }
+
+    /**
+     * Find the component for the id expression, as
+     * <code>base.findComponent(expr)</code> does.
+     *
+     * @param context The FacesContext of the request.
+     * @param base The component to resolve a relative expression from.
+     * @param expr The id expression.
+     * @return The component found, or null.
+     * @exception IllegalArgumentException if an intermediate component of
+     * the expression is not a NamingContainer.
+     */
+    public static UIComponent findComponent(FacesContext context,
+            UIComponent base, String expr) {
+        ComponentIdIndex index = getInstance(context);
+        if (index != null && expr != null && expr.length() > 0) {
+            UIComponent component = index.find(base, expr);
+            if (component != null) {
+                return component;
+            }
+        }
+        return base.findComponent(expr);
+    }
+
+    /**
+     * Find the component with the given simple id by searching each naming
+     * container of the view, in document order, for the id.
+     *
+     * @param context The FacesContext of the request.
+     * @param id The id of the component.
+     * @return The component found, or null if it is not in the index and
+     * the view must be searched.
+     */
+    public static UIComponent findComponentBelowRoot(FacesContext context,
+            String id) {
+        ComponentIdIndex index = getInstance(context);
+        if (index == null || id == null || id.indexOf(SEPARATOR) >= 0) {
+            return null;
+        }
+        return index.findBelowRoot(id);
+    }
+
+    // Return the index of the current view, or null while too few lookups
+    // have been made.
+    private static ComponentIdIndex getInstance(FacesContext context) {
+        UIViewRoot root = context == null ? null : context.getViewRoot();
+        if (root == null) {
+            return null;
+        }
+        Map requestMap = context.getExternalContext().getRequestMap();
+        ComponentIdIndex index = (ComponentIdIndex) requestMap.get(INDEX);
+        if (index == null || index.root != root) {
+            index = new ComponentIdIndex(root);
+            requestMap.put(INDEX, index);
+        }
+        if (index.scopes == null) {
+            if (++index.lookups <= LOOKUPS_BEFORE_INDEX) {
+                return null;
+            }
+            index.build();
+        }
+        return index;
+    }
+
+    // Resolve the expression as UIComponent.findComponent does, or return
+    // null if any part of it is not in the index.
+    private UIComponent find(UIComponent base, String expr) {
+        // Find the naming container the expression is relative to.
+        if (expr.startsWith(SEPARATOR)) {
+            while (base.getParent() != null) {
+                base = base.getParent();
+            }
+            expr = expr.substring(1);
+        } else {
+            while (base.getParent() != null) {
+                if (base instanceof NamingContainer) {
+                    break;
+                }
+                base = base.getParent();
+            }
+        }
+        if (!isCurrent(base)) {
+            return null;
+        }
+
+        // Leave unusual expressions to findComponent.
+        if (expr.length() == 0 || expr.endsWith(SEPARATOR)
+                || expr.indexOf(SEPARATOR + SEPARATOR) >= 0) {
+            return null;
+        }
+
+        UIComponent result = null;
+        int start = 0;
+        while (start < expr.length()) {
+            int end = expr.indexOf(NamingContainer.SEPARATOR_CHAR, start);
+            boolean last = end < 0;
+            if (last) {
+                end = expr.length();
+            }
+            String id = expr.substring(start, end);
+
+            // Only naming containers match the leading ids, and the base
+            // matches the first id if nothing it contains does.
+            Map ids = (Map) (last ? components : containers).get(base);
+            result = ids == null ? null : (UIComponent) ids.get(id);
+            if (result == null && start == 0 && id.equals(base.getId())) {
+                result = base;
+            }
+            if (result == null || !id.equals(result.getId())
+                    || !isCurrent(result)) {
+                return null;
+            }
+            base = result;
+            start = end + 1;
+        }
+        return result;
+    }
+
+    // Return the indexed component found first below the root, or null.
+    private UIComponent findBelowRoot(String id) {
+        Candidate candidate = (Candidate) belowRoot.get(id);
+        if (candidate == null || !id.equals(candidate.component.getId())
+                || !isCurrent(candidate.component)) {
+            return null;
+        }
+        return candidate.component;
+    }
+
+    // Test if the component, and each naming container above it, is still
+    // in the naming container it was indexed in.
+    private boolean isCurrent(UIComponent component) {
+        while (component != root) {
+            Object scope = scopes.get(component);
+            if (scope == null) {
+                return false;
+            }
+            UIComponent parent = component.getParent();
+            while (parent != null && parent != root
+                    && !(parent instanceof NamingContainer)) {
+                parent = parent.getParent();
+            }
+            if (parent != scope) {
+                return false;
+            }
+            component = parent;
+        }
+        return true;
+    }
+
+    // Index the components of the view.
+    private void build() {
+        scopes = new IdentityHashMap();
+        components = new IdentityHashMap();
+        containers = new IdentityHashMap();
+        belowRoot = new HashMap();
+        indexChildren(root, root, null, -1, true, new int[1]);
+    }
+
+    /**
+     * Index the children and facets of the component.
+     *
+     * @param parent The component whose children are indexed.
+     * @param scope The naming container, or the view root, the children
+     * are in.
+     * @param container The naming container of the children, if it is
+     * searched by FacesMessageUtils, else null.
+     * @param order The order in which the container is searched.
+     * @param searched true if the children are searched for naming
+     * containers.
+     * @param count The number of naming containers searched so far.
+     */
+    private void indexChildren(UIComponent parent, UIComponent scope,
+            UIComponent container, int order, boolean searched, int[] count) {
+        // Facets first, in the order of getFacetsAndChildren.
+        if (parent.getFacetCount() > 0) {
+            Iterator facets = parent.getFacets().values().iterator();
+            while (facets.hasNext()) {
+                index((UIComponent) facets.next(), scope, container, order,
+                        false, count);
+            }
+        }
+        if (parent.getChildCount() > 0) {
+            List children = parent.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                index((UIComponent) children.get(i), scope, container, order,
+                        searched, count);
+            }
+        }
+    }
+
+    // Index a component and its descendants.
+    private void index(UIComponent component, UIComponent scope,
+            UIComponent container, int order, boolean searched, int[] count) {
+        String id = component.getId();
+        scopes.put(component, scope);
+        put(components, scope, id, component);
+        if (component instanceof NamingContainer) {
+            put(containers, scope, id, component);
+        }
+
+        // A component is found by searching the naming container it is in.
+        if (container != null) {
+            candidate(id, component, order);
+        }
+        if (component instanceof NamingContainer) {
+            if (searched) {
+                // The container matches its own id when searched, after
+                // the components it contains.
+                order = 2 * count[0]++;
+                container = component;
+                candidate(id, component, order + 1);
+            } else {
+                container = null;
+            }
+            scope = component;
+        }
+        indexChildren(component, scope, container, order, searched, count);
+    }
+
+    // Add the component to the ids of the scope, unless the id is taken.
+    private static void put(Map map, UIComponent scope, String id,
+            UIComponent component) {
+        Map ids = (Map) map.get(scope);
+        if (ids == null) {
+            ids = new HashMap();
+            map.put(scope, ids);
+        }
+        if (!ids.containsKey(id)) {
+            ids.put(id, component);
+        }
+    }
+
+    // Keep the candidate of the naming container searched first.
+    private void candidate(String id, UIComponent component, int order) {
+        Candidate candidate = (Candidate) belowRoot.get(id);
+        if (candidate == null || order < candidate.order) {
+            belowRoot.put(id, new Candidate(component, order));
+        }
+    }
+
+    // A component found when searching a naming container for an id.
+    private static final class Candidate {
+
+        private final UIComponent component;
+        private final int order;
+
+        Candidate(UIComponent component, int order) {
+            this.component = component;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * The DateFormatUtilities class provides shared date formats for the
+ * components that display dates.
+ * <p>
+ * Creating a <code>DateFormat</code> looks up the locale data and compiles
+ * the pattern, which is costly compared to formatting a date. Formats are
+ * therefore created once per locale, style and pattern and cached. Since
+ * <code>DateFormat</code> is not thread safe, the cached formats are never
+ * used to format a date: the <code>format</code> methods use a clone owned
+ * by the current thread, and the <code>get</code> methods return a clone
+ * which the caller owns. No lock is held while formatting.
+ * </p>
+ */
+public final class DateFormatUtilities {
+
+    // The maximum number of formats and patterns to cache.
+    private static final int CACHE_SIZE = 256;
+
+    // Kinds of cached formats.
+    private static final int DATE = 0;
+    private static final int DATE_TIME = 1;
+    private static final int PATTERN = 2;
+
+    // Cached formats, keyed by FormatKey.
+    private static final BoundedCache formatCache =
+        new BoundedCache(CACHE_SIZE);
+
+    // The clones of the cached formats owned by each thread, keyed by the
+    // cached format. The map holds no class of the application, so that a
+    // pooled thread does not keep the application loaded.
+    private static final ThreadLocal threadFormats = new ThreadLocal();
+
+    // Normalized short date patterns, keyed by locale.
+    private static final BoundedCache patternCache =
+        new BoundedCache(CACHE_SIZE);
+
+    // Normalized localized short date patterns, keyed by locale.
+    private static final BoundedCache localizedPatternCache =
+        new BoundedCache(CACHE_SIZE);
+
+    private DateFormatUtilities() {
+    }
+
+    /**
+     * Return a new date format for the given style and locale, as
+     * <code>DateFormat.getDateInstance</code> would.
+     *
+     * @param style The date style, for example <code>DateFormat.SHORT</code>.
+     * @param locale The locale.
+     */
+    public static DateFormat getDateInstance(int style, Locale locale) {
+        return copy(getFormat(DATE, style, 0, null, locale));
+    }
+
+    /**
+     * Return a new date format for the given pattern and locale, as
+     * <code>new SimpleDateFormat(pattern, locale)</code> would.
+     *
+     * @param pattern The non localized pattern.
+     * @param locale The locale.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static SimpleDateFormat getDateFormat(String pattern,
+            Locale locale) {
+        return (SimpleDateFormat)
+            copy(getFormat(PATTERN, 0, 0, pattern, locale));
+    }
+
+    /**
+     * Format a date with the given date style.
+     *
+     * @param date The date to format.
+     * @param style The date style, for example <code>DateFormat.MEDIUM</code>.
+     * @param locale The locale.
+     * @param timeZone The time zone, or null for the default time zone.
+     */
+    public static String formatDate(Date date, int style, Locale locale,
+            TimeZone timeZone) {
+        return format(getFormat(DATE, style, 0, null, locale), date,
+            timeZone);
+    }
+
+    /**
+     * Format a date with the given date and time styles.
+     *
+     * @param date The date to format.
+     * @param dateStyle The date style, for example <code>DateFormat.MEDIUM</code>.
+     * @param timeStyle The time style, for example <code>DateFormat.LONG</code>.
+     * @param locale The locale.
+     */
+    public static String formatDateTime(Date date, int dateStyle,
+            int timeStyle, Locale locale) {
+        return format(getFormat(DATE_TIME, dateStyle, timeStyle, null,
+            locale), date, null);
+    }
+
+    /**
+     * Format a date with the given pattern.
+     *
+     * @param date The date to format.
+     * @param pattern The non localized pattern.
+     * @param locale The locale.
+     * @throws IllegalArgumentException if the pattern is invalid.
+     */
+    public static String format(Date date, String pattern, Locale locale) {
+        return format(getFormat(PATTERN, 0, 0, pattern, locale), date, null);
+    }
+
+    /**
+     * Return the short date pattern of the locale, with four digit years
+     * and two digit months and days, for example "MM/dd/yyyy". The pattern
+     * characters are not localized.
+     *
+     * @param locale The locale.
+     */
+    public static String getShortDatePattern(Locale locale) {
+        String pattern = (String) patternCache.get(locale);
+        if (pattern == null) {
+            SimpleDateFormat format = (SimpleDateFormat)
+                DateFormat.getDateInstance(DateFormat.SHORT, locale);
+            format.applyPattern(expandPattern(format.toPattern()));
+            pattern = (String) patternCache.put(locale, format.toPattern());
+        }
+        return pattern;
+    }
+
+    /**
+     * Return the localized short date pattern of the locale, with four
+     * digit years and two digit months and days.
+     *
+     * @param locale The locale.
+     */
+    public static String getLocalizedShortDatePattern(Locale locale) {
+        String pattern = (String) localizedPatternCache.get(locale);
+        if (pattern == null) {
+            SimpleDateFormat format = (SimpleDateFormat)
+                DateFormat.getDateInstance(DateFormat.SHORT, locale);
+            pattern = (String) localizedPatternCache.put(locale,
+                expandPattern(format.toLocalizedPattern()));
+        }
+        return pattern;
+    }
+
+    /**
+     * Widen the year, month and day fields of a short date pattern to
+     * "yyyy", "MM" and "dd".
+     *
+     * @param pattern The date pattern.
+     */
+    public static String expandPattern(String pattern) {
+        pattern = widen(pattern, "yyyy", "yy"); //NOI18N
+        pattern = widen(pattern, "MM", "M"); //NOI18N
+        return widen(pattern, "dd", "d"); //NOI18N
+    }
+
+    // Replace the first occurrence of field with wide, unless the pattern
+    // already contains wide.
+    private static String widen(String pattern, String wide, String field) {
+        if (pattern.indexOf(wide) != -1) {
+            return pattern;
+        }
+        int i = pattern.indexOf(field);
+        if (i == -1) {
+            return pattern;
+        }
+        return pattern.substring(0, i).concat(wide).concat(
+            pattern.substring(i + field.length()));
+    }
+
+    // Clone a cached format. Cached formats are not modified once cached.
+    private static DateFormat copy(DateFormat format) {
+        DateFormat clone = (DateFormat) format.clone();
+        clone.setTimeZone(TimeZone.getDefault());
+        return clone;
+    }
+
+    // Format a date with the current thread's clone of a cached format.
+    private static String format(DateFormat format, Date date,
+            TimeZone timeZone) {
+        Map formats = (Map) threadFormats.get();
+        if (formats == null) {
+            formats = new IdentityHashMap();
+            threadFormats.set(formats);
+        }
+        DateFormat clone = (DateFormat) formats.get(format);
+        if (clone == null) {
+            if (formats.size() >= CACHE_SIZE) {
+                // Formats dropped from the cache are not used again.
+                formats.clear();
+            }
+            clone = (DateFormat) format.clone();
+            formats.put(format, clone);
+        }
+        clone.setTimeZone(timeZone != null
+            ? timeZone : TimeZone.getDefault());
+        return clone.format(date);
+    }
+
+    private static DateFormat getFormat(int kind, int style1, int style2,
+            String pattern, Locale locale) {
+        FormatKey key = new FormatKey(kind, style1, style2, pattern, locale);
+        DateFormat format = (DateFormat) formatCache.get(key);
+        if (format == null) {
+            switch (kind) {
+                case DATE:
+                    format = DateFormat.getDateInstance(style1, locale);
+                    break;
+                case DATE_TIME:
+                    format = DateFormat.getDateTimeInstance(style1, style2,
+                        locale);
+                    break;
+                default:
+                    format = new SimpleDateFormat(pattern, locale);
+                    break;
+            }
+            format = (DateFormat) formatCache.put(key, format);
+        }
+        return format;
+    }
+
+    // Key for the format cache.
+    private static final class FormatKey {
+
+        private final int kind;
+        private final int style1;
+        private final int style2;
+        private final String pattern;
+        private final Locale locale;
+
+        FormatKey(int kind, int style1, int style2, String pattern,
+                Locale locale) {
+            this.kind = kind;
+            this.style1 = style1;
+            this.style2 = style2;
+            this.pattern = pattern;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FormatKey)) {
+                return false;
+            }
+            FormatKey key = (FormatKey) obj;
+            return kind == key.kind && style1 == key.style1
+                && style2 == key.style2 && locale.equals(key.locale)
+                && (pattern == null
+                    ? key.pattern == null : pattern.equals(key.pattern));
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = ((kind * 31 + style1) * 31 + style2) * 31
+                + locale.hashCode();
+            return pattern == null ? hash : hash * 31 + pattern.hashCode();
+        }
+    }
+}
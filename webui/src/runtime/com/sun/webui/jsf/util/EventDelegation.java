@@ -0,0 +1,147 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import com.sun.webui.jsf.component.Form;
+import com.sun.webui.jsf.component.TableRowGroup;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIForm;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+
+/**
+ * The EventDelegation class lets command components which are rendered once
+ * per table row leave their client side events to a single listener of the
+ * form, instead of rendering the same scripts for each row.
+ * <p>
+ * Delegation is enabled by setting the <code>DELEGATE_EVENTS</code> context
+ * parameter to true, and applies to components inside a table row group of a
+ * <code>Form</code> component. A delegated component renders only
+ * <code>data-*</code> attributes, which the listener, rendered by the form,
+ * reads to submit the form or update the component. The request submitted
+ * is the same, so decoding is unchanged.
+ * </p><p>
+ * The form renders the listener whenever it contains a table row group,
+ * whether or not any rows are rendered, so that rows rendered later by an
+ * Ajax request find it.
+ * </p>
+ */
+public final class EventDelegation {
+
+    /**
+     * The context parameter which, when set to true, enables the delegation
+     * of events of command components inside table rows.
+     */
+    public static final String DELEGATE_EVENTS =
+            "com.sun.webui.jsf.util.DELEGATE_EVENTS"; //NOI18N
+
+    // Not instantiated.
+    private EventDelegation() {
+    }
+
+    /**
+     * Test if the events of the component are delegated to its form, in
+     * which case the form renders the listener for them.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The command component being rendered.
+     * @return true if the component should render <code>data-*</code>
+     * attributes instead of event scripts.
+     */
+    public static boolean isDelegated(FacesContext context,
+            UIComponent component) {
+        if (!isEnabled(context)) {
+            return false;
+        }
+        boolean repeated = false;
+        UIComponent parent = component.getParent();
+        while (parent != null) {
+            if (parent instanceof TableRowGroup) {
+                repeated = true;
+            } else if (parent instanceof UIForm) {
+                return repeated && parent instanceof Form;
+            }
+            parent = parent.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * Render the listener of the form, if delegation is enabled and the form
+     * contains a table row group, rendered or not.
+     *
+     * @param context FacesContext for the current request.
+     * @param form The form being rendered.
+     * @param writer ResponseWriter to which the listener should be rendered.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderListener(FacesContext context, UIComponent form,
+            ResponseWriter writer) throws IOException {
+        if (!(form instanceof Form) || !isEnabled(context)
+                || !containsRowGroup(form)) {
+            return;
+        }
+        ScriptCollector.renderModuleScript(context, form, writer, "delegate",
+                "delegate.init('" + form.getClientId(context) + "');"); //NOI18N
+    }
+
+    // Test if delegation is enabled by the context parameter.
+    private static boolean isEnabled(FacesContext context) {
+        return Boolean.valueOf(context.getExternalContext().getInitParameter(
+                DELEGATE_EVENTS)).booleanValue();
+    }
+
+    // Test if a table row group is among the facets and children of the
+    // component, at any depth.
+    private static boolean containsRowGroup(UIComponent component) {
+        Iterator kids = component.getFacetsAndChildren();
+        while (kids.hasNext()) {
+            UIComponent kid = (UIComponent) kids.next();
+            if (kid instanceof TableRowGroup || containsRowGroup(kid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
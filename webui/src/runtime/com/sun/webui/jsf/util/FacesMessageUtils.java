@@ -123,7 +123,8 @@ public class FacesMessageUtils {
             while (currentParent != null) {
                 // If the current component is a NamingContainer,
                 // see if it contains what we're looking for.
-                forComponent = currentParent.findComponent(forComponentId);
+                forComponent = ComponentIdIndex.findComponent(context,
+                        currentParent, forComponentId);
                 if (forComponent != null)
                     break;
                 // if not, start checking further up in the view
@@ -136,6 +137,10 @@ public class FacesMessageUtils {
 
             // no hit from above, scan for a NamingContainer
             // that contains the component we're looking for from the root.    
+            if (forComponent == null) {
+                forComponent = ComponentIdIndex.findComponentBelowRoot(context,
+                        forComponentId);
+            }
             if (forComponent == null) {
                 forComponent =
                     findUIComponentBelow(context.getViewRoot(), forComponentId);
@@ -134,7 +134,7 @@ public class FastStringWriter extends Writer {
      * @param len Number of characters to write
      */
     public void write(String str, int off, int len) {
-        builder.append(str.substring(off, off + len));
+        builder.append(str, off, off + len);
     }
 
     /**
@@ -146,6 +146,14 @@ public class FastStringWriter extends Writer {
         return builder;
     }
 
+    /**
+     * Discard the buffered characters, keeping the allocated capacity so
+     * that the writer may be reused.
+     */
+    public void reset() {
+        builder.setLength(0);
+    }
+
     /** @return the buffer's current value as a string. */
     public String toString() {
         return builder.toString();
@@ -0,0 +1,840 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.faces.context.FacesContext;
+import javax.help.HelpSet;
+import javax.help.HelpSetException;
+import javax.help.IndexView;
+import javax.help.Merge;
+import javax.help.NavigatorView;
+import javax.help.SearchTOCItem;
+import javax.help.SearchView;
+import javax.help.TOCView;
+import javax.help.TreeItem;
+import javax.help.search.SearchItem;
+import javax.servlet.ServletContext;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.TreeNode;
+
+/**
+ * An application wide repository of parsed JavaHelp helpsets.
+ * <p>
+ * Each helpset is parsed once per helpset path and locale, together with
+ * its merged TOC and index trees, and the result is shared by every
+ * <code>HelpUtils</code> instance of the application. The node ids and
+ * content URLs used to render the trees are computed when the helpset is
+ * loaded. Content URLs on the server of the helpset are kept relative to
+ * that server, so that requests made through other host names share the
+ * helpset. At most <code>MAX_HELPSETS</code> helpsets are kept; the least
+ * recently used one is dropped beyond that.
+ * </p><p>
+ * A full text index over the mapped help pages is built in the background
+ * so that searches can be answered on the request thread without waiting on
+ * the JavaHelp search engine. The pages are read through the
+ * <code>ServletContext</code>, one helpset at a time on a single thread of
+ * the application. To stop that thread when the application is undeployed,
+ * list {@link HelpRepositoryListener} in the web.xml of the application.
+ * </p><p>
+ * The shared helpsets and trees must be treated as read only.
+ * </p>
+ */
+public final class HelpRepository {
+
+    // Application map key.
+    private static final String HELP_REPOSITORY =
+        "com.sun.webui.jsf.util.HelpRepository";
+
+    private static final Object synchObj = new Object();
+
+    // Help pages longer than this are only indexed up to this length.
+    private static final int MAX_DOCUMENT_LENGTH = 1 << 20;
+
+    // The most helpsets kept at a time.
+    private static final int MAX_HELPSETS = 32;
+
+    // Seconds the indexer thread waits for work before it ends.
+    private static final long INDEXER_KEEP_ALIVE = 60;
+
+    // Parsed helpsets keyed by helpset path and locale, in access order.
+    private final Map helpSets = new LinkedHashMap(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry eldest) {
+            return size() > MAX_HELPSETS;
+        }
+    };
+
+    // The context the help pages are read through, or null outside a
+    // servlet container.
+    private final ServletContext servletContext;
+
+    // Runs the indexing of the helpsets, created on first use.
+    private ExecutorService indexer;
+    private boolean shutdown;
+
+    private HelpRepository(ServletContext servletContext) {
+        this.servletContext = servletContext;
+    }
+
+    /**
+     * Return the <code>HelpRepository</code> of the application, creating it
+     * if necessary and persisting it in the <code>ApplicationMap</code>.
+     */
+    public static HelpRepository getInstance(FacesContext context) {
+        Map map = context.getExternalContext().getApplicationMap();
+        HelpRepository repository = (HelpRepository) map.get(HELP_REPOSITORY);
+        if (repository == null) {
+            synchronized (synchObj) {
+                // try again in case another thread created it.
+                repository = (HelpRepository) map.get(HELP_REPOSITORY);
+                if (repository == null) {
+                    Object servletContext =
+                        context.getExternalContext().getContext();
+                    repository = new HelpRepository(
+                        servletContext instanceof ServletContext
+                            ? (ServletContext) servletContext : null);
+                    map.put(HELP_REPOSITORY, repository);
+                }
+            }
+        }
+        return repository;
+    }
+
+    /**
+     * Stop the indexing of the <code>HelpRepository</code> of the given
+     * application, if it has one, and drop its helpsets. This is called when
+     * the application is undeployed.
+     */
+    public static void shutdown(ServletContext servletContext) {
+        HelpRepository repository =
+            (HelpRepository) servletContext.getAttribute(HELP_REPOSITORY);
+        if (repository != null) {
+            servletContext.removeAttribute(HELP_REPOSITORY);
+            repository.shutdown();
+        }
+    }
+
+    /**
+     * Return the content of a helpset, loading it from the given URL if this
+     * is the first request for the helpset path and locale.
+     *
+     * @param path The helpset path, or URL if it was given as one.
+     * @param locale The locale of the helpset.
+     * @param url The helpset URL.
+     * @throws HelpSetException if the helpset cannot be loaded.
+     */
+    public HelpContent getContent(String path, Locale locale, URL url)
+            throws HelpSetException {
+        String key = path + "_" + locale;
+        HelpContent content;
+        synchronized (helpSets) {
+            content = (HelpContent) helpSets.get(key);
+            if (content == null) {
+                content = new HelpContent(this, url);
+                helpSets.put(key, content);
+            }
+        }
+        try {
+            content.load();
+        } catch (HelpSetException e) {
+            // Allow a later request to try again.
+            synchronized (helpSets) {
+                if (helpSets.get(key) == content) {
+                    helpSets.remove(key);
+                }
+            }
+            throw e;
+        }
+        return content;
+    }
+
+    /**
+     * Drop all helpsets, for example after the help files were redeployed.
+     */
+    public void clear() {
+        synchronized (helpSets) {
+            helpSets.clear();
+        }
+    }
+
+    /**
+     * Stop the indexing and drop all helpsets. Helpsets loaded afterwards
+     * are not indexed.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if (indexer != null) {
+                indexer.shutdownNow();
+                indexer = null;
+            }
+        }
+        clear();
+    }
+
+    // Queue the indexing of a helpset. The single indexer thread ends when
+    // it has been idle for INDEXER_KEEP_ALIVE seconds.
+    private synchronized void index(final HelpContent content) {
+        if (shutdown) {
+            return;
+        }
+        if (indexer == null) {
+            indexer = new ThreadPoolExecutor(0, 1, INDEXER_KEEP_ALIVE,
+                TimeUnit.SECONDS, new LinkedBlockingQueue(),
+                new ThreadFactory() {
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r,
+                            "HelpRepository indexer");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        }
+        indexer.execute(new Runnable() {
+            public void run() {
+                try {
+                    content.buildSearchIndex();
+                } catch (RuntimeException e) {
+                    LogUtil.warning("Cannot index helpset " + content.url +
+                        ": " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * The parsed content of one helpset. Instances are obtained from
+     * {@link HelpRepository#getContent}.
+     */
+    public static final class HelpContent {
+
+        private final HelpRepository repository;
+        private final URL url;
+        private boolean loaded;
+
+        private HelpSet helpSet;
+        private DefaultMutableTreeNode tocTopNode;
+        private List tocTreeList;
+        private List indexTreeList;
+        private SearchView searchView;
+
+        // Tree node ids and content URLs, keyed by node and item identity.
+        private final Map nodeIds = new IdentityHashMap();
+        private final Map contentURLs = new IdentityHashMap();
+
+        // Set once the full text index is built.
+        private volatile SearchIndex searchIndex;
+
+        private HelpContent(HelpRepository repository, URL url) {
+            this.repository = repository;
+            this.url = url;
+        }
+
+        // Parse the helpset and its navigator views on first use. Threads
+        // asking for the same helpset wait for the one doing the work.
+        private synchronized void load() throws HelpSetException {
+            if (loaded) {
+                return;
+            }
+            HelpSet hs = new HelpSet(null, url);
+
+            TOCView tocView = (TOCView) hs.getNavigatorView(
+                HelpUtils.TOC_VIEW_NAME);
+            if (tocView != null) {
+                tocTopNode = tocView.getDataAsTree();
+                addSubHelpSets(hs, tocView, tocTopNode);
+                tocTreeList = initTreeList(tocTopNode, HelpUtils.BASE_ID);
+            }
+
+            IndexView indexView = (IndexView) hs.getNavigatorView(
+                HelpUtils.INDEX_VIEW_NAME);
+            if (indexView != null) {
+                // The index root is not the TOC root, its id is empty.
+                indexTreeList = initTreeList(indexView.getDataAsTree(), "");
+            }
+
+            searchView = (SearchView) hs.getNavigatorView(
+                HelpUtils.SEARCH_VIEW_NAME);
+
+            helpSet = hs;
+            loaded = true;
+
+            repository.index(this);
+        }
+
+        // Merge the TOC views of all sub-helpsets into the master TOC.
+        private static void addSubHelpSets(HelpSet hs, TOCView tocView,
+                DefaultMutableTreeNode tocTopNode) {
+            for (Enumeration e = hs.getHelpSets(); e.hasMoreElements(); ) {
+                HelpSet ehs = (HelpSet) e.nextElement();
+                if (ehs == null) {
+                    continue;
+                }
+                NavigatorView[] views = ehs.getNavigatorViews();
+                for (int i = 0; i < views.length; i++) {
+                    if (views[i] instanceof TOCView) {
+                        Merge mergeObject = Merge.DefaultMergeFactory.getMerge(
+                            tocView, views[i]);
+                        if (mergeObject != null) {
+                            mergeObject.processMerge(tocTopNode);
+                        }
+                    }
+                }
+                addSubHelpSets(ehs, tocView, tocTopNode);
+            }
+        }
+
+        // Return the tree in preorder, recording the id of every node and
+        // the content URL of every item on the way.
+        private List initTreeList(DefaultMutableTreeNode topNode,
+                String topId) {
+            List list = new ArrayList();
+            addTreeNode(list, topNode, topId);
+            return Collections.unmodifiableList(list);
+        }
+
+        private void addTreeNode(List list, DefaultMutableTreeNode node,
+                String id) {
+            list.add(node);
+            nodeIds.put(node, id);
+            Object item = node.getUserObject();
+            if (item instanceof TreeItem) {
+                contentURLs.put(item, getContentURL((TreeItem) item));
+            }
+            int n = node.getChildCount();
+            for (int i = 0; i < n; i++) {
+                addTreeNode(list,
+                    (DefaultMutableTreeNode) node.getChildAt(i),
+                    id.concat("_" + Integer.toString(i)));
+            }
+        }
+
+        private String getContentURL(TreeItem item) {
+            URL url = null;
+            javax.help.Map.ID id = item.getID();
+            if (id != null) {
+                try {
+                    url = id.hs.getLocalMap().getURLFromID(id);
+                } catch (MalformedURLException e) {
+                    // Ignore
+                }
+            }
+            return (url != null) ? getSpec(url) : "";
+        }
+
+        // Return the path of a URL on the server of the helpset, or the
+        // whole URL if it is on another server.
+        private String getSpec(URL page) {
+            if (!isOnHelpSetServer(page)) {
+                return page.toExternalForm();
+            }
+            String ref = page.getRef();
+            return ref != null ? page.getFile() + "#" + ref : page.getFile();
+        }
+
+        private boolean isOnHelpSetServer(URL page) {
+            return page.getProtocol().equals(url.getProtocol())
+                && page.getHost().equalsIgnoreCase(url.getHost())
+                && page.getPort() == url.getPort();
+        }
+
+        /** Return the shared helpset. */
+        public HelpSet getHelpSet() {
+            return helpSet;
+        }
+
+        /** Return the locale of the helpset. */
+        public Locale getLocale() {
+            Locale locale = helpSet.getLocale();
+            return locale != null ? locale : Locale.getDefault();
+        }
+
+        /** Return the root of the merged TOC tree, or null. */
+        public DefaultMutableTreeNode getTOCTopNode() {
+            return tocTopNode;
+        }
+
+        /**
+         * Return the merged TOC tree in preorder as an unmodifiable list, or
+         * null if the helpset has no TOC view.
+         */
+        public List getTOCTreeList() {
+            return tocTreeList;
+        }
+
+        /**
+         * Return the index tree in preorder as an unmodifiable list, or null
+         * if the helpset has no index view.
+         */
+        public List getIndexTreeList() {
+            return indexTreeList;
+        }
+
+        /** Return the search view of the helpset, or null. */
+        public SearchView getSearchView() {
+            return searchView;
+        }
+
+        /**
+         * Return the id of a node of the TOC or index tree, or null if the
+         * node does not belong to either.
+         */
+        public String getID(TreeNode node) {
+            return (String) nodeIds.get(node);
+        }
+
+        /**
+         * Return the content URL of an item of the TOC or index tree, or null
+         * if the item does not belong to either. The URL is relative to the
+         * server of the helpset if the content is on that server; resolve
+         * it against the helpset URL of the request.
+         */
+        public String getContentURL(Object item) {
+            return (String) contentURLs.get(item);
+        }
+
+        /**
+         * Search the full text index for pages containing the words of the
+         * query. Pages containing more of the words come first, then pages
+         * containing them more often.
+         *
+         * @param query The words to search for.
+         * @param base The helpset URL of the request, which the page URLs
+         * are resolved against.
+         * @return A list of <code>SearchTOCItem</code>, or null if the index
+         * is not available yet.
+         */
+        public List search(String query, URL base) {
+            SearchIndex index = searchIndex;
+            return index != null ? index.search(query, base) : null;
+        }
+
+        // Index every page the helpset map points to. Pages that cannot be
+        // read are skipped; if none can, searches keep using JavaHelp.
+        private void buildSearchIndex() {
+            Locale locale = getLocale();
+
+            // Collect the distinct pages, ignoring anchors.
+            LinkedHashMap pages = new LinkedHashMap();
+            javax.help.Map map = helpSet.getCombinedMap();
+            for (Enumeration e = map.getAllIDs(); e.hasMoreElements(); ) {
+                try {
+                    URL page = map.getURLFromID(
+                        (javax.help.Map.ID) e.nextElement());
+                    if (page == null) {
+                        continue;
+                    }
+                    page = new URL(page.getProtocol(), page.getHost(),
+                        page.getPort(), page.getFile());
+                    String key = page.toExternalForm();
+                    if (!pages.containsKey(key)) {
+                        pages.put(key, page);
+                    }
+                } catch (MalformedURLException ex) {
+                    // Ignore
+                }
+            }
+
+            int nDocs = pages.size();
+            String[] docs = new String[nDocs];
+            String[] titles = new String[nDocs];
+            HashMap postings = new HashMap();
+            HashMap counts = new HashMap();
+            int doc = 0;
+            for (Iterator it = pages.values().iterator(); it.hasNext(); ) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                URL page = (URL) it.next();
+                String text;
+                try {
+                    text = read(page);
+                } catch (IOException e) {
+                    LogUtil.fine("Cannot index help page " + page + ": " +
+                        e.getMessage());
+                    continue;
+                }
+                if (text == null) {
+                    continue;
+                }
+                docs[doc] = getSpec(page);
+                titles[doc] = getTitle(text, page);
+
+                counts.clear();
+                tokenize(stripMarkup(text), locale, counts);
+                for (Iterator terms = counts.entrySet().iterator();
+                        terms.hasNext(); ) {
+                    Map.Entry entry = (Map.Entry) terms.next();
+                    IntList list = (IntList) postings.get(entry.getKey());
+                    if (list == null) {
+                        list = new IntList();
+                        postings.put(entry.getKey(), list);
+                    }
+                    list.add(doc);
+                    list.add(((int[]) entry.getValue())[0]);
+                }
+                doc++;
+            }
+            if (doc == 0) {
+                return;
+            }
+
+            HashMap index = new HashMap(postings.size() * 4 / 3 + 1);
+            for (Iterator it = postings.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry entry = (Map.Entry) it.next();
+                index.put(entry.getKey(), ((IntList) entry.getValue()).toArray());
+            }
+            searchIndex = new SearchIndex(locale, docs, titles, index);
+        }
+
+        // Read a help page of the helpset server through the servlet
+        // context serving it. Return null if it is not a resource of a
+        // context of this server.
+        private String read(URL page) throws IOException {
+            ServletContext servletContext = repository.servletContext;
+            if (servletContext == null || !isOnHelpSetServer(page)) {
+                return null;
+            }
+            String path = page.getPath();
+            ServletContext target = servletContext.getContext(path);
+            if (target == null) {
+                return null;
+            }
+            String contextPath = target.getContextPath();
+            if (!path.startsWith(contextPath)) {
+                return null;
+            }
+            InputStream in = target.getResourceAsStream(
+                path.substring(contextPath.length()));
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+            try {
+                byte[] bytes = new byte[4096];
+                int n;
+                while ((n = in.read(bytes)) != -1
+                        && out.size() < MAX_DOCUMENT_LENGTH) {
+                    out.write(bytes, 0, n);
+                }
+            } finally {
+                in.close();
+            }
+            byte[] data = out.toByteArray();
+            try {
+                return new String(data, getCharset(data));
+            } catch (UnsupportedEncodingException e) {
+                return new String(data, "UTF-8");
+            }
+        }
+
+        // Return the charset declared in the head of a page, or UTF-8.
+        private static String getCharset(byte[] data) throws IOException {
+            String head = new String(data, 0, Math.min(data.length, 1024),
+                "ISO-8859-1").toLowerCase();
+            int i = head.indexOf("charset=");
+            if (i == -1) {
+                return "UTF-8";
+            }
+            int start = i + 8;
+            while (start < head.length() && (head.charAt(start) == '"'
+                    || head.charAt(start) == '\'')) {
+                start++;
+            }
+            int end = start;
+            while (end < head.length()
+                    && (Character.isLetterOrDigit(head.charAt(end))
+                        || "-_.:".indexOf(head.charAt(end)) != -1)) {
+                end++;
+            }
+            return end > start ? head.substring(start, end) : "UTF-8";
+        }
+
+        // Return the text of the title element, or the page file name.
+        private static String getTitle(String html, URL page) {
+            String lower = html.toLowerCase();
+            int start = lower.indexOf("<title");
+            if (start != -1) {
+                start = lower.indexOf('>', start) + 1;
+                int end = lower.indexOf("</title", start);
+                if (start > 0 && end != -1) {
+                    String title = decode(html.substring(start, end)).trim();
+                    if (title.length() != 0) {
+                        return title;
+                    }
+                }
+            }
+            String file = page.getPath();
+            return file.substring(file.lastIndexOf('/') + 1);
+        }
+
+        // Remove tags, comments, and script and style content.
+        private static String stripMarkup(String html) {
+            String lower = html.toLowerCase();
+            StringBuffer buf = new StringBuffer(html.length());
+            int i = 0;
+            int n = html.length();
+            while (i < n) {
+                char c = html.charAt(i);
+                if (c != '<') {
+                    buf.append(c);
+                    i++;
+                    continue;
+                }
+                int end;
+                if (lower.startsWith("<!--", i)) {
+                    end = lower.indexOf("-->", i + 4);
+                    end = end == -1 ? n : end + 3;
+                } else if (lower.startsWith("<script", i)
+                        || lower.startsWith("<style", i)) {
+                    String close = lower.startsWith("<script", i)
+                        ? "</script" : "</style";
+                    end = lower.indexOf(close, i);
+                    end = end == -1 ? n : lower.indexOf('>', end);
+                    end = end == -1 ? n : end + 1;
+                } else {
+                    end = lower.indexOf('>', i);
+                    end = end == -1 ? n : end + 1;
+                }
+                buf.append(' ');
+                i = end;
+            }
+            return decode(buf.toString());
+        }
+
+        // Decode the character references that matter for searching.
+        private static String decode(String text) {
+            if (text.indexOf('&') == -1) {
+                return text;
+            }
+            StringBuffer buf = new StringBuffer(text.length());
+            int n = text.length();
+            for (int i = 0; i < n; i++) {
+                char c = text.charAt(i);
+                int semi;
+                if (c != '&' || (semi = text.indexOf(';', i)) == -1
+                        || semi - i > 8) {
+                    buf.append(c);
+                    continue;
+                }
+                String ref = text.substring(i + 1, semi);
+                char decoded = 0;
+                if (ref.equals("amp")) {
+                    decoded = '&';
+                } else if (ref.equals("lt")) {
+                    decoded = '<';
+                } else if (ref.equals("gt")) {
+                    decoded = '>';
+                } else if (ref.equals("quot")) {
+                    decoded = '"';
+                } else if (ref.equals("nbsp")) {
+                    decoded = ' ';
+                } else if (ref.startsWith("#")) {
+                    try {
+                        decoded = (char) (ref.startsWith("#x")
+                            || ref.startsWith("#X")
+                            ? Integer.parseInt(ref.substring(2), 16)
+                            : Integer.parseInt(ref.substring(1)));
+                    } catch (NumberFormatException e) {
+                        decoded = 0;
+                    }
+                }
+                if (decoded == 0) {
+                    buf.append(c);
+                } else {
+                    buf.append(decoded);
+                    i = semi;
+                }
+            }
+            return buf.toString();
+        }
+    }
+
+    // Count the words of text in counts, a map of word to int[1].
+    static void tokenize(String text, Locale locale, Map counts) {
+        int n = text.length();
+        int i = 0;
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < n && Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                String word = text.substring(start, i).toLowerCase(locale);
+                int[] count = (int[]) counts.get(word);
+                if (count == null) {
+                    counts.put(word, new int[] {1});
+                } else {
+                    count[0]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable inverted index of the help pages. Each word maps to an
+     * array of (page, occurrences) pairs in page order.
+     */
+    private static final class SearchIndex {
+
+        private final Locale locale;
+        private final String[] docs;
+        private final String[] titles;
+        private final Map postings;
+
+        SearchIndex(Locale locale, String[] docs, String[] titles,
+                Map postings) {
+            this.locale = locale;
+            this.docs = docs;
+            this.titles = titles;
+            this.postings = postings;
+        }
+
+        List search(String query, URL base) {
+            HashMap words = new HashMap();
+            tokenize(query, locale, words);
+            if (words.isEmpty()) {
+                return Collections.EMPTY_LIST;
+            }
+            int[] matched = new int[docs.length];
+            int[] occurrences = new int[docs.length];
+            IntList hits = new IntList();
+            for (Iterator it = words.keySet().iterator(); it.hasNext(); ) {
+                int[] list = (int[]) postings.get(it.next());
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.length; i += 2) {
+                    int doc = list[i];
+                    if (matched[doc]++ == 0) {
+                        hits.add(doc);
+                    }
+                    occurrences[doc] += list[i + 1];
+                }
+            }
+
+            int[] found = hits.toArray();
+            Integer[] order = new Integer[found.length];
+            for (int i = 0; i < found.length; i++) {
+                order[i] = new Integer(found[i]);
+            }
+            final int[] m = matched;
+            final int[] o = occurrences;
+            java.util.Arrays.sort(order, new java.util.Comparator() {
+                public int compare(Object a, Object b) {
+                    int x = ((Integer) a).intValue();
+                    int y = ((Integer) b).intValue();
+                    if (m[x] != m[y]) {
+                        return m[y] - m[x];
+                    }
+                    if (o[x] != o[y]) {
+                        return o[y] - o[x];
+                    }
+                    return x - y;
+                }
+            });
+
+            int nWords = words.size();
+            List result = new ArrayList(order.length);
+            for (int i = 0; i < order.length; i++) {
+                int doc = order[i].intValue();
+                URL page;
+                try {
+                    page = new URL(base, docs[doc]);
+                } catch (MalformedURLException e) {
+                    continue;
+                }
+                SearchItem item = new SearchItem(page, titles[doc],
+                    locale.toString(), page.toExternalForm(),
+                    (double) matched[doc] / nWords, 0, 0, new Vector());
+                result.add(new SearchTOCItem(item));
+            }
+            return result;
+        }
+    }
+
+    // A growable int array.
+    private static final class IntList {
+
+        private int[] data = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(data, 0, grown, 0, size);
+                data = grown;
+            }
+            data[size++] = value;
+        }
+
+        int[] toArray() {
+            int[] result = new int[size];
+            System.arraycopy(data, 0, result, 0, size);
+            return result;
+        }
+    }
+}
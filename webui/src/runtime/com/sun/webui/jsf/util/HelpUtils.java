@@ -44,26 +44,23 @@ import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Locale;
 import java.util.Vector;
 
 import javax.help.HelpSet;
 import javax.help.HelpSetException;
 import javax.help.IndexItem;
-import javax.help.IndexView;
 import javax.help.InvalidHelpSetContextException;
 import javax.help.Map;
 import javax.help.Map.ID;
-import javax.help.Merge;
-import javax.help.NavigatorView;
 import javax.help.SearchHit;
 import javax.help.SearchTOCItem;
 import javax.help.SearchView;
 import javax.help.ServletHelpBroker;
-import javax.help.SortMerge;
 import javax.help.TOCItem;
-import javax.help.TOCView;
 import javax.help.TreeItem;
 import javax.help.search.MergingSearchEngine;
 import javax.help.search.SearchEvent;
@@ -92,17 +89,19 @@ public class HelpUtils implements SearchListener {
 
     private ServletHelpBroker helpBroker;
 
+    // The shared content of the helpset, null once a helpset was merged.
+    private HelpRepository.HelpContent helpContent;
+
+    // The helpset URL of this request; the server relative URLs of
+    // helpContent are resolved against it.
+    private URL helpSetURL;
+
     // TOC variables.
-    private TOCView tocView;
-    private Enumeration tocTreeEnum;
     private ArrayList tocTreeList;
     private DefaultMutableTreeNode tocTopNode;    
 
     // Index (tab) variables.
-    private IndexView indexView;
-    private Enumeration indexTreeEnum;
     private ArrayList indexTreeList;
-    private DefaultMutableTreeNode indexTopNode;    
 
     // Search variables.
     private SearchView searchView;
@@ -111,6 +110,9 @@ public class HelpUtils implements SearchListener {
     private Vector searchNodes;
     private Enumeration searchEnum;
     private boolean searchFinished;
+
+    // How long to wait for the JavaHelp search engine, in milliseconds.
+    private static final long SEARCH_TIMEOUT = 10000;
     
     private String currentRequestScheme = null;
 
@@ -357,45 +359,23 @@ public class HelpUtils implements SearchListener {
     }
 
     /**
-     * Initialize navigator views.
+     * Initialize navigator views from the shared helpset content.
      */
     private void initNavigatorViews() {
-	// Initialize TOC.
-	//
-	HelpSet hs = helpBroker.getHelpSet();
-	Locale locale = hs.getLocale();
-
-	tocView = (TOCView) hs.getNavigatorView(TOC_VIEW_NAME);
-	if (tocView != null) {
-	    // Grab the tree data from the navigator view.
-	    tocTopNode = tocView.getDataAsTree();	    
-
-	    // Add all the sub-helpsets to the master merged helpset.
-	    addSubHelpSets(hs);
-
-	    // Set the tocTreeEnum and tocTreeList objects for future use.
-	    tocTreeEnum = tocTopNode.preorderEnumeration();
-	    setTOCTreeList();
+	if (helpContent == null) {
+	    return;
 	}
 
-	// Initialize Index.
-	//
-
-	// Get the Index navigator view and index tree data.
-	indexView = (IndexView) hs.getNavigatorView(INDEX_VIEW_NAME);
-	if (indexView != null) {
-	    indexTopNode = indexView.getDataAsTree();
-
-	    // Set the indexTreeEnum and indexTreeList objects for future use.
-	    indexTreeEnum = indexTopNode.preorderEnumeration();
-	    setIndexTreeList();
+	// The merged TOC and index trees are shared; the lists are copied
+	// since they are handed out to callers.
+	tocTopNode = helpContent.getTOCTopNode();
+	if (helpContent.getTOCTreeList() != null) {
+	    tocTreeList = new ArrayList(helpContent.getTOCTreeList());
 	}
-
-	// Initialize Search.
-	//
-
-	// Get the Search navigator view and index tree data.
-	searchView = (SearchView) hs.getNavigatorView(SEARCH_VIEW_NAME);        
+	if (helpContent.getIndexTreeList() != null) {
+	    indexTreeList = new ArrayList(helpContent.getIndexTreeList());
+	}
+	searchView = helpContent.getSearchView();
     }
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -421,11 +401,32 @@ public class HelpUtils implements SearchListener {
 		return;
 	    }
 
+	    if (!merge) {
+		helpBroker.setHelpSet(createHelpSet(request, hsName));
+		return;
+	    }
+
+	    HelpRepository.HelpContent content = helpContent;
+	    URL url = helpSetURL;
 	    HelpSet newHS = createHelpSet(request, hsName);
-	    if (merge && !hs.contains(newHS)) {
+	    helpContent = content;
+	    helpSetURL = url;
+	    if (!hs.contains(newHS)) {
+		// Merge into a private copy, never into the shared helpset.
+		if (content != null && hs == content.getHelpSet()) {
+		    try {
+			hs = new HelpSet(null, hs.getHelpSetURL());
+		    } catch (HelpSetException e) {
+			LogUtil.warning("Can not copy helpset: " +
+			    e.getMessage());
+			throw new RuntimeException(e);
+		    }
+		    helpBroker.setHelpSet(hs);
+		    helpContent = null;
+		    searchView = null;
+		    helpSearch = null;
+		}
 		hs.add(newHS);
-	    } else {
-		helpBroker.setHelpSet(newHS);
 	    }
 
 	// The HelpSet does not exist.
@@ -472,7 +473,8 @@ public class HelpUtils implements SearchListener {
     }
 
     /**
-     * Creates a helpset.
+     * Creates a helpset. The helpset is loaded once per application and
+     * shared, see {@link HelpRepository}.
      *
      * @param request The request for this page
      * @param hsName the HelpSet name
@@ -498,7 +500,11 @@ public class HelpUtils implements SearchListener {
 		: new URL(getCurrentRequestScheme(), request.getServerName(),
                     port, hsName);
 
-	    hs = new HelpSet(null, url);
+	    helpContent = HelpRepository.getInstance(
+		FacesContext.getCurrentInstance()).getContent(hsName,
+		    currentLocale, url);
+	    helpSetURL = url;
+	    hs = helpContent.getHelpSet();
 	} catch (MalformedURLException e) {
 	    // ignore
 	} catch (HelpSetException hse) {
@@ -526,37 +532,16 @@ public class HelpUtils implements SearchListener {
 	return hs;
     }
 
-    /** 
-     * Adds sub-helpsets to the master merged helpset.
-     *
-     * @param hs The HelpSet to which subhelpsets will be added
-     */
-    private void addSubHelpSets(HelpSet hs) {
-	for (Enumeration e = hs.getHelpSets(); e.hasMoreElements(); ) {
-	    HelpSet ehs = (HelpSet) e.nextElement();
-	    if (ehs == null) {
-		continue;
-	    }
-
-	    // Merge views
-	    NavigatorView[] views = ehs.getNavigatorViews();
-	    for (int i = 0; i < views.length; i++) {
-		if (views[i] instanceof TOCView) {
-		    Merge mergeObject = Merge.DefaultMergeFactory.getMerge(
-			tocView, views[i]);
-		    if (mergeObject != null) {
-			mergeObject.processMerge(tocTopNode);
-		    }
-		}
-	    }
-	    addSubHelpSets(ehs);
-	}
-    }    
-
     /**
      * Return the ID of the given node.
      */
     public String getID(TreeNode node) {
+	if (helpContent != null) {
+	    String id = helpContent.getID(node);
+	    if (id != null) {
+		return id;
+	    }
+	}
 	if (node == tocTopNode) {
 	    return BASE_ID;
 	}
@@ -575,6 +560,18 @@ public class HelpUtils implements SearchListener {
      * String if no content exists.
      */
     public String getContentURL(TreeItem item) {
+	if (helpContent != null) {
+	    String contentURL = helpContent.getContentURL(item);
+	    if (contentURL != null && contentURL.length() != 0) {
+		try {
+		    return new URL(helpSetURL, contentURL).toExternalForm();
+		} catch (MalformedURLException e) {
+		    return "";
+		}
+	    } else if (contentURL != null) {
+		return contentURL;
+	    }
+	}
 	URL url = null;
 	ID id = item.getID();
 	if (id != null) {
@@ -590,53 +587,44 @@ public class HelpUtils implements SearchListener {
     }
 
     /**
-     * Set the TOC tree list object using the tocTreeEnum object.
-     */
-    private void setTOCTreeList() {
-	tocTreeList = new ArrayList();
-	while (tocTreeEnum.hasMoreElements()) {
-	    tocTreeList.add(tocTreeEnum.nextElement());
-	}
-    }
-
-    /**
-     * Return the TOC tree enumeration as an ArrayList object.
+     * Return the TOC tree in preorder as an ArrayList object. The tree nodes
+     * are shared by the application and must not be modified.
      */
     public ArrayList getTOCTreeList() {
 	if (tocTreeList == null) {
-	    setTOCTreeList();
+	    tocTreeList = new ArrayList();
 	}
 	return tocTreeList;
     }
 
     /**
-     * Set the Index tree list object using the indexTreeEnum object.
-     */
-    private void setIndexTreeList() {
-	indexTreeList = new ArrayList();
-	while (indexTreeEnum.hasMoreElements()) {
-	    indexTreeList.add(indexTreeEnum.nextElement());
-	}
-    }
-
-    /**
-     * Return the Index tree enumeration as an ArrayList object.
+     * Return the Index tree in preorder as an ArrayList object. The tree
+     * nodes are shared by the application and must not be modified.
      */
     public ArrayList getIndexTreeList() {
 	if (indexTreeList == null) {
-	    setIndexTreeList();
+	    indexTreeList = new ArrayList();
 	}
 	return indexTreeList;
     }
 
     /**
-     * Do a search on the query passed in.
+     * Do a search on the query passed in. The full text index of the shared
+     * helpset is used once it is built; until then the JavaHelp search
+     * engine is used, waiting at most <code>SEARCH_TIMEOUT</code> for it.
      */
     public synchronized Enumeration doSearch(String query) {
 	if (query == null) {
 	    return null;
 	}
 
+	if (helpContent != null) {
+	    List hits = helpContent.search(query, helpSetURL);
+	    if (hits != null) {
+		return Collections.enumeration(hits);
+	    }
+	}
+
 	if (helpSearch == null) {
 	    if (searchView == null) {
 		searchView = (SearchView) helpBroker.getHelpSet()
@@ -657,15 +645,26 @@ public class HelpUtils implements SearchListener {
 	}
         
 	searchFinished = false;
+	searchEnum = null;
 	searchQuery.start(query, currentLocale);
 
-	// Wait for search to finish.
-	if (!searchFinished) {
+	// Wait for search to finish, returning what was found so far if it
+	// takes too long.
+	long deadline = System.currentTimeMillis() + SEARCH_TIMEOUT;
+	long remaining = SEARCH_TIMEOUT;
+	while (!searchFinished && remaining > 0) {
 	    try {
-		wait();
+		wait(remaining);
 	    } catch (InterruptedException e) {
-		// ignore
+		break;
 	    }
+	    remaining = deadline - System.currentTimeMillis();
+	}
+
+	if (!searchFinished) {
+	    searchQuery.stop();
+	    return (searchNodes != null)
+		? ((Vector) searchNodes.clone()).elements() : null;
 	}
 
 	// searchEnum is set in searchFinished method.
@@ -47,9 +47,13 @@ import com.sun.webui.jsf.theme.ThemeJavascript;
 import com.sun.webui.jsf.theme.ThemeStyles;
 import com.sun.webui.jsf.theme.ThemeTemplates;
 
+import com.sun.webui.jsf.theme.JSFThemeContext;
+
 import java.io.IOException;
+import java.util.Locale;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.FacesContext;
@@ -66,6 +70,46 @@ public class JavaScriptUtilities {
     // The number of spaces to add to each level of indentation.
     public static final int INDENT_FACTOR = 4;
 
+    /**
+     * Context parameter which, when set to "true", causes the Dojo and module
+     * configuration to be referenced as external JavaScript resources served
+     * by the <code>ThemeServlet</code>, instead of being rendered inline. The
+     * external resources may be cached by the browser across pages.
+     */
+    public static final String BOOTSTRAP_EXTERNAL =
+        "com.sun.webui.jsf.util.BOOTSTRAP_EXTERNAL"; //NOI18N
+
+    /**
+     * The resource path prefix of the generated bootstrap JavaScript files
+     * served by the <code>ThemeServlet</code>.
+     */
+    public static final String BOOTSTRAP_RESOURCE_PREFIX =
+        "/com/sun/webui/jsf/bootstrap/"; //NOI18N
+
+    // Application map key of the rendered bootstrap cache.
+    private static final String BOOTSTRAP_CACHE =
+        "com.sun.webui.jsf.util.BOOTSTRAP_CACHE"; //NOI18N
+
+    // The maximum number of rendered bootstrap blocks cached per application.
+    // Keys only vary by theme, locale, context path and flags; the bound
+    // just guards against an unexpected explosion of combinations.
+    private static final int BOOTSTRAP_CACHE_SIZE = 64;
+
+    // Resource names of the external bootstrap files.
+    private static final String DOJO_CONFIG_RESOURCE = "dojoConfig"; //NOI18N
+    private static final String MODULE_CONFIG_RESOURCE = "moduleConfig"; //NOI18N
+    private static final String RESOURCE_SUFFIX = ".js"; //NOI18N
+
+    // Dojo config, indexed by the debug and parseWidgets flags. The strings
+    // do not depend on the request, so they are built only once.
+    private static final String dojoConfigs[] = new String[4];
+
+    // Module config, indexed by the writeIncludes flag.
+    private static final String moduleConfigs[] = new String[2];
+
+    // An object to synchronize with when creating the bootstrap cache.
+    private static final Object synchObj = new Object();
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // JavaScript config methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -79,26 +123,13 @@ public class JavaScriptUtilities {
      * @param parseWidgets Enable searching of dojoType widget tags.
      */
     public static String getDojoConfig(boolean debug, boolean parseWidgets) {
-        Theme theme = getTheme();
-        StringBuffer buff = new StringBuffer(256);
-
-        try {
-            JSONObject json = new JSONObject();
-            JSONObject json1 = new JSONObject();
-            json1.put("webui/suntheme", "../../com/sun/webui/jsf/suntheme/javascript");
-            json.put("isDebug", debug)
-                .put("debugAtAllCosts", debug)
-                .put("parseWidgets", parseWidgets)
-                .put("async", true)
-                .put("paths", json1);
-
-            buff.append("var dojoConfig=")
-                .append(json.toString(INDENT_FACTOR))
-                .append(";\n");
-        } catch (JSONException e) {
-            e.printStackTrace();
-        }    
-        return buff.toString();
+        int index = (debug ? 2 : 0) + (parseWidgets ? 1 : 0);
+        String config = dojoConfigs[index];
+        if (config == null) {
+            config = createDojoConfig(debug, parseWidgets);
+            dojoConfigs[index] = config;
+        }
+        return config;
     }
 
     /**
@@ -110,29 +141,100 @@ public class JavaScriptUtilities {
      * @param writeIncludes Write includes for JavaScript debugging.
      */
     public static String getModuleConfig(boolean writeIncludes) {
-        Theme theme = getTheme();
-        StringBuffer buff = new StringBuffer(256);
+        int index = writeIncludes ? 1 : 0;
+        String config = moduleConfigs[index];
+        if (config == null) {
+            config = createModuleConfig(writeIncludes);
+            moduleConfigs[index] = config;
+        }
+        return config;
+    }
 
-        // Append JavaScript.
-//        buff.append("dojo.hostenv.setModulePrefix(\"")
-////            .append(getTheme().getJSString(ThemeJavascript.MODULE_PREFIX))
-//            .append("webui/suntheme")
-//            .append("\", \"")
-//            .append(theme.getPathToJSFile(ThemeJavascript.MODULE_PATH))
-//            .append("\");\n")
-//            .append(getModule("*"))
-//            .append("\n");
-        // Output includes for debugging. This will ensure that JavaScript
-        // files are accessible to JavaScript debuggers.
-        if (writeIncludes) {
-            buff.append(getModule("widget.*"))
-                .append("\n")
-                .append(getModule("widget.jsfx.*"))
-                .append("\n")
-                .append("dojo.hostenv.writeIncludes();")
-                .append("\n");
+    /**
+     * Get the content of a generated bootstrap JavaScript resource, as
+     * referenced when the <code>BOOTSTRAP_EXTERNAL</code> context parameter
+     * is set. This is used by the <code>ThemeServlet</code> to serve the
+     * resource.
+     *
+     * @param resourceName The resource path, including the
+     * <code>BOOTSTRAP_RESOURCE_PREFIX</code>.
+     * @return The JavaScript, or null if the resource is not known.
+     */
+    public static String getBootstrapResource(String resourceName) {
+        if (resourceName == null
+                || !resourceName.startsWith(BOOTSTRAP_RESOURCE_PREFIX)
+                || !resourceName.endsWith(RESOURCE_SUFFIX)) {
+            return null;
         }
-        return buff.toString();
+        String name = resourceName.substring(
+            BOOTSTRAP_RESOURCE_PREFIX.length(),
+            resourceName.length() - RESOURCE_SUFFIX.length());
+
+        // Names are of the form "dojoConfig-<debug>-<parseWidgets>" and
+        // "moduleConfig-<debug>".
+        String[] tokens = name.split("-");
+        if (tokens.length == 3 && DOJO_CONFIG_RESOURCE.equals(tokens[0])) {
+            return getDojoConfig(Boolean.valueOf(tokens[1]).booleanValue(),
+                Boolean.valueOf(tokens[2]).booleanValue());
+        } else if (tokens.length == 2
+                && MODULE_CONFIG_RESOURCE.equals(tokens[0])) {
+            return getModuleConfig(Boolean.valueOf(tokens[1]).booleanValue());
+        }
+        return null;
+    }
+
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // JavaScript bootstrap methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+    /**
+     * Render the JavaScript bootstrap block of a page: the Dojo config, the
+     * Dojo, JSON, Prototype and JSF Extensions includes, the module config and
+     * the theme's global includes.
+     *
+     * The rendered block only depends on the theme, locale, request context
+     * path and flags given here. It is rendered once and the characters are
+     * cached in the application map, so subsequent pages write the cached
+     * block directly.
+     *
+     * @param context The current FacesContext.
+     * @param component UIComponent to be rendered.
+     * @param writer ResponseWriter to which the component should be rendered.
+     * @param debug Enable JavaScript debugging.
+     * @param parseWidgets Enable searching of dojoType widget tags.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderBootstrap(FacesContext context,
+            UIComponent component, ResponseWriter writer, boolean debug,
+            boolean parseWidgets) throws IOException {
+        boolean external = isBootstrapExternal(context);
+
+        // Portlet response writers may encode resource URLs per request.
+        if (RenderingUtilities.isPortlet(context)) {
+            renderBootstrapScripts(context, component, writer, debug,
+                parseWidgets, external);
+            return;
+        }
+
+        Map cache = getBootstrapCache(context);
+        BootstrapKey key = new BootstrapKey(getTheme(),
+            context.getViewRoot().getLocale(),
+            context.getExternalContext().getRequestContextPath(),
+            writer.getContentType(), debug, parseWidgets, external);
+        char[] block = (char[]) cache.get(key);
+        if (block == null) {
+            FastStringWriter buff = new FastStringWriter(1024);
+            ResponseWriter clone = writer.cloneWithWriter(buff);
+            renderBootstrapScripts(context, component, clone, debug,
+                parseWidgets, external);
+            clone.flush();
+            block = buff.toString().toCharArray();
+            if (cache.size() < BOOTSTRAP_CACHE_SIZE) {
+                cache.put(key, block);
+            }
+        }
+        writer.write(block, 0, block.length);
     }
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -320,6 +422,125 @@ public class JavaScriptUtilities {
     // Private renderer methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
+    // Helper method to create JavaScript used to configure Dojo.
+    private static String createDojoConfig(boolean debug,
+            boolean parseWidgets) {
+        StringBuffer buff = new StringBuffer(256);
+
+        try {
+            JSONObject json = new JSONObject();
+            JSONObject json1 = new JSONObject();
+            json1.put("webui/suntheme", "../../com/sun/webui/jsf/suntheme/javascript");
+            json.put("isDebug", debug)
+                .put("debugAtAllCosts", debug)
+                .put("parseWidgets", parseWidgets)
+                .put("async", true)
+                .put("paths", json1);
+
+            buff.append("var dojoConfig=")
+                .append(json.toString(INDENT_FACTOR))
+                .append(";\n");
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }    
+        return buff.toString();
+    }
+
+    // Helper method to create JavaScript used to configure module resources.
+    private static String createModuleConfig(boolean writeIncludes) {
+        StringBuffer buff = new StringBuffer(256);
+
+        // Output includes for debugging. This will ensure that JavaScript
+        // files are accessible to JavaScript debuggers.
+        if (writeIncludes) {
+            buff.append(getModule("widget.*"))
+                .append("\n")
+                .append(getModule("widget.jsfx.*"))
+                .append("\n")
+                .append("dojo.hostenv.writeIncludes();")
+                .append("\n");
+        }
+        return buff.toString();
+    }
+
+    // Helper method to render the bootstrap scripts without caching.
+    private static void renderBootstrapScripts(FacesContext context,
+            UIComponent component, ResponseWriter writer, boolean debug,
+            boolean parseWidgets, boolean external) throws IOException {
+        // Render Dojo config.
+        if (external) {
+            renderBootstrapInclude(context, component, writer,
+                DOJO_CONFIG_RESOURCE + "-" + debug + "-" + parseWidgets);
+        } else {
+            renderJavaScript(component, writer,
+                getDojoConfig(debug, parseWidgets));
+        }
+
+        // Render Dojo include.
+        renderDojoInclude(component, writer);
+
+        // Render JSON include.
+        renderJsonInclude(component, writer);
+
+        // Render Prototype include before JSF Extensions.
+        renderPrototypeInclude(component, writer);
+
+        // Render JSF Extensions include.
+        renderJsfxInclude(component, writer);
+
+        // Render module config after including dojo. The config is empty
+        // unless debugging, so an empty script element is not rendered.
+        if (debug) {
+            if (external) {
+                renderBootstrapInclude(context, component, writer,
+                    MODULE_CONFIG_RESOURCE + "-" + debug);
+            } else {
+                renderJavaScript(component, writer, getModuleConfig(debug));
+            }
+        }
+
+        // Render global include.
+        renderGlobalInclude(component, writer);
+    }
+
+    // Helper method to render an include of a generated bootstrap resource.
+    private static void renderBootstrapInclude(FacesContext context,
+            UIComponent component, ResponseWriter writer, String name)
+            throws IOException {
+        String jsFile = JSFThemeContext.getInstance(context).getResourcePath(
+            BOOTSTRAP_RESOURCE_PREFIX + name + RESOURCE_SUFFIX);
+
+        writer.startElement("script", component);
+        writer.writeAttribute("type", "text/javascript", null);
+        writer.writeURIAttribute("src", jsFile, null);
+        writer.endElement("script");
+        writer.write("\n");
+    }
+
+    // Helper method to test the BOOTSTRAP_EXTERNAL context parameter.
+    private static boolean isBootstrapExternal(FacesContext context) {
+        return Boolean.valueOf(context.getExternalContext().getInitParameter(
+            BOOTSTRAP_EXTERNAL)).booleanValue();
+    }
+
+    // Helper method to get the bootstrap cache from the application map,
+    // creating it if necessary.
+    private static Map getBootstrapCache(FacesContext context) {
+        Map map = context.getExternalContext().getApplicationMap();
+        Map cache = (Map) map.get(BOOTSTRAP_CACHE);
+        if (cache == null) {
+            synchronized (synchObj) {
+                // try again in case another thread created it.
+                cache = (Map) map.get(BOOTSTRAP_CACHE);
+                if (cache == null) {
+                    cache = new ConcurrentHashMap();
+                    map.put(BOOTSTRAP_CACHE, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
     // Helper method to get Theme objects.
     private static Theme getTheme() {
         return ThemeUtilities.getTheme(FacesContext.getCurrentInstance());
@@ -380,4 +601,57 @@ public class JavaScriptUtilities {
         writer.endElement("script");
         writer.write("\n");
     }
+
+    /**
+     * Key of a rendered bootstrap block. Themes are shared instances per
+     * theme name and locale, so identity is used to compare them.
+     */
+    private static final class BootstrapKey {
+        private final Theme theme;
+        private final Locale locale;
+        private final String contextPath;
+        private final String contentType;
+        private final int flags;
+        private final int hash;
+
+        BootstrapKey(Theme theme, Locale locale, String contextPath,
+                String contentType, boolean debug, boolean parseWidgets,
+                boolean external) {
+            this.theme = theme;
+            this.locale = locale;
+            this.contextPath = contextPath;
+            this.contentType = contentType;
+            this.flags = (debug ? 1 : 0) | (parseWidgets ? 2 : 0)
+                | (external ? 4 : 0);
+            int h = System.identityHashCode(theme);
+            h = 31 * h + (locale == null ? 0 : locale.hashCode());
+            h = 31 * h + (contextPath == null ? 0 : contextPath.hashCode());
+            h = 31 * h + (contentType == null ? 0 : contentType.hashCode());
+            this.hash = 31 * h + flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BootstrapKey)) {
+                return false;
+            }
+            BootstrapKey key = (BootstrapKey) obj;
+            return theme == key.theme && flags == key.flags
+                && equals(locale, key.locale)
+                && equals(contextPath, key.contextPath)
+                && equals(contentType, key.contentType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean equals(Object a, Object b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
 }
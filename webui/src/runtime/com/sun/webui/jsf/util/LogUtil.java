@@ -121,7 +121,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void finest(String msgId, Object params[]) {
-	getLogger().log(Level.FINEST, getMessage(msgId, params, false));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINEST)) {
+	    logger.log(Level.FINEST, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -157,7 +160,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void finest(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.FINEST, getMessage(msgId, params, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINEST)) {
+	    logger.log(Level.FINEST, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -183,7 +189,10 @@ public class LogUtil {
      *	@param	msg	    The message (or <code>ResourceBundle</code> key).
      */
     public static void finest(Object loggerId, String msg) {
-	getLogger(loggerId).log(Level.FINEST, getMessage(msg, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINEST)) {
+	    logger.log(Level.FINEST, getMessage(msg, false));
+	}
     }
 
     /**
@@ -195,8 +204,11 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void finest(String msg, Throwable ex) {
-	getLogger().
-	    log(Level.FINEST, DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINEST)) {
+	    logger.log(Level.FINEST,
+		DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	}
     }
 
     /**
@@ -211,8 +223,11 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void finest(Object loggerId, String msg, Throwable ex) {
-	getLogger(loggerId).
-	    log(Level.FINEST, DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINEST)) {
+	    logger.log(Level.FINEST,
+		DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	}
     }
 
 
@@ -270,7 +285,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void finer(String msgId, Object params[]) {
-	getLogger().log(Level.FINER, getMessage(msgId, params, false));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINER)) {
+	    logger.log(Level.FINER, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -306,7 +324,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void finer(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.FINER, getMessage(msgId, params, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINER)) {
+	    logger.log(Level.FINER, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -332,7 +353,10 @@ public class LogUtil {
      *	@param	msg	    The message (or <code>ResourceBundle</code> key).
      */
     public static void finer(Object loggerId, String msg) {
-	getLogger(loggerId).log(Level.FINER, getMessage(msg, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINER)) {
+	    logger.log(Level.FINER, getMessage(msg, false));
+	}
     }
 
     /**
@@ -344,8 +368,11 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void finer(String msg, Throwable ex) {
-	getLogger().
-	    log(Level.FINER, DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINER)) {
+	    logger.log(Level.FINER,
+		DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	}
     }
 
     /**
@@ -360,8 +387,11 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void finer(Object loggerId, String msg, Throwable ex) {
-	getLogger(loggerId).
-	    log(Level.FINER, DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINER)) {
+	    logger.log(Level.FINER,
+		DEFAULT_LOG_KEY + LOG_KEY_MESSAGE_SEPARATOR + msg, ex);
+	}
     }
 
 
@@ -419,7 +449,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void fine(String msgId, Object params[]) {
-	getLogger().log(Level.FINE, getMessage(msgId, params, false));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINE)) {
+	    logger.log(Level.FINE, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -455,7 +488,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void fine(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.FINE, getMessage(msgId, params, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINE)) {
+	    logger.log(Level.FINE, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -481,7 +517,10 @@ public class LogUtil {
      *	@param	msg	    The message (or <code>ResourceBundle</code> key).
      */
     public static void fine(Object loggerId, String msg) {
-	getLogger(loggerId).log(Level.FINE, getMessage(msg, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINE)) {
+	    logger.log(Level.FINE, getMessage(msg, false));
+	}
     }
 
     /**
@@ -492,7 +531,10 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void fine(String msg, Throwable ex) {
-	getLogger().log(Level.FINE, getMessage(msg, false), ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.FINE)) {
+	    logger.log(Level.FINE, getMessage(msg, false), ex);
+	}
     }
 
     /**
@@ -507,7 +549,10 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void fine(Object loggerId, String msg, Throwable ex) {
-	getLogger(loggerId).log(Level.FINE, getMessage(msg, false), ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.FINE)) {
+	    logger.log(Level.FINE, getMessage(msg, false), ex);
+	}
     }
 
 
@@ -565,7 +610,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void config(String msgId, Object params[]) {
-	getLogger().log(Level.CONFIG, getMessage(msgId, params, false));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.CONFIG)) {
+	    logger.log(Level.CONFIG, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -601,7 +649,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void config(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.CONFIG, getMessage(msgId, params, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.CONFIG)) {
+	    logger.log(Level.CONFIG, getMessage(msgId, params, false));
+	}
     }
 
     /**
@@ -627,7 +678,10 @@ public class LogUtil {
      *	@param	msg	    The message (or <code>ResourceBundle</code> key).
      */
     public static void config(Object loggerId, String msg) {
-	getLogger(loggerId).log(Level.CONFIG, getMessage(msg, false));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.CONFIG)) {
+	    logger.log(Level.CONFIG, getMessage(msg, false));
+	}
     }
 
     /**
@@ -639,7 +693,10 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void config(String msg, Throwable ex) {
-	getLogger().log(Level.CONFIG, getMessage(msg, false), ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.CONFIG)) {
+	    logger.log(Level.CONFIG, getMessage(msg, false), ex);
+	}
     }
 
     /**
@@ -654,7 +711,10 @@ public class LogUtil {
      *	@param	ex	    The <code>Throwable</code> to log.
      */
     public static void config(Object loggerId, String msg, Throwable ex) {
-	getLogger(loggerId).log(Level.CONFIG, getMessage(msg, false), ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.CONFIG)) {
+	    logger.log(Level.CONFIG, getMessage(msg, false), ex);
+	}
     }
 
 
@@ -695,7 +755,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(String msgId) {
-	getLogger().log(Level.INFO, getMessage(msgId, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -711,7 +774,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(Object loggerId, String msgId) {
-	getLogger(loggerId).log(Level.INFO, getMessage(msgId, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -741,7 +807,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(String msgId, Object params[]) {
-	getLogger().log(Level.INFO, getMessage(msgId, params, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -777,7 +846,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.INFO, getMessage(msgId, params, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -792,7 +864,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(String msgId, Throwable ex) {
-	getLogger().log(Level.INFO, getMessage(msgId, false), ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, false), ex);
+	}
     }
 
     /**
@@ -810,7 +885,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void info(Object loggerId, String msgId, Throwable ex) {
-	getLogger(loggerId).log(Level.INFO, getMessage(msgId, false), ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.INFO)) {
+	    logger.log(Level.INFO, getMessage(msgId, false), ex);
+	}
     }
 
 
@@ -851,7 +929,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(String msgId) {
-	getLogger().log(Level.WARNING, getMessage(msgId, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -867,7 +948,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(Object loggerId, String msgId) {
-	getLogger(loggerId).log(Level.WARNING, getMessage(msgId, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -897,7 +981,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(String msgId, Object params[]) {
-	getLogger().log(Level.WARNING, getMessage(msgId, params, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -933,7 +1020,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.WARNING, getMessage(msgId, params, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -948,7 +1038,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(String msgId, Throwable ex) {
-	getLogger().log(Level.WARNING, getMessage(msgId, false), ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, false), ex);
+	}
     }
 
     /**
@@ -966,7 +1059,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void warning(Object loggerId, String msgId, Throwable ex) {
-	getLogger(loggerId).log(Level.WARNING, getMessage(msgId, false), ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.WARNING)) {
+	    logger.log(Level.WARNING, getMessage(msgId, false), ex);
+	}
     }
 
 
@@ -1007,7 +1103,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(String msgId) {
-	getLogger().log(Level.SEVERE, getMessage(msgId, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -1023,7 +1122,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(Object loggerId, String msgId) {
-	getLogger(loggerId).log(Level.SEVERE, getMessage(msgId, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, true));
+	}
     }
 
     /**
@@ -1053,7 +1155,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(String msgId, Object params[]) {
-	getLogger().log(Level.SEVERE, getMessage(msgId, params, true));
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -1089,7 +1194,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(Object loggerId, String msgId, Object params[]) {
-	getLogger(loggerId).log(Level.SEVERE, getMessage(msgId, params, true));
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, params, true));
+	}
     }
 
     /**
@@ -1104,7 +1212,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(String msgId, Throwable ex) {
-	getLogger().log(Level.SEVERE, getMessage(msgId, false), ex);
+	Logger logger = getLogger();
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, false), ex);
+	}
     }
 
     /**
@@ -1122,7 +1233,10 @@ public class LogUtil {
      *	@see LogUtil#BUNDLE_NAME
      */
     public static void severe(Object loggerId, String msgId, Throwable ex) {
-	getLogger(loggerId).log(Level.SEVERE, getMessage(msgId, false), ex);
+	Logger logger = getLogger(loggerId);
+	if (logger.isLoggable(Level.SEVERE)) {
+	    logger.log(Level.SEVERE, getMessage(msgId, false), ex);
+	}
     }
 
 
@@ -1215,7 +1329,7 @@ public class LogUtil {
      *	@return	The message to write to the log file.
      */
     private static String getMessage(String msgId, boolean strict) {
-	return getMessage(msgId, new Object[0], strict);
+	return getMessage(msgId, null, strict);
     }
 
     /**
@@ -61,6 +61,14 @@ import javax.faces.context.FacesContext;
  * @author Dan Labrecque
  */
 public class MessageUtil extends Object {  
+    // The maximum number of parsed message formats to cache.
+    private static final int FORMAT_CACHE_SIZE = 512;
+
+    // Cache of parsed message formats, keyed by locale and pattern. Cached
+    // formats are never used directly; see getFormattedMessage.
+    private static final BoundedCache formatCache =
+        new BoundedCache(FORMAT_CACHE_SIZE);
+
     // Default constructor.
     protected MessageUtil() {
     }
@@ -176,17 +184,39 @@ public class MessageUtil extends Object {
         if ((args == null) || (args.length == 0)) {
             return message;
 	}
+
+        // A pattern without arguments or quotes formats to itself.
+        if (message.indexOf('{') == -1 && message.indexOf('\'') == -1) {
+            return message;
+        }
         
         String result = null;
         
         try {
-            MessageFormat mf = new MessageFormat(message);
-            result = mf.format(args);
+            result = getMessageFormat(message).format(args);
         } catch (NullPointerException e) {
         }        
 
         return (result != null) ? result : message;
     }
+
+    /**
+     * Get a <code>MessageFormat</code> for the given pattern. Parsed formats
+     * are cached per locale and pattern; since a <code>MessageFormat</code>
+     * is not thread safe, a clone of the cached format is returned.
+     *
+     * @param pattern The string used as a pattern for inserting arguments.
+     */
+    private static MessageFormat getMessageFormat(String pattern) {
+        Locale locale = Locale.getDefault();
+        FormatKey key = new FormatKey(locale, pattern);
+        MessageFormat mf = (MessageFormat) formatCache.get(key);
+        if (mf == null) {
+            mf = (MessageFormat) formatCache.put(key,
+                new MessageFormat(pattern, locale));
+        }
+        return (MessageFormat) mf.clone();
+    }
     
     /**
      * Get locale from current FacesContext instance.
@@ -223,4 +253,34 @@ public class MessageUtil extends Object {
         ClassLoader loader = Thread.currentThread().getContextClassLoader();
 	return (loader != null) ? loader : o.getClass().getClassLoader();
     }
+
+    /**
+     * Key of a cached <code>MessageFormat</code>.
+     */
+    private static final class FormatKey {
+        private final Locale locale;
+        private final String pattern;
+        private final int hash;
+
+        FormatKey(Locale locale, String pattern) {
+            this.locale = locale;
+            this.pattern = pattern;
+            this.hash = 31 * locale.hashCode() + pattern.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FormatKey)) {
+                return false;
+            }
+            FormatKey key = (FormatKey) obj;
+            return hash == key.hash && pattern.equals(key.pattern)
+                && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
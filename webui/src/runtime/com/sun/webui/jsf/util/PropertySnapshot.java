@@ -0,0 +1,153 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.el.ELContext;
+import javax.el.ValueExpression;
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+
+/**
+ * The PropertySnapshot class keeps the values of the value expressions of a
+ * component while it is rendered, so that a renderer may call the property
+ * getters of the component as often as it needs without evaluating the same
+ * expression again.
+ * <p>
+ * A renderer opts in by calling <code>begin</code> before it reads the
+ * properties of the component and <code>end</code> when it is done. Each
+ * value expression of the component is then evaluated at most once in
+ * between. The values are dropped when a table row group changes its current
+ * row, since an expression may refer to the row. A property set through its
+ * setter, or bound to another expression, is not read from the snapshot,
+ * because the getters only evaluate the expression that is bound when no
+ * local value is set. Components which are not being rendered by a renderer
+ * that opted in are not affected.
+ * </p>
+ */
+public final class PropertySnapshot {
+
+    // The value kept for an expression which evaluated to null.
+    private static final Object NULL = new Object();
+
+    // Not instantiated.
+    private PropertySnapshot() {
+    }
+
+    /**
+     * Return the value of the expression, bound to a property of the
+     * component. The value is taken from the snapshot of the component, if
+     * the component is being rendered with a snapshot, else the expression
+     * is evaluated.
+     *
+     * @param component The component the expression is bound to.
+     * @param expression The value expression of the property.
+     * @return The value of the expression.
+     */
+    public static Object getValue(UIComponent component,
+            ValueExpression expression) {
+        ELContext elContext = FacesContext.getCurrentInstance().getELContext();
+        Map snapshots = (Map) elContext.getContext(PropertySnapshot.class);
+        Map values = snapshots == null ? null : (Map) snapshots.get(component);
+        if (values == null) {
+            return expression.getValue(elContext);
+        }
+        Object value = values.get(expression);
+        if (value == null) {
+            value = expression.getValue(elContext);
+            values.put(expression, value == null ? NULL : value);
+            return value;
+        }
+        return value == NULL ? null : value;
+    }
+
+    /**
+     * Start keeping the values of the value expressions of the component,
+     * until <code>end</code> is called for it.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component being rendered.
+     */
+    public static void begin(FacesContext context, UIComponent component) {
+        ELContext elContext = context.getELContext();
+        Map snapshots = (Map) elContext.getContext(PropertySnapshot.class);
+        if (snapshots == null) {
+            snapshots = new IdentityHashMap();
+            elContext.putContext(PropertySnapshot.class, snapshots);
+        }
+        snapshots.put(component, new IdentityHashMap());
+    }
+
+    /**
+     * Stop keeping the values of the value expressions of the component.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component which was rendered.
+     */
+    public static void end(FacesContext context, UIComponent component) {
+        Map snapshots = (Map)
+                context.getELContext().getContext(PropertySnapshot.class);
+        if (snapshots != null) {
+            snapshots.remove(component);
+        }
+    }
+
+    /**
+     * Drop the values kept for all components, such as when the data an
+     * expression may refer to has changed. The components keep their
+     * snapshots, which are filled again as their properties are read.
+     *
+     * @param context FacesContext for the current request.
+     */
+    public static void clear(FacesContext context) {
+        Map snapshots = (Map)
+                context.getELContext().getContext(PropertySnapshot.class);
+        if (snapshots == null) {
+            return;
+        }
+        Iterator values = snapshots.values().iterator();
+        while (values.hasNext()) {
+            ((Map) values.next()).clear();
+        }
+    }
+}
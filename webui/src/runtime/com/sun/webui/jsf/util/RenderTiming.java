@@ -0,0 +1,751 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.faces.FactoryFinder;
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+import javax.faces.event.PhaseId;
+import javax.faces.render.RenderKit;
+import javax.faces.render.RenderKitFactory;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+
+/**
+ * The RenderTiming class records how long the components of an application
+ * take to encode, decode and validate, and how many characters they write,
+ * by component type and id.
+ * <p>
+ * Timing is made available by registering
+ * <code>com.sun.webui.jsf.event.RenderTimingPhaseListener</code> as a
+ * phase listener of the application. On the first request, the listener
+ * decorates the render kit, so that the renderer of every component is
+ * timed, and registers the MBean
+ * <code>com.sun.webui.jsf:type=RenderTiming,host="&lt;host&gt;",name="&lt;context path&gt;"</code>,
+ * through which timing is switched on and off and the statistics are read.
+ * The host is the server name of that request. Input components time their
+ * validation themselves.
+ * </p><p>
+ * The MBean is registered with the platform MBean server, which would keep
+ * the application loaded after it is undeployed. The listener therefore
+ * also unregisters it when the application is destroyed, if it is
+ * registered as a listener in the web.xml of the application too.
+ * </p><p>
+ * Timing is off unless the <code>RENDER_TIMING</code> context parameter is
+ * true. While it is on, one of every <code>RENDER_TIMING_SAMPLE_RATE</code>
+ * requests is timed with <code>System.nanoTime</code>, and its times are
+ * added to counters which are updated without locking. If the
+ * <code>RENDER_TIMING_SUMMARY</code> context parameter is true, the
+ * <code>Html</code> component of a timed response ends it with an HTML
+ * comment listing its slowest components.
+ * </p>
+ */
+public final class RenderTiming implements RenderTimingMBean {
+
+    /**
+     * The context parameter which, when set to true, switches timing on
+     * when the application starts.
+     */
+    public static final String RENDER_TIMING =
+            "com.sun.webui.jsf.util.RENDER_TIMING"; //NOI18N
+
+    /**
+     * The context parameter holding the number of requests per timed
+     * request, 1 by default.
+     */
+    public static final String RENDER_TIMING_SAMPLE_RATE =
+            "com.sun.webui.jsf.util.RENDER_TIMING_SAMPLE_RATE"; //NOI18N
+
+    /**
+     * The context parameter which, when set to true, makes timed responses
+     * end with a summary comment.
+     */
+    public static final String RENDER_TIMING_SUMMARY =
+            "com.sun.webui.jsf.util.RENDER_TIMING_SUMMARY"; //NOI18N
+
+    // Application map key of the timing.
+    private static final String TIMING =
+            "com.sun.webui.jsf.util.RenderTiming"; //NOI18N
+
+    // Request map key of the timing of a request.
+    private static final String REQUEST =
+            "com.sun.webui.jsf.util.RenderTiming.request"; //NOI18N
+
+    // The number of components with counters of their own. Further
+    // components are counted by type only, with the id "*".
+    private static final int MAX_COMPONENTS = 1000;
+
+    // The number of components listed by the summary comment.
+    private static final int SUMMARY_COMPONENTS = 10;
+
+    // Indexes of the counters of a component.
+    static final int ENCODES = 0;
+    static final int ENCODE_NANOS = 1;
+    static final int ENCODE_SELF_NANOS = 2;
+    static final int CHARS = 3;
+    static final int DECODES = 4;
+    static final int DECODE_NANOS = 5;
+    static final int VALIDATES = 6;
+    static final int VALIDATE_NANOS = 7;
+
+    // The items of the component statistics, in the order of the counters.
+    private static final String[] COMPONENT_ITEMS = {
+        "type", "id", "encodes", "encodeMicros", "encodeSelfMicros", //NOI18N
+        "chars", "decodes", "decodeMicros", "validates", //NOI18N
+        "validateMicros" //NOI18N
+    };
+
+    private static final String[] PHASE_ITEMS = {
+        "phase", "count", "micros" //NOI18N
+    };
+
+    // The MBean name of the timing.
+    private final ObjectName name;
+
+    private volatile boolean enabled;
+    private volatile boolean summaryEnabled;
+    private volatile int sampleRate = 1;
+
+    // The number of requests seen, and sampled, while timing was on.
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong sampledRequests = new AtomicLong();
+
+    // The counters of each component, by type and id.
+    private final ConcurrentHashMap components = new ConcurrentHashMap();
+
+    // The number of runs of each phase, and their time, by phase name.
+    private final ConcurrentHashMap phases = new ConcurrentHashMap();
+
+    // Construct the timing of an application.
+    private RenderTiming(FacesContext context) throws Exception {
+        Map params = context.getExternalContext().getInitParameterMap();
+        enabled = Boolean.valueOf((String) params.get(RENDER_TIMING)).
+                booleanValue();
+        summaryEnabled = Boolean.valueOf(
+                (String) params.get(RENDER_TIMING_SUMMARY)).booleanValue();
+        String rate = (String) params.get(RENDER_TIMING_SAMPLE_RATE);
+        if (rate != null) {
+            try {
+                setSampleRate(Integer.parseInt(rate.trim()));
+            } catch (IllegalArgumentException e) {
+                LogUtil.warning("Invalid " + RENDER_TIMING_SAMPLE_RATE //NOI18N
+                        + ": " + rate); //NOI18N
+            }
+        }
+
+        // The host tells apart applications of virtual hosts which share a
+        // context path.
+        StringBuffer buff = new StringBuffer(
+                "com.sun.webui.jsf:type=RenderTiming"); //NOI18N
+        Object request = context.getExternalContext().getRequest();
+        String host = request instanceof ServletRequest
+                ? ((ServletRequest) request).getServerName() : null;
+        if (host != null) {
+            buff.append(",host=").append(ObjectName.quote(host)); //NOI18N
+        }
+        buff.append(",name=").append(ObjectName.quote( //NOI18N
+                context.getExternalContext().getRequestContextPath()));
+        name = new ObjectName(buff.toString());
+    }
+
+    /**
+     * Make timing available to the application of the request, if it is
+     * not yet. The render kit of the application is decorated, and the
+     * MBean of the timing is registered.
+     *
+     * @param context FacesContext for the current request.
+     * @return The timing of the application.
+     */
+    public static RenderTiming install(FacesContext context) {
+        Map applicationMap = context.getExternalContext().getApplicationMap();
+        RenderTiming timing = (RenderTiming) applicationMap.get(TIMING);
+        if (timing != null) {
+            return timing;
+        }
+        synchronized (RenderTiming.class) {
+            timing = (RenderTiming) applicationMap.get(TIMING);
+            if (timing != null) {
+                return timing;
+            }
+            try {
+                timing = new RenderTiming(context);
+            } catch (Exception e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+
+            String renderKitId =
+                    context.getApplication().getDefaultRenderKitId();
+            if (renderKitId == null) {
+                renderKitId = RenderKitFactory.HTML_BASIC_RENDER_KIT;
+            }
+            RenderKitFactory factory = (RenderKitFactory) FactoryFinder.
+                    getFactory(FactoryFinder.RENDER_KIT_FACTORY);
+            RenderKit renderKit = factory.getRenderKit(context, renderKitId);
+            if (renderKit != null && !(renderKit instanceof TimingRenderKit)) {
+                factory.addRenderKit(renderKitId,
+                        new TimingRenderKit(renderKit, timing));
+            }
+
+            // A failure to register the MBean leaves timing as configured.
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                if (server.isRegistered(timing.name)) {
+                    server.unregisterMBean(timing.name);
+                }
+                server.registerMBean(timing, timing.name);
+            } catch (Exception e) {
+                LogUtil.warning("Cannot register " + timing.name, e); //NOI18N
+            }
+            applicationMap.put(TIMING, timing);
+        }
+        return timing;
+    }
+
+    /**
+     * Unregister the MBean of the timing of the application, if timing was
+     * made available to it. Called when the application is destroyed.
+     *
+     * @param servletContext The ServletContext of the application.
+     */
+    public static void uninstall(ServletContext servletContext) {
+        RenderTiming timing;
+        synchronized (RenderTiming.class) {
+            timing = (RenderTiming) servletContext.getAttribute(TIMING);
+            if (timing == null) {
+                return;
+            }
+            servletContext.removeAttribute(TIMING);
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(timing.name)) {
+                server.unregisterMBean(timing.name);
+            }
+        } catch (Exception e) {
+            LogUtil.warning("Cannot unregister " + timing.name, e); //NOI18N
+        }
+    }
+
+    /**
+     * Start timing a phase of the request, if the request is timed.
+     *
+     * @param context FacesContext for the current request.
+     */
+    public void beginPhase(FacesContext context) {
+        Request request = getRequest(context);
+        if (request != null) {
+            request.phaseStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stop timing a phase of the request, and add its time to the
+     * statistics.
+     *
+     * @param context FacesContext for the current request.
+     * @param phaseId The phase.
+     */
+    public void endPhase(FacesContext context, PhaseId phaseId) {
+        Request request = getRequest(context);
+        if (request == null || request.phaseStart == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - request.phaseStart;
+        request.phaseStart = 0;
+        String phase = phaseId.toString();
+        AtomicLongArray counters = (AtomicLongArray) phases.get(phase);
+        if (counters == null) {
+            counters = new AtomicLongArray(2);
+            AtomicLongArray current =
+                    (AtomicLongArray) phases.putIfAbsent(phase, counters);
+            if (current != null) {
+                counters = current;
+            }
+        }
+        counters.incrementAndGet(0);
+        counters.addAndGet(1, nanos);
+        if (request.phases != null) {
+            request.phases.put(phase, new Long(nanos));
+        }
+    }
+
+    /**
+     * Render an HTML comment which summarizes the timing of the response,
+     * if the response is timed and summaries are enabled.
+     *
+     * @param context FacesContext for the current request.
+     * @param writer ResponseWriter to which the comment should be rendered.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderSummary(FacesContext context,
+            ResponseWriter writer) throws IOException {
+        Object request = context.getExternalContext().getRequestMap().get(
+                REQUEST);
+        if (!(request instanceof Request)
+                || ((Request) request).components == null) {
+            return;
+        }
+        Request timed = (Request) request;
+        StringBuffer buff = new StringBuffer(1024);
+        buff.append(" Timing of this response, in microseconds\n"); //NOI18N
+        Iterator entries = timed.phases.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry entry = (Map.Entry) entries.next();
+            buff.append(entry.getKey()).append(": ") //NOI18N
+                    .append(((Long) entry.getValue()).longValue() / 1000)
+                    .append("\n"); //NOI18N
+        }
+
+        // The slowest components, by the time they took themselves.
+        List list = new ArrayList(timed.components.values());
+        Collections.sort(list, new Comparator() {
+            public int compare(Object o1, Object o2) {
+                long t1 = getSelfNanos((Counters) o1);
+                long t2 = getSelfNanos((Counters) o2);
+                return t1 < t2 ? 1 : (t1 == t2 ? 0 : -1);
+            }
+        });
+        for (int i = 0; i < list.size() && i < SUMMARY_COMPONENTS; i++) {
+            Counters counters = (Counters) list.get(i);
+            buff.append(counters.type).append(" ").append(counters.id) //NOI18N
+                    .append(": encode ") //NOI18N
+                    .append(counters.values.get(ENCODE_NANOS) / 1000)
+                    .append(" (self ") //NOI18N
+                    .append(counters.values.get(ENCODE_SELF_NANOS) / 1000)
+                    .append(", ").append(counters.values.get(ENCODES)) //NOI18N
+                    .append("x, ").append(counters.values.get(CHARS)) //NOI18N
+                    .append(" chars), decode ") //NOI18N
+                    .append(counters.values.get(DECODE_NANOS) / 1000)
+                    .append(", validate ") //NOI18N
+                    .append(counters.values.get(VALIDATE_NANOS) / 1000)
+                    .append("\n"); //NOI18N
+        }
+
+        // A comment may not contain "--".
+        String comment = buff.toString();
+        while (comment.indexOf("--") >= 0) { //NOI18N
+            comment = comment.replaceAll("--", "- -"); //NOI18N
+        }
+        writer.writeComment(comment);
+        writer.write("\n"); //NOI18N
+    }
+
+    /**
+     * Return the time at which an operation on a component starts, as given
+     * by <code>System.nanoTime</code>, or 0 if the request is not timed.
+     *
+     * @param context FacesContext for the current request.
+     */
+    public static long start(FacesContext context) {
+        RenderTiming timing = getInstance(context);
+        if (timing == null || timing.getRequest(context) == null) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Add the validation of a component to its counters.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component validated.
+     * @param start The start of the validation, as returned by
+     * <code>start</code>.
+     */
+    public static void endValidate(FacesContext context,
+            UIComponent component, long start) {
+        if (start == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        RenderTiming timing = getInstance(context);
+        Request request = timing == null ? null : timing.getRequest(context);
+        if (request != null) {
+            timing.add(request, component, VALIDATES, nanos);
+        }
+    }
+
+    // Return the timing of the application, or null if it is not
+    // installed.
+    private static RenderTiming getInstance(FacesContext context) {
+        if (context == null) {
+            return null;
+        }
+        return (RenderTiming) context.getExternalContext().getApplicationMap().
+                get(TIMING);
+    }
+
+    // The time the component took itself, for sorting.
+    private static long getSelfNanos(Counters counters) {
+        return counters.values.get(ENCODE_SELF_NANOS)
+                + counters.values.get(DECODE_NANOS)
+                + counters.values.get(VALIDATE_NANOS);
+    }
+
+    /**
+     * Return the timing of the current request, or null if it is not
+     * timed. Whether the request is timed is decided when this is first
+     * called for it.
+     *
+     * @param context FacesContext for the current request.
+     */
+    Request getRequest(FacesContext context) {
+        if (!enabled || context == null) {
+            return null;
+        }
+        Map requestMap = context.getExternalContext().getRequestMap();
+        Object request = requestMap.get(REQUEST);
+        if (request == null) {
+            if (requests.incrementAndGet() % sampleRate == 0) {
+                sampledRequests.incrementAndGet();
+                request = new Request(summaryEnabled);
+            } else {
+                request = Boolean.FALSE;
+            }
+            requestMap.put(REQUEST, request);
+        }
+        return request instanceof Request ? (Request) request : null;
+    }
+
+    /**
+     * Add the time and the characters written to encode the component to
+     * its counters.
+     *
+     * @param request The timing of the request.
+     * @param component The component encoded.
+     * @param nanos The time the encoding took.
+     * @param selfNanos The time the encoding took, not counting the
+     * encoding of the children.
+     * @param chars The number of characters written, not counting those
+     * of the children.
+     */
+    void addEncode(Request request, UIComponent component, long nanos,
+            long selfNanos, long chars) {
+        add(getCounters(components, component, MAX_COMPONENTS), ENCODES,
+                nanos, selfNanos, chars);
+        if (request.components != null) {
+            add(getCounters(request.components, component, Integer.MAX_VALUE),
+                    ENCODES, nanos, selfNanos, chars);
+        }
+    }
+
+    /**
+     * Add a decoding or validation of the component to its counters.
+     *
+     * @param request The timing of the request.
+     * @param component The component decoded or validated.
+     * @param index DECODES or VALIDATES.
+     * @param nanos The time it took.
+     */
+    void add(Request request, UIComponent component, int index, long nanos) {
+        add(getCounters(components, component, MAX_COMPONENTS), index,
+                nanos, -1, -1);
+        if (request.components != null) {
+            add(getCounters(request.components, component, Integer.MAX_VALUE),
+                    index, nanos, -1, -1);
+        }
+    }
+
+    // Add a count, and up to three values, to the counters from the index.
+    private static void add(Counters counters, int index, long value1,
+            long value2, long value3) {
+        counters.values.incrementAndGet(index);
+        counters.values.addAndGet(index + 1, value1);
+        if (value2 >= 0) {
+            counters.values.addAndGet(index + 2, value2);
+            counters.values.addAndGet(index + 3, value3);
+        }
+    }
+
+    // Return the counters of the component, creating them if needed.
+    private static Counters getCounters(Map map, UIComponent component,
+            int max) {
+        String type = component.getClass().getName();
+        String id = component.getId();
+        String key = type + '#' + id;
+        Counters counters = (Counters) map.get(key);
+        if (counters == null) {
+            if (map.size() >= max) {
+                id = "*"; //NOI18N
+                key = type + '#' + id;
+                counters = (Counters) map.get(key);
+            }
+            if (counters == null) {
+                counters = new Counters(type, id);
+                if (map instanceof ConcurrentHashMap) {
+                    Counters current = (Counters) ((ConcurrentHashMap) map).
+                            putIfAbsent(key, counters);
+                    if (current != null) {
+                        counters = current;
+                    }
+                } else {
+                    map.put(key, counters);
+                }
+            }
+        }
+        return counters;
+    }
+
+    // RenderTimingMBean methods
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException(Integer.toString(sampleRate));
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean isSummaryEnabled() {
+        return summaryEnabled;
+    }
+
+    public void setSummaryEnabled(boolean summaryEnabled) {
+        this.summaryEnabled = summaryEnabled;
+    }
+
+    public long getSampledRequests() {
+        return sampledRequests.get();
+    }
+
+    public TabularData getComponents() {
+        try {
+            OpenType[] types = new OpenType[COMPONENT_ITEMS.length];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = i < 2 ? SimpleType.STRING : SimpleType.LONG;
+            }
+            CompositeType rowType = new CompositeType("component", //NOI18N
+                    "The statistics of a component", COMPONENT_ITEMS, //NOI18N
+                    COMPONENT_ITEMS, types);
+            TabularData data = new TabularDataSupport(new TabularType(
+                    "components", "The statistics of the components", //NOI18N
+                    rowType, new String[] {"type", "id"})); //NOI18N
+            Iterator iter = components.values().iterator();
+            while (iter.hasNext()) {
+                Counters counters = (Counters) iter.next();
+                Object[] values = new Object[COMPONENT_ITEMS.length];
+                values[0] = counters.type;
+                values[1] = counters.id;
+                for (int i = ENCODES; i <= VALIDATE_NANOS; i++) {
+                    long value = counters.values.get(i);
+                    if (i == ENCODE_NANOS || i == ENCODE_SELF_NANOS
+                            || i == DECODE_NANOS || i == VALIDATE_NANOS) {
+                        value /= 1000;
+                    }
+                    values[i + 2] = new Long(value);
+                }
+                data.put(new CompositeDataSupport(rowType, COMPONENT_ITEMS,
+                        values));
+            }
+            return data;
+        } catch (OpenDataException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public TabularData getPhases() {
+        try {
+            CompositeType rowType = new CompositeType("phase", //NOI18N
+                    "The statistics of a phase", PHASE_ITEMS, PHASE_ITEMS, //NOI18N
+                    new OpenType[] {
+                        SimpleType.STRING, SimpleType.LONG, SimpleType.LONG
+                    });
+            TabularData data = new TabularDataSupport(new TabularType(
+                    "phases", "The statistics of the phases", rowType, //NOI18N
+                    new String[] {"phase"})); //NOI18N
+            Iterator iter = phases.entrySet().iterator();
+            while (iter.hasNext()) {
+                Map.Entry entry = (Map.Entry) iter.next();
+                AtomicLongArray counters = (AtomicLongArray) entry.getValue();
+                data.put(new CompositeDataSupport(rowType, PHASE_ITEMS,
+                        new Object[] {
+                            entry.getKey(), new Long(counters.get(0)),
+                            new Long(counters.get(1) / 1000)
+                        }));
+            }
+            return data;
+        } catch (OpenDataException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    public void reset() {
+        components.clear();
+        phases.clear();
+        requests.set(0);
+        sampledRequests.set(0);
+    }
+
+    // The counters of a component type and id.
+    private static final class Counters {
+
+        private final String type;
+        private final String id;
+        private final AtomicLongArray values =
+                new AtomicLongArray(VALIDATE_NANOS + 1);
+
+        Counters(String type, String id) {
+            this.type = type;
+            this.id = id;
+        }
+    }
+
+    /**
+     * The timing of a request: the components being encoded, and the
+     * number of characters written so far.
+     */
+    static final class Request {
+
+        // The characters written by the response writers of the request.
+        long chars;
+
+        // The start of the current phase, or 0.
+        private long phaseStart;
+
+        // The times of the phases and the counters of the components of
+        // the request, kept for the summary only.
+        private final Map phases;
+        private final Map components;
+
+        // The components being encoded, innermost last, with the start
+        // of their encoding, and the time and characters of the encoding of
+        // their children.
+        private UIComponent[] stack = new UIComponent[16];
+        private long[] starts = new long[16];
+        private long[] startChars = new long[16];
+        private long[] childNanos = new long[16];
+        private long[] childChars = new long[16];
+        private int depth;
+
+        Request(boolean summary) {
+            phases = summary ? new LinkedHashMap() : null;
+            components = summary ? new HashMap() : null;
+        }
+
+        // Start timing the encoding of a component.
+        void push(UIComponent component) {
+            if (depth == stack.length) {
+                stack = (UIComponent[]) grow(stack, new UIComponent[depth * 2],
+                        depth);
+                starts = (long[]) grow(starts, new long[depth * 2], depth);
+                startChars = (long[]) grow(startChars, new long[depth * 2],
+                        depth);
+                childNanos = (long[]) grow(childNanos, new long[depth * 2],
+                        depth);
+                childChars = (long[]) grow(childChars, new long[depth * 2],
+                        depth);
+            }
+            stack[depth] = component;
+            startChars[depth] = chars;
+            childNanos[depth] = 0;
+            childChars[depth] = 0;
+            starts[depth++] = System.nanoTime();
+        }
+
+        // Stop timing the encoding of a component, and add it to its
+        // counters. Components encoded inside it whose encoding did not
+        // end, such as after an exception, are dropped.
+        void pop(RenderTiming timing, UIComponent component) {
+            long end = System.nanoTime();
+            int i = depth - 1;
+            while (i >= 0 && stack[i] != component) {
+                i--;
+            }
+            if (i < 0) {
+                return;
+            }
+            long nanos = end - starts[i];
+            long written = chars - startChars[i];
+            for (int j = i; j < depth; j++) {
+                stack[j] = null;
+            }
+            depth = i;
+            if (i > 0) {
+                childNanos[i - 1] += nanos;
+                childChars[i - 1] += written;
+            }
+            timing.addEncode(this, component, nanos, nanos - childNanos[i],
+                    written - childChars[i]);
+        }
+
+        // Copy the elements of an array into a larger one.
+        private static Object grow(Object array, Object larger, int length) {
+            System.arraycopy(array, 0, larger, 0, length);
+            return larger;
+        }
+    }
+}
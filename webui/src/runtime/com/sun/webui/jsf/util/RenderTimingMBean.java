@@ -0,0 +1,114 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import javax.management.openmbean.TabularData;
+
+/**
+ * The management interface of <code>RenderTiming</code>, through which the
+ * timing of an application is switched on and off, and its statistics are
+ * read.
+ */
+public interface RenderTimingMBean {
+
+    /**
+     * Test if the components of sampled requests are timed.
+     */
+    public boolean isEnabled();
+
+    /**
+     * Switch the timing of components on or off.
+     *
+     * @param enabled true to time the components of sampled requests.
+     */
+    public void setEnabled(boolean enabled);
+
+    /**
+     * Return the number of requests per sampled request.
+     */
+    public int getSampleRate();
+
+    /**
+     * Set the number of requests per sampled request; 1 samples every
+     * request.
+     *
+     * @param sampleRate The number of requests per sampled request.
+     */
+    public void setSampleRate(int sampleRate);
+
+    /**
+     * Test if sampled responses end with an HTML comment which summarizes
+     * their timing.
+     */
+    public boolean isSummaryEnabled();
+
+    /**
+     * Switch the summary comment of sampled responses on or off.
+     *
+     * @param summaryEnabled true to render the summary comment.
+     */
+    public void setSummaryEnabled(boolean summaryEnabled);
+
+    /**
+     * Return the number of requests sampled since the statistics were reset.
+     */
+    public long getSampledRequests();
+
+    /**
+     * Return the statistics of each component type and id: the number of
+     * times the components were encoded, decoded and validated, the time
+     * this took in microseconds, and the number of characters the encoding
+     * wrote. The encoding time of a component includes that of its
+     * children; its self time does not.
+     */
+    public TabularData getComponents();
+
+    /**
+     * Return the number of times each phase of the lifecycle was run, and
+     * the time this took in microseconds.
+     */
+    public TabularData getPhases();
+
+    /**
+     * Clear the statistics.
+     */
+    public void reset();
+}
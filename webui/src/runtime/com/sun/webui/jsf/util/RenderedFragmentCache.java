@@ -0,0 +1,454 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import com.sun.webui.jsf.component.Message;
+import com.sun.webui.jsf.component.MessageGroup;
+import com.sun.webui.jsf.component.TableRowGroup;
+import com.sun.webui.theme.Theme;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.faces.component.ActionSource;
+import javax.faces.component.EditableValueHolder;
+import javax.faces.component.UIComponent;
+import javax.faces.component.UIData;
+import javax.faces.component.UIForm;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * The RenderedFragmentCache class caches the markup rendered by the children
+ * of a <code>FragmentCache</code> component, so that later requests write
+ * the cached markup instead of rendering the children.
+ * <p>
+ * Markup is cached per application, for the theme, locale, client type,
+ * content type and view of the request, the client id of the component and
+ * the key given by the component. A fragment is rendered again when it is
+ * older than the time to live of the component, or after it is invalidated
+ * with <code>invalidate</code> or <code>invalidateAll</code>. At most
+ * <code>FRAGMENT_CACHE_SIZE</code> fragments are cached; once the cache is
+ * full, further fragments are rendered as usual.
+ * </p><p>
+ * Children whose markup or processing depends on the request are never
+ * cached: input components, forms, tables and message components, and
+ * command components which their parent creates while it is rendered,
+ * since such a command would not exist to decode its request if its parent
+ * were not rendered. Scripts which would be collected at the end of the
+ * body are rendered in place in a cached fragment. Portlet responses, whose
+ * URLs are encoded per request, are not cached.
+ * </p><p>
+ * Neither are responses to requests whose session id was not sent with a
+ * cookie, since the container then encodes the session id in the URLs of
+ * the response. Such requests neither read nor fill the cache, so that a
+ * client without cookies gets URLs with its own session id, and no other
+ * client gets them. Markup which contains the session id of the request is
+ * never cached.
+ * </p>
+ */
+public final class RenderedFragmentCache {
+
+    /**
+     * The context parameter which, when set to false, disables the cache,
+     * so that fragments are rendered on every request.
+     */
+    public static final String FRAGMENT_CACHE =
+            "com.sun.webui.jsf.util.FRAGMENT_CACHE"; //NOI18N
+
+    /**
+     * The context parameter giving the maximum number of cached fragments.
+     */
+    public static final String FRAGMENT_CACHE_SIZE =
+            "com.sun.webui.jsf.util.FRAGMENT_CACHE_SIZE"; //NOI18N
+
+    // Application map key of the cache.
+    private static final String CACHE =
+            "com.sun.webui.jsf.util.RenderedFragmentCache"; //NOI18N
+
+    // The default maximum number of cached fragments.
+    private static final int DEFAULT_SIZE = 256;
+
+    // The initial size of the buffer a fragment is rendered to.
+    private static final int BUFFER_SIZE = 2048;
+
+    // Marks a fragment which is rendered as usual.
+    private static final char[] UNCACHEABLE = new char[0];
+
+    // Lock to create the cache of the application.
+    private static final Object synchObj = new Object();
+
+    // The cached fragments, by FragmentKey.
+    private final Map fragments = new ConcurrentHashMap();
+
+    // Incremented when fragments are invalidated, so that a fragment which
+    // was being rendered meanwhile is not cached.
+    private final AtomicInteger generation = new AtomicInteger();
+
+    // The maximum number of cached fragments.
+    private final int size;
+
+    // true if fragments are cached.
+    private final boolean enabled;
+
+    // Construct the cache of an application.
+    private RenderedFragmentCache(FacesContext context) {
+        Map params = context.getExternalContext().getInitParameterMap();
+        enabled = !"false".equalsIgnoreCase( //NOI18N
+                (String) params.get(FRAGMENT_CACHE));
+        int max = DEFAULT_SIZE;
+        String value = (String) params.get(FRAGMENT_CACHE_SIZE);
+        if (value != null) {
+            try {
+                max = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                LogUtil.warning("Invalid " + FRAGMENT_CACHE_SIZE //NOI18N
+                        + ": " + value); //NOI18N
+            }
+        }
+        size = max;
+    }
+
+    /**
+     * Render the children of the component, or write their cached markup.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component whose children are rendered.
+     * @param key Identifies the markup in addition to the request and the
+     * client id of the component, or null.
+     * @param timeToLive The number of seconds the markup is cached for, or
+     * zero or less to cache it until it is invalidated.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderChildren(FacesContext context,
+            UIComponent component, String key, int timeToLive)
+            throws IOException {
+        RenderedFragmentCache cache = getInstance(context);
+        if (!cache.enabled || RenderingUtilities.isPortlet(context)
+                || isRewritingURLs(context)) {
+            encodeChildren(context, component);
+            return;
+        }
+        ResponseWriter writer = context.getResponseWriter();
+        FragmentKey fragmentKey = new FragmentKey(context, component, writer,
+                key);
+        long now = System.currentTimeMillis();
+        Fragment fragment = (Fragment) cache.fragments.get(fragmentKey);
+        if (fragment != null && fragment.expires > 0 && fragment.expires < now) {
+            cache.fragments.remove(fragmentKey);
+            fragment = null;
+        }
+        if (fragment == null) {
+            fragment = cache.capture(context, component, writer, fragmentKey,
+                    timeToLive > 0 ? now + timeToLive * 1000L : 0);
+        } else if (fragment.markup == UNCACHEABLE) {
+            encodeChildren(context, component);
+            return;
+        }
+        writer.write(fragment.markup, 0, fragment.markup.length);
+    }
+
+    /**
+     * Invalidate the fragments cached with the given key, so that they are
+     * rendered again by the next request.
+     *
+     * @param context FacesContext for the current request.
+     * @param key The key given by the <code>FragmentCache</code> components,
+     * or null for the fragments cached without a key.
+     */
+    public static void invalidate(FacesContext context, String key) {
+        RenderedFragmentCache cache = getInstance(context);
+        cache.generation.incrementAndGet();
+        Iterator keys = cache.fragments.keySet().iterator();
+        while (keys.hasNext()) {
+            FragmentKey fragmentKey = (FragmentKey) keys.next();
+            if (key == null ? fragmentKey.key == null
+                    : key.equals(fragmentKey.key)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /**
+     * Invalidate all cached fragments, for example after the theme or the
+     * resources of the application have changed.
+     *
+     * @param context FacesContext for the current request.
+     */
+    public static void invalidateAll(FacesContext context) {
+        RenderedFragmentCache cache = getInstance(context);
+        cache.generation.incrementAndGet();
+        cache.fragments.clear();
+    }
+
+    // Return the cache of the application.
+    private static RenderedFragmentCache getInstance(FacesContext context) {
+        Map map = context.getExternalContext().getApplicationMap();
+        RenderedFragmentCache cache = (RenderedFragmentCache) map.get(CACHE);
+        if (cache == null) {
+            synchronized (synchObj) {
+                // try again in case another thread created it.
+                cache = (RenderedFragmentCache) map.get(CACHE);
+                if (cache == null) {
+                    cache = new RenderedFragmentCache(context);
+                    map.put(CACHE, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    // Render the children to a buffer, and cache the markup unless the
+    // children may not be cached, or fragments were invalidated meanwhile.
+    private Fragment capture(FacesContext context, UIComponent component,
+            ResponseWriter writer, FragmentKey fragmentKey, long expires)
+            throws IOException {
+        int current = generation.get();
+        FastStringWriter buff = new FastStringWriter(BUFFER_SIZE);
+        ResponseWriter clone = writer.cloneWithWriter(buff);
+        Object collector = ScriptCollector.suspend(context);
+        context.setResponseWriter(clone);
+        try {
+            encodeChildren(context, component);
+            clone.flush();
+        } finally {
+            context.setResponseWriter(writer);
+            ScriptCollector.resume(context, collector);
+        }
+
+        // The children are checked once they are rendered, so that the
+        // components their parents create while rendering are included.
+        String rendered = buff.toString();
+        char[] markup = rendered.toCharArray();
+        Fragment fragment = new Fragment(markup, expires);
+        Fragment cached = isCacheableChildren(component, false)
+                ? fragment : new Fragment(UNCACHEABLE, expires);
+        if (fragments.size() >= size) {
+            removeExpired();
+        }
+        if (fragments.size() < size && generation.get() == current
+                && !containsSessionId(context, rendered)) {
+            fragments.put(fragmentKey, cached);
+        }
+        return fragment;
+    }
+
+    // Test if the container encodes the session id in the URLs of the
+    // response, because the session id of the request was not sent with a
+    // cookie.
+    private static boolean isRewritingURLs(FacesContext context) {
+        Object request = context.getExternalContext().getRequest();
+        if (!(request instanceof HttpServletRequest)) {
+            return false;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        return httpRequest.getSession(false) != null
+                && !httpRequest.isRequestedSessionIdFromCookie();
+    }
+
+    // Test if the markup contains the session id of the request, as a URL
+    // rendered for a session created while the markup was rendered would.
+    private static boolean containsSessionId(FacesContext context,
+            String markup) {
+        Object request = context.getExternalContext().getRequest();
+        if (!(request instanceof HttpServletRequest)) {
+            return false;
+        }
+        HttpSession session = ((HttpServletRequest) request).getSession(false);
+        if (session == null || session.getId() == null) {
+            return false;
+        }
+        return markup.indexOf(session.getId()) >= 0;
+    }
+
+    // Remove the fragments which have expired.
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator values = fragments.values().iterator();
+        while (values.hasNext()) {
+            Fragment fragment = (Fragment) values.next();
+            if (fragment.expires > 0 && fragment.expires < now) {
+                values.remove();
+            }
+        }
+    }
+
+    // Render the children of the component.
+    private static void encodeChildren(FacesContext context,
+            UIComponent component) throws IOException {
+        if (component.getChildCount() == 0) {
+            return;
+        }
+        List children = component.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            RenderingUtilities.renderComponent((UIComponent) children.get(i),
+                    context);
+        }
+    }
+
+    /**
+     * Test if the markup of the facets and children of the component may be
+     * cached.
+     *
+     * @param component The component whose facets and children are tested.
+     * @param privateFacet true if the component is, or is in, a facet which
+     * its parent created itself.
+     */
+    private static boolean isCacheableChildren(UIComponent component,
+            boolean privateFacet) {
+        if (component.getFacetCount() > 0) {
+            Iterator facets = component.getFacets().entrySet().iterator();
+            while (facets.hasNext()) {
+                Map.Entry entry = (Map.Entry) facets.next();
+                String name = (String) entry.getKey();
+                if (!isCacheable((UIComponent) entry.getValue(), privateFacet
+                        || name.startsWith("_"))) { //NOI18N
+                    return false;
+                }
+            }
+        }
+        if (component.getChildCount() > 0) {
+            List children = component.getChildren();
+            for (int i = 0; i < children.size(); i++) {
+                if (!isCacheable((UIComponent) children.get(i),
+                        privateFacet)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Test if the markup of the component and its descendants may be cached.
+    private static boolean isCacheable(UIComponent component,
+            boolean privateFacet) {
+        if (component instanceof EditableValueHolder
+                || component instanceof UIForm
+                || component instanceof UIData
+                || component instanceof TableRowGroup
+                || component instanceof Message
+                || component instanceof MessageGroup
+                || (privateFacet && component instanceof ActionSource)) {
+            return false;
+        }
+        return isCacheableChildren(component, privateFacet);
+    }
+
+    // A cached fragment.
+    private static final class Fragment {
+
+        // The markup, or UNCACHEABLE.
+        private final char[] markup;
+
+        // The time the fragment expires at, or 0.
+        private final long expires;
+
+        Fragment(char[] markup, long expires) {
+            this.markup = markup;
+            this.expires = expires;
+        }
+    }
+
+    // The request and component a fragment is cached for.
+    private static final class FragmentKey {
+
+        private final Theme theme;
+        private final Locale locale;
+        private final ClientType clientType;
+        private final String contentType;
+        private final String viewId;
+        private final String clientId;
+        private final String key;
+        private final int hash;
+
+        FragmentKey(FacesContext context, UIComponent component,
+                ResponseWriter writer, String key) {
+            this.theme = ThemeUtilities.getTheme(context);
+            this.locale = context.getViewRoot().getLocale();
+            this.clientType = ClientSniffer.getCapabilities(context).
+                    getClientType();
+            this.contentType = writer.getContentType();
+            this.viewId = context.getViewRoot().getViewId();
+            this.clientId = component.getClientId(context);
+            this.key = key;
+            int h = System.identityHashCode(theme);
+            h = 31 * h + (locale == null ? 0 : locale.hashCode());
+            h = 31 * h + System.identityHashCode(clientType);
+            h = 31 * h + (contentType == null ? 0 : contentType.hashCode());
+            h = 31 * h + (viewId == null ? 0 : viewId.hashCode());
+            h = 31 * h + clientId.hashCode();
+            this.hash = 31 * h + (key == null ? 0 : key.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FragmentKey)) {
+                return false;
+            }
+            FragmentKey fragmentKey = (FragmentKey) obj;
+            return theme == fragmentKey.theme
+                && clientType == fragmentKey.clientType
+                && clientId.equals(fragmentKey.clientId)
+                && equals(viewId, fragmentKey.viewId)
+                && equals(key, fragmentKey.key)
+                && equals(locale, fragmentKey.locale)
+                && equals(contentType, fragmentKey.contentType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean equals(Object a, Object b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+}
@@ -445,7 +445,8 @@ public class RenderingUtilities {
         
         UIComponent component = null;
         try {
-           component = context.getViewRoot().findComponent(_id);
+           component = ComponentIdIndex.findComponent(context,
+                   context.getViewRoot(), _id);
         } catch (Exception e) {
             if (LogUtil.fineEnabled()) {
                 LogUtil.fine("Component with that particular id " + //NOI18N
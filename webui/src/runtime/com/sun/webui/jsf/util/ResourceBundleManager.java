@@ -40,14 +40,37 @@
 
 package com.sun.webui.jsf.util;
 
-import java.util.HashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.faces.application.Application;
+import javax.faces.context.FacesContext;
 
 
 /**
- *  This class caches ResourceBundle objects per locale.
+ *  This class caches ResourceBundle objects per class loader and locale.
+ *
+ *  <p>The cache is partitioned by the <code>ClassLoader</code> used to load
+ *  the bundles. Class loaders are only weakly referenced, so when an
+ *  application is undeployed from a container which shares this class, its
+ *  bundles (and therefore its class loader) may be garbage collected. Stale
+ *  partitions are expunged when bundles are added, or may be removed
+ *  explicitly with {@link #clear(ClassLoader)}. Note that class based
+ *  bundles (e.g., <code>ListResourceBundle</code> subclasses) refer to their
+ *  class loader, so their partition must be cleared explicitly.</p>
+ *
+ *  <p>Lookups do not lock; the partitions and bundles are published through
+ *  <code>ConcurrentHashMap</code>s.</p>
  *
  * @author Ken Paulsen (ken.paulsen@sun.com)
  */
@@ -56,13 +79,19 @@ public class ResourceBundleManager {
     /**
      *	Singleton
      */
-    private static ResourceBundleManager _instance =
+    private static final ResourceBundleManager _instance =
 	    new ResourceBundleManager();
 
     /**
-     *	The cache of ResourceBundles.
+     *	The cache partitions, a Map of {@link BundleKey} to ResourceBundle
+     *	per weakly referenced ClassLoader.
+     */
+    private final ConcurrentHashMap _partitions = new ConcurrentHashMap();
+
+    /**
+     *	The queue of cleared ClassLoader references.
      */
-    private Map	_cache = new HashMap();
+    private final ReferenceQueue _queue = new ReferenceQueue();
 
     /**
      *	Use getInstance() to obtain an instance.
@@ -75,9 +104,6 @@ public class ResourceBundleManager {
      *	Use this method to get the instance of this class.
      */
     public static ResourceBundleManager getInstance() {
-	if (_instance == null) {
-	    _instance = new ResourceBundleManager();
-	}
 	return _instance;
     }
 
@@ -90,14 +116,36 @@ public class ResourceBundleManager {
      *	@return	The requested ResourceBundle in the most appropriate locale.
      */
     protected ResourceBundle getCachedBundle(String baseName, Locale locale) {
-	return (ResourceBundle)_cache.get(getCacheKey(baseName, locale));
+	return getCachedBundle(baseName, locale, getCurrentLoader());
+    }
+
+    /**
+     *	This method checks the cache for the requested resource bundle.
+     *
+     *	@param	baseName    Name of the bundle
+     *	@param	locale	    The locale
+     *	@param	loader	    The class loader used to load the bundle
+     *
+     *	@return	The requested ResourceBundle in the most appropriate locale.
+     */
+    protected ResourceBundle getCachedBundle(String baseName, Locale locale,
+	    ClassLoader loader) {
+	Map cache = (Map) _partitions.get(new LoaderLookup(loader));
+	if (cache == null) {
+	    return null;
+	}
+	return (ResourceBundle) cache.get(new BundleKey(baseName, locale));
     }
 
     /**
      *	This method generates a unique key for setting / getting Resources
      *	bundles from the cache.  It is important to have different keys per
      *	locale (obviously).
+     *
+     *	@deprecated The cache is keyed by a composite key object instead of
+     *		    concatenated strings; this method is no longer used.
      */
+    @Deprecated
     protected String getCacheKey(String baseName, Locale locale) {
 	return baseName+"__"+locale.toString();
     }
@@ -106,15 +154,29 @@ public class ResourceBundleManager {
      *	This method adds a ResourceBundle to the cache.
      */
     protected void addCachedBundle(String baseName, Locale locale, ResourceBundle bundle) {
-	// Copy the old Map to prevent changing a Map while someone is
-	// accessing it.
-	Map map = new HashMap(_cache);
+	addCachedBundle(baseName, locale, bundle, getCurrentLoader());
+    }
 
-	// Add the new bundle
-	map.put(getCacheKey(baseName, locale), bundle);
+    /**
+     *	This method adds a ResourceBundle, loaded by the given class loader, to
+     *	the cache.
+     */
+    protected void addCachedBundle(String baseName, Locale locale,
+	    ResourceBundle bundle, ClassLoader loader) {
+	// Drop the partitions of class loaders which have been collected.
+	expungeStalePartitions();
 
-	// Set this new Map as the shared cache Map
-	_cache = map;
+	Map cache = (Map) _partitions.get(new LoaderLookup(loader));
+	if (cache == null) {
+	    cache = new ConcurrentHashMap();
+	    Map existing = (Map) _partitions.putIfAbsent(
+		    new LoaderKey(loader, _queue), cache);
+	    if (existing != null) {
+		// Another thread published the partition first.
+		cache = existing;
+	    }
+	}
+	cache.put(new BundleKey(baseName, locale), bundle);
     }
 
     /**
@@ -122,15 +184,7 @@ public class ResourceBundleManager {
      *	given basename and locale.
      */
     public ResourceBundle getBundle(String baseName, Locale locale) {
-	ResourceBundle bundle = getCachedBundle(baseName, locale);
-	if (bundle == null) {
-	    bundle = ResourceBundle.getBundle(baseName, locale, 
-                    ClassLoaderFinder.getCurrentLoader(MessageUtil.class));
-	    if (bundle != null) {
-		addCachedBundle(baseName, locale, bundle);
-	    }
-	}
-	return bundle;
+	return getBundle(baseName, locale, getCurrentLoader());
     }
 
     /**
@@ -138,13 +192,180 @@ public class ResourceBundleManager {
      *	given basename, locale, and classloader.
      */
     public ResourceBundle getBundle(String baseName, Locale locale, ClassLoader loader) {
-	ResourceBundle bundle = getCachedBundle(baseName, locale);
+	ResourceBundle bundle = getCachedBundle(baseName, locale, loader);
 	if (bundle == null) {
 	    bundle = ResourceBundle.getBundle(baseName, locale, loader);
 	    if (bundle != null) {
-		addCachedBundle(baseName, locale, bundle);
+		addCachedBundle(baseName, locale, bundle, loader);
 	    }
 	}
 	return bundle;
     }
+
+    /**
+     *	<p> This method loads the given bundles for each of the given locales,
+     *	    so that the first request in a locale does not pay the bundle
+     *	    loading latency. Bundles which do not exist are ignored.</p>
+     *
+     *	@param	baseNames   Names of the bundles
+     *	@param	locales	    A Collection of Locale objects
+     *	@param	loader	    The class loader used to load the bundles
+     */
+    public void preloadBundles(String[] baseNames, Collection locales,
+	    ClassLoader loader) {
+	for (int i = 0; i < baseNames.length; i++) {
+	    Iterator it = locales.iterator();
+	    while (it.hasNext()) {
+		try {
+		    getBundle(baseNames[i], (Locale) it.next(), loader);
+		} catch (MissingResourceException e) {
+		    // Nothing to preload.
+		}
+	    }
+	}
+    }
+
+    /**
+     *	<p> This method loads the given bundles for the default and supported
+     *	    locales of the JSF <code>Application</code>. It is intended to be
+     *	    called once at application startup.</p>
+     *
+     *	@param	context	    The current FacesContext
+     *	@param	baseNames   Names of the bundles
+     */
+    public void preloadBundles(FacesContext context, String[] baseNames) {
+	Application application = context.getApplication();
+	List locales = new ArrayList();
+	Locale locale = application.getDefaultLocale();
+	locales.add(locale != null ? locale : Locale.getDefault());
+	Iterator it = application.getSupportedLocales();
+	while (it != null && it.hasNext()) {
+	    locale = (Locale) it.next();
+	    if (!locales.contains(locale)) {
+		locales.add(locale);
+	    }
+	}
+	preloadBundles(baseNames, locales, getCurrentLoader());
+    }
+
+    /**
+     *	<p> This method removes the bundles loaded by the given class loader
+     *	    from the cache, for example when an application is undeployed.</p>
+     *
+     *	@param	loader	    The class loader
+     */
+    public void clear(ClassLoader loader) {
+	_partitions.remove(new LoaderLookup(loader));
+	expungeStalePartitions();
+    }
+
+    /**
+     *	This method returns the class loader used when none is given.
+     */
+    private ClassLoader getCurrentLoader() {
+	return ClassLoaderFinder.getCurrentLoader(MessageUtil.class);
+    }
+
+    /**
+     *	This method removes the partitions of collected class loaders.
+     */
+    private void expungeStalePartitions() {
+	Reference ref;
+	while ((ref = _queue.poll()) != null) {
+	    _partitions.remove(ref);
+	}
+    }
+
+    /**
+     *	Composite cache key of a bundle name and locale, which avoids building
+     *	a new key String on every lookup.
+     */
+    private static final class BundleKey {
+	private final String baseName;
+	private final Locale locale;
+	private final int hash;
+
+	BundleKey(String baseName, Locale locale) {
+	    this.baseName = baseName;
+	    this.locale = locale;
+	    this.hash = 31 * baseName.hashCode() + locale.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+	    if (!(obj instanceof BundleKey)) {
+		return false;
+	    }
+	    BundleKey key = (BundleKey) obj;
+	    return hash == key.hash && baseName.equals(key.baseName)
+		&& locale.equals(key.locale);
+	}
+
+	@Override
+	public int hashCode() {
+	    return hash;
+	}
+    }
+
+    /**
+     *	Partition key which weakly references a class loader. Keys are
+     *	compared by class loader identity; once the class loader has been
+     *	collected a key is only equal to itself.
+     */
+    private static final class LoaderKey extends WeakReference {
+	private final int hash;
+
+	LoaderKey(ClassLoader loader, ReferenceQueue queue) {
+	    super(loader, queue);
+	    this.hash = System.identityHashCode(loader);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+	    if (this == obj) {
+		return true;
+	    }
+	    Object loader = get();
+	    if (loader == null) {
+		return false;
+	    }
+	    if (obj instanceof LoaderLookup) {
+		return loader == ((LoaderLookup) obj).loader;
+	    }
+	    return obj instanceof LoaderKey && loader == ((LoaderKey) obj).get();
+	}
+
+	@Override
+	public int hashCode() {
+	    return hash;
+	}
+    }
+
+    /**
+     *	Strongly referencing key used to look up a partition, so that lookups
+     *	do not create weak references.
+     */
+    private static final class LoaderLookup {
+	private final ClassLoader loader;
+	private final int hash;
+
+	LoaderLookup(ClassLoader loader) {
+	    this.loader = loader;
+	    this.hash = System.identityHashCode(loader);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+	    if (obj instanceof LoaderKey) {
+		return loader == ((LoaderKey) obj).get();
+	    }
+	    return obj instanceof LoaderLookup
+		&& loader == ((LoaderLookup) obj).loader;
+	}
+
+	@Override
+	public int hashCode() {
+	    return hash;
+	}
+    }
 }
@@ -0,0 +1,202 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseWriter;
+
+/**
+ * The ScriptCollector class collects the scripts that initialize components
+ * with a JavaScript module, and renders them together at the end of the
+ * body.
+ * <p>
+ * While the body is rendered, the scripts are grouped by module, and a
+ * single script element requires each module once and runs its scripts in
+ * the order they were collected. Outside the body, such as in a portlet or
+ * when only part of the view is rendered for an Ajax request, each script
+ * is rendered in place, as before.
+ * </p>
+ */
+public final class ScriptCollector {
+
+    // Request map key of the collector.
+    private static final String COLLECTOR =
+            "com.sun.webui.jsf.util.ScriptCollector"; //NOI18N
+
+    // The component which renders the collected scripts.
+    private final UIComponent owner;
+
+    // The scripts of each module, in the order the modules were first used.
+    private final Map scripts = new LinkedHashMap();
+
+    // Construct a collector for the given component.
+    private ScriptCollector(UIComponent owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Start collecting scripts for the component, which renders them with
+     * <code>renderScripts</code>. Nothing is done if scripts are already
+     * being collected.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component which renders the scripts.
+     */
+    public static void collectScripts(FacesContext context,
+            UIComponent component) {
+        Map requestMap = context.getExternalContext().getRequestMap();
+        if (requestMap.get(COLLECTOR) == null) {
+            requestMap.put(COLLECTOR, new ScriptCollector(component));
+        }
+    }
+
+    /**
+     * Render the scripts collected since the component called
+     * <code>collectScripts</code>, and stop collecting them.
+     *
+     * @param context FacesContext for the current request.
+     * @param component The component which renders the scripts.
+     * @param writer ResponseWriter to which the scripts should be rendered.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderScripts(FacesContext context,
+            UIComponent component, ResponseWriter writer) throws IOException {
+        Map requestMap = context.getExternalContext().getRequestMap();
+        ScriptCollector collector = (ScriptCollector) requestMap.get(COLLECTOR);
+        if (collector == null || collector.owner != component) {
+            return;
+        }
+        requestMap.remove(COLLECTOR);
+        if (collector.scripts.isEmpty()) {
+            return;
+        }
+        StringBuffer buff = new StringBuffer(256);
+        Iterator modules = collector.scripts.entrySet().iterator();
+        while (modules.hasNext()) {
+            Map.Entry entry = (Map.Entry) modules.next();
+            appendRequire(buff, (String) entry.getKey(),
+                    entry.getValue().toString());
+            buff.append("\n"); //NOI18N
+        }
+        JavaScriptUtilities.renderJavaScript(component, writer,
+                buff.toString());
+    }
+
+    /**
+     * Stop collecting scripts for a while, so that scripts are rendered in
+     * place, for example into markup which is rendered to a buffer.
+     *
+     * @param context FacesContext for the current request.
+     * @return The collector, to be given to <code>resume</code>, or null.
+     */
+    public static Object suspend(FacesContext context) {
+        return context.getExternalContext().getRequestMap().remove(COLLECTOR);
+    }
+
+    /**
+     * Collect scripts again after <code>suspend</code>.
+     *
+     * @param context FacesContext for the current request.
+     * @param collector The collector returned by <code>suspend</code>.
+     */
+    public static void resume(FacesContext context, Object collector) {
+        if (collector != null) {
+            context.getExternalContext().getRequestMap().put(COLLECTOR,
+                    collector);
+        }
+    }
+
+    /**
+     * Render a script which uses the given module, such as
+     * <code>table.init({...});</code> for the "table" module. The module is
+     * available to the script as a variable named after the last part of
+     * the module name. The script is collected if scripts are being
+     * collected, else it is rendered in place.
+     *
+     * @param context FacesContext for the current request.
+     * @param component UIComponent the script is rendered for.
+     * @param writer ResponseWriter to which the script should be rendered.
+     * @param module The module name, as given to
+     * <code>JavaScriptUtilities.getModuleName</code>.
+     * @param script The script.
+     *
+     * @exception IOException if an input/output error occurs.
+     */
+    public static void renderModuleScript(FacesContext context,
+            UIComponent component, ResponseWriter writer, String module,
+            String script) throws IOException {
+        ScriptCollector collector = (ScriptCollector) context.
+                getExternalContext().getRequestMap().get(COLLECTOR);
+        if (collector == null) {
+            StringBuffer buff = new StringBuffer(script.length() + 128);
+            appendRequire(buff, module, script);
+            JavaScriptUtilities.renderJavaScript(component, writer,
+                    buff.toString());
+            return;
+        }
+        StringBuffer buff = (StringBuffer) collector.scripts.get(module);
+        if (buff == null) {
+            buff = new StringBuffer(256);
+            collector.scripts.put(module, buff);
+        } else {
+            // Scripts need not end with a semicolon.
+            buff.append("\n"); //NOI18N
+        }
+        buff.append(script);
+    }
+
+    // Append a require call, which runs the script with the module.
+    private static void appendRequire(StringBuffer buff, String module,
+            String script) {
+        String name = module.substring(module.lastIndexOf('.') + 1);
+        buff.append("require(['") //NOI18N
+                .append(JavaScriptUtilities.getModuleName(module))
+                .append("'], function (").append(name).append(") {") //NOI18N
+                .append(script)
+                .append("});"); //NOI18N
+    }
+}
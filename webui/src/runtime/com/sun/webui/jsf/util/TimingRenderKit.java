@@ -0,0 +1,256 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2007-2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common Development
+ * and Distribution License("CDDL") (collectively, the "License").  You
+ * may not use this file except in compliance with the License.  You can
+ * obtain a copy of the License at
+ * https://oss.oracle.com/licenses/CDDL+GPL-1.1
+ * or LICENSE.txt.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ * When distributing the software, include this License Header Notice in each
+ * file and include the License file at LICENSE.txt.
+ *
+ * GPL Classpath Exception:
+ * Oracle designates this particular file as subject to the "Classpath"
+ * exception as provided by Oracle in the GPL Version 2 section of the License
+ * file that accompanied this code.
+ *
+ * Modifications:
+ * If applicable, add the following below the License Header, with the fields
+ * enclosed by brackets [] replaced by your own identifying information:
+ * "Portions Copyright [year] [name of copyright owner]"
+ *
+ * Contributor(s):
+ * If you wish your version of this file to be governed by only the CDDL or
+ * only the GPL Version 2, indicate your decision by adding "[Contributor]
+ * elects to include this software in this distribution under the [CDDL or GPL
+ * Version 2] license."  If you don't indicate a single choice of license, a
+ * recipient has the option to distribute your version of this file under
+ * either the CDDL, the GPL Version 2 or to extend the choice of license to
+ * its licensees as provided above.  However, if you add GPL Version 2 code
+ * and therefore, elected the GPL Version 2 license, then the option applies
+ * only if the new code is made subject to such option by the copyright
+ * holder.
+ */
+
+package com.sun.webui.jsf.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.faces.component.UIComponent;
+import javax.faces.context.FacesContext;
+import javax.faces.context.ResponseStream;
+import javax.faces.context.ResponseWriter;
+import javax.faces.context.ResponseWriterWrapper;
+import javax.faces.convert.ConverterException;
+import javax.faces.render.RenderKit;
+import javax.faces.render.Renderer;
+import javax.faces.render.ResponseStateManager;
+
+/**
+ * A render kit which decorates the render kit of the application for
+ * <code>RenderTiming</code>. While timing is on, its renderers time the
+ * renderers of the application, and its response writers count the
+ * characters written. While timing is off, the renderers and response
+ * writers of the application are returned as they are.
+ */
+final class TimingRenderKit extends RenderKit {
+
+    private final RenderKit renderKit;
+    private final RenderTiming timing;
+
+    // The timing renderer of each renderer.
+    private final Map renderers = new ConcurrentHashMap();
+
+    TimingRenderKit(RenderKit renderKit, RenderTiming timing) {
+        this.renderKit = renderKit;
+        this.timing = timing;
+    }
+
+    public void addRenderer(String family, String rendererType,
+            Renderer renderer) {
+        renderKit.addRenderer(family, rendererType, renderer);
+    }
+
+    public Renderer getRenderer(String family, String rendererType) {
+        Renderer renderer = renderKit.getRenderer(family, rendererType);
+        if (renderer == null || !timing.isEnabled()) {
+            return renderer;
+        }
+        Renderer timed = (Renderer) renderers.get(renderer);
+        if (timed == null) {
+            timed = new TimingRenderer(renderer, timing);
+            renderers.put(renderer, timed);
+        }
+        return timed;
+    }
+
+    public ResponseStateManager getResponseStateManager() {
+        return renderKit.getResponseStateManager();
+    }
+
+    public ResponseWriter createResponseWriter(Writer writer,
+            String contentTypeList, String characterEncoding) {
+        RenderTiming.Request request =
+                timing.getRequest(FacesContext.getCurrentInstance());
+        if (request == null) {
+            return renderKit.createResponseWriter(writer, contentTypeList,
+                    characterEncoding);
+        }
+        return new CountingResponseWriter(renderKit.createResponseWriter(
+                new CountingWriter(writer, request), contentTypeList,
+                characterEncoding), request);
+    }
+
+    public ResponseStream createResponseStream(OutputStream out) {
+        return renderKit.createResponseStream(out);
+    }
+
+    // A renderer which times another.
+    private static final class TimingRenderer extends Renderer {
+
+        private final Renderer renderer;
+        private final RenderTiming timing;
+
+        TimingRenderer(Renderer renderer, RenderTiming timing) {
+            this.renderer = renderer;
+            this.timing = timing;
+        }
+
+        @Override
+        public void decode(FacesContext context, UIComponent component) {
+            RenderTiming.Request request = timing.getRequest(context);
+            if (request == null) {
+                renderer.decode(context, component);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                renderer.decode(context, component);
+            } finally {
+                timing.add(request, component, RenderTiming.DECODES,
+                        System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void encodeBegin(FacesContext context, UIComponent component)
+                throws IOException {
+            RenderTiming.Request request = timing.getRequest(context);
+            if (request != null) {
+                request.push(component);
+            }
+            renderer.encodeBegin(context, component);
+        }
+
+        @Override
+        public void encodeChildren(FacesContext context,
+                UIComponent component) throws IOException {
+            renderer.encodeChildren(context, component);
+        }
+
+        @Override
+        public void encodeEnd(FacesContext context, UIComponent component)
+                throws IOException {
+            try {
+                renderer.encodeEnd(context, component);
+            } finally {
+                RenderTiming.Request request = timing.getRequest(context);
+                if (request != null) {
+                    request.pop(timing, component);
+                }
+            }
+        }
+
+        @Override
+        public String convertClientId(FacesContext context, String clientId) {
+            return renderer.convertClientId(context, clientId);
+        }
+
+        @Override
+        public boolean getRendersChildren() {
+            return renderer.getRendersChildren();
+        }
+
+        @Override
+        public Object getConvertedValue(FacesContext context,
+                UIComponent component, Object submittedValue)
+                throws ConverterException {
+            return renderer.getConvertedValue(context, component,
+                    submittedValue);
+        }
+    }
+
+    // A response writer whose clones count the characters they write.
+    private static final class CountingResponseWriter
+            extends ResponseWriterWrapper {
+
+        private final ResponseWriter writer;
+        private final RenderTiming.Request request;
+
+        CountingResponseWriter(ResponseWriter writer,
+                RenderTiming.Request request) {
+            this.writer = writer;
+            this.request = request;
+        }
+
+        @Override
+        protected ResponseWriter getWrapped() {
+            return writer;
+        }
+
+        @Override
+        public ResponseWriter cloneWithWriter(Writer out) {
+            return new CountingResponseWriter(writer.cloneWithWriter(
+                    new CountingWriter(out, request)), request);
+        }
+    }
+
+    // A writer which counts the characters written to another.
+    private static final class CountingWriter extends Writer {
+
+        private final Writer out;
+        private final RenderTiming.Request request;
+
+        CountingWriter(Writer out, RenderTiming.Request request) {
+            this.out = out;
+            this.request = request;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            request.chars++;
+            out.write(c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            request.chars += len;
+            out.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            request.chars += len;
+            out.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
@@ -41,8 +41,8 @@
 package com.sun.webui.jsf.util;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -205,10 +205,15 @@ public class TypeConverter extends Object {
     /**
      * Register a type conversion object under the specified key.  This
      * method can be used by developers to register custom type conversion
-     * objects.
+     * objects.  It may be called concurrently with conversions; registering
+     * a <code>null</code> conversion removes the key.
      */
     public static void registerTypeConversion(Object key, TypeConversion conversion) {
-	typeConversions.put(key,conversion);
+	if (conversion==null) {
+	    typeConversions.remove(key);
+	} else {
+	    typeConversions.put(key,conversion);
+	}
     }
 
     /**
@@ -290,6 +295,16 @@ public class TypeConverter extends Object {
      *
      */
     public static byte asByte(Object value, byte defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Byte.class)==BYTE_TYPE_CONVERSION) {
+	    if (value instanceof Byte) {
+		return ((Byte)value).byteValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Byte.parseByte(v);
+	    }
+	}
 	value=asType(Byte.class,value);
 	if (value!=null) {
 	    return ((Byte)value).byteValue();
@@ -308,6 +323,16 @@ public class TypeConverter extends Object {
      *
      */
     public static short asShort(Object value, short defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Short.class)==SHORT_TYPE_CONVERSION) {
+	    if (value instanceof Short) {
+		return ((Short)value).shortValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Short.parseShort(v);
+	    }
+	}
 	value=asType(Short.class,value);
 	if (value!=null) {
 	    return ((Short)value).shortValue();
@@ -326,6 +351,16 @@ public class TypeConverter extends Object {
      *
      */
     public static int asInt(Object value, int defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Integer.class)==INTEGER_TYPE_CONVERSION) {
+	    if (value instanceof Integer) {
+		return ((Integer)value).intValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Integer.parseInt(v);
+	    }
+	}
 	value=asType(Integer.class,value);
 	if (value!=null) {
 	    return ((Integer)value).intValue();
@@ -344,6 +379,16 @@ public class TypeConverter extends Object {
      *
      */
     public static long asLong(Object value, long defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Long.class)==LONG_TYPE_CONVERSION) {
+	    if (value instanceof Long) {
+		return ((Long)value).longValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Long.parseLong(v);
+	    }
+	}
 	value=asType(Long.class,value);
 	if (value!=null) {
 	    return ((Long)value).longValue();
@@ -362,6 +407,16 @@ public class TypeConverter extends Object {
      *
      */
     public static float asFloat(Object value, float defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Float.class)==FLOAT_TYPE_CONVERSION) {
+	    if (value instanceof Float) {
+		return ((Float)value).floatValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Float.parseFloat(v);
+	    }
+	}
 	value=asType(Float.class,value);
 	if (value!=null) {
 	    return ((Float)value).floatValue();
@@ -380,6 +435,16 @@ public class TypeConverter extends Object {
      *
      */
     public static double asDouble(Object value, double defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Double.class)==DOUBLE_TYPE_CONVERSION) {
+	    if (value instanceof Double) {
+		return ((Double)value).doubleValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : Double.parseDouble(v);
+	    }
+	}
 	value=asType(Double.class,value);
 	if (value!=null) {
 	    return ((Double)value).doubleValue();
@@ -398,6 +463,16 @@ public class TypeConverter extends Object {
      *
      */
     public static char asChar(Object value, char defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Character.class)==CHARACTER_TYPE_CONVERSION) {
+	    if (value instanceof Character) {
+		return ((Character)value).charValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : v.charAt(0);
+	    }
+	}
 	value=asType(Character.class,value);
 	if (value!=null) {
 	    return ((Character)value).charValue();
@@ -416,6 +491,16 @@ public class TypeConverter extends Object {
      *
      */
     public static boolean asBoolean(Object value, boolean defaultValue) {
+	// Unbox or parse directly unless the default conversion was replaced
+	if (typeConversions.get(Boolean.class)==BOOLEAN_TYPE_CONVERSION) {
+	    if (value instanceof Boolean) {
+		return ((Boolean)value).booleanValue();
+	    }
+	    if (value instanceof String) {
+		String v=(String)value;
+		return isBlank(v) ? defaultValue : "true".equalsIgnoreCase(v);
+	    }
+	}
 	value=asType(Boolean.class,value);
 	if (value!=null) {
 	    return ((Boolean)value).booleanValue();
@@ -427,13 +512,17 @@ public class TypeConverter extends Object {
      *
      */
     public static String asString(Object value) {
-	return (String)asType(String.class,value);
+	return asString(value,null);
     }
 
     /**
      *
      */
     public static String asString(Object value, String defaultValue) {
+	if (value instanceof String
+		&& typeConversions.get(String.class)==STRING_TYPE_CONVERSION) {
+	    return (String)value;
+	}
 	value=asType(String.class,value);
 	if (value!=null) {
 	    return (String)value;
@@ -444,6 +533,22 @@ public class TypeConverter extends Object {
 
 
 
+    /**
+     * Return true if the string is empty or only has characters that
+     * <code>String.trim()</code> removes, without creating the trimmed string.
+     */
+    static boolean isBlank(String v) {
+	for (int i=0; i<v.length(); i++) {
+	    if (v.charAt(i)>' ') {
+		return false;
+	    }
+	}
+	return true;
+    }
+
+
+
+
     ////////////////////////////////////////////////////////////////////////////////
     // Inner classes
     ////////////////////////////////////////////////////////////////////////////////
@@ -504,10 +609,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Integer)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Integer(v);
+		    value=Integer.valueOf(v);
 		}
 	    }
 
@@ -532,10 +637,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Double)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Double(v);
+		    value=Double.valueOf(v);
 		}
 	    }
 
@@ -558,7 +663,7 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Boolean)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
 		    value=Boolean.valueOf(v);
@@ -584,10 +689,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Long)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Long(v);
+		    value=Long.valueOf(v);
 		}
 	    }
 
@@ -610,10 +715,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Float)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Float(v);
+		    value=Float.valueOf(v);
 		}
 	    }
 
@@ -636,10 +741,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Short)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Short(v);
+		    value=Short.valueOf(v);
 		}
 	    }
 
@@ -662,7 +767,7 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof BigDecimal)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
 		    value=new BigDecimal(v);
@@ -688,10 +793,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Byte)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Byte(v);
+		    value=Byte.valueOf(v);
 		}
 	    }
 
@@ -714,10 +819,10 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof Character)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
-		    value=new Character(v.charAt(0));
+		    value=Character.valueOf(v.charAt(0));
 		}
 	    }
 
@@ -741,7 +846,7 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof java.sql.Date)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
 		    // Value must be in the "yyyy-mm-dd" format
@@ -768,7 +873,7 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof java.sql.Time)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
 		    // Value must be in the "hh:mm:ss" format
@@ -795,7 +900,7 @@ public class TypeConverter extends Object {
 
 	    if (!(value instanceof java.sql.Timestamp)) {
 		String v=value.toString();
-		if (v.trim().length()==0) {
+		if (isBlank(v)) {
 		    value=null;
 		} else {
 		    // Value must be in the "yyyy-mm-dd hh:mm:ss.fffffffff"
@@ -919,7 +1024,7 @@ public class TypeConverter extends Object {
     // Class variables
     ////////////////////////////////////////////////////////////////////////////////
 
-    private static final Map typeConversions=new HashMap();
+    private static final Map typeConversions=new ConcurrentHashMap();
 
     /** Logical type name "null" */
     public static final String TYPE_UNKNOWN="null";
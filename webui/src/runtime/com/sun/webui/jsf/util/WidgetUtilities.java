@@ -42,7 +42,9 @@ package com.sun.webui.jsf.util;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.Map;
 
 import javax.faces.component.UIComponent;
 import javax.faces.context.ExternalContext;
@@ -62,6 +64,24 @@ import org.json.JSONObject;
  * This class provides common methods for widget renderers.
  */
 public class WidgetUtilities {
+    // Request map key of the stack of reusable render buffers.
+    private static final String BUFFER_POOL =
+        "com.sun.webui.jsf.util.WidgetUtilities.BUFFER_POOL"; //NOI18N
+
+    // Request map key of the cached render kit.
+    private static final String RENDER_KIT =
+        "com.sun.webui.jsf.util.WidgetUtilities.RENDER_KIT"; //NOI18N
+
+    // The initial capacity of a render buffer.
+    private static final int BUFFER_SIZE = 1024;
+
+    // Buffers which have grown beyond this capacity are not reused, so that a
+    // single large rendering does not pin memory for the rest of the request.
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    // The maximum number of buffers kept for reuse per request.
+    private static final int MAX_POOL_SIZE = 8;
+
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
     // JSON methods
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -75,6 +95,11 @@ public class WidgetUtilities {
     public static void addProperties(JSONArray json, String value) 
             throws JSONException {
         if (value != null) {
+            if (!isJSONObject(value)) {
+                // Append HTML string.
+                json.put(value);
+                return;
+            }
             try {
                 // If JSON text is given, append a new JSONObject.
                 json.put(new JSONObject(value));
@@ -95,6 +120,11 @@ public class WidgetUtilities {
     public static void addProperties(JSONObject json, String key,
             String value) throws JSONException {
         if (value != null) {
+            if (!isJSONObject(value)) {
+                // Append HTML string.
+                json.put(key, value);
+                return;
+            }
             try {
                 // If JSON text is given, append a new JSONObject.
                 json.put(key, new JSONObject(value));
@@ -125,15 +155,23 @@ public class WidgetUtilities {
             return null;
         }
 
-        // Initialize Writer to buffer rendered output.
+        // Initialize Writer to buffer rendered output. The buffer is taken
+        // from a per-request pool, so nested and repeated renderings (e.g.,
+        // per table cell) reuse the same characters.
         ResponseWriter oldWriter = context.getResponseWriter();
-        Writer strWriter = initStringWriter(context);
+        FastStringWriter strWriter = acquireBuffer(context);
+        try {
+            setBufferedWriter(context, strWriter);
 
-        // Render component and restore writer.
-        RenderingUtilities.renderComponent(component, context);
-        context.setResponseWriter(oldWriter);
+            // Render component.
+            RenderingUtilities.renderComponent(component, context);
 
-        return strWriter.toString(); // Return buffered output.
+            return strWriter.toString(); // Return buffered output.
+        } finally {
+            // Restore writer.
+            context.setResponseWriter(oldWriter);
+            releaseBuffer(context, strWriter);
+        }
     }
 
     // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -154,16 +192,24 @@ public class WidgetUtilities {
         if (context == null) {
             return null;
         }
+        Writer strWriter = new FastStringWriter(BUFFER_SIZE);
+        setBufferedWriter(context, strWriter);
+        return strWriter;
+    }
 
-        // Get render kit.
-        RenderKitFactory renderFactory = (RenderKitFactory)
-        FactoryFinder.getFactory(FactoryFinder.RENDER_KIT_FACTORY);
-        RenderKit renderKit = renderFactory.getRenderKit(context,
-            context.getViewRoot().getRenderKitId());
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    // Private methods
+    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
-        // Get writers.
+    /**
+     * Helper method to set a writer, based on the current writer, which
+     * writes rendered output to the given buffer.
+     *
+     * Note: Be certain to save the old writer pior to invoking this method.
+     */
+    private static void setBufferedWriter(FacesContext context,
+            Writer strWriter) {
         ResponseWriter oldWriter = context.getResponseWriter();
-        Writer strWriter = new FastStringWriter(1024);
         ResponseWriter newWriter = null;
 
         // Initialize new writer.
@@ -172,15 +218,74 @@ public class WidgetUtilities {
         } else {
             ExternalContext extContext = context.getExternalContext();
             ServletRequest request = (ServletRequest) extContext.getRequest();
-            newWriter = renderKit.createResponseWriter(strWriter, null,
-                request.getCharacterEncoding());
+            newWriter = getRenderKit(context).createResponseWriter(strWriter,
+                null, request.getCharacterEncoding());
         }
         // Set new writer in context.
         context.setResponseWriter(newWriter);
-        return strWriter;
     }
 
-    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
-    // Private methods
-    // ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+    /**
+     * Helper method to get the render kit of the current view. The render kit
+     * is looked up once per request.
+     */
+    private static RenderKit getRenderKit(FacesContext context) {
+        Map requestMap = context.getExternalContext().getRequestMap();
+        RenderKit renderKit = (RenderKit) requestMap.get(RENDER_KIT);
+        if (renderKit == null) {
+            RenderKitFactory renderFactory = (RenderKitFactory)
+            FactoryFinder.getFactory(FactoryFinder.RENDER_KIT_FACTORY);
+            renderKit = renderFactory.getRenderKit(context,
+                context.getViewRoot().getRenderKitId());
+            requestMap.put(RENDER_KIT, renderKit);
+        }
+        return renderKit;
+    }
+
+    /**
+     * Helper method to take an empty buffer from the per-request pool,
+     * creating one if the pool is empty.
+     */
+    private static FastStringWriter acquireBuffer(FacesContext context) {
+        ArrayList pool = (ArrayList)
+            context.getExternalContext().getRequestMap().get(BUFFER_POOL);
+        if (pool != null && !pool.isEmpty()) {
+            return (FastStringWriter) pool.remove(pool.size() - 1);
+        }
+        return new FastStringWriter(BUFFER_SIZE);
+    }
+
+    /**
+     * Helper method to return a buffer to the per-request pool.
+     */
+    private static void releaseBuffer(FacesContext context,
+            FastStringWriter buffer) {
+        if (buffer.getBuffer().capacity() > MAX_BUFFER_SIZE) {
+            return;
+        }
+        Map requestMap = context.getExternalContext().getRequestMap();
+        ArrayList pool = (ArrayList) requestMap.get(BUFFER_POOL);
+        if (pool == null) {
+            pool = new ArrayList(MAX_POOL_SIZE);
+            requestMap.put(BUFFER_POOL, pool);
+        }
+        if (pool.size() < MAX_POOL_SIZE) {
+            buffer.reset();
+            pool.add(buffer);
+        }
+    }
+
+    /**
+     * Helper method to test if the given text may be a JSON object, so that
+     * HTML text is not needlessly parsed.
+     */
+    private static boolean isJSONObject(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
 }
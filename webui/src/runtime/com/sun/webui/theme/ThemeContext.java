@@ -242,7 +242,7 @@ public abstract class ThemeContext {
 
     // Should be an interface.
     //
-    private ThemeFactory themeFactory;
+    private volatile ThemeFactory themeFactory;
 
     /**
      * Construct a <code>ThemeContext</code>.
@@ -252,7 +252,6 @@ public abstract class ThemeContext {
 
     public ThemeFactory getThemeFactory() {
         if (themeFactory == null) {
-            //FIXME double-checked locking
             synchronized (this) {
                 if (themeFactory == null) {
                     try {
@@ -261,8 +260,10 @@ public abstract class ThemeContext {
                     } catch (Exception e) {
                         // Use JarThemeFactory as the fallback default
                         // This should come from subclasses.
+                        // Keep it, so that its themes are shared by all
+                        // requests.
                         //
-                        return (ThemeFactory) new JarThemeFactory();
+                        themeFactory = new JarThemeFactory();
                     }
                 }
             }
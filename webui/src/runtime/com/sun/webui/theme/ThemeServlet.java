@@ -43,6 +43,7 @@
  */
 package com.sun.webui.theme;
 
+import com.sun.webui.jsf.util.JavaScriptUtilities;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.InputStream;
@@ -220,6 +221,11 @@ public class ThemeServlet extends HttpServlet {
             log("doGet()");
         }
         String resourceName = request.getPathInfo();
+        if (resourceName != null && resourceName.startsWith(
+                JavaScriptUtilities.BOOTSTRAP_RESOURCE_PREFIX)) {
+            doGetBootstrap(request, response, resourceName);
+            return;
+        }
         InputStream inStream = null;
         OutputStream outStream = null;
         try {
@@ -278,6 +284,36 @@ public class ThemeServlet extends HttpServlet {
         return;
     }
 
+    /**
+     * Serve a generated bootstrap JavaScript resource. These resources are
+     * referenced instead of inline script when the
+     * <code>com.sun.webui.jsf.util.BOOTSTRAP_EXTERNAL</code> context
+     * parameter is set.
+     */
+    private void doGetBootstrap(HttpServletRequest request,
+            HttpServletResponse response, String resourceName)
+            throws IOException {
+        String js = JavaScriptUtilities.getBootstrapResource(resourceName);
+        if (js == null) {
+            //Send 404 (without the original URI for XSS security reasons)
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        byte[] bytes = js.getBytes("UTF-8"); //NOI18N
+        response.setContentType("text/javascript;charset=UTF-8"); //NOI18N
+        response.setContentLength(bytes.length);
+
+        // Set the timestamp of the response to enable caching
+        response.setDateHeader("Last-Modified", getLastModified(request));
+
+        OutputStream outStream = response.getOutputStream();
+        try {
+            outStream.write(bytes);
+        } finally {
+            outStream.close();
+        }
+    }
+
     /**
      * Returns a short description of the servlet.
      * @return A String that names the Servlet